@@ -22,6 +22,9 @@ import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.observability.DataAccessObserver;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
 
@@ -35,8 +38,14 @@ import java.util.List;
  */
 class AggregateChangeExecutor {
 
+	/**
+	 * Name of the observations recorded for each executed {@link DbAction}.
+	 */
+	static final String OBSERVATION_NAME = "spring.data.jdbc.action";
+
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
+	private @Nullable DataAccessObserver observer;
 
 	AggregateChangeExecutor(JdbcConverter converter, DataAccessStrategy accessStrategy) {
 
@@ -44,6 +53,16 @@ class AggregateChangeExecutor {
 		this.accessStrategy = accessStrategy;
 	}
 
+	/**
+	 * Set the {@link DataAccessObserver} recording an observation for each executed {@link DbAction}.
+	 *
+	 * @param observer must not be {@literal null}.
+	 * @since 3.2
+	 */
+	void setObserver(DataAccessObserver observer) {
+		this.observer = observer;
+	}
+
 	/**
 	 * Execute a save aggregate change. It returns the resulting root entities, with all changes that might apply. This
 	 * might be the original instances or new instances, depending on their mutability.
@@ -80,6 +99,32 @@ class AggregateChangeExecutor {
 
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
 
+		if (observer == null) {
+			doExecute(action, executionContext);
+			return;
+		}
+
+		observer.observe(() -> createObservationContext(action), () -> {
+
+			doExecute(action, executionContext);
+			return null;
+		});
+	}
+
+	private static DataAccessObservationContext createObservationContext(DbAction<?> action) {
+
+		DataAccessObservationContext context = new DataAccessObservationContext(action.getClass().getSimpleName(),
+				action.getEntityType());
+
+		if (action instanceof DbAction.BatchWithValue<?, ?, ?> batch) {
+			context.setBatchSize(batch.getActions().size());
+		}
+
+		return context;
+	}
+
+	private void doExecute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
+
 		try {
 			if (action instanceof DbAction.InsertRoot) {
 				executionContext.executeInsertRoot((DbAction.InsertRoot<?>) action);
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.query.Aggregation;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+
+/**
+ * Asynchronous variant of {@link JdbcAggregateOperations}. Each operation is executed on an
+ * {@link java.util.concurrent.Executor} and its result is returned as {@link CompletableFuture}, allowing to fan out
+ * independent aggregate loads. Operations do not participate in a transaction of the calling thread.
+ *
+ * @since 3.2
+ * @see JdbcAggregateOperations
+ */
+public interface AsyncJdbcAggregateOperations {
+
+	/**
+	 * Saves an instance of an aggregate, including all the members of the aggregate.
+	 *
+	 * @param instance the aggregate root of the aggregate to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the saved instance.
+	 * @see JdbcAggregateOperations#save(Object)
+	 */
+	<T> CompletableFuture<T> save(T instance);
+
+	/**
+	 * Saves all aggregate instances, including all the members of each aggregate instance.
+	 *
+	 * @param instances the aggregate roots to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the saved instances.
+	 * @see JdbcAggregateOperations#saveAll(Iterable)
+	 */
+	<T> CompletableFuture<Iterable<T>> saveAll(Iterable<T> instances);
+
+	/**
+	 * Dedicated insert function. This skips the test if the aggregate root is new and makes an insert.
+	 *
+	 * @param instance the aggregate root of the aggregate to be inserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the saved instance.
+	 * @see JdbcAggregateOperations#insert(Object)
+	 */
+	<T> CompletableFuture<T> insert(T instance);
+
+	/**
+	 * Inserts all aggregate instances, including all the members of each aggregate instance.
+	 *
+	 * @param instances the aggregate roots to be inserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the saved instances.
+	 * @see JdbcAggregateOperations#insertAll(Iterable)
+	 */
+	<T> CompletableFuture<Iterable<T>> insertAll(Iterable<T> instances);
+
+	/**
+	 * Dedicated update function. This skips the test if the aggregate root is new or not and always performs an update
+	 * operation.
+	 *
+	 * @param instance the aggregate root of the aggregate to be updated. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the saved instance.
+	 * @see JdbcAggregateOperations#update(Object)
+	 */
+	<T> CompletableFuture<T> update(T instance);
+
+	/**
+	 * Updates all aggregate instances, including all the members of each aggregate instance.
+	 *
+	 * @param instances the aggregate roots to be updated. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the saved instances.
+	 * @see JdbcAggregateOperations#updateAll(Iterable)
+	 */
+	<T> CompletableFuture<Iterable<T>> updateAll(Iterable<T> instances);
+
+	/**
+	 * Counts the number of aggregates of a given type.
+	 *
+	 * @param domainType the type of the aggregates to be counted.
+	 * @return a future completing with the number of instances stored in the database.
+	 * @see JdbcAggregateOperations#count(Class)
+	 */
+	CompletableFuture<Long> count(Class<?> domainType);
+
+	/**
+	 * Counts the number of aggregates of a given type that match the given <code>query</code>.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return a future completing with the number of matching instances stored in the database.
+	 * @see JdbcAggregateOperations#count(Query, Class)
+	 */
+	<T> CompletableFuture<Long> count(Query query, Class<T> domainType);
+
+	/**
+	 * Determine whether there are aggregates that match the {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return a future completing with {@literal true} if the object exists.
+	 * @see JdbcAggregateOperations#exists(Query, Class)
+	 */
+	<T> CompletableFuture<Boolean> exists(Query query, Class<T> domainType);
+
+	/**
+	 * Checks if an aggregate identified by type and id exists in the database.
+	 *
+	 * @param id the id of the aggregate root.
+	 * @param domainType the type of the aggregate root.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with whether the aggregate exists.
+	 * @see JdbcAggregateOperations#existsById(Object, Class)
+	 */
+	<T> CompletableFuture<Boolean> existsById(Object id, Class<T> domainType);
+
+	/**
+	 * Load an aggregate from the database.
+	 *
+	 * @param id the id of the aggregate to load. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing with the loaded aggregate or with {@code null} if there is none.
+	 * @see JdbcAggregateOperations#findById(Object, Class)
+	 */
+	<T> CompletableFuture<T> findById(Object id, Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type that are identified by the given ids.
+	 *
+	 * @param ids of the aggregate roots identifying the aggregates to load. Must not be {@code null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return a future completing with the loaded aggregates.
+	 * @see JdbcAggregateOperations#findAllById(Iterable, Class)
+	 */
+	<T> CompletableFuture<Iterable<T>> findAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return a future completing with the loaded aggregates.
+	 * @see JdbcAggregateOperations#findAll(Class)
+	 */
+	<T> CompletableFuture<Iterable<T>> findAll(Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type, sorted.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return a future completing with the loaded aggregates.
+	 * @see JdbcAggregateOperations#findAll(Class, Sort)
+	 */
+	<T> CompletableFuture<Iterable<T>> findAll(Class<T> domainType, Sort sort);
+
+	/**
+	 * Load a page of (potentially sorted) aggregates of a given type.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return a future completing with the loaded page.
+	 * @see JdbcAggregateOperations#findAll(Class, Pageable)
+	 */
+	<T> CompletableFuture<Page<T>> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting item to an entity ensuring exactly one result.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return a future completing with exactly one result or {@link Optional#empty()} if no match found.
+	 * @see JdbcAggregateOperations#findOne(Query, Class)
+	 */
+	<T> CompletableFuture<Optional<T>> findOne(Query query, Class<T> domainType);
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Iterable}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return a future completing with all the matching results.
+	 * @see JdbcAggregateOperations#findAll(Query, Class)
+	 */
+	<T> CompletableFuture<Iterable<T>> findAll(Query query, Class<T> domainType);
+
+	/**
+	 * Returns a {@link Page} of entities matching the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @return a future completing with the page of matching entities.
+	 * @see JdbcAggregateOperations#findAll(Query, Class, Pageable)
+	 */
+	<T> CompletableFuture<Page<T>> findAll(Query query, Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Returns a {@link Window} of entities matching the given {@link Query} starting at {@link ScrollPosition}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @return a future completing with the window of matching entities.
+	 * @see JdbcAggregateOperations#scroll(Query, Class, ScrollPosition)
+	 */
+	<T> CompletableFuture<Window<T>> scroll(Query query, Class<T> domainType, ScrollPosition scrollPosition);
+
+	/**
+	 * Deletes a single Aggregate including all entities contained in that aggregate.
+	 *
+	 * @param id the id of the aggregate root of the aggregate to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing once the aggregate is deleted.
+	 * @see JdbcAggregateOperations#deleteById(Object, Class)
+	 */
+	<T> CompletableFuture<Void> deleteById(Object id, Class<T> domainType);
+
+	/**
+	 * Deletes all aggregates identified by their aggregate root ids.
+	 *
+	 * @param ids the ids of the aggregate roots of the aggregates to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing once the aggregates are deleted.
+	 * @see JdbcAggregateOperations#deleteAllById(Iterable, Class)
+	 */
+	<T> CompletableFuture<Void> deleteAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Delete an aggregate identified by its aggregate root.
+	 *
+	 * @param aggregateRoot to delete. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return a future completing once the aggregate is deleted.
+	 * @see JdbcAggregateOperations#delete(Object)
+	 */
+	<T> CompletableFuture<Void> delete(T aggregateRoot);
+
+	/**
+	 * Delete all aggregates of a given type.
+	 *
+	 * @param domainType type of the aggregate roots to be deleted. Must not be {@code null}.
+	 * @return a future completing once the aggregates are deleted.
+	 * @see JdbcAggregateOperations#deleteAll(Class)
+	 */
+	CompletableFuture<Void> deleteAll(Class<?> domainType);
+
+	/**
+	 * Apply the given {@link Update} to all aggregate roots of the given type that match the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return a future completing with the number of updated aggregate roots.
+	 * @see JdbcAggregateOperations#update(Query, Update, Class)
+	 */
+	<T> CompletableFuture<Long> update(Query query, Update update, Class<T> domainType);
+
+	/**
+	 * Delete all aggregates of the given type whose root matches the given {@link Query} without loading them. The
+	 * delete runs multiple statements, configure a transaction for the operation to remove referenced entities and
+	 * aggregate roots atomically.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return a future completing with the number of deleted aggregate roots.
+	 * @see JdbcAggregateOperations#delete(Query, Class)
+	 */
+	<T> CompletableFuture<Long> delete(Query query, Class<T> domainType);
+
+	/**
+	 * Group the aggregate roots of the given type that match the given {@link Query} as defined by the
+	 * {@link Aggregation} and map each group to {@code resultType}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregation must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param resultType the type each group is mapped to. Must not be {@code null}.
+	 * @return a future completing with one result per group.
+	 * @see JdbcAggregateOperations#aggregate(Query, Aggregation, Class, Class)
+	 */
+	<T, R> CompletableFuture<List<R>> aggregate(Query query, Aggregation aggregation, Class<T> domainType,
+			Class<R> resultType);
+
+	/**
+	 * Delete all aggregates identified by their aggregate roots.
+	 *
+	 * @param aggregateRoots to delete. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return a future completing once the aggregates are deleted.
+	 * @see JdbcAggregateOperations#deleteAll(Iterable)
+	 */
+	<T> CompletableFuture<Void> deleteAll(Iterable<? extends T> aggregateRoots);
+}
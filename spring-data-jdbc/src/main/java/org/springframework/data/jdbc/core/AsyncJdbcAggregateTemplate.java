@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.query.Aggregation;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncJdbcAggregateOperations} implementation delegating to a {@link JdbcAggregateOperations} on an
+ * {@link Executor}. Each operation blocks a thread of the {@link Executor} for its duration, so an {@link Executor}
+ * running tasks on virtual threads, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}, allows to fan out many
+ * operations cheaply. The number of operations running concurrently is bounded by the connection pool.
+ * <p>
+ * Operations run within the transaction boundaries of the configured {@link TransactionOperations}, by default each
+ * statement is executed without transaction. Configure a
+ * {@link org.springframework.transaction.support.TransactionTemplate} to execute each operation in its own
+ * transaction.
+ *
+ * @since 3.2
+ */
+public class AsyncJdbcAggregateTemplate implements AsyncJdbcAggregateOperations {
+
+	private final JdbcAggregateOperations operations;
+	private final Executor executor;
+	private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+	/**
+	 * Creates a new {@link AsyncJdbcAggregateTemplate}.
+	 *
+	 * @param operations the {@link JdbcAggregateOperations} to delegate to, must not be {@literal null}.
+	 * @param executor the {@link Executor} to run operations on, must not be {@literal null}.
+	 */
+	public AsyncJdbcAggregateTemplate(JdbcAggregateOperations operations, Executor executor) {
+
+		Assert.notNull(operations, "JdbcAggregateOperations must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.operations = operations;
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the {@link TransactionOperations} to run each operation with. Defaults to
+	 * {@link TransactionOperations#withoutTransaction()}.
+	 *
+	 * @param transactionOperations must not be {@literal null}.
+	 */
+	public void setTransactionOperations(TransactionOperations transactionOperations) {
+
+		Assert.notNull(transactionOperations, "TransactionOperations must not be null");
+
+		this.transactionOperations = transactionOperations;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T instance) {
+		return supply(() -> operations.save(instance));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> saveAll(Iterable<T> instances) {
+		return supply(() -> operations.saveAll(instances));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> insert(T instance) {
+		return supply(() -> operations.insert(instance));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> insertAll(Iterable<T> instances) {
+		return supply(() -> operations.insertAll(instances));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> update(T instance) {
+		return supply(() -> operations.update(instance));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> updateAll(Iterable<T> instances) {
+		return supply(() -> operations.updateAll(instances));
+	}
+
+	@Override
+	public CompletableFuture<Long> count(Class<?> domainType) {
+		return supply(() -> operations.count(domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Long> count(Query query, Class<T> domainType) {
+		return supply(() -> operations.count(query, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> exists(Query query, Class<T> domainType) {
+		return supply(() -> operations.exists(query, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> existsById(Object id, Class<T> domainType) {
+		return supply(() -> operations.existsById(id, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> findById(Object id, Class<T> domainType) {
+		return supply(() -> operations.findById(id, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return supply(() -> operations.findAllById(ids, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> findAll(Class<T> domainType) {
+		return supply(() -> operations.findAll(domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> findAll(Class<T> domainType, Sort sort) {
+		return supply(() -> operations.findAll(domainType, sort));
+	}
+
+	@Override
+	public <T> CompletableFuture<Page<T>> findAll(Class<T> domainType, Pageable pageable) {
+		return supply(() -> operations.findAll(domainType, pageable));
+	}
+
+	@Override
+	public <T> CompletableFuture<Optional<T>> findOne(Query query, Class<T> domainType) {
+		return supply(() -> operations.findOne(query, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> findAll(Query query, Class<T> domainType) {
+		return supply(() -> operations.findAll(query, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Page<T>> findAll(Query query, Class<T> domainType, Pageable pageable) {
+		return supply(() -> operations.findAll(query, domainType, pageable));
+	}
+
+	@Override
+	public <T> CompletableFuture<Window<T>> scroll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+		return supply(() -> operations.scroll(query, domainType, scrollPosition));
+	}
+
+	@Override
+	public <T> CompletableFuture<Void> deleteById(Object id, Class<T> domainType) {
+		return run(() -> operations.deleteById(id, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Void> deleteAllById(Iterable<?> ids, Class<T> domainType) {
+		return run(() -> operations.deleteAllById(ids, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Void> delete(T aggregateRoot) {
+		return run(() -> operations.delete(aggregateRoot));
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteAll(Class<?> domainType) {
+		return run(() -> operations.deleteAll(domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Long> update(Query query, Update update, Class<T> domainType) {
+		return supply(() -> operations.update(query, update, domainType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Long> delete(Query query, Class<T> domainType) {
+		return supply(() -> operations.delete(query, domainType));
+	}
+
+	@Override
+	public <T, R> CompletableFuture<List<R>> aggregate(Query query, Aggregation aggregation, Class<T> domainType,
+			Class<R> resultType) {
+		return supply(() -> operations.aggregate(query, aggregation, domainType, resultType));
+	}
+
+	@Override
+	public <T> CompletableFuture<Void> deleteAll(Iterable<? extends T> aggregateRoots) {
+		return run(() -> operations.deleteAll(aggregateRoots));
+	}
+
+	private <T> CompletableFuture<T> supply(Supplier<T> action) {
+		return CompletableFuture.supplyAsync(() -> transactionOperations.execute(status -> action.get()), executor);
+	}
+
+	private CompletableFuture<Void> run(Runnable action) {
+		return CompletableFuture.runAsync(() -> transactionOperations.executeWithoutResult(status -> action.run()),
+				executor);
+	}
+}
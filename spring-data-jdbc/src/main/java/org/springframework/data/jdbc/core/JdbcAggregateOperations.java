@@ -15,14 +15,19 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.lang.Nullable;
 
 /**
@@ -229,6 +234,19 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Returns a {@link Window} of entities matching the given {@link Query} starting at {@link ScrollPosition}. Keyset
+	 * positions are translated into a predicate on the sort properties so that the window is fetched without skipping
+	 * rows.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @return a {@link Window} of entities matching the given {@link Query}.
+	 * @since 3.2
+	 */
+	<T> Window<T> scroll(Query query, Class<T> domainType, ScrollPosition scrollPosition);
+
 	/**
 	 * Deletes a single Aggregate including all entities contained in that aggregate.
 	 * <p>
@@ -288,6 +306,52 @@ public interface JdbcAggregateOperations {
 	 */
 	void deleteAll(Class<?> domainType);
 
+	/**
+	 * Apply the given {@link Update} to all aggregate roots of the given type that match the given {@link Query} using
+	 * a single {@code UPDATE} statement. Aggregates are neither loaded nor versioned and no lifecycle events are
+	 * published. Criteria and assignments can refer to columns of the aggregate root table only.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return the number of updated aggregate roots.
+	 * @since 3.2
+	 */
+	<T> long update(Query query, Update update, Class<T> domainType);
+
+	/**
+	 * Delete all aggregates of the given type whose root matches the given {@link Query} without loading them.
+	 * Referenced entities are removed with statements that select their aggregate root through a subselect. Neither
+	 * {@link org.springframework.data.relational.core.mapping.event.BeforeDeleteEvent} and
+	 * {@link org.springframework.data.relational.core.mapping.event.AfterDeleteEvent} are published nor delete callbacks
+	 * invoked. Criteria can refer to columns of the aggregate root table only.
+	 * <p>
+	 * The referenced entities and the aggregate roots are removed using multiple statements. Invoke this method within a
+	 * transaction so that a failure does not leave aggregates without their referenced entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return the number of deleted aggregate roots.
+	 * @since 3.2
+	 */
+	<T> long delete(Query query, Class<T> domainType);
+
+	/**
+	 * Group the aggregate roots of the given type that match the given {@link Query} as defined by the
+	 * {@link Aggregation} and map each group to {@code resultType}. Group-by columns and aggregate function aliases are
+	 * mapped to the properties of {@code resultType} by name, simple result types are read from the single selected
+	 * column. Sort orders of the query may refer to aggregate function aliases. Only columns of the aggregate root table
+	 * can be grouped and aggregated.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregation must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param resultType the type each group is mapped to. Must not be {@code null}.
+	 * @return one result per group. Guaranteed to be not {@code null}.
+	 * @since 3.2
+	 */
+	<T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType);
+
 	/**
 	 * Delete all aggregates identified by their aggregate roots.
 	 *
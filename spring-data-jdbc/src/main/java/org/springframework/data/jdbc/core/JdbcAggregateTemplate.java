@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,7 +33,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.IdentifierAccessor;
@@ -39,6 +43,7 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.EntityLifecycleEventDelegate;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.BatchingAggregateChange;
+import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DeleteAggregateChange;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
@@ -50,7 +55,12 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.event.*;
+import org.springframework.data.relational.core.observability.DataAccessObserver;
+import org.springframework.data.relational.core.observability.DefaultDataAccessObservationConvention;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.ScrollUtils;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -80,6 +90,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final JdbcConverter converter;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private EntityCallbackDetector callbackDetector = EntityCallbackDetector.assumePresent();
+	private BatchEntityCallbacks batchCallbacks = BatchEntityCallbacks.none();
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -108,6 +120,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
 
 		setEntityCallbacks(EntityCallbacks.create(publisher));
+		setEntityCallbackDetector(EntityCallbackDetector.create(publisher));
+		setBatchEntityCallbacks(BatchEntityCallbacks.create(publisher));
 	}
 
 	/**
@@ -136,16 +150,63 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	}
 
 	/**
-	 * Sets the callbacks to be invoked on life cycle events.
+	 * Sets the callbacks to be invoked on life cycle events. Resets the {@link EntityCallbackDetector} so that
+	 * callbacks of all types are invoked.
 	 *
 	 * @param entityCallbacks must not be {@literal null}.
 	 * @since 1.1
+	 * @see #setEntityCallbackDetector(EntityCallbackDetector)
 	 */
 	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
 
 		Assert.notNull(entityCallbacks, "Callbacks must not be null");
 
 		this.entityCallbacks = entityCallbacks;
+		this.callbackDetector = EntityCallbackDetector.assumePresent();
+	}
+
+	/**
+	 * Sets the {@link EntityCallbackDetector} used to skip dispatching to {@link EntityCallbacks} for callback types
+	 * without registered callbacks. Must only be used if the configured {@link EntityCallbacks} were created from the
+	 * same bean factory as the detector.
+	 *
+	 * @param callbackDetector must not be {@literal null}.
+	 * @since 3.2
+	 */
+	public void setEntityCallbackDetector(EntityCallbackDetector callbackDetector) {
+
+		Assert.notNull(callbackDetector, "EntityCallbackDetector must not be null");
+
+		this.callbackDetector = callbackDetector;
+	}
+
+	/**
+	 * Sets the {@link BatchEntityCallbacks} to be invoked once per batch when saving or loading multiple aggregates.
+	 *
+	 * @param batchCallbacks must not be {@literal null}.
+	 * @since 3.2
+	 */
+	public void setBatchEntityCallbacks(BatchEntityCallbacks batchCallbacks) {
+
+		Assert.notNull(batchCallbacks, "BatchEntityCallbacks must not be null");
+
+		this.batchCallbacks = batchCallbacks;
+	}
+
+	/**
+	 * Set the {@link ObservationRegistry} to record an observation for each {@link DbAction} executed when saving or
+	 * deleting aggregates. Observations are tagged with the entity type, the kind of {@link DbAction} and, for batches,
+	 * the batch size. Observations are not recorded by default.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.2
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.executor.setObserver(new DataAccessObserver(observationRegistry,
+				new DefaultDataAccessObservationConvention(AggregateChangeExecutor.OBSERVATION_NAME)));
 	}
 
 	/**
@@ -300,7 +361,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null");
 
 		Iterable<T> all = accessStrategy.findAll(domainType, sort);
-		return triggerAfterConvert(all);
+		return triggerAfterConvert(all, domainType);
 	}
 
 	@Override
@@ -308,7 +369,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
-		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(domainType, pageable));
+		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(domainType, pageable), domainType);
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
 		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(domainType));
@@ -327,19 +388,35 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	@Override
 	public <T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 
-		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(query, domainType, pageable));
+		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(query, domainType, pageable), domainType);
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
 		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(query, domainType));
 	}
 
+	@Override
+	public <T> Window<T> scroll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+		Query scrollQuery = ScrollUtils.createQuery(query, scrollPosition, entity);
+
+		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(scrollQuery, domainType), domainType);
+		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+
+		return ScrollUtils.createWindow(query, scrollPosition, content, entity);
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
 		Iterable<T> all = accessStrategy.findAll(domainType);
-		return triggerAfterConvert(all);
+		return triggerAfterConvert(all, domainType);
 	}
 
 	@Override
@@ -349,7 +426,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null");
 
 		Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
-		return triggerAfterConvert(allById);
+		return triggerAfterConvert(allById, domainType);
 	}
 
 	@Override
@@ -404,6 +481,36 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		executor.executeDelete(change);
 	}
 
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(update, "Update must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.update(query, update, domainType);
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.delete(query, domainType);
+	}
+
+	@Override
+	public <T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(resultType, "Result type must not be null");
+
+		return accessStrategy.aggregate(query, aggregation, domainType, resultType);
+	}
+
 	@Override
 	public <T> void deleteAll(Iterable<? extends T> instances) {
 
@@ -495,19 +602,30 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return afterExecute(batchingAggregateChange, afterExecutionIterator.next());
 	}
 
-	private <T> List<T> performSaveAll(Iterable<EntityAndChangeCreator<T>> instances) {
+	private <T> List<T> performSaveAll(List<EntityAndChangeCreator<T>> instances) {
 
-		BatchingAggregateChange<T, RootAggregateChange<T>> batchingAggregateChange = null;
+		Assert.isTrue(!instances.isEmpty(), "Iterable in saveAll must not be empty");
 
-		for (EntityAndChangeCreator<T> instance : instances) {
-			if (batchingAggregateChange == null) {
-				// noinspection unchecked
-				batchingAggregateChange = BatchingAggregateChange.forSave((Class<T>) ClassUtils.getUserClass(instance.entity));
+		// noinspection unchecked
+		Class<T> domainType = (Class<T>) ClassUtils.getUserClass(instances.get(0).entity);
+		BatchingAggregateChange<T, RootAggregateChange<T>> batchingAggregateChange = BatchingAggregateChange
+				.forSave(domainType);
+
+		List<EntityAndChangeCreator<T>> converted = triggerBeforeConvertAll(instances, domainType);
+		List<RootAggregateChange<T>> changes = new ArrayList<>(instances.size());
+
+		try {
+			for (EntityAndChangeCreator<T> instance : converted) {
+				changes.add(beforeExecute(instance));
+			}
+		} finally {
+			if (converted != instances) {
+				batchCallbacks.onBeforeConvertCompleted(domainType);
 			}
-			batchingAggregateChange.add(beforeExecute(instance));
 		}
 
-		Assert.notNull(batchingAggregateChange, "Iterable in saveAll must not be empty");
+		triggerBeforeSaveAll(changes, domainType);
+		changes.forEach(batchingAggregateChange::add);
 
 		List<T> instancesAfterExecution = executor.executeSave(batchingAggregateChange);
 
@@ -516,9 +634,53 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 			results.add(afterExecute(batchingAggregateChange, instance));
 		}
 
+		if (batchCallbacks.hasCallbacks(AfterSaveAllCallback.class, domainType)) {
+			return batchCallbacks.onAfterSave(domainType, results);
+		}
+
 		return results;
 	}
 
+	private <T> List<EntityAndChangeCreator<T>> triggerBeforeConvertAll(List<EntityAndChangeCreator<T>> instances,
+			Class<T> domainType) {
+
+		if (!batchCallbacks.hasCallbacks(BeforeConvertAllCallback.class, domainType)) {
+			return instances;
+		}
+
+		List<T> entities = new ArrayList<>(instances.size());
+		for (EntityAndChangeCreator<T> instance : instances) {
+			entities.add(instance.entity);
+		}
+
+		List<T> converted = batchCallbacks.onBeforeConvert(domainType, entities);
+
+		List<EntityAndChangeCreator<T>> result = new ArrayList<>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			result.add(new EntityAndChangeCreator<>(converted.get(i), instances.get(i).changeCreator));
+		}
+
+		return result;
+	}
+
+	private <T> void triggerBeforeSaveAll(List<RootAggregateChange<T>> changes, Class<T> domainType) {
+
+		if (!batchCallbacks.hasCallbacks(BeforeSaveAllCallback.class, domainType)) {
+			return;
+		}
+
+		List<T> roots = new ArrayList<>(changes.size());
+		for (RootAggregateChange<T> change : changes) {
+			roots.add(change.getRoot());
+		}
+
+		List<T> saved = batchCallbacks.onBeforeSave(domainType, roots);
+
+		for (int i = 0; i < changes.size(); i++) {
+			changes.get(i).setRoot(saved.get(i));
+		}
+	}
+
 	private <T> Function<T, RootAggregateChange<T>> changeCreatorSelectorForSave(T instance) {
 
 		return context.getRequiredPersistentEntity(instance.getClass()).isNew(instance)
@@ -599,7 +761,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
-	private <T> Iterable<T> triggerAfterConvert(Iterable<T> all) {
+	private <T> Iterable<T> triggerAfterConvert(Iterable<T> all, Class<T> domainType) {
+
+		boolean hasCallbacks = callbackDetector.hasCallbacks(AfterConvertCallback.class);
+		boolean hasBatchCallbacks = batchCallbacks.hasCallbacks(AfterConvertAllCallback.class, domainType);
+
+		if (!hasCallbacks && !hasBatchCallbacks && !eventDelegate.isEventsEnabled()) {
+			return all;
+		}
 
 		List<T> result = new ArrayList<>();
 
@@ -607,39 +776,58 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 			result.add(triggerAfterConvert(e));
 		}
 
-		return result;
+		return hasBatchCallbacks ? batchCallbacks.onAfterConvert(domainType, result) : result;
 	}
 
 	private <T> T triggerAfterConvert(T entity) {
 
 		eventDelegate.publishEvent(() -> new AfterConvertEvent<>(entity));
-		return entityCallbacks.callback(AfterConvertCallback.class, entity);
+
+		if (callbackDetector.hasCallbacks(AfterConvertCallback.class)) {
+			return entityCallbacks.callback(AfterConvertCallback.class, entity);
+		}
+
+		return entity;
 	}
 
 	private <T> T triggerBeforeConvert(T aggregateRoot) {
 
 		eventDelegate.publishEvent(() -> new BeforeConvertEvent<>(aggregateRoot));
-		return entityCallbacks.callback(BeforeConvertCallback.class, aggregateRoot);
+
+		if (callbackDetector.hasCallbacks(BeforeConvertCallback.class)) {
+			return entityCallbacks.callback(BeforeConvertCallback.class, aggregateRoot);
+		}
+
+		return aggregateRoot;
 	}
 
 	private <T> T triggerBeforeSave(T aggregateRoot, AggregateChange<T> change) {
 
 		eventDelegate.publishEvent(() -> new BeforeSaveEvent<>(aggregateRoot, change));
 
-		return entityCallbacks.callback(BeforeSaveCallback.class, aggregateRoot, change);
+		if (callbackDetector.hasCallbacks(BeforeSaveCallback.class)) {
+			return entityCallbacks.callback(BeforeSaveCallback.class, aggregateRoot, change);
+		}
+
+		return aggregateRoot;
 	}
 
 	private <T> T triggerAfterSave(T aggregateRoot, AggregateChange<T> change) {
 
 		eventDelegate.publishEvent(() -> new AfterSaveEvent<>(aggregateRoot, change));
-		return entityCallbacks.callback(AfterSaveCallback.class, aggregateRoot);
+
+		if (callbackDetector.hasCallbacks(AfterSaveCallback.class)) {
+			return entityCallbacks.callback(AfterSaveCallback.class, aggregateRoot);
+		}
+
+		return aggregateRoot;
 	}
 
 	private <T> void triggerAfterDelete(@Nullable T aggregateRoot, Object id, AggregateChange<T> change) {
 
 		eventDelegate.publishEvent(() -> new AfterDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
 
-		if (aggregateRoot != null) {
+		if (aggregateRoot != null && callbackDetector.hasCallbacks(AfterDeleteCallback.class)) {
 			entityCallbacks.callback(AfterDeleteCallback.class, aggregateRoot);
 		}
 	}
@@ -649,11 +837,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		eventDelegate.publishEvent(() -> new BeforeDeleteEvent<>(Identifier.of(id), aggregateRoot, change));
 
-		if (aggregateRoot != null) {
+		if (aggregateRoot != null && callbackDetector.hasCallbacks(BeforeDeleteCallback.class)) {
 			return entityCallbacks.callback(BeforeDeleteCallback.class, aggregateRoot, change);
 		}
 
-		return null;
+		return aggregateRoot;
 	}
 
 	private record EntityAndPreviousVersion<T> (T entity, @Nullable Number version) {
@@ -20,8 +20,13 @@ import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -305,6 +310,16 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
 	}
 
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Predicate<RelationalPersistentProperty> relationFilter) {
+
+		Assert.notNull(relationFilter, "Relation filter must not be null");
+
+		return new ReadingContext<T>(getMappingContext().getAggregatePath(entity), new ResultSetAccessor(resultSet),
+				Identifier.empty(), key, relationFilter).mapRow();
+	}
+
 
 	@Override
 	public <T> T mapRow(AggregatePath path, ResultSet resultSet, Identifier identifier, Object key) {
@@ -360,10 +375,18 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private final JdbcPropertyValueProvider propertyValueProvider;
 		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 		private final ResultSetAccessor accessor;
+		private final Predicate<RelationalPersistentProperty> relationFilter;
+
+		private Map<RelationalPersistentProperty, Iterable<Object>> resolvedRelations = Collections.emptyMap();
 
-		@SuppressWarnings("unchecked")
 		private ReadingContext(AggregatePath rootPath, ResultSetAccessor accessor, Identifier identifier,
 				Object key) {
+			this(rootPath, accessor, identifier, key, property -> true);
+		}
+
+		@SuppressWarnings("unchecked")
+		private ReadingContext(AggregatePath rootPath, ResultSetAccessor accessor, Identifier identifier,
+				Object key, Predicate<RelationalPersistentProperty> relationFilter) {
 			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
 
 			Assert.notNull(entity, "The rootPath must point to an entity");
@@ -376,12 +399,14 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.propertyValueProvider = new JdbcPropertyValueProvider(path, accessor);
 			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(path, accessor);
 			this.accessor = accessor;
+			this.relationFilter = relationFilter;
 		}
 
 		private ReadingContext(RelationalPersistentEntity<T> entity, AggregatePath rootPath,
 				AggregatePath path, Identifier identifier, Object key,
 				JdbcPropertyValueProvider propertyValueProvider,
-				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider, ResultSetAccessor accessor) {
+				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider, ResultSetAccessor accessor,
+				Predicate<RelationalPersistentProperty> relationFilter) {
 
 			this.entity = entity;
 			this.rootPath = rootPath;
@@ -391,13 +416,15 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.propertyValueProvider = propertyValueProvider;
 			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 			this.accessor = accessor;
+			this.relationFilter = relationFilter;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
 			return new ReadingContext<>(
 					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
 					rootPath.append(property), path.append(property), identifier, key,
-					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property), accessor);
+					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property), accessor,
+					relationFilter);
 		}
 
 		T mapRow() {
@@ -438,9 +465,11 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		@Nullable
 		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
 
-			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+			if (isRelation(property)) {
 
-				Iterable<Object> allByPath = resolveRelation(id, property);
+				Iterable<Object> allByPath = relationFilter.test(rootPath.append(property).getRequiredBaseProperty()) //
+						? resolveRelation(id, property) //
+						: Collections.emptyList();
 
 				return property.isMap() //
 						? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
@@ -453,16 +482,70 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			}
 		}
 
+		private boolean isRelation(RelationalPersistentProperty property) {
+			return (property.isCollectionLike() && property.isEntity()) || property.isMap();
+		}
+
 		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
 
-			Identifier identifier = id == null //
+			Iterable<Object> resolved = resolvedRelations.get(property);
+
+			if (resolved != null) {
+				return resolved;
+			}
+
+			return relationResolver.findAllByPath(getRelationIdentifier(id, property), getRelationPath(property));
+		}
+
+		/**
+		 * Resolve all relations of the entity up front if the {@link RelationResolver} is able to load independent
+		 * relations concurrently.
+		 */
+		private void resolveRelationsConcurrently(@Nullable Object id) {
+
+			if (!(relationResolver instanceof ConcurrentRelationResolver concurrentRelationResolver)) {
+				return;
+			}
+
+			List<RelationalPersistentProperty> properties = new ArrayList<>();
+
+			for (RelationalPersistentProperty property : entity) {
+				if (isRelation(property) && relationFilter.test(rootPath.append(property).getRequiredBaseProperty())) {
+					properties.add(property);
+				}
+			}
+
+			if (properties.size() < 2) {
+				return;
+			}
+
+			List<ConcurrentRelationResolver.Relation> relations = new ArrayList<>(properties.size());
+
+			for (RelationalPersistentProperty property : properties) {
+				relations.add(new ConcurrentRelationResolver.Relation(getRelationIdentifier(id, property),
+						getRelationPath(property)));
+			}
+
+			List<Iterable<Object>> results = concurrentRelationResolver.findAllByPaths(relations);
+			Map<RelationalPersistentProperty, Iterable<Object>> resolved = new HashMap<>(properties.size());
+
+			for (int i = 0; i < properties.size(); i++) {
+				resolved.put(properties.get(i), results.get(i));
+			}
+
+			this.resolvedRelations = resolved;
+		}
+
+		private Identifier getRelationIdentifier(@Nullable Object id, RelationalPersistentProperty property) {
+
+			return id == null //
 					? this.identifier.withPart(rootPath.getTableInfo().qualifierColumnInfo().name(), key, Object.class) //
 					: Identifier.of(rootPath.append(property).getTableInfo().reverseColumnInfo().name(), id, Object.class);
+		}
 
-			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.append(property)
-					.getRequiredPersistentPropertyPath();
-
-			return relationResolver.findAllByPath(identifier, propertyPath);
+		private PersistentPropertyPath<? extends RelationalPersistentProperty> getRelationPath(
+				RelationalPersistentProperty property) {
+			return path.append(property).getRequiredPersistentPropertyPath();
 		}
 
 		/**
@@ -544,6 +627,8 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private T createInstanceInternal(@Nullable Object idValue) {
 
+			resolveRelationsConcurrently(idValue);
+
 			InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
 			ParameterValueProvider<RelationalPersistentProperty> provider;
 
@@ -0,0 +1,613 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.mapping.CachedAggregate;
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataAccessStrategy} caching the results of read operations for aggregate types annotated with
+ * {@link CachedAggregate}. Results are cached by id and by the shape and values of the {@link Query}. Each aggregate
+ * type has its own cache, bounded in size and with entries expiring after the configured time to live.
+ * <p>
+ * All writes passing through this strategy, including those issued by the {@code AggregateChangeExecutor} when saving
+ * or deleting aggregates, invalidate the caches of all aggregate types the written entity belongs to. Within a
+ * transaction, caches are invalidated once more after the transaction completed so that results loaded by concurrent
+ * readers before the commit are not retained. Reads within read-write transactions bypass the caches as they may
+ * observe uncommitted changes. Modifications that bypass this strategy, such as modifying repository queries, other
+ * processes or other JVMs, are not detected and only become visible once cached results expire.
+ * <p>
+ * Cached aggregates are shared between callers and must not be modified.
+ *
+ * @since 3.2
+ * @see CachedAggregate
+ */
+public class CachingDataAccessStrategy extends DelegatingDataAccessStrategy {
+
+	private static final Object NULL = new Object();
+
+	private final RelationalMappingContext context;
+	private final LongSupplier ticker;
+	private final Map<Class<?>, Optional<AggregateCache>> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link CachingDataAccessStrategy}.
+	 *
+	 * @param delegate the {@link DataAccessStrategy} performing the actual operations, must not be {@literal null}.
+	 * @param context the {@link RelationalMappingContext}, must not be {@literal null}.
+	 */
+	public CachingDataAccessStrategy(DataAccessStrategy delegate, RelationalMappingContext context) {
+		this(delegate, context, System::nanoTime);
+	}
+
+	CachingDataAccessStrategy(DataAccessStrategy delegate, RelationalMappingContext context, LongSupplier ticker) {
+
+		super(delegate);
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(ticker, "Ticker must not be null");
+
+		this.context = context;
+		this.ticker = ticker;
+	}
+
+	/**
+	 * Returns the {@link CacheStatistics} for {@code domainType}.
+	 *
+	 * @param domainType the aggregate type.
+	 * @return the statistics, all zero if {@code domainType} is not cached.
+	 */
+	public CacheStatistics getStatistics(Class<?> domainType) {
+
+		AggregateCache cache = getCache(domainType);
+		return cache == null ? new CacheStatistics(0, 0, 0) : cache.getStatistics();
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		caches.values().forEach(cache -> cache.ifPresent(AggregateCache::clear));
+	}
+
+	@Override
+	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
+		return invalidateAfter(domainType, () -> super.insert(instance, domainType, identifier, idValueSource));
+	}
+
+	@Override
+	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType, IdValueSource idValueSource) {
+		return invalidateAfter(domainType, () -> super.insert(insertSubjects, domainType, idValueSource));
+	}
+
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType) {
+		return invalidateAfter(domainType, () -> super.update(instance, domainType));
+	}
+
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number nextVersion) {
+		return invalidateAfter(domainType, () -> super.updateWithVersion(instance, domainType, nextVersion));
+	}
+
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		super.delete(rootId, propertyPath);
+		invalidate(propertyPath);
+	}
+
+	@Override
+	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		super.delete(rootIds, propertyPath);
+		invalidate(propertyPath);
+	}
+
+	@Override
+	public void delete(Object id, Class<?> domainType) {
+
+		super.delete(id, domainType);
+		invalidate(domainType);
+	}
+
+	@Override
+	public void delete(Iterable<Object> ids, Class<?> domainType) {
+
+		super.delete(ids, domainType);
+		invalidate(domainType);
+	}
+
+	@Override
+	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
+
+		super.deleteWithVersion(id, domainType, previousVersion);
+		invalidate(domainType);
+	}
+
+	@Override
+	public <T> void deleteAll(Class<T> domainType) {
+
+		super.deleteAll(domainType);
+		invalidate(domainType);
+	}
+
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		super.deleteAll(propertyPath);
+		invalidate(propertyPath);
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		return invalidateAfter(domainType, () -> super.update(query, update, domainType));
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		return invalidateAfter(domainType, () -> super.delete(query, domainType));
+	}
+
+	@Override
+	public long count(Class<?> domainType) {
+		return cached(domainType, key("count"), () -> super.count(domainType));
+	}
+
+	@Override
+	public <T> T findById(Object id, Class<T> domainType) {
+		return cached(domainType, key("findById", id), () -> super.findById(id, domainType));
+	}
+
+	@Override
+	public <T> boolean existsById(Object id, Class<T> domainType) {
+		return cached(domainType, key("existsById", id), () -> super.existsById(id, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType) {
+		return cachedAll(domainType, key("findAll"), () -> super.findAll(domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+
+		List<Object> idList = new ArrayList<>();
+		ids.forEach(idList::add);
+
+		return cachedAll(domainType, key("findAllById", idList), () -> super.findAllById(idList, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
+		return cachedAll(domainType, key("findAll", sort), () -> super.findAll(domainType, sort));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
+		return cachedAll(domainType, key("findAll", pageable), () -> super.findAll(domainType, pageable));
+	}
+
+	@Override
+	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
+		return cached(domainType, key("findOne", query), () -> super.findOne(query, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Query query, Class<T> domainType) {
+		return cachedAll(domainType, key("findAll", query), () -> super.findAll(query, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
+		return cachedAll(domainType, key("findAll", query, pageable), () -> super.findAll(query, domainType, pageable));
+	}
+
+	@Override
+	public <T> boolean exists(Query query, Class<T> domainType) {
+		return cached(domainType, key("exists", query), () -> super.exists(query, domainType));
+	}
+
+	@Override
+	public <T> long count(Query query, Class<T> domainType) {
+		return cached(domainType, key("count", query), () -> super.count(query, domainType));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R> R cached(Class<?> domainType, @Nullable Object key, Supplier<R> loader) {
+
+		if (isReadWriteTransactionActive()) {
+			return loader.get();
+		}
+
+		AggregateCache cache = key != null ? getCache(domainType) : null;
+		return cache != null ? (R) cache.get(key, loader) : loader.get();
+	}
+
+	private static boolean isReadWriteTransactionActive() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private <T> Iterable<T> cachedAll(Class<?> domainType, @Nullable Object key, Supplier<Iterable<T>> loader) {
+
+		return cached(domainType, key, () -> {
+
+			List<T> result = new ArrayList<>();
+			loader.get().forEach(result::add);
+			return Collections.unmodifiableList(result);
+		});
+	}
+
+	private <R> R invalidateAfter(Class<?> domainType, Supplier<R> write) {
+
+		R result = write.get();
+		invalidate(domainType);
+		return result;
+	}
+
+	private void invalidate(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		RelationalPersistentProperty baseProperty = propertyPath.getBaseProperty();
+
+		if (baseProperty != null) {
+			invalidate(baseProperty.getOwner().getType());
+		} else {
+			clear();
+			getPendingInvalidations().ifPresent(PendingInvalidations::addAllTypes);
+		}
+	}
+
+	/**
+	 * Invalidates the caches of all aggregates containing entities of {@code type} now and, within a transaction, again
+	 * after the transaction completed.
+	 */
+	private void invalidate(Class<?> type) {
+
+		evict(type);
+		getPendingInvalidations().ifPresent(it -> it.add(type));
+	}
+
+	private void evict(Class<?> type) {
+
+		for (Optional<AggregateCache> cache : caches.values()) {
+			cache.filter(it -> it.contains(type)).ifPresent(AggregateCache::clear);
+		}
+	}
+
+	/**
+	 * Returns the {@link PendingInvalidations} of the current transaction, registering them on first access. Empty if no
+	 * transaction synchronization is active.
+	 */
+	private Optional<PendingInvalidations> getPendingInvalidations() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return Optional.empty();
+		}
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof PendingInvalidations pending && pending.isOwnedBy(this)) {
+				return Optional.of(pending);
+			}
+		}
+
+		PendingInvalidations pending = new PendingInvalidations();
+		TransactionSynchronizationManager.registerSynchronization(pending);
+		return Optional.of(pending);
+	}
+
+	@Nullable
+	private AggregateCache getCache(Class<?> domainType) {
+		return caches.computeIfAbsent(domainType, this::createCache).orElse(null);
+	}
+
+	private Optional<AggregateCache> createCache(Class<?> domainType) {
+
+		RelationalPersistentEntity<?> entity = context.getPersistentEntity(domainType);
+		CachedAggregate annotation = entity != null ? entity.findAnnotation(CachedAggregate.class) : null;
+
+		if (annotation == null) {
+			return Optional.empty();
+		}
+
+		Set<Class<?>> entityTypes = new HashSet<>();
+		collectEntityTypes(entity, entityTypes);
+
+		return Optional.of(new AggregateCache(entityTypes, annotation.maximumSize(),
+				annotation.timeUnit().toNanos(annotation.timeToLive()), ticker));
+	}
+
+	private void collectEntityTypes(RelationalPersistentEntity<?> entity, Set<Class<?>> entityTypes) {
+
+		if (!entityTypes.add(entity.getType())) {
+			return;
+		}
+
+		for (RelationalPersistentProperty property : entity) {
+			if (property.isEntity()) {
+				collectEntityTypes(context.getRequiredPersistentEntity(property.getActualType()), entityTypes);
+			}
+		}
+	}
+
+	/**
+	 * Creates a cache key from the operation and its arguments. Returns {@literal null} if an argument contains values
+	 * that cannot serve as part of a key, which disables caching for the invocation.
+	 */
+	@Nullable
+	private static Object key(Object... parts) {
+
+		List<Object> key = new ArrayList<>(parts.length);
+
+		for (Object part : parts) {
+
+			if (part instanceof Query query) {
+
+				key.add(query.getColumns());
+				key.add(query.getSort());
+				key.add(query.getLimit());
+				key.add(query.getOffset());
+
+				CriteriaDefinition criteria = query.getCriteria().orElse(null);
+				if (criteria != null && !appendCriteria(criteria, key)) {
+					return null;
+				}
+			} else if (part instanceof Pageable || part instanceof Sort || isValue(part)) {
+				key.add(part);
+			} else {
+				return null;
+			}
+		}
+
+		return key;
+	}
+
+	private static boolean appendCriteria(CriteriaDefinition criteria, List<Object> key) {
+
+		if (criteria.hasPrevious() && !appendCriteria(criteria.getPrevious(), key)) {
+			return false;
+		}
+
+		if (criteria.isEmpty()) {
+			return true;
+		}
+
+		key.add(criteria.getCombinator());
+
+		if (criteria.isGroup()) {
+
+			key.add(criteria.getGroup().size());
+
+			for (CriteriaDefinition nested : criteria.getGroup()) {
+				if (!appendCriteria(nested, key)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		key.add(criteria.getColumn());
+		key.add(criteria.getComparator());
+		key.add(criteria.isIgnoreCase());
+		key.add(criteria.getValue());
+
+		return isValue(criteria.getValue());
+	}
+
+	/**
+	 * Returns whether {@code value} has value semantics, i.e. implements {@link Object#equals(Object)} based on its state.
+	 */
+	private static boolean isValue(@Nullable Object value) {
+
+		if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+				|| value instanceof Character || value instanceof Enum || value instanceof UUID
+				|| value instanceof TemporalAccessor) {
+			return true;
+		}
+
+		if (value instanceof JdbcValue jdbcValue) {
+			return isValue(jdbcValue.getValue());
+		}
+
+		if (value instanceof Pair<?, ?> pair) {
+			return isValue(pair.getFirst()) && isValue(pair.getSecond());
+		}
+
+		if (value instanceof Collection<?> collection) {
+			return collection.stream().allMatch(CachingDataAccessStrategy::isValue);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Snapshot of the statistics of the cache of a single aggregate type.
+	 *
+	 * @param hitCount number of reads answered from the cache.
+	 * @param missCount number of reads passed on to the delegate.
+	 * @param size number of currently cached results.
+	 */
+	public record CacheStatistics(long hitCount, long missCount, int size) {
+	}
+
+	/**
+	 * Aggregate types written within a transaction, invalidated after the transaction completed.
+	 */
+	private class PendingInvalidations implements TransactionSynchronization {
+
+		private final Set<Class<?>> types = new HashSet<>();
+		private boolean all;
+
+		boolean isOwnedBy(CachingDataAccessStrategy strategy) {
+			return CachingDataAccessStrategy.this == strategy;
+		}
+
+		void add(Class<?> type) {
+			types.add(type);
+		}
+
+		void addAllTypes() {
+			all = true;
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			if (all) {
+				clear();
+			} else {
+				types.forEach(CachingDataAccessStrategy.this::evict);
+			}
+		}
+	}
+
+	/**
+	 * Cache for the results of a single aggregate type. Results loaded concurrently to an invalidation are not cached.
+	 * Guarded by a {@link ReentrantLock} rather than a monitor so that waiting virtual threads do not pin their carrier
+	 * thread.
+	 */
+	static class AggregateCache {
+
+		private final Set<Class<?>> entityTypes;
+		private final long timeToLiveNanos;
+		private final LongSupplier ticker;
+		private final Map<Object, Entry> entries;
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final Lock lock = new ReentrantLock();
+		private long generation;
+
+		AggregateCache(Set<Class<?>> entityTypes, int maximumSize, long timeToLiveNanos, LongSupplier ticker) {
+
+			this.entityTypes = entityTypes;
+			this.timeToLiveNanos = timeToLiveNanos;
+			this.ticker = ticker;
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+					return size() > maximumSize;
+				}
+			};
+		}
+
+		boolean contains(Class<?> type) {
+			return entityTypes.contains(type);
+		}
+
+		@Nullable
+		Object get(Object key, Supplier<?> loader) {
+
+			long loadedGeneration;
+
+			lock.lock();
+			try {
+
+				Entry entry = entries.get(key);
+
+				if (entry != null && !entry.isExpired(ticker.getAsLong())) {
+
+					hits.increment();
+					return entry.value == NULL ? null : entry.value;
+				}
+
+				loadedGeneration = generation;
+			} finally {
+				lock.unlock();
+			}
+
+			misses.increment();
+			Object value = loader.get();
+
+			lock.lock();
+			try {
+
+				if (loadedGeneration == generation) {
+					long expiresAt = timeToLiveNanos > 0 ? ticker.getAsLong() + timeToLiveNanos : Long.MAX_VALUE;
+					entries.put(key, new Entry(value == null ? NULL : value, expiresAt));
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			return value;
+		}
+
+		void clear() {
+
+			lock.lock();
+			try {
+
+				generation++;
+				entries.clear();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		CacheStatistics getStatistics() {
+
+			lock.lock();
+			try {
+				return new CacheStatistics(hits.sum(), misses.sum(), entries.size());
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private record Entry(Object value, long expiresAt) {
+
+			boolean isExpired(long now) {
+				return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+			}
+		}
+	}
+}
@@ -28,7 +28,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 
 /**
@@ -183,6 +185,26 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.count(query, domainType));
 	}
 
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		return collect(das -> das.update(query, update, domainType));
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		return collect(das -> das.delete(query, domainType));
+	}
+
+	@Override
+	public <T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType) {
+		return collect(das -> das.aggregate(query, aggregation, domainType, resultType));
+	}
+
+	@Override
+	public void warmUp(Class<?> domainType) {
+		strategies.forEach(das -> das.warmUp(domainType));
+	}
+
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		return strategies.stream().collect(new FunctionCollector<>(function));
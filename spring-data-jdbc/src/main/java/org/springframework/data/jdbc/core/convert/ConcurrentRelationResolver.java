@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RelationResolver} that loads independent relations of an entity, such as multiple collections of the same
+ * aggregate root, concurrently using an {@link Executor}. Aggregate read latency then tracks the slowest relation
+ * instead of the sum of all relations. Each concurrently resolved relation uses its own connection, so an
+ * {@link Executor} running tasks on virtual threads, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}, is a
+ * natural fit.
+ * <p>
+ * Relations are resolved concurrently only outside of transactions or within read-only transactions, as concurrent
+ * queries do not participate in the transaction of the calling thread. The number of concurrently resolved relations is
+ * limited to protect the connection pool. Relations exceeding the limit are resolved on the calling thread.
+ *
+ * @since 3.2
+ */
+public class ConcurrentRelationResolver implements RelationResolver {
+
+	private final RelationResolver delegate;
+	private final Executor executor;
+	private final Semaphore permits;
+
+	/**
+	 * Creates a new {@link ConcurrentRelationResolver}.
+	 *
+	 * @param delegate the {@link RelationResolver} loading a single relation, must not be {@literal null}.
+	 * @param executor the {@link Executor} to resolve relations with, must not be {@literal null}.
+	 * @param maxConcurrency the maximum number of relations resolved concurrently by the {@link Executor}, must be
+	 *          greater than zero.
+	 */
+	public ConcurrentRelationResolver(RelationResolver delegate, Executor executor, int maxConcurrency) {
+
+		Assert.notNull(delegate, "Delegate RelationResolver must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(maxConcurrency > 0, "Maximum concurrency must be greater than zero");
+
+		this.delegate = delegate;
+		this.executor = executor;
+		this.permits = new Semaphore(maxConcurrency);
+	}
+
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return delegate.findAllByPath(identifier, path);
+	}
+
+	/**
+	 * Finds all entities reachable via each of the given relations. Relations are resolved concurrently if allowed by
+	 * the current transaction.
+	 *
+	 * @param relations the relations to resolve, must not be {@literal null}.
+	 * @return the entities of each relation in the order of {@code relations}.
+	 */
+	public List<Iterable<Object>> findAllByPaths(List<Relation> relations) {
+
+		Assert.notNull(relations, "Relations must not be null");
+
+		if (relations.size() < 2 || !isConcurrencyAllowed()) {
+			return relations.stream().map(this::resolve).toList();
+		}
+
+		List<CompletableFuture<Iterable<Object>>> futures = new ArrayList<>(relations.size() - 1);
+
+		for (Relation relation : relations.subList(1, relations.size())) {
+			futures.add(resolveAsync(relation));
+		}
+
+		List<Iterable<Object>> results = new ArrayList<>(relations.size());
+		results.add(resolve(relations.get(0)));
+
+		for (CompletableFuture<Iterable<Object>> future : futures) {
+			results.add(join(future));
+		}
+
+		return results;
+	}
+
+	private CompletableFuture<Iterable<Object>> resolveAsync(Relation relation) {
+
+		if (!permits.tryAcquire()) {
+			return CompletableFuture.completedFuture(resolve(relation));
+		}
+
+		try {
+
+			return CompletableFuture.supplyAsync(() -> {
+
+				try {
+					return resolve(relation);
+				} finally {
+					permits.release();
+				}
+			}, executor);
+		} catch (RejectedExecutionException ex) {
+
+			permits.release();
+			return CompletableFuture.completedFuture(resolve(relation));
+		}
+	}
+
+	private Iterable<Object> resolve(Relation relation) {
+		return delegate.findAllByPath(relation.identifier(), relation.path());
+	}
+
+	private static boolean isConcurrencyAllowed() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private static Iterable<Object> join(CompletableFuture<Iterable<Object>> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw ex;
+		}
+	}
+
+	/**
+	 * A relation to resolve.
+	 *
+	 * @param identifier the combination of Id, map keys and list indexes that identify the parent of the entities to be
+	 *          loaded.
+	 * @param path the path from the aggregate root to the entities to be resolved.
+	 */
+	public record Relation(Identifier identifier, PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+	}
+}
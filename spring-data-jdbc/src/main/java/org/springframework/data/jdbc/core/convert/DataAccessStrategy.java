@@ -26,7 +26,9 @@ import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.lang.Nullable;
 
@@ -220,6 +222,46 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean exists(Query query, Class<T> domainType);
 
+	/**
+	 * Applies the given {@link Update} to all rows of the table representing the aggregate root of type
+	 * <code>domainType</code> that match the provided {@link Query}. Entities are not loaded and referenced entities are
+	 * not touched.
+	 *
+	 * @param query the query selecting the rows to update. Must not be {@literal null}.
+	 * @param update the assignments to apply. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return the number of updated rows.
+	 * @since 3.2
+	 */
+	<T> long update(Query query, Update update, Class<T> domainType);
+
+	/**
+	 * Deletes all aggregates of type <code>domainType</code> whose root matches the provided {@link Query}, including
+	 * their referenced entities, without loading them. Implementations may issue multiple statements and rely on the
+	 * caller to provide a transaction.
+	 *
+	 * @param query the query selecting the aggregate roots to delete. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return the number of deleted aggregate roots.
+	 * @since 3.2
+	 */
+	<T> long delete(Query query, Class<T> domainType);
+
+	/**
+	 * Groups the rows of the table representing the aggregate root of type <code>domainType</code> that match the
+	 * provided {@link Query} as defined by the {@link Aggregation} and maps each group to <code>resultType</code>.
+	 * Columns are mapped to the properties of <code>resultType</code> by name. Simple result types are read from the
+	 * single selected column.
+	 *
+	 * @param query the query selecting the rows to aggregate. Must not be {@literal null}.
+	 * @param aggregation the grouping and aggregate functions. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param resultType the type each group is mapped to. Must not be {@code null}.
+	 * @return one result per group. Guaranteed to be not {@code null}.
+	 * @since 3.2
+	 */
+	<T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType);
+
 	/**
 	 * returns if a row with the given id exists for the given type.
 	 *
@@ -322,4 +364,13 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Prepare the access to aggregates of the given type upfront, e.g. by rendering the statements used for the standard
+	 * operations, to avoid paying for it on first use. Does nothing by default.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @since 3.2
+	 */
+	default void warmUp(Class<?> domainType) {}
+
 }
@@ -21,7 +21,9 @@ import java.sql.ResultSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
@@ -33,10 +35,14 @@ import org.springframework.data.relational.core.mapping.PersistentPropertyPathEx
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.DataClassRowMapper;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -329,7 +335,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getEntityRowMapper(domainType));
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).getFindAll(pageable, parameterSource);
+
+		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
 	}
 
 	@Override
@@ -339,7 +349,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
 		try {
-			return Optional.ofNullable(operations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(domainType)));
+			return Optional
+					.ofNullable(operations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(domainType, query)));
 		} catch (EmptyResultDataAccessException e) {
 			return Optional.empty();
 		}
@@ -351,7 +362,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType, query));
 	}
 
 	@Override
@@ -360,7 +371,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource, pageable);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType, query));
 	}
 
 	@Override
@@ -389,10 +400,66 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).updateByQuery(query, update, parameterSource);
+
+		return operations.update(sqlQuery, parameterSource);
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		List<String> statements = sql(domainType).deleteByQuery(query, parameterSource);
+
+		int deleted = 0;
+		for (String statement : statements) {
+			deleted = operations.update(statement, parameterSource);
+		}
+
+		return deleted;
+	}
+
+	@Override
+	public <T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByAggregation(query, aggregation, parameterSource);
+
+		RowMapper<R> rowMapper = BeanUtils.isSimpleValueType(resultType)
+				? SingleColumnRowMapper.newInstance(resultType, converter.getConversionService())
+				: DataClassRowMapper.newInstance(resultType, converter.getConversionService());
+
+		return operations.query(sqlQuery, parameterSource, rowMapper);
+	}
+
+	@Override
+	public void warmUp(Class<?> domainType) {
+		sql(domainType).renderStatements();
+	}
+
 	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType) {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
 
+	/**
+	 * Queries restricting their columns load only the collections and maps of entities they reference.
+	 */
+	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType, Query query) {
+
+		Set<String> includedProperties = SqlGenerator.getIncludedProperties(query);
+
+		if (includedProperties.isEmpty()) {
+			return getEntityRowMapper(domainType);
+		}
+
+		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter,
+				property -> includedProperties.contains(property.getName()));
+	}
+
 	private EntityRowMapper<?> getEntityRowMapper(AggregatePath path, Identifier identifier) {
 		return new EntityRowMapper<>(path, converter, identifier);
 	}
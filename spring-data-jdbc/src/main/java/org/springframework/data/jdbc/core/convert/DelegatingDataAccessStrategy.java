@@ -23,7 +23,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.util.Assert;
 
@@ -186,6 +188,26 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.count(query, domainType);
 	}
 
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		return delegate.update(query, update, domainType);
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		return delegate.delete(query, domainType);
+	}
+
+	@Override
+	public <T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType) {
+		return delegate.aggregate(query, aggregation, domainType, resultType);
+	}
+
+	@Override
+	public void warmUp(Class<?> domainType) {
+		delegate.warmUp(domainType);
+	}
+
 	/**
 	 * Must be called exactly once before calling any of the other methods.
 	 *
@@ -16,11 +16,14 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
+import java.util.function.Predicate;
 
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
@@ -39,6 +42,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final AggregatePath path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final @Nullable Predicate<RelationalPersistentProperty> relationFilter;
 
 	/**
 	 *
@@ -53,6 +57,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = path.getAggregatePath();
 		this.converter = converter;
 		this.identifier = identifier;
+		this.relationFilter = null;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -62,6 +67,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.relationFilter = null;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
@@ -70,14 +76,38 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.relationFilter = null;
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} for an aggregate root that loads only the collections and maps of entities
+	 * whose top-level property is accepted by {@code relationFilter}.
+	 *
+	 * @param entity the aggregate root entity.
+	 * @param converter the converter to read rows.
+	 * @param relationFilter predicate deciding which relations to load.
+	 * @since 3.2
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			Predicate<RelationalPersistentProperty> relationFilter) {
+
+		this.entity = entity;
+		this.path = null;
+		this.converter = converter;
+		this.identifier = null;
+		this.relationFilter = relationFilter;
 	}
 
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
-		return path == null //
+		if (path != null) {
+			return converter.mapRow(path, resultSet, identifier, rowNumber);
+		}
+
+		return relationFilter == null //
 				? converter.mapRow(entity, resultSet, rowNumber) //
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+				: converter.mapRow(entity, resultSet, rowNumber, relationFilter);
 	}
 
 }
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
 import java.sql.SQLType;
+import java.util.function.Predicate;
 
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.mapping.context.MappingContext;
@@ -61,6 +62,24 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity} loading only
+	 * those collections and maps of entities whose top-level property is accepted by {@code relationFilter}. Relations
+	 * that are not loaded are read as empty collections or maps, saving their {@code SELECT}.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param relationFilter predicate on the top-level property of a relation deciding whether to load it.
+	 * @param <T>
+	 * @return
+	 * @since 3.2
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			Predicate<RelationalPersistentProperty> relationFilter) {
+		return mapRow(entity, resultSet, key);
+	}
+
 	/**
 	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}.
 	 *
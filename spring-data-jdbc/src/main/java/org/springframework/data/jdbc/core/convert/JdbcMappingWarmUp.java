@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalMappingWarmUp;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RelationalMappingWarmUp} that additionally prepares the {@link DataAccessStrategy} for each aggregate root,
+ * i.e. builds its {@link SqlGenerator} and renders the statements of the standard operations.
+ *
+ * @since 3.2
+ * @see DataAccessStrategy#warmUp(Class)
+ */
+public class JdbcMappingWarmUp extends RelationalMappingWarmUp {
+
+	private final DataAccessStrategy dataAccessStrategy;
+
+	/**
+	 * Creates a new {@link JdbcMappingWarmUp}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param dataAccessStrategy must not be {@literal null}.
+	 */
+	public JdbcMappingWarmUp(RelationalMappingContext context, DataAccessStrategy dataAccessStrategy) {
+
+		super(context);
+
+		Assert.notNull(dataAccessStrategy, "DataAccessStrategy must not be null");
+
+		this.dataAccessStrategy = dataAccessStrategy;
+	}
+
+	@Override
+	protected void warmUp(RelationalPersistentEntity<?> entity) {
+
+		super.warmUp(entity);
+
+		if (entity.hasIdProperty()) {
+			dataAccessStrategy.warmUp(entity.getType());
+		}
+	}
+}
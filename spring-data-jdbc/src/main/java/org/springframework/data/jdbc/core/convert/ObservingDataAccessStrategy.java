@@ -0,0 +1,265 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.observability.DataAccessObserver;
+import org.springframework.data.relational.core.observability.DefaultDataAccessObservationConvention;
+import org.springframework.data.relational.core.query.Aggregation;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataAccessStrategy} recording an {@link io.micrometer.observation.Observation} for each operation, tagged with
+ * the entity type, the operation and, for {@link Query} based operations, the statement shape. The number of rows is
+ * recorded for operations returning multiple entities and the batch size for batch inserts.
+ *
+ * @since 3.2
+ * @see DataAccessObserver
+ */
+public class ObservingDataAccessStrategy extends DelegatingDataAccessStrategy {
+
+	/**
+	 * Name of the observations recorded for each operation.
+	 */
+	public static final String OBSERVATION_NAME = "spring.data.jdbc.operation";
+
+	private final DataAccessObserver observer;
+
+	/**
+	 * Creates a new {@link ObservingDataAccessStrategy} using the {@link DefaultDataAccessObservationConvention}.
+	 *
+	 * @param delegate the {@link DataAccessStrategy} performing the actual operations, must not be {@literal null}.
+	 * @param observationRegistry the {@link ObservationRegistry} to record observations, must not be {@literal null}.
+	 */
+	public ObservingDataAccessStrategy(DataAccessStrategy delegate, ObservationRegistry observationRegistry) {
+		this(delegate, new DataAccessObserver(observationRegistry,
+				new DefaultDataAccessObservationConvention(OBSERVATION_NAME)));
+	}
+
+	/**
+	 * Creates a new {@link ObservingDataAccessStrategy}.
+	 *
+	 * @param delegate the {@link DataAccessStrategy} performing the actual operations, must not be {@literal null}.
+	 * @param observer the {@link DataAccessObserver} to record observations, must not be {@literal null}.
+	 */
+	public ObservingDataAccessStrategy(DataAccessStrategy delegate, DataAccessObserver observer) {
+
+		super(delegate);
+
+		Assert.notNull(observer, "DataAccessObserver must not be null");
+
+		this.observer = observer;
+	}
+
+	@Override
+	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
+		return observe("insert", domainType, () -> super.insert(instance, domainType, identifier, idValueSource));
+	}
+
+	@Override
+	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType, IdValueSource idValueSource) {
+
+		return observer.observe(() -> {
+
+			DataAccessObservationContext context = new DataAccessObservationContext("batchInsert", domainType);
+			context.setBatchSize(insertSubjects.size());
+			return context;
+		}, () -> super.insert(insertSubjects, domainType, idValueSource));
+	}
+
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType) {
+		return observe("update", domainType, () -> super.update(instance, domainType));
+	}
+
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number nextVersion) {
+		return observe("updateWithVersion", domainType, () -> super.updateWithVersion(instance, domainType, nextVersion));
+	}
+
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		observe("delete", propertyPath.getRequiredLeafProperty().getActualType(), () -> {
+			super.delete(rootId, propertyPath);
+			return null;
+		});
+	}
+
+	@Override
+	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		observe("delete", propertyPath.getRequiredLeafProperty().getActualType(), () -> {
+			super.delete(rootIds, propertyPath);
+			return null;
+		});
+	}
+
+	@Override
+	public void delete(Object id, Class<?> domainType) {
+
+		observe("delete", domainType, () -> {
+			super.delete(id, domainType);
+			return null;
+		});
+	}
+
+	@Override
+	public void delete(Iterable<Object> ids, Class<?> domainType) {
+
+		observe("delete", domainType, () -> {
+			super.delete(ids, domainType);
+			return null;
+		});
+	}
+
+	@Override
+	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
+
+		observe("deleteWithVersion", domainType, () -> {
+			super.deleteWithVersion(id, domainType, previousVersion);
+			return null;
+		});
+	}
+
+	@Override
+	public <T> void deleteAll(Class<T> domainType) {
+
+		observe("deleteAll", domainType, () -> {
+			super.deleteAll(domainType);
+			return null;
+		});
+	}
+
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		observe("deleteAll", propertyPath.getRequiredLeafProperty().getActualType(), () -> {
+			super.deleteAll(propertyPath);
+			return null;
+		});
+	}
+
+	@Override
+	public long count(Class<?> domainType) {
+		return observe("count", domainType, () -> super.count(domainType));
+	}
+
+	@Override
+	public <T> T findById(Object id, Class<T> domainType) {
+		return observe("findById", domainType, () -> super.findById(id, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType) {
+		return observe("findAll", domainType, () -> super.findAll(domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+		return observe("findAllById", domainType, () -> super.findAllById(ids, domainType));
+	}
+
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		return observe("findAllByPath", path.getRequiredLeafProperty().getActualType(),
+				() -> super.findAllByPath(identifier, path));
+	}
+
+	@Override
+	public <T> boolean existsById(Object id, Class<T> domainType) {
+		return observe("existsById", domainType, () -> super.existsById(id, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
+		return observe("findAll", domainType, () -> super.findAll(domainType, sort));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
+		return observe("findAll", domainType, () -> super.findAll(domainType, pageable));
+	}
+
+	@Override
+	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
+		return observe("findOne", domainType, query, () -> super.findOne(query, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Query query, Class<T> domainType) {
+		return observe("findAll", domainType, query, () -> super.findAll(query, domainType));
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
+		return observe("findAll", domainType, query, () -> super.findAll(query, domainType, pageable));
+	}
+
+	@Override
+	public <T> boolean exists(Query query, Class<T> domainType) {
+		return observe("exists", domainType, query, () -> super.exists(query, domainType));
+	}
+
+	@Override
+	public <T> long count(Query query, Class<T> domainType) {
+		return observe("count", domainType, query, () -> super.count(query, domainType));
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		return observe("update", domainType, query, () -> super.update(query, update, domainType));
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		return observe("delete", domainType, query, () -> super.delete(query, domainType));
+	}
+
+	@Override
+	public <T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType) {
+		return observe("aggregate", domainType, query, () -> super.aggregate(query, aggregation, domainType, resultType));
+	}
+
+	private <R> R observe(String operation, Class<?> domainType, Supplier<R> action) {
+		return observer.observe(() -> new DataAccessObservationContext(operation, domainType), action);
+	}
+
+	private <R> R observe(String operation, Class<?> domainType, Query query, Supplier<R> action) {
+
+		return observer.observe(() -> {
+
+			DataAccessObservationContext context = new DataAccessObservationContext(operation, domainType);
+			context.setStatement(DataAccessObservationContext.getStatementShape(query));
+			return context;
+		}, action);
+	}
+}
@@ -15,30 +15,37 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.lang.reflect.Array;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.relational.core.sql.render.StatementTemplate;
 import org.springframework.data.util.Lazy;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Generates SQL statements to be used by {@link SimpleJdbcRepository}
@@ -93,6 +100,8 @@ class SqlGenerator {
 	private final Lazy<String> deleteByIdInSql = Lazy.of(this::createDeleteByIdInSql);
 	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+
+	private final Map<QueryShape, StatementTemplate> queryTemplates = new ConcurrentReferenceHashMap<>();
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
 
@@ -152,13 +161,14 @@ class SqlGenerator {
 	}
 
 	/**
-	 * Construct an IN-condition based on a {@link Select Sub-Select} which selects the ids (or stand-ins for ids) of the
-	 * given {@literal path} to those that reference the root entities specified by the {@literal rootCondition}.
+	 * Construct an IN- or EXISTS-condition based on a {@link Select Sub-Select} which selects the ids (or stand-ins for
+	 * ids) of the given {@literal path} to those that reference the root entities specified by the
+	 * {@literal rootCondition}.
 	 *
 	 * @param path specifies the table and id to select
 	 * @param rootCondition the condition on the root of the path determining what to select
-	 * @param filterColumn the column to apply the IN-condition to.
-	 * @return the IN condition
+	 * @param filterColumn the column to apply the condition to.
+	 * @return the IN or EXISTS condition
 	 */
 	private Condition getSubselectCondition(AggregatePath path, Function<Column, Condition> rootCondition,
 			Column filterColumn) {
@@ -188,12 +198,32 @@ class SqlGenerator {
 			innerCondition = getSubselectCondition(parentPath, rootCondition, selectFilterColumn);
 		}
 
-		Select select = Select.builder() //
-				.select(idColumn) //
-				.from(subSelectTable) //
-				.where(innerCondition).build();
+		return getSubselectCondition(filterColumn, subSelectTable, idColumn, innerCondition);
+	}
+
+	/**
+	 * Construct a condition restricting {@code filterColumn} to the values of {@code idColumn} in the rows of
+	 * {@code table} matching {@code condition}. Renders a correlated {@code EXISTS} subselect if the dialect
+	 * {@link Dialect#prefersExistsSubselects() prefers it} and an {@code IN} subselect otherwise.
+	 *
+	 * @param filterColumn the column to restrict.
+	 * @param table the table to select from.
+	 * @param idColumn the column of {@code table} holding the values of {@code filterColumn}.
+	 * @param condition the condition on {@code table}.
+	 * @return the {@code IN} or {@code EXISTS} condition.
+	 */
+	private Condition getSubselectCondition(Column filterColumn, Table table, Column idColumn, Condition condition) {
 
-		return filterColumn.in(select);
+		// a correlated subselect on the same table would require aliasing
+		if (!dialect.prefersExistsSubselects() || table.equals(filterColumn.getTable())) {
+			return filterColumn.in(Select.builder().select(idColumn).from(table).where(condition).build());
+		}
+
+		Condition correlation = idColumn.isEqualTo(filterColumn)
+				.and(condition instanceof OrCondition ? Conditions.nest(condition) : condition);
+
+		// the subselect refers to the table of the enclosing statement and therefore cannot be validated on its own
+		return Conditions.exists(Select.builder().select(Expressions.just("1")).from(table).where(correlation).build(false));
 	}
 
 	private BindMarker getBindMarker(SqlIdentifier columnName) {
@@ -239,6 +269,24 @@ class SqlGenerator {
 		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
 	}
 
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
+	 * paged and sorted by the given parameter. Binds limit and offset as parameters if the {@link Dialect} supports
+	 * {@link LimitClause#supportsBindMarkers() bind markers} so that
+	 * all pages of the same size share the same SQL.
+	 *
+	 * @param pageable the pageable to perform on the select.
+	 * @param parameterSource the source for holding the bindings.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 3.2
+	 */
+	String getFindAll(Pageable pageable, MapSqlParameterSource parameterSource) {
+
+		SelectBuilder.SelectOrdered sortable = applyPagination(pageable, this.selectBuilder(Collections.emptyList()),
+				parameterSource);
+		return render(sortable.orderBy(extractOrderByFields(pageable.getSort())).build());
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 * Results are limited to those rows referencing some parent entity. This is used to select values for a complex
@@ -423,6 +471,32 @@ class SqlGenerator {
 		return deleteByListSql.get();
 	}
 
+	/**
+	 * Render the statements of the standard operations on aggregate roots upfront so that their first use does not pay
+	 * for it. Does nothing for entities without an identifier as these cannot be aggregate roots.
+	 */
+	void renderStatements() {
+
+		if (!entity.hasIdProperty()) {
+			return;
+		}
+
+		getFindOne();
+		getFindAll();
+		getFindAllInList();
+		getExists();
+		getCount();
+		getUpdate();
+		getDeleteById();
+		getDeleteByIdIn();
+		getDeleteByList();
+
+		if (entity.hasVersionProperty()) {
+			getUpdateWithVersion();
+			getDeleteByIdAndVersion();
+		}
+	}
+
 	/**
 	 * Create a {@code DELETE} query and optionally filter by {@link PersistentPropertyPath}.
 	 *
@@ -511,6 +585,51 @@ class SqlGenerator {
 	}
 
 	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns) {
+		return selectBuilder(keyColumns, path -> true);
+	}
+
+	/**
+	 * Create a select restricted to the properties referenced by {@link Query#getColumns()}, if any. The identifier is
+	 * always selected as referenced collections and maps are loaded by it.
+	 */
+	private SelectBuilder.SelectWhere selectBuilder(Query query) {
+
+		Set<String> includedProperties = getIncludedProperties(query);
+
+		if (includedProperties.isEmpty()) {
+			return selectBuilder();
+		}
+
+		return selectBuilder(Collections.emptyList(), path -> {
+
+			RelationalPersistentProperty baseProperty = path.getRequiredBaseProperty();
+			return baseProperty.isIdProperty() || includedProperties.contains(baseProperty.getName());
+		});
+	}
+
+	/**
+	 * Determine the names of the top-level properties referenced by {@link Query#getColumns()}.
+	 *
+	 * @param query the query, must not be {@literal null}.
+	 * @return the property names, empty if the query does not restrict its columns.
+	 * @since 3.2
+	 */
+	static Set<String> getIncludedProperties(Query query) {
+
+		Set<String> properties = new HashSet<>();
+
+		for (SqlIdentifier column : query.getColumns()) {
+
+			String reference = column.getReference();
+			int separator = reference.indexOf('.');
+			properties.add(separator == -1 ? reference : reference.substring(0, separator));
+		}
+
+		return properties;
+	}
+
+	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns,
+			Predicate<AggregatePath> pathFilter) {
 
 		Table table = getTable();
 
@@ -522,6 +641,10 @@ class SqlGenerator {
 
 			AggregatePath extPath = mappingContext.getAggregatePath(path);
 
+			if (!pathFilter.test(extPath)) {
+				continue;
+			}
+
 			// add a join if necessary
 			Join join = getJoin(extPath);
 			if (join != null) {
@@ -552,12 +675,13 @@ class SqlGenerator {
 			Pageable pageable) {
 
 		SelectBuilder.SelectOrdered sortable = this.selectBuilder(keyColumns);
-		sortable = applyPagination(pageable, sortable);
+		sortable = applyPagination(pageable, sortable, null);
 		return sortable.orderBy(extractOrderByFields(sort));
 
 	}
 
-	private SelectBuilder.SelectOrdered applyPagination(Pageable pageable, SelectBuilder.SelectOrdered select) {
+	private SelectBuilder.SelectOrdered applyPagination(Pageable pageable, SelectBuilder.SelectOrdered select,
+			@Nullable MapSqlParameterSource parameterSource) {
 
 		if (!pageable.isPaged()) {
 			return select;
@@ -567,7 +691,14 @@ class SqlGenerator {
 				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
 
 		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) select;
-		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(pageable.getPageSize(), pageable.getOffset());
+		SelectBuilder.SelectLimitOffset limitResult;
+
+		if (parameterSource != null && dialect.limit().supportsBindMarkers()) {
+			limitResult = limitable.limitOffset(bindPagination(parameterSource, "limit", pageable.getPageSize()),
+					bindPagination(parameterSource, "offset", pageable.getOffset()));
+		} else {
+			limitResult = limitable.limitOffset(pageable.getPageSize(), pageable.getOffset());
+		}
 
 		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
 				"The result of applying the limit-clause must be of type SelectOrdered in order to apply the order-by-clause but is of type %s",
@@ -576,6 +707,17 @@ class SqlGenerator {
 		return (SelectBuilder.SelectOrdered) limitResult;
 	}
 
+	private static BindMarker bindPagination(MapSqlParameterSource parameterSource, String name, long value) {
+
+		String uniqueName = name;
+		for (int counter = 1; parameterSource.hasValue(uniqueName); counter++) {
+			uniqueName = name + counter;
+		}
+
+		parameterSource.addValue(uniqueName, value);
+		return SQL.bindMarker(":" + uniqueName);
+	}
+
 	/**
 	 * Create a {@link Column} for {@link AggregatePath}.
 	 *
@@ -876,12 +1018,8 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
-
-		Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
-				.build();
-
-		return render(select);
+		return renderQuery("select", query, parameterSource,
+				source -> applyQueryOnSelect(query, source, selectBuilder(query)).build());
 	}
 
 	/**
@@ -897,12 +1035,12 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		SelectBuilder.SelectWhere selectBuilder = selectBuilder(query);
 
 		// first apply query and then pagination. This means possible query sorting and limiting might be overwritten by the
 		// pagination. This is desired.
 		SelectBuilder.SelectOrdered selectOrdered = applyQueryOnSelect(query, parameterSource, selectBuilder);
-		selectOrdered = applyPagination(pageable, selectOrdered);
+		selectOrdered = applyPagination(pageable, selectOrdered, parameterSource);
 		selectOrdered = selectOrdered.orderBy(extractOrderByFields(pageable.getSort()));
 
 		Select select = selectOrdered.build();
@@ -919,12 +1057,8 @@ class SqlGenerator {
 	 */
 	public String existsByQuery(Query query, MapSqlParameterSource parameterSource) {
 
-		SelectBuilder.SelectJoin baseSelect = getExistsSelect();
-
-		Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
-				.build();
-
-		return render(select);
+		return renderQuery("exists", query, parameterSource, source -> applyQueryOnSelect(query, source,
+				(SelectBuilder.SelectWhere) getExistsSelect()).build());
 	}
 
 	/**
@@ -937,13 +1071,139 @@ class SqlGenerator {
 	 */
 	public String countByQuery(Query query, MapSqlParameterSource parameterSource) {
 
-		Expression countExpression = Expressions.just("1");
-		SelectBuilder.SelectJoin baseSelect = getSelectCountWithExpression(countExpression);
+		return renderQuery("count", query, parameterSource, source -> applyQueryOnSelect(query, source,
+				(SelectBuilder.SelectWhere) getSelectCountWithExpression(Expressions.just("1"))).build());
+	}
 
-		Select select = applyQueryOnSelect(query, parameterSource, (SelectBuilder.SelectWhere) baseSelect) //
-				.build();
+	/**
+	 * Constructs a single sql statement that updates all rows of the aggregate root table matching the provided query.
+	 * Additional the bindings for the where clause and the assignments are stored after execution into the
+	 * <code>parameterSource</code>
+	 *
+	 * @param query the query selecting the rows to update. Must not be null.
+	 * @param update the assignments to apply. Must not be null.
+	 * @param parameterSource the source for holding the bindings
+	 * @return a non null statement string.
+	 * @since 3.2
+	 */
+	public String updateByQuery(Query query, org.springframework.data.relational.core.query.Update update,
+			MapSqlParameterSource parameterSource) {
 
-		return render(select);
+		Table table = getTable();
+		List<Assignment> assignments = queryMapper.getMappedObject(parameterSource, update, table, entity);
+
+		UpdateBuilder.UpdateWhere builder = StatementBuilder.update(table).set(assignments);
+		CriteriaDefinition criteria = query.getCriteria().orElse(null);
+
+		Update statement = criteria == null || criteria.isEmpty() //
+				? builder.build() //
+				: builder.where(queryMapper.getMappedObject(parameterSource, criteria, table, entity)).build();
+
+		return render(statement);
+	}
+
+	/**
+	 * Constructs the sql statements that delete all aggregates whose root matches the provided query. Referenced
+	 * entities are deleted first, deepest path first, using a subselect on the aggregate root table so that no
+	 * aggregate needs to be loaded. The last statement deletes the aggregate roots. Additional the bindings for the
+	 * where clause are stored after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query selecting the aggregate roots to delete. Must not be null.
+	 * @param parameterSource the source for holding the bindings
+	 * @return the non empty list of statements in execution order.
+	 * @since 3.2
+	 */
+	public List<String> deleteByQuery(Query query, MapSqlParameterSource parameterSource) {
+
+		Table table = getTable();
+		CriteriaDefinition criteria = query.getCriteria().orElse(null);
+		Condition condition = criteria == null || criteria.isEmpty() ? null
+				: queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+
+		Function<Column, Condition> rootCondition = condition == null //
+				? Column::isNotNull //
+				: filterColumn -> getSubselectCondition(filterColumn, table, getIdColumn(), condition);
+
+		List<String> statements = new ArrayList<>();
+		mappingContext.findPersistentPropertyPaths(entity.getType(), p -> p.isEntity() && !p.isEmbedded()) //
+				.map(mappingContext::getAggregatePath) //
+				.filter(AggregatePath::isWritable) //
+				.forEach(path -> statements.add(createDeleteByPathAndCriteria(path, rootCondition)));
+		Collections.reverse(statements);
+
+		DeleteBuilder.DeleteWhere delete = Delete.builder().from(table);
+		statements.add(render(condition == null ? delete.build() : delete.where(condition).build()));
+
+		return statements;
+	}
+
+	/**
+	 * Constructs a single sql query that groups the rows of the aggregate root table matching the provided query and
+	 * selects the group-by columns and the aggregate functions of {@code aggregation}. Sort orders referring to an
+	 * aggregate function alias order by that function. Additional the bindings for the where and having clauses are
+	 * stored after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query selecting the rows to aggregate. Must not be null.
+	 * @param aggregation the grouping and aggregate functions to apply. Must not be null.
+	 * @param parameterSource the source for holding the bindings
+	 * @return a non null query string.
+	 * @since 3.2
+	 */
+	public String selectByAggregation(Query query, Aggregation aggregation, MapSqlParameterSource parameterSource) {
+
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		Assert.notNull(parameterSource, "parameterSource must not be null");
+
+		Table table = getTable();
+		Function<String, Column> columnResolver = property -> table
+				.column(entity.getRequiredPersistentProperty(property).getColumnName());
+
+		List<Column> groupBy = aggregation.getGroupBy().stream().map(columnResolver).toList();
+		List<Expression> selectList = new ArrayList<>(groupBy);
+		Map<String, SimpleFunction> functions = new LinkedHashMap<>();
+
+		for (Aggregation.AggregateFunction function : aggregation.getFunctions()) {
+
+			SimpleFunction expression = function.toExpression(columnResolver);
+			functions.put(function.getAlias(), expression);
+			selectList.add(expression.as(function.getAlias()));
+		}
+
+		SelectBuilder.SelectWhere selectBuilder = StatementBuilder.select(selectList).from(table);
+		SelectBuilder.SelectGroupBy filtered = (SelectBuilder.SelectGroupBy) applyCriteria(
+				query.getCriteria().orElse(null), selectBuilder, parameterSource, table);
+		SelectBuilder.SelectHaving grouped = groupBy.isEmpty() ? (SelectBuilder.SelectHaving) filtered
+				: filtered.groupBy(groupBy);
+
+		int index = 0;
+		for (Aggregation.AggregateFilter filter : aggregation.getHaving()) {
+
+			String parameterName = "having" + index++;
+			parameterSource.addValue(parameterName, filter.getValue());
+			grouped = grouped.having(
+					filter.toCondition(functions.get(filter.getAlias()), SQL.bindMarker(":" + parameterName)));
+		}
+
+		List<OrderByField> orderBy = new ArrayList<>();
+		for (Sort.Order order : query.getSort()) {
+
+			SimpleFunction function = functions.get(order.getProperty());
+			orderBy.addAll(function != null //
+					? List.of(OrderByField.from(function, order.getDirection()).withNullHandling(order.getNullHandling())) //
+					: queryMapper.getMappedSort(table, Sort.by(order), entity));
+		}
+
+		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) grouped.orderBy(orderBy);
+
+		if (query.getLimit() > 0) {
+			limitable = limitable.limit(query.getLimit());
+		}
+
+		if (query.getOffset() > 0) {
+			limitable = limitable.offset(query.getOffset());
+		}
+
+		return render(((SelectBuilder.SelectOrdered) limitable).build());
 	}
 
 	/**
@@ -1010,6 +1270,43 @@ class SqlGenerator {
 		return baseSelect;
 	}
 
+	/**
+	 * Render the {@link Select} created by {@code selectFunction} for {@code query} reusing the {@link StatementTemplate}
+	 * of a previous query of the same {@link QueryShape shape}. A reused template only requires mapping the criteria to
+	 * obtain the bindings. It is verified against the binding plan of the template and rendered from scratch if the
+	 * bindings do not match.
+	 */
+	private String renderQuery(String statement, Query query, MapSqlParameterSource parameterSource,
+			Function<MapSqlParameterSource, Select> selectFunction) {
+
+		// parameter names are made unique against the names already present
+		if (!parameterSource.getValues().isEmpty()) {
+			return render(selectFunction.apply(parameterSource));
+		}
+
+		QueryShape shape = QueryShape.of(statement, query);
+		StatementTemplate template = queryTemplates.get(shape);
+
+		if (template != null) {
+
+			MapSqlParameterSource bindings = new MapSqlParameterSource();
+			query.getCriteria().filter(criteria -> !criteria.isEmpty())
+					.ifPresent(criteria -> queryMapper.getMappedObject(bindings, criteria, getTable(), entity));
+
+			if (template.getParameterNames().equals(new ArrayList<>(bindings.getValues().keySet()))) {
+
+				template.bind(bindings.getValues(),
+						(index, name, value) -> parameterSource.addValue(name, value, bindings.getSqlType(name)));
+				return template.getSql();
+			}
+		}
+
+		template = sqlRenderer.renderTemplate(selectFunction.apply(parameterSource));
+		queryTemplates.put(shape, template);
+
+		return template.getSql();
+	}
+
 	private SelectBuilder.SelectOrdered applyQueryOnSelect(Query query, MapSqlParameterSource parameterSource,
 			SelectBuilder.SelectWhere selectBuilder) {
 
@@ -1106,6 +1403,65 @@ class SqlGenerator {
 		}
 	}
 
+	/**
+	 * Shape of a {@link Query}: its structure without the criteria values. Queries of the same shape render to the same
+	 * SQL. Values are represented by their type and, for collections and arrays, by their size as these determine the
+	 * number of bind markers.
+	 */
+	record QueryShape(String statement, String criteria, List<SqlIdentifier> columns, Sort sort, int limit,
+			long offset) {
+
+		static QueryShape of(String statement, Query query) {
+
+			StringBuilder criteria = new StringBuilder();
+			query.getCriteria().ifPresent(it -> appendShape(criteria, it));
+
+			return new QueryShape(statement, criteria.toString(), query.getColumns(), query.getSort(), query.getLimit(),
+					query.getOffset());
+		}
+
+		private static void appendShape(StringBuilder shape, CriteriaDefinition criteria) {
+
+			if (criteria.hasPrevious()) {
+				appendShape(shape, criteria.getPrevious());
+			}
+
+			shape.append(criteria.getCombinator()).append('(');
+
+			if (criteria.isGroup()) {
+				criteria.getGroup().forEach(it -> appendShape(shape, it));
+			} else if (!criteria.isEmpty()) {
+
+				shape.append(criteria.getColumn()).append(' ').append(criteria.getComparator())
+						.append(criteria.isIgnoreCase() ? " IGNORE CASE " : " ");
+				appendValueShape(shape, criteria.getValue());
+			}
+
+			shape.append(')');
+		}
+
+		private static void appendValueShape(StringBuilder shape, @Nullable Object value) {
+
+			if (value == null) {
+				shape.append("null");
+				return;
+			}
+
+			shape.append(value.getClass().getName());
+
+			if (value instanceof JdbcValue jdbcValue) {
+
+				shape.append('[').append(jdbcValue.getJdbcType()).append(", ");
+				appendValueShape(shape, jdbcValue.getValue());
+				shape.append(']');
+			} else if (value instanceof Collection<?> collection) {
+				shape.append('[').append(collection.size()).append(']');
+			} else if (value.getClass().isArray()) {
+				shape.append('[').append(Array.getLength(value)).append(']');
+			}
+		}
+	}
+
 	/**
 	 * Value object encapsulating column name caches.
 	 *
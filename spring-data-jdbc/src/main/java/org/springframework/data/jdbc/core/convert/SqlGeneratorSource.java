@@ -16,15 +16,18 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Provides {@link SqlGenerator}s per domain type. Instances get cached, so when asked multiple times for the same
- * domain type, the same generator will get returned.
+ * domain type, the same generator will get returned. Generators are held strongly for the lifetime of this source:
+ * their number is bounded by the number of entities of the mapping context, and dropping them would require rendering
+ * all of their statements again.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -32,7 +35,9 @@ import org.springframework.util.ConcurrentReferenceHashMap;
  */
 public class SqlGeneratorSource {
 
-	private final Map<Class<?>, SqlGenerator> CACHE = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, SqlGenerator> generators;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
@@ -46,6 +51,7 @@ public class SqlGeneratorSource {
 		this.context = context;
 		this.converter = converter;
 		this.dialect = dialect;
+		this.generators = new ConcurrentHashMap<>(Math.max(16, context.getPersistentEntities().size()));
 	}
 
 	/**
@@ -56,9 +62,38 @@ public class SqlGeneratorSource {
 		return dialect;
 	}
 
+	/**
+	 * @return a snapshot of the statistics of the cached {@link SqlGenerator}s.
+	 * @since 3.2
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(generators.size(), hits.sum(), misses.sum());
+	}
+
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return CACHE.computeIfAbsent(domainType,
+		SqlGenerator generator = generators.get(domainType);
+
+		if (generator != null) {
+
+			hits.increment();
+			return generator;
+		}
+
+		misses.increment();
+
+		return generators.computeIfAbsent(domainType,
 				t -> new SqlGenerator(context, converter, context.getRequiredPersistentEntity(t), dialect));
 	}
+
+	/**
+	 * Snapshot of the statistics of a {@link SqlGeneratorSource}.
+	 *
+	 * @param size number of cached generators.
+	 * @param hitCount number of requests answered by a cached generator.
+	 * @param missCount number of requests that required creating a generator.
+	 * @since 3.2
+	 */
+	public record Statistics(int size, long hitCount, long missCount) {
+	}
 }
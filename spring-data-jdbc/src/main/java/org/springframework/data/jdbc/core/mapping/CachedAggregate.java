@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks an aggregate root as cacheable by a
+ * {@link org.springframework.data.jdbc.core.convert.CachingDataAccessStrategy}. Intended for read-mostly reference data
+ * such as countries or catalog entries. Cached aggregates are shared between callers and must not be modified.
+ *
+ * @since 3.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+public @interface CachedAggregate {
+
+	/**
+	 * The maximum number of cached results for the aggregate type. The least recently used result is evicted once the
+	 * limit is exceeded.
+	 */
+	int maximumSize() default 1000;
+
+	/**
+	 * The time a cached result remains valid. Zero or negative values disable expiry.
+	 */
+	long timeToLive() default 10;
+
+	/**
+	 * The {@link TimeUnit} of {@link #timeToLive()}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.MINUTES;
+}
@@ -61,6 +61,11 @@ public class DefaultSqlTypeMapping implements SqlTypeMapping {
 
 	@Override
 	public String getColumnType(RelationalPersistentProperty property) {
-		return typeMap.get(ClassUtils.resolvePrimitiveIfNecessary(property.getActualType()));
+		return getColumnType(property.getActualType());
+	}
+
+	@Override
+	public String getColumnType(Class<?> type) {
+		return typeMap.get(ClassUtils.resolvePrimitiveIfNecessary(type));
 	}
 }
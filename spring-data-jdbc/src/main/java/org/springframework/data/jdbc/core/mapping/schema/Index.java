@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.mapping.schema;
+
+import java.util.List;
+
+/**
+ * Models an Index for generating SQL for Schema generation.
+ *
+ * @since 3.2
+ */
+record Index(String name, List<String> columns, boolean unique) {
+
+	/**
+	 * Creates an {@link Index} with a name derived from the table and column names.
+	 *
+	 * @param table the table name.
+	 * @param columns the indexed columns.
+	 * @param unique whether the index enforces unique values.
+	 * @return the index.
+	 */
+	static Index of(String table, List<String> columns, boolean unique) {
+		return new Index(table + "_" + String.join("_", columns) + "_idx", columns, unique);
+	}
+}
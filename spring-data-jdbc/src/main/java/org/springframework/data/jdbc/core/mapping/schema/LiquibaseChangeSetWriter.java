@@ -21,6 +21,7 @@ import liquibase.change.AddColumnConfig;
 import liquibase.change.ColumnConfig;
 import liquibase.change.ConstraintsConfig;
 import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.CreateIndexChange;
 import liquibase.change.core.CreateTableChange;
 import liquibase.change.core.DropColumnChange;
 import liquibase.change.core.DropTableChange;
@@ -76,7 +77,7 @@ import org.springframework.util.Assert;
  * The {@link #writeChangeSet(Resource) initial mode} allows creating the full schema without considering any existing
  * tables. The {@link #writeChangeSet(Resource, Database) differential schema mode} uses a {@link Database} object to
  * determine existing tables and columns. It creates in addition to table creations also changes to drop tables, drop
- * columns and add columns. By default, the {@link #setDropTableFilter(Predicate) DROP TABLE} and the
+ * columns and add columns and indexes. By default, the {@link #setDropTableFilter(Predicate) DROP TABLE} and the
  * {@link #setDropColumnFilter(BiPredicate) DROP COLUMN} filters exclude all tables respective columns from being
  * dropped.
  * <p>
@@ -365,6 +366,10 @@ public class LiquibaseChangeSetWriter {
 		for (Table table : difference.tableAdditions()) {
 			CreateTableChange newTable = changeTable(table);
 			changeSet.addChange(newTable);
+
+			for (Index index : table.indexes()) {
+				changeSet.addChange(createIndex(table, index));
+			}
 		}
 
 		for (Table table : difference.tableDeletions()) {
@@ -388,6 +393,10 @@ public class LiquibaseChangeSetWriter {
 			if (!deletedColumns.isEmpty()) {
 				changeSet.addChange(dropColumns(table, deletedColumns));
 			}
+
+			for (Index index : table.indexesToAdd()) {
+				changeSet.addChange(createIndex(table.table(), index));
+			}
 		}
 	}
 
@@ -444,6 +453,15 @@ public class LiquibaseChangeSetWriter {
 				tableModel.columns().add(columnModel);
 			}
 
+			for (liquibase.structure.core.Index index : table.getIndexes()) {
+
+				List<String> indexColumns = index.getColumns().stream().map(liquibase.structure.core.Column::getName)
+						.toList();
+				boolean unique = Boolean.TRUE.equals(index.isUnique());
+
+				tableModel.indexes().add(new Index(index.getName(), indexColumns, unique));
+			}
+
 			existingTables.add(tableModel);
 		}
 
@@ -500,7 +518,10 @@ public class LiquibaseChangeSetWriter {
 		change.setSchemaName(table.schema());
 		change.setTableName(table.name());
 
-		for (Column column : table.columns()) {
+		List<Column> columns = new ArrayList<>(table.keyColumns());
+		columns.addAll(table.columns());
+
+		for (Column column : columns) {
 
 			ColumnConfig columnConfig = new ColumnConfig();
 			columnConfig.setName(column.name());
@@ -522,6 +543,24 @@ public class LiquibaseChangeSetWriter {
 		return change;
 	}
 
+	private static CreateIndexChange createIndex(Table table, Index index) {
+
+		CreateIndexChange change = new CreateIndexChange();
+		change.setSchemaName(table.schema());
+		change.setTableName(table.name());
+		change.setIndexName(index.name());
+		change.setUnique(index.unique());
+
+		for (String column : index.columns()) {
+
+			AddColumnConfig config = new AddColumnConfig();
+			config.setName(column);
+			change.addColumn(config);
+		}
+
+		return change;
+	}
+
 	private static DropTableChange dropTable(Table table) {
 
 		DropTableChange change = new DropTableChange();
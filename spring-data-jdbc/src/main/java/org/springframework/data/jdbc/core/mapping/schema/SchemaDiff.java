@@ -122,6 +122,13 @@ record SchemaDiff(List<Table> tableAdditions, List<Table> tableDeletions, List<T
 				}
 			}
 
+			// Identify added indexes. Existing indexes are matched by their columns as their names may differ.
+			for (Index index : mappedEntity.indexes()) {
+				if (existingTable.indexes().stream().noneMatch(it -> sameColumns(index, it, nameComparator))) {
+					tableDiff.indexesToAdd().add(index);
+				}
+			}
+
 			tableDiffs.add(tableDiff);
 		}
 
@@ -136,6 +143,21 @@ record SchemaDiff(List<Table> tableAdditions, List<Table> tableDeletions, List<T
 		return mapping;
 	}
 
+	private static boolean sameColumns(Index mapped, Index existing, Comparator<String> nameComparator) {
+
+		if (mapped.columns().size() != existing.columns().size()) {
+			return false;
+		}
+
+		for (int i = 0; i < mapped.columns().size(); i++) {
+			if (nameComparator.compare(mapped.columns().get(i), existing.columns().get(i)) != 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private static String getKey(Table table) {
 		return table.schema() + "." + table.name();
 	}
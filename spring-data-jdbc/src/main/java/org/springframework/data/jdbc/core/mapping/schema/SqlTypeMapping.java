@@ -40,6 +40,20 @@ public interface SqlTypeMapping {
 	@Nullable
 	String getColumnType(RelationalPersistentProperty property);
 
+	/**
+	 * Determines a column type for a Java type that is not backed by a persistent property, such as the identifier of a
+	 * referenced aggregate or the key of a {@link java.util.List} or {@link java.util.Map}.
+	 *
+	 * @param type the Java type for which the column type should be determined.
+	 * @return the SQL type to use, such as {@code VARCHAR} or {@code NUMERIC}. Can be {@literal null} if the strategy
+	 *         cannot provide a column type.
+	 * @since 3.2
+	 */
+	@Nullable
+	default String getColumnType(Class<?> type) {
+		return null;
+	}
+
 	/**
 	 * Returns the required column type for a persistent property or throws {@link IllegalArgumentException} if the type
 	 * cannot be determined.
@@ -86,15 +100,33 @@ public interface SqlTypeMapping {
 
 		Assert.notNull(other, "Other SqlTypeMapping must not be null");
 
-		return property -> {
+		SqlTypeMapping self = this;
 
-			String columnType = getColumnType(property);
+		return new SqlTypeMapping() {
 
-			if (ObjectUtils.isEmpty(columnType)) {
-				return other.getColumnType(property);
+			@Override
+			public String getColumnType(RelationalPersistentProperty property) {
+
+				String columnType = self.getColumnType(property);
+
+				if (ObjectUtils.isEmpty(columnType)) {
+					return other.getColumnType(property);
+				}
+
+				return columnType;
 			}
 
-			return columnType;
+			@Override
+			public String getColumnType(Class<?> type) {
+
+				String columnType = self.getColumnType(type);
+
+				if (ObjectUtils.isEmpty(columnType)) {
+					return other.getColumnType(type);
+				}
+
+				return columnType;
+			}
 		};
 	}
 
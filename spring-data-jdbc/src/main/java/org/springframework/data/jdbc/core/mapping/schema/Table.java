@@ -27,10 +27,11 @@ import org.springframework.util.ObjectUtils;
  * @author Kurt Niemi
  * @since 3.2
  */
-record Table(@Nullable String schema, String name, List<Column> keyColumns, List<Column> columns) {
+record Table(@Nullable String schema, String name, List<Column> keyColumns, List<Column> columns,
+		List<Index> indexes) {
 
 	public Table(@Nullable String schema, String name) {
-		this(schema, name, new ArrayList<>(), new ArrayList<>());
+		this(schema, name, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
 	}
 
 	public Table(String name) {
@@ -19,16 +19,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Used to keep track of columns that should be added or deleted, when performing a difference between a source and
- * target {@link Tables}.
+ * Used to keep track of columns that should be added or deleted and of indexes that should be added, when performing a
+ * difference between a source and target {@link Tables}.
  *
  * @author Kurt Niemi
  * @since 3.2
  */
-record TableDiff(Table table, List<Column> columnsToAdd, List<Column> columnsToDrop) {
+record TableDiff(Table table, List<Column> columnsToAdd, List<Column> columnsToDrop,
+		List<Index> indexesToAdd) {
 
 	public TableDiff(Table table) {
-		this(table, new ArrayList<>(), new ArrayList<>());
+		this(table, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
 	}
 
 }
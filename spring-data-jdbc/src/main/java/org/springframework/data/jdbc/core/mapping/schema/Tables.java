@@ -15,65 +15,277 @@
  */
 package org.springframework.data.jdbc.core.mapping.schema;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Model class that contains Table/Column information that can be used to generate SQL for Schema generation.
+ * <p>
+ * Each aggregate root, that is each entity annotated with
+ * {@link org.springframework.data.relational.core.mapping.Table @Table} and not referenced by another entity, is mapped
+ * to a table. Entities referenced by an aggregate, directly or through a {@link List}, {@link Set} or {@link Map}, are
+ * mapped to child tables containing the back-reference to the owning table and, for {@link List} and {@link Map}, the
+ * key column. Child tables are indexed on these columns as each load of the aggregate queries them. Embedded entities
+ * are mapped to the columns of their owning table. Columns of properties annotated with
+ * {@link org.springframework.data.relational.core.mapping.Index @Index} are indexed.
  *
  * @author Kurt Niemi
  * @since 3.2
  */
 record Tables(List<Table> tables) {
 
+	private static final SqlTypeMapping FALLBACK_TYPE_MAPPING = new DefaultSqlTypeMapping();
+
 	public static Tables from(RelationalMappingContext context) {
 		return from(context.getPersistentEntities().stream(), new DefaultSqlTypeMapping(), null);
 	}
 
-	// TODO: Add support (i.e. create tickets) to support mapped collections, entities, embedded properties, and aggregate
-	// references.
-
 	public static Tables from(Stream<? extends RelationalPersistentEntity<?>> persistentEntities,
 			SqlTypeMapping sqlTypeMapping, @Nullable String defaultSchema) {
 
-		List<Table> tables = persistentEntities
+		List<RelationalPersistentEntity<?>> entities = persistentEntities.collect(Collectors.toList());
+		Map<Class<?>, RelationalPersistentEntity<?>> entitiesByType = new LinkedHashMap<>();
+		entities.forEach(it -> entitiesByType.put(it.getType(), it));
+
+		TableCollector collector = new TableCollector(entitiesByType::get, sqlTypeMapping, defaultSchema);
+
+		entities.stream() //
 				.filter(it -> it.isAnnotationPresent(org.springframework.data.relational.core.mapping.Table.class)) //
-				.map(entity -> {
+				.filter(it -> !isReferenced(it, entities)) //
+				.forEach(collector::addAggregateRoot);
+
+		return new Tables(new ArrayList<>(collector.tables.values()));
+	}
+
+	public static Tables empty() {
+		return new Tables(Collections.emptyList());
+	}
+
+	/**
+	 * Returns whether the entity is referenced by another entity and therefore mapped to a child table or to the
+	 * embedding table of that entity.
+	 */
+	private static boolean isReferenced(RelationalPersistentEntity<?> entity,
+			List<RelationalPersistentEntity<?>> entities) {
+
+		for (RelationalPersistentEntity<?> candidate : entities) {
+			for (RelationalPersistentProperty property : candidate) {
+				if (property.isEntity() && property.getActualType().equals(entity.getType())
+						&& !candidate.getType().equals(entity.getType())) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Collects the tables of aggregates. Tables mapped more than once, e.g. when an entity is referenced from multiple
+	 * aggregates, are merged.
+	 */
+	private static class TableCollector {
 
-					Table table = new Table(defaultSchema, entity.getTableName().getReference());
+		private final Function<Class<?>, RelationalPersistentEntity<?>> entities;
+		private final SqlTypeMapping sqlTypeMapping;
+		private final @Nullable String defaultSchema;
+		private final Map<String, Table> tables = new LinkedHashMap<>();
 
-					Set<RelationalPersistentProperty> identifierColumns = new LinkedHashSet<>();
-					entity.getPersistentProperties(Id.class).forEach(identifierColumns::add);
+		TableCollector(Function<Class<?>, RelationalPersistentEntity<?>> entities, SqlTypeMapping sqlTypeMapping,
+				@Nullable String defaultSchema) {
 
-					for (RelationalPersistentProperty property : entity) {
+			this.entities = entities;
+			this.sqlTypeMapping = sqlTypeMapping;
+			this.defaultSchema = defaultSchema;
+		}
 
-						if (property.isEntity() && !property.isEmbedded()) {
-							continue;
-						}
+		void addAggregateRoot(RelationalPersistentEntity<?> entity) {
+			addTable(entity, entity, Collections.emptyList(), Collections.emptySet());
+		}
 
-						String columnType = sqlTypeMapping.getRequiredColumnType(property);
+		/**
+		 * Adds the table for {@code entity} and the child tables of all entities it references.
+		 *
+		 * @param entity the entity mapped to the table.
+		 * @param idDefiningParent the nearest entity on the path to {@code entity} that has an identifier.
+		 * @param keyColumns back-reference and key columns identifying the row of the owning entity.
+		 * @param visited types on the current path to guard against cyclic references.
+		 */
+		private void addTable(RelationalPersistentEntity<?> entity, RelationalPersistentEntity<?> idDefiningParent,
+				List<Column> keyColumns, Set<Class<?>> visited) {
 
-						Column column = new Column(property.getColumnName().getReference(), sqlTypeMapping.getColumnType(property),
-								sqlTypeMapping.isNullable(property), identifierColumns.contains(property));
-						table.columns().add(column);
+			String tableName = entity.getTableName().getReference();
+			Table table = tables.computeIfAbsent(tableName, it -> new Table(defaultSchema, it));
+
+			for (Column keyColumn : keyColumns) {
+				addIfAbsent(table.keyColumns(), keyColumn);
+			}
+
+			if (!keyColumns.isEmpty()) {
+				List<String> indexColumns = keyColumns.stream().map(Column::name).toList();
+				addIfAbsent(table.indexes(), Index.of(tableName, indexColumns, false));
+			}
+
+			Set<Class<?>> path = new LinkedHashSet<>(visited);
+			path.add(entity.getType());
+
+			addColumns(table, entity, "", false);
+
+			if (entity.hasIdProperty()) {
+				addChildTables(entity, entity, Collections.emptyList(), path);
+			} else {
+
+				// rows of entities without identifier are identified by the back-reference and the key columns
+				List<Column> qualifiers = idDefiningParent.hasIdProperty() && !keyColumns.isEmpty()
+						? keyColumns.subList(1, keyColumns.size())
+						: keyColumns;
+				addChildTables(entity, idDefiningParent, qualifiers, path);
+			}
+		}
+
+		private void addColumns(Table table, RelationalPersistentEntity<?> entity, String prefix,
+				boolean embeddedNullable) {
+
+			Set<RelationalPersistentProperty> identifierColumns = new LinkedHashSet<>();
+			entity.getPersistentProperties(Id.class).forEach(identifierColumns::add);
+
+			for (RelationalPersistentProperty property : entity) {
+
+				if (property.isEmbedded()) {
+
+					RelationalPersistentEntity<?> embedded = entities.apply(property.getActualType());
+
+					if (embedded != null) {
+						addColumns(table, embedded, prefix + property.getEmbeddedPrefix(),
+								embeddedNullable || !property.shouldCreateEmptyEmbedded());
 					}
-					return table;
-				}).collect(Collectors.toList());
 
-		return new Tables(tables);
-	}
+					continue;
+				}
 
-	public static Tables empty() {
-		return new Tables(Collections.emptyList());
+				if (property.isEntity()) {
+					continue;
+				}
+
+				String columnName = prefix + property.getColumnName().getReference();
+				Column column = new Column(columnName, getColumnType(property),
+						embeddedNullable || sqlTypeMapping.isNullable(property),
+						prefix.isEmpty() && identifierColumns.contains(property));
+				addIfAbsent(table.columns(), column);
+
+				org.springframework.data.relational.core.mapping.Index index = property
+						.findAnnotation(org.springframework.data.relational.core.mapping.Index.class);
+
+				if (index != null) {
+
+					List<String> columns = List.of(columnName);
+					addIfAbsent(table.indexes(),
+							StringUtils.hasText(index.value()) ? new Index(index.value(), columns, index.unique())
+									: Index.of(table.name(), columns, index.unique()));
+				}
+			}
+		}
+
+		private void addChildTables(RelationalPersistentEntity<?> entity,
+				RelationalPersistentEntity<?> idDefiningParent, List<Column> qualifiers, Set<Class<?>> path) {
+
+			for (RelationalPersistentProperty property : entity) {
+
+				if (!property.isEntity()) {
+					continue;
+				}
+
+				RelationalPersistentEntity<?> child = entities.apply(property.getActualType());
+
+				if (child == null || path.contains(child.getType())) {
+					continue;
+				}
+
+				if (property.isEmbedded()) {
+					addChildTables(child, idDefiningParent, qualifiers, path);
+					continue;
+				}
+
+				addTable(child, idDefiningParent, getChildKeyColumns(idDefiningParent, property, qualifiers), path);
+			}
+		}
+
+		/**
+		 * Child rows reference the nearest entity with an identifier. Below entities without identifier, child rows are
+		 * additionally identified by the key columns of the entities between the child and that entity.
+		 */
+		private List<Column> getChildKeyColumns(RelationalPersistentEntity<?> idDefiningParent,
+				RelationalPersistentProperty property, List<Column> qualifiers) {
+
+			List<Column> childKeyColumns = new ArrayList<>();
+
+			if (idDefiningParent.hasIdProperty()) {
+
+				RelationalPersistentProperty idProperty = idDefiningParent.getRequiredIdProperty();
+				childKeyColumns.add(new Column(property.getReverseColumnName(idDefiningParent).getReference(),
+						getColumnType(idProperty), false, false));
+			}
+
+			childKeyColumns.addAll(qualifiers);
+
+			if (property.isQualified()) {
+				childKeyColumns.add(new Column(property.getKeyColumn().getReference(),
+						getRequiredColumnType(property.getQualifierColumnType(), property), false, false));
+			}
+
+			return childKeyColumns;
+		}
+
+		private String getColumnType(RelationalPersistentProperty property) {
+
+			if (AggregateReference.class.isAssignableFrom(property.getType())) {
+
+				List<TypeInformation<?>> typeArguments = property.getTypeInformation().getTypeArguments();
+				return getRequiredColumnType(typeArguments.get(1).getType(), property);
+			}
+
+			return sqlTypeMapping.getRequiredColumnType(property);
+		}
+
+		private String getRequiredColumnType(Class<?> type, RelationalPersistentProperty property) {
+
+			String columnType = sqlTypeMapping.getColumnType(type);
+
+			if (ObjectUtils.isEmpty(columnType)) {
+				columnType = FALLBACK_TYPE_MAPPING.getColumnType(type);
+			}
+
+			if (ObjectUtils.isEmpty(columnType)) {
+				throw new IllegalArgumentException(
+						String.format("Cannot determined required column type for %s of %s", type.getName(), property));
+			}
+
+			return columnType;
+		}
+
+		private static <T> void addIfAbsent(List<T> items, T item) {
+
+			if (!items.contains(item)) {
+				items.add(item);
+			}
+		}
 	}
 }
@@ -22,7 +22,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -35,11 +38,14 @@ import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -50,6 +56,19 @@ import org.springframework.util.Assert;
  * appended to the statement name. Each statement gets an instance of {@link MyBatisContext}, which at least has the
  * entityType set. For methods taking a {@link PropertyPath} the entityType if the context is set to the class of the
  * leaf type.
+ * <p>
+ * Bulk inserts and deletes use a single statement if the namespace declares one: {@code insertAll} receives the
+ * {@link List} of {@link MyBatisContext}s to insert and is expected to populate their {@code id} through generated
+ * keys, {@code deleteAllById} and {@code deleteAllById-<path>} receive a {@link MyBatisContext} holding the ids.
+ * Otherwise, the statements for individual entities are executed for each entity, as JDBC batch when a
+ * {@link #setBatchSqlSession(SqlSession) batch session} is configured.
+ * <p>
+ * Set-based updates and deletes map to {@code updateByQuery} and {@code deleteByQuery}. Their {@link MyBatisContext}
+ * holds the {@link Query} under the key {@code query} and, for updates, the {@link Update} under the key
+ * {@code update}. {@code deleteByQuery} is expected to remove the referenced entities of matching aggregates as well.
+ * Aggregations map to {@code aggregate}, which receives the {@link Query} under the key {@code query}, the
+ * {@link Aggregation} under the key {@code aggregation} and the requested result type under the key
+ * {@code resultType}.
  *
  * @author Jens Schauder
  * @author Kazuki Shimizu
@@ -67,6 +86,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	private static final String VERSION_SQL_PARAMETER_NAME_OLD = "___oldOptimisticLockingVersion";
 
 	private final SqlSession sqlSession;
+	private @Nullable SqlSession batchSqlSession;
 	private NamespaceStrategy namespaceStrategy = NamespaceStrategy.DEFAULT_INSTANCE;
 
 	/**
@@ -152,6 +172,30 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		this.namespaceStrategy = namespaceStrategy;
 	}
 
+	/**
+	 * Set a {@link SqlSession} using {@link ExecutorType#BATCH} to execute bulk inserts and deletes as JDBC batch. The
+	 * session must participate in the transaction of the primary {@link SqlSession}. MyBatis-Spring does not allow
+	 * mixing executor types of the same {@code SqlSessionFactory} within a transaction, so use a
+	 * {@link SqlSessionTemplate} with {@link ExecutorType#BATCH} based on a dedicated {@code SqlSessionFactory} for the
+	 * same {@link javax.sql.DataSource}.
+	 * <p>
+	 * Generated keys are assigned to the {@link MyBatisContext}s when the batch gets flushed at the end of each bulk
+	 * operation.
+	 *
+	 * @param batchSqlSession the batch session, can be {@literal null} to execute bulk operations one statement at a
+	 *          time.
+	 * @since 3.2
+	 */
+	public void setBatchSqlSession(@Nullable SqlSession batchSqlSession) {
+
+		if (batchSqlSession instanceof SqlSessionTemplate template) {
+			Assert.isTrue(template.getExecutorType() == ExecutorType.BATCH,
+					"The batch SqlSessionTemplate must use ExecutorType.BATCH");
+		}
+
+		this.batchSqlSession = batchSqlSession;
+	}
+
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
 
@@ -164,9 +208,20 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType, IdValueSource idValueSource) {
 
-		return insertSubjects.stream().map(
-				insertSubject -> insert(insertSubject.getInstance(), domainType, insertSubject.getIdentifier(), idValueSource))
-				.toArray();
+		List<MyBatisContext> contexts = insertSubjects.stream()
+				.map(it -> new MyBatisContext(it.getIdentifier(), it.getInstance(), domainType)).toList();
+
+		String bulkStatement = namespace(domainType) + ".insertAll";
+
+		if (hasStatement(bulkStatement)) {
+			sqlSession().insert(bulkStatement, contexts);
+		} else {
+
+			String statement = namespace(domainType) + ".insert";
+			executeBulk(session -> contexts.forEach(it -> session.insert(statement, it)));
+		}
+
+		return contexts.stream().map(MyBatisContext::getId).toArray();
 	}
 
 	@Override
@@ -195,7 +250,18 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
-		ids.forEach(id -> delete(id, domainType));
+
+		String bulkStatement = namespace(domainType) + ".deleteAllById";
+
+		if (hasStatement(bulkStatement)) {
+
+			sqlSession().delete(bulkStatement, new MyBatisContext(ids, null, domainType, Collections.emptyMap()));
+			return;
+		}
+
+		String statement = namespace(domainType) + ".delete";
+		executeBulk(session -> ids.forEach(
+				id -> session.delete(statement, new MyBatisContext(id, null, domainType, Collections.emptyMap()))));
 	}
 
 	@Override
@@ -220,7 +286,20 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		rootIds.forEach(rootId -> delete(rootId, propertyPath));
+
+		Class<?> ownerType = getOwnerTyp(propertyPath);
+		Class<?> leafType = propertyPath.getLeafProperty().getTypeInformation().getType();
+		String bulkStatement = namespace(ownerType) + ".deleteAllById-" + toDashPath(propertyPath);
+
+		if (hasStatement(bulkStatement)) {
+
+			sqlSession().delete(bulkStatement, new MyBatisContext(rootIds, null, leafType, Collections.emptyMap()));
+			return;
+		}
+
+		String statement = namespace(ownerType) + ".delete-" + toDashPath(propertyPath);
+		executeBulk(session -> rootIds.forEach(rootId -> session.delete(statement,
+				new MyBatisContext(rootId, null, leafType, Collections.emptyMap()))));
 	}
 
 	@Override
@@ -347,6 +426,36 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("query", query);
+		additionalContext.put("update", update);
+		return sqlSession().update(namespace(domainType) + ".updateByQuery",
+				new MyBatisContext(null, null, domainType, additionalContext));
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("query", query);
+		return sqlSession().delete(namespace(domainType) + ".deleteByQuery",
+				new MyBatisContext(null, null, domainType, additionalContext));
+	}
+
+	@Override
+	public <T, R> List<R> aggregate(Query query, Aggregation aggregation, Class<T> domainType, Class<R> resultType) {
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("query", query);
+		additionalContext.put("aggregation", aggregation);
+		additionalContext.put("resultType", resultType);
+		return sqlSession().selectList(namespace(domainType) + ".aggregate",
+				new MyBatisContext(null, null, domainType, additionalContext));
+	}
+
 	@Override
 	public long count(Class<?> domainType) {
 
@@ -363,6 +472,27 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return this.sqlSession;
 	}
 
+	private boolean hasStatement(String statement) {
+
+		Configuration configuration = sqlSession().getConfiguration();
+		return configuration != null && configuration.hasStatement(statement, false);
+	}
+
+	/**
+	 * Execute the statements of a bulk operation using the batch session if configured, flushing the batch to obtain
+	 * generated keys and to surface failures within the bulk operation.
+	 */
+	private void executeBulk(Consumer<SqlSession> statements) {
+
+		if (batchSqlSession == null) {
+			statements.accept(sqlSession());
+			return;
+		}
+
+		statements.accept(batchSqlSession);
+		batchSqlSession.flushStatements();
+	}
+
 	private static String toDashPath(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
 		String dotPath = propertyPath.toDotPath();
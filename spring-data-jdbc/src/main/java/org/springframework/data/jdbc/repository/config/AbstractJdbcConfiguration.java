@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,6 +50,7 @@ import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.util.TypeScanner;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -134,10 +136,42 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 				: JdbcArrayColumns.DefaultSupport.INSTANCE;
 		DefaultJdbcTypeFactory jdbcTypeFactory = new DefaultJdbcTypeFactory(operations.getJdbcOperations(), arrayColumns);
 
+		Executor relationLoadingExecutor = getRelationLoadingExecutor();
+
+		if (relationLoadingExecutor != null) {
+			relationResolver = new ConcurrentRelationResolver(relationResolver, relationLoadingExecutor,
+					getMaxConcurrentRelationLoads());
+		}
+
 		return new BasicJdbcConverter(mappingContext, relationResolver, conversions, jdbcTypeFactory,
 				dialect.getIdentifierProcessing());
 	}
 
+	/**
+	 * Returns the {@link Executor} used to load independent relations of an entity, such as multiple collections,
+	 * concurrently. Each concurrently loaded relation uses its own connection, so an {@link Executor} running tasks on
+	 * virtual threads is a natural fit. Returns {@literal null} by default to load relations one after another.
+	 *
+	 * @return the {@link Executor} for concurrent relation loading, or {@literal null} to disable it.
+	 * @since 3.2
+	 * @see ConcurrentRelationResolver
+	 */
+	@Nullable
+	protected Executor getRelationLoadingExecutor() {
+		return null;
+	}
+
+	/**
+	 * Returns the maximum number of relations loaded concurrently through the {@link #getRelationLoadingExecutor()
+	 * relation loading executor}. The limit should leave enough headroom in the connection pool. Defaults to 4.
+	 *
+	 * @return the maximum number of concurrently loaded relations, must be greater than zero.
+	 * @since 3.2
+	 */
+	protected int getMaxConcurrentRelationLoads() {
+		return 4;
+	}
+
 	/**
 	 * Register custom {@link Converter}s in a {@link JdbcCustomConversions} object if required. These
 	 * {@link JdbcCustomConversions} will be registered with the
@@ -209,6 +243,37 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 				new InsertStrategyFactory(operations, new BatchJdbcOperations(operations.getJdbcOperations()), dialect));
 	}
 
+	/**
+	 * Register a {@link JdbcMappingWarmUp} that resolves mapping metadata and renders the statements for all entities
+	 * once the application context is initialized. Only active if {@link #isWarmUpEnabled()} returns {@literal true}.
+	 *
+	 * @param mappingContext the mapping context to warm up. Must not be {@literal null}.
+	 * @param dataAccessStrategy the {@link DataAccessStrategy} to prepare. Must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	@Bean
+	public JdbcMappingWarmUp jdbcMappingWarmUp(JdbcMappingContext mappingContext,
+			DataAccessStrategy dataAccessStrategy) {
+
+		JdbcMappingWarmUp warmUp = new JdbcMappingWarmUp(mappingContext, dataAccessStrategy);
+		warmUp.setEnabled(isWarmUpEnabled());
+
+		return warmUp;
+	}
+
+	/**
+	 * Returns whether to warm up the mapping metadata and statements for all entities on startup instead of on first
+	 * use. Returns {@literal false} by default.
+	 *
+	 * @return {@literal true} to warm up on startup.
+	 * @since 3.2
+	 * @see #jdbcMappingWarmUp(JdbcMappingContext, DataAccessStrategy)
+	 */
+	protected boolean isWarmUpEnabled() {
+		return false;
+	}
+
 	/**
 	 * Resolves a {@link Dialect JDBC dialect} by inspecting {@link NamedParameterJdbcOperations}.
 	 *
@@ -17,7 +17,9 @@ package org.springframework.data.jdbc.repository.config;
 
 import java.lang.annotation.Annotation;
 
+import org.springframework.beans.MutablePropertyValues;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
@@ -88,9 +90,17 @@ class JdbcAuditingRegistrar extends AuditingBeanDefinitionRegistrarSupport {
 		BeanDefinitionBuilder listenerBeanDefinitionBuilder = BeanDefinitionBuilder
 				.rootBeanDefinition(RelationalAuditingCallback.class);
 		listenerBeanDefinitionBuilder
-				.addConstructorArgValue(ParsingUtils.getObjectFactoryBeanDefinition(AUDITING_HANDLER_BEAN_NAME, registry));
+				.addConstructorArgValue(ParsingUtils.getObjectFactoryBeanDefinition(AUDITING_HANDLER_BEAN_NAME, registry))
+				.addConstructorArgReference("jdbcMappingContext");
 
-		registerInfrastructureBeanWithId(listenerBeanDefinitionBuilder.getBeanDefinition(),
-				RelationalAuditingCallback.class.getName(), registry);
+		// batch auditing resolves auditor and date itself and therefore uses the same configuration as the handler
+		AbstractBeanDefinition listenerBeanDefinition = listenerBeanDefinitionBuilder.getBeanDefinition();
+		listenerBeanDefinition.setPropertyValues(new MutablePropertyValues(auditingHandlerDefinition.getPropertyValues()));
+
+		if (auditingHandlerDefinition instanceof AbstractBeanDefinition handlerDefinition) {
+			listenerBeanDefinition.setAutowireMode(handlerDefinition.getAutowireMode());
+		}
+
+		registerInfrastructureBeanWithId(listenerBeanDefinition, RelationalAuditingCallback.class.getName(), registry);
 	}
 }
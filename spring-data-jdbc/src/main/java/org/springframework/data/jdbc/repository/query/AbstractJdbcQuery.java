@@ -18,10 +18,12 @@ package org.springframework.data.jdbc.repository.query;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -171,7 +173,21 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	 * @since 2.3
 	 */
 	public interface RowMapperFactory {
+
 		RowMapper<Object> create(Class<?> result);
+
+		/**
+		 * Create a {@link RowMapper} for a given class that loads only the collections and maps of entities whose
+		 * top-level property is accepted by {@code relationFilter}. Falls back to {@link #create(Class)} by default.
+		 *
+		 * @param result the type to read.
+		 * @param relationFilter predicate deciding which relations to load.
+		 * @return the {@link RowMapper}.
+		 * @since 3.2
+		 */
+		default RowMapper<Object> create(Class<?> result, Predicate<RelationalPersistentProperty> relationFilter) {
+			return create(result);
+		}
 	}
 
 	/**
@@ -16,11 +16,14 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMapper;
@@ -32,12 +35,17 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.ScrollUtils;
+import org.springframework.data.relational.core.sql.AnalyticFunction;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
@@ -64,6 +72,11 @@ import org.springframework.util.Assert;
  */
 class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
+	/**
+	 * Alias of the column holding the total number of rows matching the query when counting the total.
+	 */
+	static final SqlIdentifier TOTAL_COUNT_COLUMN = SqlIdentifier.unquoted("TOTAL_COUNT_OVER");
+
 	private final RelationalMappingContext context;
 	private final PartTree tree;
 	private final RelationalParameterAccessor accessor;
@@ -71,6 +84,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final RelationalEntityMetadata<?> entityMetadata;
 	private final RenderContextFactory renderContextFactory;
 	private final boolean isSliceQuery;
+	private final boolean countTotal;
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
 
@@ -90,6 +104,28 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType, Optional<Lock> lockMode) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, false, returnedType, lockMode);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor}.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param isSliceQuery flag denoting if the query returns a {@link org.springframework.data.domain.Slice}.
+	 * @param countTotal flag denoting if each row should carry the total number of matching rows in
+	 *          {@link #TOTAL_COUNT_COLUMN}. Requires {@link Dialect#supportsWindowFunctions() window function support}.
+	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @since 3.2
+	 */
+	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			boolean countTotal, ReturnedType returnedType, Optional<Lock> lockMode) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -105,6 +141,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.queryMapper = new QueryMapper(dialect, converter);
 		this.renderContextFactory = new RenderContextFactory(dialect);
 		this.isSliceQuery = isSliceQuery;
+		this.countTotal = countTotal;
 		this.returnedType = returnedType;
 		this.lockMode = lockMode;
 	}
@@ -166,11 +203,27 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
+		CriteriaDefinition criteriaToUse = criteria;
+		Sort sortToUse = sort;
+
 		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table);
-		SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
-		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(criteria, entity, table, parameterSource,
+		SelectBuilder.SelectWhere whereBuilder;
+
+		ScrollPosition scrollPosition = accessor.getScrollPosition();
+		if (scrollPosition != null && !tree.isExistsProjection() && !tree.isCountProjection()) {
+
+			Query scrollQuery = ScrollUtils.createQuery(createWindowQuery(tree, criteria, sort), scrollPosition, entity);
+
+			criteriaToUse = scrollQuery.getCriteria().orElse(null);
+			sortToUse = scrollQuery.getSort();
+			whereBuilder = applyLimitAndOffset(limitOffsetBuilder, scrollQuery);
+		} else {
+			whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
+		}
+
+		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(criteriaToUse, entity, table, parameterSource,
 				whereBuilder);
-		selectOrderBuilder = applyOrderBy(sort, entity, table, selectOrderBuilder);
+		selectOrderBuilder = applyOrderBy(sortToUse, entity, table, selectOrderBuilder);
 
 		SelectBuilder.BuildSelect completedBuildSelect = selectOrderBuilder;
 		if (this.lockMode.isPresent()) {
@@ -192,7 +245,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: selectOrdered;
 	}
 
-	SelectBuilder.SelectOrdered applyCriteria(@Nullable Criteria criteria, RelationalPersistentEntity<?> entity,
+	SelectBuilder.SelectOrdered applyCriteria(@Nullable CriteriaDefinition criteria, RelationalPersistentEntity<?> entity,
 			Table table, MapSqlParameterSource parameterSource, SelectBuilder.SelectWhere whereBuilder) {
 
 		return criteria != null //
@@ -217,6 +270,34 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
 	}
 
+	private static SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder,
+			Query scrollQuery) {
+
+		if (scrollQuery.isLimited()) {
+			limitOffsetBuilder = limitOffsetBuilder.limit(scrollQuery.getLimit());
+		}
+
+		if (scrollQuery.getOffset() > 0) {
+			limitOffsetBuilder = limitOffsetBuilder.offset(scrollQuery.getOffset());
+		}
+
+		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
+	}
+
+	/**
+	 * Create the {@link Query} describing the windows of a scroll query derived from {@link PartTree}.
+	 *
+	 * @param tree the derived query.
+	 * @param criteria the derived criteria, can be {@literal null}.
+	 * @param sort the static and dynamic sort of the query.
+	 * @return the {@link Query} to scroll through.
+	 */
+	static Query createWindowQuery(PartTree tree, @Nullable CriteriaDefinition criteria, Sort sort) {
+
+		Query query = (criteria != null ? Query.query(criteria) : Query.empty()).sort(sort);
+		return tree.isLimiting() ? query.limit(tree.getMaxResults()) : query;
+	}
+
 	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
 
 		SelectBuilder.SelectJoin builder;
@@ -239,16 +320,20 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
 		SqlContext sqlContext = new SqlContext(entity);
 
+		// scroll queries read the keys of the next window from the entity and therefore select all columns
+		Set<String> includedProperties = returnedType.needsCustomConstruction() && accessor.getScrollPosition() == null
+				? getIncludedProperties(entity)
+				: null;
+
 		List<Join> joinTables = new ArrayList<>();
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
 			AggregatePath aggregatePath = context.getAggregatePath(path);
 
-			if (returnedType.needsCustomConstruction()) {
-				if (!returnedType.getInputProperties().contains(aggregatePath.getRequiredBaseProperty().getName())) {
-					continue;
-				}
+			if (includedProperties != null
+					&& !includedProperties.contains(aggregatePath.getRequiredBaseProperty().getName())) {
+				continue;
 			}
 
 			// add a join if necessary
@@ -263,6 +348,10 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 			}
 		}
 
+		if (countTotal) {
+			columnExpressions.add(AnalyticFunction.create("COUNT", Expressions.asterisk()).as(TOTAL_COUNT_COLUMN));
+		}
+
 		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
 		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
 
@@ -273,6 +362,29 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		return baseSelect;
 	}
 
+	/**
+	 * Determine the top-level properties to select for a projection. The identifier is added if the projection
+	 * references a collection or map of entities as these are loaded by the identifier.
+	 */
+	private Set<String> getIncludedProperties(RelationalPersistentEntity<?> entity) {
+
+		Set<String> includedProperties = new HashSet<>(returnedType.getInputProperties());
+
+		if (entity.hasIdProperty()) {
+
+			for (String inputProperty : returnedType.getInputProperties()) {
+
+				RelationalPersistentProperty property = entity.getPersistentProperty(inputProperty);
+				if (property != null && property.isEntity() && (property.isCollectionLike() || property.isMap())) {
+					includedProperties.add(entity.getRequiredIdProperty().getName());
+					break;
+				}
+			}
+		}
+
+		return includedProperties;
+	}
+
 	/**
 	 * Create a {@link Column} for {@link AggregatePath}.
 	 *
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.repository.query;
 import static org.springframework.data.jdbc.repository.query.JdbcQueryExecution.*;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -25,18 +26,28 @@ import java.util.function.LongSupplier;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.ScrollUtils;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
+import org.springframework.data.relational.repository.query.RelationalQueryCreator;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -45,6 +56,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * An {@link AbstractJdbcQuery} implementation based on a {@link PartTree}.
@@ -63,6 +75,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
 	private final PartTree tree;
+	private final @Nullable JdbcAggregateOperations aggregateOperations;
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -92,6 +105,25 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	 */
 	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
 			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapperFactory rowMapperFactory) {
+		this(context, queryMethod, dialect, converter, operations, rowMapperFactory, null);
+	}
+
+	/**
+	 * Creates a new {@link PartTreeJdbcQuery}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param rowMapperFactory must not be {@literal null}.
+	 * @param aggregateOperations the {@link JdbcAggregateOperations} to execute derived deletes with. Required for
+	 *          {@code deleteBy…} queries, may be {@literal null} otherwise.
+	 * @since 3.2
+	 */
+	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapperFactory rowMapperFactory,
+			@Nullable JdbcAggregateOperations aggregateOperations) {
 
 		super(queryMethod, operations);
 
@@ -110,6 +142,53 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		JdbcQueryCreator.validate(this.tree, this.parameters, this.converter.getMappingContext());
 
+		if (this.tree.isDelete()) {
+
+			Assert.notNull(aggregateOperations,
+					() -> String.format("Derived delete query %s requires JdbcAggregateOperations", queryMethod.getName()));
+			validateDelete(this.tree, context);
+			validateDeleteReturnType(queryMethod);
+		}
+
+		this.aggregateOperations = aggregateOperations;
+	}
+
+	/**
+	 * Derived deletes are executed set-based on the aggregate root table and can therefore only refer to properties
+	 * stored in that table.
+	 */
+	private static void validateDelete(PartTree tree, RelationalMappingContext context) {
+
+		for (PartTree.OrPart parts : tree) {
+			for (Part part : parts) {
+
+				for (RelationalPersistentProperty property : context.getPersistentPropertyPath(part.getProperty())) {
+					if (property.isEntity() && !property.isEmbedded()) {
+						throw new IllegalArgumentException(String.format(
+								"Cannot derive set-based delete; Property '%s' is not stored in the aggregate root table",
+								part.getProperty().toDotPath()));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Derived deletes return the number of deleted aggregate roots and can therefore only declare {@code void},
+	 * {@code boolean} or a numeric return type.
+	 */
+	private static void validateDeleteReturnType(JdbcQueryMethod queryMethod) {
+
+		Class<?> returnedObjectType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+		boolean supported = returnedObjectType == Void.class || returnedObjectType == Boolean.class
+				|| Number.class.isAssignableFrom(returnedObjectType);
+
+		if (!supported || queryMethod.isCollectionQuery() || queryMethod.isStreamQuery() || queryMethod.isPageQuery()
+				|| queryMethod.isSliceQuery()) {
+			throw new IllegalArgumentException(String.format(
+					"Derived delete query %s must return void, boolean or a number of deleted aggregates",
+					queryMethod.getName()));
+		}
 	}
 
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
@@ -122,6 +201,10 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		RelationalParametersParameterAccessor accessor = new RelationalParametersParameterAccessor(getQueryMethod(),
 				values);
 
+		if (tree.isDelete()) {
+			return executeDelete(accessor);
+		}
+
 		ResultProcessor processor = getQueryMethod().getResultProcessor().withDynamicProjection(accessor);
 		ParametrizedQuery query = createQuery(accessor, processor.getReturnedType());
 		JdbcQueryExecution<?> execution = getQueryExecution(processor, accessor);
@@ -129,34 +212,92 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		return execution.execute(query.getQuery(), query.getParameterSource());
 	}
 
+	/**
+	 * Delete the aggregates matching the derived criteria including their referenced entities without loading them
+	 * through {@link JdbcAggregateOperations#delete(Query, Class)}, so that the configured
+	 * {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} applies. No delete events are published and
+	 * no delete callbacks invoked. The delete runs multiple statements and therefore requires a transaction, e.g. by
+	 * annotating the query method with {@link org.springframework.transaction.annotation.Transactional}.
+	 */
+	@Nullable
+	private Object executeDelete(RelationalParametersParameterAccessor accessor) {
+
+		Query query = new RelationalQueryCreator<Query>(tree, accessor) {
+
+			@Override
+			protected Query complete(@Nullable Criteria criteria, Sort sort) {
+				return criteria != null ? Query.query(criteria) : Query.empty();
+			}
+		}.createQuery();
+
+		Assert.state(aggregateOperations != null, "JdbcAggregateOperations must not be null");
+
+		long deleted = aggregateOperations.delete(query, getQueryMethod().getEntityInformation().getJavaType());
+		Class<?> returnedObjectType = getQueryMethod().getReturnedObjectType();
+
+		if (returnedObjectType == void.class || returnedObjectType == Void.class) {
+			return null;
+		}
+
+		if (returnedObjectType == boolean.class || returnedObjectType == Boolean.class) {
+			return deleted != 0;
+		}
+
+		return converter.getConversionService().convert(deleted, returnedObjectType);
+	}
+
 	private JdbcQueryExecution<?> getQueryExecution(ResultProcessor processor,
 			RelationalParametersParameterAccessor accessor) {
 
 		ResultSetExtractor<Boolean> extractor = tree.isExistsProjection() ? (ResultSet::next) : null;
 
 		RowMapper<Object> rowMapper;
+		Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
+				this.converter.getMappingContext(), this.converter.getEntityInstantiators());
 
 		if (tree.isCountProjection() || tree.isExistsProjection()) {
 			rowMapper = rowMapperFactory.create(resolveTypeToRead(processor));
+		} else if (getQueryMethod().isScrollQuery()) {
+			// keys of the next window are read from the entity, projections are applied to the window
+			rowMapper = createDomainTypeRowMapper(processor.getReturnedType());
 		} else {
-
-			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
-					this.converter.getMappingContext(), this.converter.getEntityInstantiators());
-			rowMapper = new ConvertingRowMapper<>(rowMapperFactory.create(processor.getReturnedType().getDomainType()),
+			rowMapper = new ConvertingRowMapper<>(createDomainTypeRowMapper(processor.getReturnedType()),
 					resultProcessingConverter);
 		}
 
+		TotalCountCapturingRowMapper totalCountCapturingRowMapper = null;
+		if (isCountingTotal()) {
+			rowMapper = totalCountCapturingRowMapper = new TotalCountCapturingRowMapper(rowMapper);
+		}
+
 		JdbcQueryExecution<?> queryExecution = getJdbcQueryExecution(extractor, rowMapper);
 
+		if (getQueryMethod().isScrollQuery()) {
+
+			ScrollPosition scrollPosition = accessor.getScrollPosition();
+			Assert.state(scrollPosition != null, "Scroll queries require a ScrollPosition parameter");
+
+			Query windowQuery = JdbcQueryCreator.createWindowQuery(tree, null,
+					tree.getSort().and(getDynamicSort(accessor)));
+
+			return new ScrollQueryExecution<>((JdbcQueryExecution<Collection<Object>>) queryExecution, windowQuery,
+					scrollPosition, getQueryMethod().getEntityInformation().getTableEntity(), resultProcessingConverter);
+		}
+
 		if (getQueryMethod().isSliceQuery()) {
 			return new SliceQueryExecution<>((JdbcQueryExecution<Collection<Object>>) queryExecution, accessor.getPageable());
 		}
 
 		if (getQueryMethod().isPageQuery()) {
 
+			TotalCountCapturingRowMapper capturedTotal = totalCountCapturingRowMapper;
 			return new PageQueryExecution<>((JdbcQueryExecution<Collection<Object>>) queryExecution, accessor.getPageable(),
 					() -> {
 
+						if (capturedTotal != null && capturedTotal.hasTotal()) {
+							return capturedTotal.getTotal();
+						}
+
 						RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 						JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
@@ -173,18 +314,43 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		return queryExecution;
 	}
 
+	/**
+	 * Projections load only the collections and maps of entities they reference.
+	 */
+	private RowMapper<Object> createDomainTypeRowMapper(ReturnedType returnedType) {
+
+		if (!returnedType.needsCustomConstruction()) {
+			return rowMapperFactory.create(returnedType.getDomainType());
+		}
+
+		List<String> inputProperties = returnedType.getInputProperties();
+		return rowMapperFactory.create(returnedType.getDomainType(),
+				property -> inputProperties.contains(property.getName()));
+	}
+
 	protected ParametrizedQuery createQuery(RelationalParametersParameterAccessor accessor, ReturnedType returnedType) {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
-				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation());
+				getQueryMethod().isSliceQuery(), isCountingTotal(), returnedType,
+				this.getQueryMethod().lookupLockAnnotation());
 		return queryCreator.createQuery(getDynamicSort(accessor));
 	}
 
+	/**
+	 * Page queries obtain the total number of matching rows along with their content using {@code COUNT(*) OVER()} if the
+	 * dialect supports window functions, saving the count query. Locking queries use the count query as databases reject
+	 * window functions in combination with {@code FOR UPDATE}.
+	 */
+	private boolean isCountingTotal() {
+		return getQueryMethod().isPageQuery() && dialect.supportsWindowFunctions() && !tree.isDistinct()
+				&& getQueryMethod().lookupLockAnnotation().isEmpty();
+	}
+
 	private JdbcQueryExecution<?> getJdbcQueryExecution(@Nullable ResultSetExtractor<Boolean> extractor, RowMapper<Object> rowMapper) {
 
-		if (getQueryMethod().isPageQuery() || getQueryMethod().isSliceQuery()) {
+		if (getQueryMethod().isPageQuery() || getQueryMethod().isSliceQuery() || getQueryMethod().isScrollQuery()) {
 			return collectionQuery(rowMapper);
 		} else {
 
@@ -196,6 +362,40 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
+	/**
+	 * {@link RowMapper} reading the total number of matching rows from {@link JdbcQueryCreator#TOTAL_COUNT_COLUMN}
+	 * before delegating to the actual {@link RowMapper}.
+	 *
+	 * @since 3.2
+	 */
+	static class TotalCountCapturingRowMapper implements RowMapper<Object> {
+
+		private final RowMapper<Object> delegate;
+		private long total = -1;
+
+		TotalCountCapturingRowMapper(RowMapper<Object> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+
+			if (total < 0) {
+				total = rs.getLong(JdbcQueryCreator.TOTAL_COUNT_COLUMN.getReference());
+			}
+
+			return delegate.mapRow(rs, rowNum);
+		}
+
+		boolean hasTotal() {
+			return total >= 0;
+		}
+
+		long getTotal() {
+			return total;
+		}
+	}
+
 	/**
 	 * {@link JdbcQueryExecution} returning a {@link org.springframework.data.domain.Slice}.
 	 *
@@ -230,6 +430,41 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Window}.
+	 *
+	 * @param <T>
+	 * @since 3.2
+	 */
+	static class ScrollQueryExecution<T> implements JdbcQueryExecution<Window<Object>> {
+
+		private final JdbcQueryExecution<? extends Collection<T>> delegate;
+		private final Query windowQuery;
+		private final ScrollPosition scrollPosition;
+		private final RelationalPersistentEntity<?> entity;
+		private final Converter<Object, Object> resultProcessingConverter;
+
+		ScrollQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, Query windowQuery,
+				ScrollPosition scrollPosition, RelationalPersistentEntity<?> entity,
+				Converter<Object, Object> resultProcessingConverter) {
+			this.delegate = delegate;
+			this.windowQuery = windowQuery;
+			this.scrollPosition = scrollPosition;
+			this.entity = entity;
+			this.resultProcessingConverter = resultProcessingConverter;
+		}
+
+		@Override
+		public Window<Object> execute(String query, SqlParameterSource parameter) {
+
+			Collection<T> result = delegate.execute(query, parameter);
+			List<T> resultList = result instanceof List ? (List<T>) result : new ArrayList<>(result);
+
+			return ScrollUtils.createWindow(windowQuery, scrollPosition, resultList, entity)
+					.map(resultProcessingConverter::convert);
+		}
+	}
+
 	/**
 	 * {@link JdbcQueryExecution} returning a {@link org.springframework.data.domain.Page}.
 	 *
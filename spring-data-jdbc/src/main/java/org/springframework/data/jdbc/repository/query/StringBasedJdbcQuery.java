@@ -117,6 +117,11 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 			throw new UnsupportedOperationException(
 					"Page queries are not supported using string-based queries; Offending method: " + queryMethod);
 		}
+
+		if (queryMethod.isScrollQuery()) {
+			throw new UnsupportedOperationException(
+					"Scroll queries are not supported using string-based queries; Offending method: " + queryMethod);
+		}
 	}
 
 	@Override
@@ -18,14 +18,17 @@ package org.springframework.data.jdbc.repository.support;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.AbstractJdbcQuery.RowMapperFactory;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
@@ -34,6 +37,7 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.event.AfterConvertCallback;
 import org.springframework.data.relational.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.repository.core.NamedQueries;
@@ -106,13 +110,18 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	 */
 	static class CreateQueryLookupStrategy extends JdbcQueryLookupStrategy {
 
+		private final @Nullable JdbcAggregateOperations aggregateOperations;
+
 		CreateQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
 				RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 				QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
-				@Nullable BeanFactory beanfactory, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+				@Nullable BeanFactory beanfactory, QueryMethodEvaluationContextProvider evaluationContextProvider,
+				@Nullable JdbcAggregateOperations aggregateOperations) {
 
 			super(publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations, beanfactory,
 					evaluationContextProvider);
+
+			this.aggregateOperations = aggregateOperations;
 		}
 
 		@Override
@@ -122,7 +131,18 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 			JdbcQueryMethod queryMethod = getJdbcQueryMethod(method, repositoryMetadata, projectionFactory, namedQueries);
 
 			return new PartTreeJdbcQuery(getContext(), queryMethod, getDialect(), getConverter(), getOperations(),
-					this::createMapper);
+					new RowMapperFactory() {
+
+						@Override
+						public RowMapper<Object> create(Class<?> result) {
+							return createMapper(result);
+						}
+
+						@Override
+						public RowMapper<Object> create(Class<?> result, Predicate<RelationalPersistentProperty> relationFilter) {
+							return createMapper(result, relationFilter);
+						}
+					}, aggregateOperations);
 		}
 	}
 
@@ -240,6 +260,32 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 			@Nullable EntityCallbacks callbacks, RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
 			@Nullable BeanFactory beanFactory, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+		return create(key, publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations,
+				beanFactory, evaluationContextProvider, null);
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} based on the provided
+	 * {@link org.springframework.data.repository.query.QueryLookupStrategy.Key}. Derived delete queries are executed
+	 * through the given {@link JdbcAggregateOperations}.
+	 *
+	 * @param key the key that decides what {@link QueryLookupStrategy} should be used.
+	 * @param publisher must not be {@literal null}
+	 * @param callbacks may be {@literal null}
+	 * @param context must not be {@literal null}
+	 * @param converter must not be {@literal null}
+	 * @param dialect must not be {@literal null}
+	 * @param queryMappingConfiguration must not be {@literal null}
+	 * @param operations must not be {@literal null}
+	 * @param beanFactory may be {@literal null}
+	 * @param aggregateOperations may be {@literal null} if no derived delete queries are used.
+	 * @since 3.2
+	 */
+	public static QueryLookupStrategy create(@Nullable Key key, ApplicationEventPublisher publisher,
+			@Nullable EntityCallbacks callbacks, RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+			@Nullable BeanFactory beanFactory, QueryMethodEvaluationContextProvider evaluationContextProvider,
+			@Nullable JdbcAggregateOperations aggregateOperations) {
 
 		Assert.notNull(publisher, "ApplicationEventPublisher must not be null");
 		Assert.notNull(context, "RelationalMappingContextPublisher must not be null");
@@ -249,7 +295,8 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
 
 		CreateQueryLookupStrategy createQueryLookupStrategy = new CreateQueryLookupStrategy(publisher, callbacks, context,
-				converter, dialect, queryMappingConfiguration, operations, beanFactory, evaluationContextProvider);
+				converter, dialect, queryMappingConfiguration, operations, beanFactory, evaluationContextProvider,
+				aggregateOperations);
 
 		DeclaredQueryLookupStrategy declaredQueryLookupStrategy = new DeclaredQueryLookupStrategy(publisher, callbacks,
 				context, converter, dialect, queryMappingConfiguration, operations, beanFactory, evaluationContextProvider);
@@ -293,8 +340,12 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		return beanfactory;
 	}
 
-	@SuppressWarnings("unchecked")
 	RowMapper<Object> createMapper(Class<?> returnedObjectType) {
+		return createMapper(returnedObjectType, property -> true);
+	}
+
+	@SuppressWarnings("unchecked")
+	RowMapper<Object> createMapper(Class<?> returnedObjectType, Predicate<RelationalPersistentProperty> relationFilter) {
 
 		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(returnedObjectType);
 
@@ -303,10 +354,11 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 					converter.getConversionService());
 		}
 
-		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType);
+		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType, relationFilter);
 	}
 
-	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType) {
+	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType,
+			Predicate<RelationalPersistentProperty> relationFilter) {
 
 		RowMapper<?> configuredQueryMapper = queryMappingConfiguration.getRowMapper(returnedObjectType);
 
@@ -315,7 +367,8 @@ abstract class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 		EntityRowMapper<?> defaultEntityRowMapper = new EntityRowMapper<>( //
 				context.getRequiredPersistentEntity(returnedObjectType), //
-				converter //
+				converter, //
+				relationFilter //
 		);
 
 		return new PostProcessingRowMapper<>(defaultEntityRowMapper);
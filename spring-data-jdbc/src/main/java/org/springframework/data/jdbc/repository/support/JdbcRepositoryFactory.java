@@ -27,6 +27,8 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.event.BatchEntityCallbacks;
+import org.springframework.data.relational.core.mapping.event.EntityCallbackDetector;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -61,6 +63,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	@Nullable private EntityCallbackDetector callbackDetector;
+	private BatchEntityCallbacks batchCallbacks = BatchEntityCallbacks.none();
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -114,17 +118,28 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
 
+		RelationalPersistentEntity<?> persistentEntity = context
+				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
+
+		return getTargetRepositoryViaReflection(repositoryInformation, createTemplate(), persistentEntity,
+				converter);
+	}
+
+	private JdbcAggregateTemplate createTemplate() {
+
 		JdbcAggregateTemplate template = new JdbcAggregateTemplate(publisher, context, converter, accessStrategy);
 
 		if (entityCallbacks != null) {
 			template.setEntityCallbacks(entityCallbacks);
+
+			if (callbackDetector != null) {
+				template.setEntityCallbackDetector(callbackDetector);
+			}
 		}
 
-		RelationalPersistentEntity<?> persistentEntity = context
-				.getRequiredPersistentEntity(repositoryInformation.getDomainType());
+		template.setBatchEntityCallbacks(batchCallbacks);
 
-		return getTargetRepositoryViaReflection(repositoryInformation, template, persistentEntity,
-				converter);
+		return template;
 	}
 
 	@Override
@@ -137,7 +152,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		return Optional.of(JdbcQueryLookupStrategy.create(key, publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations, beanFactory, evaluationContextProvider));
+				queryMappingConfiguration, operations, beanFactory, evaluationContextProvider, createTemplate()));
 	}
 
 	/**
@@ -148,6 +163,25 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * @param callbackDetector the {@link EntityCallbackDetector} matching the configured {@link EntityCallbacks}.
+	 * @since 3.2
+	 */
+	public void setEntityCallbackDetector(@Nullable EntityCallbackDetector callbackDetector) {
+		this.callbackDetector = callbackDetector;
+	}
+
+	/**
+	 * @param batchCallbacks must not be {@literal null}.
+	 * @since 3.2
+	 */
+	public void setBatchEntityCallbacks(BatchEntityCallbacks batchCallbacks) {
+
+		Assert.notNull(batchCallbacks, "BatchEntityCallbacks must not be null");
+
+		this.batchCallbacks = batchCallbacks;
+	}
+
 	/**
 	 * @param beanFactory the {@link BeanFactory} used for looking up {@link org.springframework.jdbc.core.RowMapper} and
 	 *          {@link org.springframework.jdbc.core.ResultSetExtractor} beans.
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.repository.support;
 import java.io.Serializable;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
@@ -32,10 +33,13 @@ import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.BatchEntityCallbacks;
+import org.springframework.data.relational.core.mapping.event.EntityCallbackDetector;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -61,6 +65,8 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
+	private @Nullable EntityCallbackDetector callbackDetector;
+	private BatchEntityCallbacks batchCallbacks = BatchEntityCallbacks.none();
 	private Dialect dialect;
 
 	/**
@@ -90,6 +96,8 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 				converter, dialect, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
+		jdbcRepositoryFactory.setEntityCallbackDetector(callbackDetector);
+		jdbcRepositoryFactory.setBatchEntityCallbacks(batchCallbacks);
 		jdbcRepositoryFactory.setBeanFactory(beanFactory);
 
 		return jdbcRepositoryFactory;
@@ -194,6 +202,12 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 			entityCallbacks = EntityCallbacks.create(beanFactory);
 		}
 
+		if (beanFactory instanceof ListableBeanFactory listableBeanFactory) {
+
+			callbackDetector = EntityCallbackDetector.create(listableBeanFactory);
+			batchCallbacks = BatchEntityCallbacks.create(listableBeanFactory);
+		}
+
 		super.afterPropertiesSet();
 	}
 }
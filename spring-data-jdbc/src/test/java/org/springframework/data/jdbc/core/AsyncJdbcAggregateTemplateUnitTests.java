@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.relational.core.query.Aggregation;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Unit tests for {@link AsyncJdbcAggregateTemplate}.
+ */
+class AsyncJdbcAggregateTemplateUnitTests {
+
+	JdbcAggregateOperations operations = mock(JdbcAggregateOperations.class);
+	ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void runsOperationsOnExecutor() {
+
+		AtomicReference<Thread> thread = new AtomicReference<>();
+		when(operations.findById(1L, Person.class)).thenAnswer(invocation -> {
+
+			thread.set(Thread.currentThread());
+			return new Person();
+		});
+
+		CompletableFuture<Person> future = new AsyncJdbcAggregateTemplate(operations, executor).findById(1L,
+				Person.class);
+
+		assertThat(future.join()).isNotNull();
+		assertThat(thread.get()).isNotNull().isNotEqualTo(Thread.currentThread());
+	}
+
+	@Test
+	void completesExceptionallyOnFailure() {
+
+		when(operations.count(Person.class)).thenThrow(new DataRetrievalFailureException("boom"));
+
+		CompletableFuture<Long> future = new AsyncJdbcAggregateTemplate(operations, executor).count(Person.class);
+
+		assertThat(future).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class)
+				.withCauseInstanceOf(DataRetrievalFailureException.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void runsOperationsWithinConfiguredTransactionOperations() {
+
+		TransactionOperations transactionOperations = mock(TransactionOperations.class);
+		when(transactionOperations.execute(any())).thenAnswer(
+				invocation -> invocation.<TransactionCallback<Object>> getArgument(0).doInTransaction(null));
+		doCallRealMethod().when(transactionOperations).executeWithoutResult(any());
+
+		AsyncJdbcAggregateTemplate template = new AsyncJdbcAggregateTemplate(operations, executor);
+		template.setTransactionOperations(transactionOperations);
+
+		Person person = new Person();
+		when(operations.save(person)).thenReturn(person);
+
+		assertThat(template.save(person).join()).isSameAs(person);
+		template.deleteById(1L, Person.class).join();
+
+		verify(transactionOperations, times(2)).execute(any());
+		verify(operations).deleteById(1L, Person.class);
+	}
+
+	@Test
+	void delegatesQueryBasedOperations() {
+
+		AsyncJdbcAggregateTemplate template = new AsyncJdbcAggregateTemplate(operations, executor);
+		Query query = Query.query(Criteria.where("name").is("Walter"));
+		Aggregation aggregation = Aggregation.groupBy("name").count("total");
+		Person person = new Person();
+
+		when(operations.delete(query, Person.class)).thenReturn(2L);
+		when(operations.aggregate(query, aggregation, Person.class, Long.class)).thenReturn(List.of(2L));
+
+		assertThat(template.delete(query, Person.class).join()).isEqualTo(2L);
+		assertThat(template.aggregate(query, aggregation, Person.class, Long.class).join()).containsExactly(2L);
+		template.deleteAll(List.of(person)).join();
+
+		verify(operations).deleteAll(List.of(person));
+	}
+
+	static class Person {}
+}
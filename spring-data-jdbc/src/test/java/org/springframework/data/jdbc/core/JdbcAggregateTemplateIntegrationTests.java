@@ -51,7 +51,9 @@ import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.testing.AssumeFeatureTestExecutionListener;
@@ -65,6 +67,9 @@ import org.springframework.data.relational.core.mapping.InsertOnlyProperty;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
@@ -273,6 +278,76 @@ class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly("Frozen", "Star", null);
 	}
 
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void scrollsUsingKeysetPositions() {
+
+		template.save(createLegoSet("Frozen"));
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(2);
+
+		Window<LegoSet> first = template.scroll(query, LegoSet.class, ScrollPosition.keyset());
+
+		assertThat(first).extracting("name").containsExactly("Frozen", "Lava");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<LegoSet> second = template.scroll(query, LegoSet.class, first.positionAt(first.size() - 1));
+
+		assertThat(second).extracting("name").containsExactly("Star");
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void scrollsUsingOffsetPositions() {
+
+		template.save(createLegoSet("Frozen"));
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(2);
+
+		Window<LegoSet> first = template.scroll(query, LegoSet.class, ScrollPosition.offset());
+
+		assertThat(first).extracting("name").containsExactly("Frozen", "Lava");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<LegoSet> second = template.scroll(query, LegoSet.class, first.positionAt(first.size() - 1));
+
+		assertThat(second).extracting("name").containsExactly("Star");
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void updatesAggregateRootsMatchingQuery() {
+
+		template.save(createLegoSet("Frozen"));
+		template.save(createLegoSet("Star"));
+
+		long updated = template.update(Query.query(Criteria.where("name").is("Star")),
+				Update.update("name", "Death Star"), LegoSet.class);
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(template.findAll(LegoSet.class)).extracting("name").containsExactlyInAnyOrder("Frozen", "Death Star");
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void deletesAggregatesMatchingQueryIncludingReferencedEntities() {
+
+		template.save(createLegoSet("Frozen"));
+		template.save(createLegoSet("Star"));
+
+		long deleted = template.delete(Query.query(Criteria.where("name").is("Star")), LegoSet.class);
+
+		assertThat(deleted).isEqualTo(1);
+		assertThat(template.findAll(LegoSet.class)).extracting("name").containsExactly("Frozen");
+		assertThat(template.count(Manual.class)).isEqualTo(1);
+	}
+
 	@Test //
 	@EnabledOnFeature({ SUPPORTS_QUOTED_IDS })
 	void findByNonPropertySortFails() {
@@ -15,12 +15,16 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
@@ -34,12 +38,18 @@ import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.AfterConvertAllCallback;
 import org.springframework.data.relational.core.mapping.event.AfterConvertCallback;
 import org.springframework.data.relational.core.mapping.event.AfterDeleteCallback;
+import org.springframework.data.relational.core.mapping.event.AfterSaveAllCallback;
 import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.mapping.event.BatchEntityCallbacks;
+import org.springframework.data.relational.core.mapping.event.BeforeConvertAllCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveAllCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.mapping.event.EntityCallbackDetector;
 
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
@@ -320,6 +330,95 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	void skipsAfterConvertDispatchWithoutCallbacksAndEvents() {
+
+		List<SampleEntity> loaded = asList(new SampleEntity(23L, "Alfred"), new SampleEntity(42L, "Neumann"));
+		when(dataAccessStrategy.findAll(SampleEntity.class, Sort.by("name"))).thenReturn(loaded);
+
+		template.setEntityCallbackDetector(EntityCallbackDetector.create(new StaticListableBeanFactory()));
+		template.setEntityLifecycleEventsEnabled(false);
+
+		assertThat(template.findAll(SampleEntity.class, Sort.by("name"))).isSameAs(loaded);
+		verifyNoInteractions(callbacks, eventPublisher);
+	}
+
+	@Test
+	void invokesBatchCallbackOnceForLoadedAggregates() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+		when(dataAccessStrategy.findAll(SampleEntity.class, Sort.by("name"))).thenReturn(asList(alfred, neumann));
+
+		List<List<SampleEntity>> batches = new ArrayList<>();
+		template.setEntityCallbackDetector(EntityCallbackDetector.create(new StaticListableBeanFactory()));
+		template.setBatchEntityCallbacks(BatchEntityCallbacks.of((AfterConvertAllCallback<SampleEntity>) aggregates -> {
+			batches.add(aggregates);
+			return aggregates;
+		}));
+
+		assertThat(template.findAll(SampleEntity.class, Sort.by("name"))).containsExactly(alfred, neumann);
+		assertThat(batches).containsExactly(asList(alfred, neumann));
+		verifyNoInteractions(callbacks);
+	}
+
+	@Test
+	void invokesBatchCallbacksOnceOnSaveAll() {
+
+		when(dataAccessStrategy.update(any(), any())).thenReturn(true);
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+		SampleEntity alfredConverted = new SampleEntity(23L, "Alfred E.");
+
+		List<String> invocations = new ArrayList<>();
+		template.setEntityCallbackDetector(EntityCallbackDetector.create(new StaticListableBeanFactory()));
+		template.setBatchEntityCallbacks(BatchEntityCallbacks.of( //
+				(BeforeConvertAllCallback<SampleEntity>) aggregates -> {
+					invocations.add("beforeConvert " + aggregates.size());
+					return asList(alfredConverted, aggregates.get(1));
+				}, //
+				(BeforeSaveAllCallback<SampleEntity>) aggregates -> {
+					invocations.add("beforeSave " + aggregates.size());
+					return aggregates;
+				}, //
+				(AfterSaveAllCallback<SampleEntity>) aggregates -> {
+					invocations.add("afterSave " + aggregates.size());
+					return aggregates;
+				}));
+
+		Iterable<SampleEntity> saved = template.saveAll(asList(alfred, neumann));
+
+		assertThat(saved).containsExactly(alfredConverted, neumann);
+		assertThat(invocations).containsExactly("beforeConvert 2", "beforeSave 2", "afterSave 2");
+		verify(dataAccessStrategy).update(alfredConverted, SampleEntity.class);
+		verifyNoInteractions(callbacks);
+	}
+
+	@Test
+	void completesBatchConversionIfConvertingAggregateFails() {
+
+		List<String> invocations = new ArrayList<>();
+		template.setBatchEntityCallbacks(BatchEntityCallbacks.of(new BeforeConvertAllCallback<SampleEntity>() {
+
+			@Override
+			public List<SampleEntity> onBeforeConvertAll(List<SampleEntity> aggregates) {
+				invocations.add("beforeConvert " + aggregates.size());
+				return aggregates;
+			}
+
+			@Override
+			public void onBeforeConvertAllCompleted() {
+				invocations.add("completed");
+			}
+		}));
+		when(callbacks.callback(eq(BeforeConvertCallback.class), any(), any(Object[].class)))
+				.thenThrow(new IllegalStateException("boom"));
+
+		assertThatIllegalStateException().isThrownBy(() -> template.saveAll(asList(new SampleEntity(23L, "Alfred"))));
+		assertThat(invocations).containsExactly("beforeConvert 1", "completed");
+	}
+
 	@Test // GH-1401
 	public void saveAllWithEmptyListDoesNothing() {
 		assertThat(template.saveAll(emptyList())).isEmpty();
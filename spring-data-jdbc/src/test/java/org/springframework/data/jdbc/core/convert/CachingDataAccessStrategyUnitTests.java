@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.query.Criteria.*;
+import static org.springframework.data.relational.core.query.Query.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.CachingDataAccessStrategy.CacheStatistics;
+import org.springframework.data.jdbc.core.mapping.CachedAggregate;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link CachingDataAccessStrategy}.
+ */
+class CachingDataAccessStrategyUnitTests {
+
+	DataAccessStrategy delegate = mock(DataAccessStrategy.class);
+	AtomicLong ticker = new AtomicLong();
+	CachingDataAccessStrategy strategy = new CachingDataAccessStrategy(delegate, new JdbcMappingContext(),
+			ticker::get);
+
+	@AfterEach
+	void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void cachesFindByIdForCachedAggregates() {
+
+		Country country = new Country(1L, "Germany", List.of());
+		when(delegate.findById(1L, Country.class)).thenReturn(country);
+
+		assertThat(strategy.findById(1L, Country.class)).isSameAs(country);
+		assertThat(strategy.findById(1L, Country.class)).isSameAs(country);
+
+		verify(delegate, times(1)).findById(1L, Country.class);
+		assertThat(strategy.getStatistics(Country.class)).isEqualTo(new CacheStatistics(1, 1, 1));
+	}
+
+	@Test
+	void doesNotCacheAggregatesWithoutAnnotation() {
+
+		strategy.findById(1L, Order.class);
+		strategy.findById(1L, Order.class);
+
+		verify(delegate, times(2)).findById(1L, Order.class);
+		assertThat(strategy.getStatistics(Order.class)).isEqualTo(new CacheStatistics(0, 0, 0));
+	}
+
+	@Test
+	void cachesQueriesBySearchValues() {
+
+		when(delegate.findAll(any(Query.class), eq(Country.class))).thenReturn(List.of());
+
+		strategy.findAll(query(where("name").is("Germany")), Country.class);
+		strategy.findAll(query(where("name").is("Germany")), Country.class);
+		strategy.findAll(query(where("name").is("Germany").ignoreCase(true)), Country.class);
+		strategy.findAll(query(where("name").is("France")), Country.class);
+
+		verify(delegate, times(3)).findAll(any(Query.class), eq(Country.class));
+	}
+
+	@Test
+	void writesInvalidateAggregate() {
+
+		strategy.findById(1L, Country.class);
+		strategy.update(new Country(1L, "Germany", List.of()), Country.class);
+		strategy.findById(1L, Country.class);
+
+		verify(delegate, times(2)).findById(1L, Country.class);
+	}
+
+	@Test
+	void writesOfContainedEntitiesInvalidateAggregate() {
+
+		strategy.findAll(Country.class);
+		strategy.insert(new City("Berlin"), City.class, Identifier.empty(), IdValueSource.GENERATED);
+		strategy.findAll(Country.class);
+
+		verify(delegate, times(2)).findAll(Country.class);
+	}
+
+	@Test
+	void invalidatesAgainAfterTransactionCompletion() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		strategy.update(new Country(1L, "Germany", List.of()), Country.class);
+		strategy.update(new Country(2L, "France", List.of()), Country.class);
+
+		// concurrent reader caching the state before the commit
+		strategy.findById(1L, Country.class);
+		strategy.findById(1L, Country.class);
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		assertThat(synchronizations).hasSize(1);
+		synchronizations.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		strategy.findById(1L, Country.class);
+
+		verify(delegate, times(2)).findById(1L, Country.class);
+	}
+
+	@Test
+	void bypassesCacheWithinReadWriteTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		strategy.findById(1L, Country.class);
+		strategy.findById(1L, Country.class);
+
+		verify(delegate, times(2)).findById(1L, Country.class);
+		assertThat(strategy.getStatistics(Country.class)).isEqualTo(new CacheStatistics(0, 0, 0));
+	}
+
+	@Test
+	void cachesWithinReadOnlyTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		strategy.findById(1L, Country.class);
+		strategy.findById(1L, Country.class);
+
+		verify(delegate, times(1)).findById(1L, Country.class);
+	}
+
+	@Test
+	void expiresEntriesAfterTimeToLive() {
+
+		strategy.count(Country.class);
+		ticker.addAndGet(TimeUnit.MINUTES.toNanos(1));
+		strategy.count(Country.class);
+
+		verify(delegate, times(2)).count(Country.class);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+
+		strategy.findById(1L, Country.class);
+		strategy.findById(2L, Country.class);
+		strategy.findById(1L, Country.class);
+		strategy.findById(3L, Country.class);
+		strategy.findById(1L, Country.class);
+		strategy.findById(2L, Country.class);
+
+		verify(delegate, times(1)).findById(1L, Country.class);
+		verify(delegate, times(2)).findById(2L, Country.class);
+		assertThat(strategy.getStatistics(Country.class).size()).isEqualTo(2);
+	}
+
+	@CachedAggregate(maximumSize = 2, timeToLive = 1, timeUnit = TimeUnit.MINUTES)
+	record Country(@Id Long id, String name, List<City> cities) {
+	}
+
+	record City(String name) {
+	}
+
+	record Order(@Id Long id) {
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.jdbc.core.convert.ConcurrentRelationResolver.Relation;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ConcurrentRelationResolver}.
+ */
+class ConcurrentRelationResolverUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	Map<PersistentPropertyPath<?>, String> threads = new ConcurrentHashMap<>();
+
+	@AfterEach
+	void tearDown() {
+
+		executor.shutdownNow();
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void resolvesRelationsConcurrently() {
+
+		CountDownLatch latch = new CountDownLatch(3);
+		Relation first = relation(), second = relation(), third = relation();
+
+		RelationResolver delegate = (identifier, path) -> {
+
+			threads.put(path, Thread.currentThread().getName());
+			latch.countDown();
+			await(latch);
+			return List.<Object> of(path);
+		};
+
+		List<Iterable<Object>> results = new ConcurrentRelationResolver(delegate, executor, 4)
+				.findAllByPaths(List.of(first, second, third));
+
+		assertThat(results).containsExactly(List.of(first.path()), List.of(second.path()), List.of(third.path()));
+		assertThat(threads.values()).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void resolvesRelationsOnCallingThreadWithinReadWriteTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		Relation first = relation(), second = relation();
+		RelationResolver delegate = recordingThreads();
+
+		new ConcurrentRelationResolver(delegate, executor, 4).findAllByPaths(List.of(first, second));
+
+		assertThat(threads.values()).containsOnly(Thread.currentThread().getName());
+	}
+
+	@Test
+	void resolvesRelationsConcurrentlyWithinReadOnlyTransaction() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		Relation first = relation(), second = relation();
+		RelationResolver delegate = recordingThreads();
+
+		new ConcurrentRelationResolver(delegate, executor, 4).findAllByPaths(List.of(first, second));
+
+		assertThat(threads.get(second.path())).isNotEqualTo(Thread.currentThread().getName());
+	}
+
+	@Test
+	void resolvesRelationsExceedingLimitOnCallingThread() {
+
+		CountDownLatch firstResolved = new CountDownLatch(1);
+		Relation first = relation(), second = relation(), third = relation();
+
+		RelationResolver delegate = (identifier, path) -> {
+
+			threads.put(path, Thread.currentThread().getName());
+
+			// keep the only permit acquired until all relations are dispatched
+			if (path == second.path()) {
+				await(firstResolved);
+			} else if (path == first.path()) {
+				firstResolved.countDown();
+			}
+
+			return List.of();
+		};
+
+		new ConcurrentRelationResolver(delegate, executor, 1).findAllByPaths(List.of(first, second, third));
+
+		assertThat(threads.get(first.path())).isEqualTo(Thread.currentThread().getName());
+		assertThat(threads.get(second.path())).isNotEqualTo(Thread.currentThread().getName());
+		assertThat(threads.get(third.path())).isEqualTo(Thread.currentThread().getName());
+	}
+
+	@Test
+	void propagatesFailures() {
+
+		Relation first = relation(), second = relation();
+
+		RelationResolver delegate = (identifier, path) -> {
+
+			if (path == second.path()) {
+				throw new DataRetrievalFailureException("boom");
+			}
+
+			return List.of();
+		};
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class)
+				.isThrownBy(() -> new ConcurrentRelationResolver(delegate, executor, 4)
+						.findAllByPaths(List.of(first, second)));
+	}
+
+	private RelationResolver recordingThreads() {
+
+		return (identifier, path) -> {
+
+			threads.put(path, Thread.currentThread().getName());
+			return List.of();
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Relation relation() {
+		return new Relation(Identifier.empty(), mock(PersistentPropertyPath.class));
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -47,6 +47,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -241,6 +242,54 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_REFERENCING_LIST, "alpha", 2);
 	}
 
+	@Test
+	void filteredRelationsGetResolvedTogether() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		Trivial child = new Trivial(1L, "child");
+		Trivial other = new Trivial(2L, "other");
+
+		RelationResolver delegate = mock(RelationResolver.class);
+		doReturn(singleton(child)).when(delegate).findAllByPath(any(Identifier.class), pathTo("children"));
+		doReturn(singletonMap("key", other).entrySet()).when(delegate).findAllByPath(any(Identifier.class),
+				pathTo("others"));
+		ConcurrentRelationResolver resolver = spy(new ConcurrentRelationResolver(delegate, Runnable::run, 2));
+
+		WithMultipleRelations extracted = createRowMapper(WithMultipleRelations.class, resolver,
+				property -> !property.getName().equals("ignored")).mapRow(rs, 1);
+
+		assertThat(extracted.children).containsExactly(child);
+		assertThat(extracted.others).containsExactly(entry("key", other));
+		assertThat(extracted.ignored).isEmpty();
+
+		verify(resolver).findAllByPaths(argThat(relations -> relations.size() == 2));
+		verify(resolver, never()).findAllByPath(any(), any());
+	}
+
+	@Test
+	void singleRelationGetsResolvedByPath() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		Trivial child = new Trivial(1L, "child");
+
+		RelationResolver delegate = mock(RelationResolver.class);
+		doReturn(singleton(child)).when(delegate).findAllByPath(any(Identifier.class), pathTo("children"));
+		ConcurrentRelationResolver resolver = spy(new ConcurrentRelationResolver(delegate, Runnable::run, 2));
+
+		OneToSet extracted = createRowMapper(OneToSet.class, resolver, property -> true).mapRow(rs, 1);
+
+		assertThat(extracted.children).containsExactly(child);
+
+		verify(resolver).findAllByPath(any(Identifier.class), pathTo("children"));
+		verify(resolver, never()).findAllByPaths(any());
+	}
+
 	@Test // DATAJDBC-252
 	void doesNotTryToSetPropertiesThatAreSetViaConstructor() throws SQLException {
 
@@ -913,6 +962,15 @@ public class EntityRowMapperUnitTests {
 		List<Trivial> children;
 	}
 
+	static class WithMultipleRelations {
+
+		@Id Long id;
+		String name;
+		Set<Trivial> children;
+		Map<String, Trivial> others;
+		List<Trivial> ignored;
+	}
+
 	static class EmbeddedEntity {
 
 		@Id Long id;
@@ -1068,6 +1126,26 @@ public class EntityRowMapperUnitTests {
 		);
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, RelationResolver relationResolver,
+			Predicate<RelationalPersistentProperty> relationFilter) {
+
+		RelationalMappingContext context = new JdbcMappingContext(DefaultNamingStrategy.INSTANCE);
+
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, relationResolver, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+		return new EntityRowMapper<>( //
+				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
+				converter, //
+				relationFilter //
+		);
+	}
+
+	private PersistentPropertyPath<? extends RelationalPersistentProperty> pathTo(String property) {
+		return ArgumentMatchers.argThat(path -> path.getLeafProperty().getName().equals(property));
+	}
+
 	private Identifier identifierOfValue(long value) {
 		return ArgumentMatchers.argThat(argument -> argument.toMap().containsValue(value));
 	}
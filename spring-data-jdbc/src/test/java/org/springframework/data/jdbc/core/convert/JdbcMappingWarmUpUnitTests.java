@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+
+/**
+ * Unit tests for {@link JdbcMappingWarmUp}.
+ */
+class JdbcMappingWarmUpUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	DataAccessStrategy dataAccessStrategy = mock(DataAccessStrategy.class);
+	JdbcMappingWarmUp warmUp = new JdbcMappingWarmUp(context, dataAccessStrategy);
+
+	@Test
+	void preparesDataAccessForAggregateRoots() {
+
+		context.getRequiredPersistentEntity(Root.class);
+
+		assertThat(warmUp.warmUp()).isEqualTo(2);
+
+		verify(dataAccessStrategy).warmUp(Root.class);
+		verify(dataAccessStrategy, never()).warmUp(Child.class);
+	}
+
+	@Test
+	void doesNotWarmUpOnStartupByDefault() {
+
+		context.getRequiredPersistentEntity(Root.class);
+
+		warmUp.afterSingletonsInstantiated();
+
+		verifyNoInteractions(dataAccessStrategy);
+	}
+
+	@Test
+	void warmsUpOnStartupWhenEnabled() {
+
+		context.getRequiredPersistentEntity(Root.class);
+		warmUp.setEnabled(true);
+
+		warmUp.afterSingletonsInstantiated();
+
+		verify(dataAccessStrategy).warmUp(Root.class);
+	}
+
+	@Test
+	void continuesWarmUpOnFailure() {
+
+		context.getRequiredPersistentEntity(Root.class);
+		context.getRequiredPersistentEntity(OtherRoot.class);
+		doThrow(new IllegalStateException()).when(dataAccessStrategy).warmUp(Root.class);
+
+		assertThat(warmUp.warmUp()).isEqualTo(2);
+
+		verify(dataAccessStrategy).warmUp(OtherRoot.class);
+	}
+
+	static class Root {
+
+		@Id Long id;
+		List<Child> children;
+	}
+
+	static class Child {
+		String name;
+	}
+
+	static class OtherRoot {
+		@Id Long id;
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.relational.core.query.Criteria.*;
+import static org.springframework.data.relational.core.query.Query.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.query.Query;
+
+/**
+ * Unit tests for {@link ObservingDataAccessStrategy}.
+ */
+class ObservingDataAccessStrategyUnitTests {
+
+	DataAccessStrategy delegate = mock(DataAccessStrategy.class);
+	List<DataAccessObservationContext> observed = new ArrayList<>();
+
+	@Test
+	void recordsObservationPerOperation() {
+
+		when(delegate.findAll(any(Query.class), eq(Person.class))).thenReturn(List.of(new Person(), new Person()));
+
+		createStrategy().findAll(query(where("name").is("Jens").and("age").greaterThan(30)).sort(Sort.by("name"))
+				.limit(10), Person.class);
+
+		assertThat(observed).hasSize(1);
+
+		DataAccessObservationContext context = observed.get(0);
+		assertThat(context.getName()).isEqualTo(ObservingDataAccessStrategy.OBSERVATION_NAME);
+		assertThat(context.getContextualName()).isEqualTo("findAll Person");
+		assertThat(context.getStatement()).isEqualTo("WHERE name = ? AND age > ? ORDER BY name ASC LIMIT ?");
+		assertThat(context.getRows()).isEqualTo(2);
+		assertThat(context.getLowCardinalityKeyValues()).contains(KeyValue.of("spring.data.entity.type",
+				Person.class.getName()), KeyValue.of("spring.data.operation", "findAll"));
+		assertThat(context.getHighCardinalityKeyValues()).contains(KeyValue.of("spring.data.rows", "2"));
+	}
+
+	@Test
+	void statementShapeDoesNotDependOnValues() {
+
+		ObservingDataAccessStrategy strategy = createStrategy();
+
+		strategy.count(query(where("name").is("Jens")), Person.class);
+		strategy.count(query(where("name").is("Mark")), Person.class);
+
+		assertThat(observed).extracting(DataAccessObservationContext::getStatement).containsOnly("WHERE name = ?");
+	}
+
+	@Test
+	void recordsBatchSize() {
+
+		InsertSubject<Person> subject = InsertSubject.describedBy(new Person(), Identifier.empty());
+		createStrategy().insert(List.of(subject, subject, subject), Person.class, IdValueSource.GENERATED);
+
+		assertThat(observed).singleElement().satisfies(context -> {
+			assertThat(context.getOperation()).isEqualTo("batchInsert");
+			assertThat(context.getBatchSize()).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void recordsErrors() {
+
+		when(delegate.findById(1L, Person.class)).thenThrow(new DataRetrievalFailureException("boom"));
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class)
+				.isThrownBy(() -> createStrategy().findById(1L, Person.class));
+
+		assertThat(observed).singleElement().satisfies(context -> {
+			assertThat(context.getOperation()).isEqualTo("findById");
+			assertThat(context.getError()).isInstanceOf(DataRetrievalFailureException.class);
+		});
+	}
+
+	@Test
+	void doesNotCreateContextsForNoopRegistry() {
+
+		ObservingDataAccessStrategy strategy = new ObservingDataAccessStrategy(delegate, ObservationRegistry.NOOP);
+
+		strategy.findById(1L, Person.class);
+
+		verify(delegate).findById(1L, Person.class);
+		assertThat(observed).isEmpty();
+	}
+
+	private ObservingDataAccessStrategy createStrategy() {
+
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observed.add((DataAccessObservationContext) context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof DataAccessObservationContext;
+			}
+		});
+
+		return new ObservingDataAccessStrategy(delegate, registry);
+	}
+
+	static class Person {}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link SqlGeneratorSource}.
+ */
+class SqlGeneratorSourceUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	SqlGeneratorSource source = new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE);
+
+	@Test
+	void cachesGeneratorPerType() {
+
+		SqlGenerator generator = source.getSqlGenerator(First.class);
+
+		assertThat(source.getSqlGenerator(First.class)).isSameAs(generator);
+		assertThat(source.getSqlGenerator(Second.class)).isNotSameAs(generator);
+	}
+
+	@Test
+	void recordsStatistics() {
+
+		source.getSqlGenerator(First.class);
+		source.getSqlGenerator(First.class);
+		source.getSqlGenerator(First.class);
+		source.getSqlGenerator(Second.class);
+
+		assertThat(source.getStatistics()).isEqualTo(new SqlGeneratorSource.Statistics(2, 2, 2));
+	}
+
+	static class First {
+		@Id Long id;
+	}
+
+	static class Second {
+		@Id Long id;
+	}
+}
@@ -21,6 +21,7 @@ import static org.assertj.core.api.SoftAssertions.*;
 import static org.springframework.data.relational.core.mapping.ForeignKeyNaming.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -36,8 +37,11 @@ import org.springframework.data.jdbc.core.PersistentPropertyPathTestUtils;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.dialect.AbstractDialect;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.dialect.SqlServerDialect;
 import org.springframework.data.relational.core.mapping.AggregatePath;
@@ -46,9 +50,13 @@ import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Aliased;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
@@ -172,6 +180,39 @@ class SqlGeneratorUnitTests {
 				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId)");
 	}
 
+	@Test
+	void cascadingDeleteByPathSecondLevelUsesExistsIfPreferredByDialect() {
+
+		Dialect dialect = new AbstractDialect() {
+
+			@Override
+			public LimitClause limit() {
+				return NonQuotingDialect.INSTANCE.limit();
+			}
+
+			@Override
+			public LockClause lock() {
+				return NonQuotingDialect.INSTANCE.lock();
+			}
+
+			@Override
+			public IdentifierProcessing getIdentifierProcessing() {
+				return NonQuotingDialect.INSTANCE.getIdentifierProcessing();
+			}
+
+			@Override
+			public boolean prefersExistsSubselects() {
+				return true;
+			}
+		};
+
+		String sql = createSqlGenerator(DummyEntity.class, dialect)
+				.createDeleteByPath(getPath("ref.further", DummyEntity.class));
+
+		assertThat(sql).isEqualTo(
+				"DELETE FROM second_level_referenced_entity WHERE EXISTS (SELECT 1 FROM referenced_entity WHERE referenced_entity.x_l1id = second_level_referenced_entity.referenced_entity AND referenced_entity.dummy_entity = :rootId)");
+	}
+
 	@Test // GH-537
 	void cascadingDeleteInByPathSecondLevel() {
 
@@ -320,6 +361,20 @@ class SqlGeneratorUnitTests {
 				"LIMIT 20");
 	}
 
+	@Test
+	void findAllPagedBindsLimitAndOffset() {
+
+		MapSqlParameterSource firstPage = new MapSqlParameterSource();
+		MapSqlParameterSource secondPage = new MapSqlParameterSource();
+
+		String sql = sqlGenerator.getFindAll(PageRequest.of(0, 20, Sort.by("name")), firstPage);
+
+		assertThat(sql).endsWith("ORDER BY dummy_entity.x_name ASC OFFSET :offset LIMIT :limit");
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(2, 20, Sort.by("name")), secondPage)).isEqualTo(sql);
+		assertThat(firstPage.getValues()).containsOnly(entry("limit", 20L), entry("offset", 0L));
+		assertThat(secondPage.getValues()).containsOnly(entry("limit", 20L), entry("offset", 40L));
+	}
+
 	@Test // DATAJDBC-101
 	void findAllPagedAndSorted() {
 
@@ -850,6 +905,106 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void selectByQueryRestrictsColumns() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego")).columns("name");
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertThat(generatedSQL) //
+				.startsWith("SELECT") //
+				.contains("dummy_entity.id1 AS id1") //
+				.contains("dummy_entity.x_name AS x_name") //
+				.contains(" FROM dummy_entity WHERE dummy_entity.x_name = :x_name") //
+				.doesNotContain("x_other") //
+				.doesNotContain("JOIN");
+	}
+
+	@Test
+	void selectByQueryReusesTemplateForQueriesOfSameShape() {
+
+		MapSqlParameterSource first = new MapSqlParameterSource();
+		String firstSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("Diego", "Jens")), first);
+
+		MapSqlParameterSource second = new MapSqlParameterSource();
+		String secondSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("Mark", "Chirag")), second);
+
+		assertThat(secondSql).isSameAs(firstSql);
+		assertThat(second.getValues()).containsOnly(entry("x_name", "Mark"), entry("x_name1", "Chirag"));
+
+		MapSqlParameterSource third = new MapSqlParameterSource();
+		String thirdSql = sqlGenerator.selectByQuery(Query.query(Criteria.where("name").in("Mark", "Chirag", "Jens")),
+				third);
+
+		assertThat(thirdSql).contains("IN (:x_name, :x_name1, :x_name2)");
+		assertThat(third.getValues()).hasSize(3);
+	}
+
+	@Test
+	void updateByQuery() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+		Update update = Update.update("name", "Jens");
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String generatedSQL = sqlGenerator.updateByQuery(query, update, parameterSource);
+
+		assertThat(generatedSQL) //
+				.startsWith("UPDATE dummy_entity SET") //
+				.contains("WHERE dummy_entity.x_name = :x_name");
+		assertThat(parameterSource.getValues()) //
+				.hasSize(2) //
+				.containsValues("Diego", "Jens");
+	}
+
+	@Test
+	void selectByAggregation() {
+
+		Query query = Query.query(Criteria.where("name").isNotNull()).sort(Sort.by(Sort.Direction.DESC, "entities"));
+		Aggregation aggregation = Aggregation.groupBy("name").count("entities").having("entities",
+				CriteriaDefinition.Comparator.GT, 1);
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String generatedSQL = sqlGenerator.selectByAggregation(query, aggregation, parameterSource);
+
+		assertThat(generatedSQL).isEqualTo("SELECT dummy_entity.x_name, COUNT(*) AS entities FROM dummy_entity" //
+				+ " WHERE dummy_entity.x_name IS NOT NULL" //
+				+ " GROUP BY dummy_entity.x_name" //
+				+ " HAVING COUNT(*) > :having0" //
+				+ " ORDER BY COUNT(*) DESC");
+		assertThat(parameterSource.getValues()).containsEntry("having0", 1);
+	}
+
+	@Test
+	void deleteByQueryCascadesUsingSubselects() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		List<String> statements = sqlGenerator.deleteByQuery(query, parameterSource);
+
+		assertThat(statements.get(0)).startsWith("DELETE FROM second_level_referenced_entity").contains(
+				"referenced_entity.dummy_entity IN (SELECT dummy_entity.id1 FROM dummy_entity WHERE dummy_entity.x_name = :x_name)");
+		assertThat(statements).contains(
+				"DELETE FROM element WHERE element.dummy_entity IN (SELECT dummy_entity.id1 FROM dummy_entity WHERE dummy_entity.x_name = :x_name)");
+		assertThat(statements.get(statements.size() - 1))
+				.isEqualTo("DELETE FROM dummy_entity WHERE dummy_entity.x_name = :x_name");
+		assertThat(parameterSource.getValues()).containsOnly(entry("x_name", "Diego"));
+	}
+
+	@Test
+	void deleteByEmptyQueryDeletesAll() {
+
+		List<String> statements = sqlGenerator.deleteByQuery(Query.empty(), new MapSqlParameterSource());
+
+		assertThat(statements).contains("DELETE FROM element WHERE element.dummy_entity IS NOT NULL")
+				.endsWith("DELETE FROM dummy_entity");
+	}
+
 	@Test // GH-1192
 	void selectByQueryPaginationValidTest() {
 
@@ -870,11 +1025,10 @@ class SqlGeneratorUnitTests {
 				.isNotNull() //
 				.contains(":x_name") //
 				.containsIgnoringCase("ORDER BY dummy_entity.x_name ASC") //
-				.containsIgnoringCase("LIMIT 1") //
-				.containsIgnoringCase("OFFSET 2 LIMIT 1");
+				.containsIgnoringCase("OFFSET :offset LIMIT :limit");
 
 		assertThat(parameterSource.getValues()) //
-				.containsOnly(entry("x_name", probe.name));
+				.containsOnly(entry("x_name", probe.name), entry("limit", 1L), entry("offset", 2L));
 	}
 
 	@Test // GH-1161
@@ -18,13 +18,21 @@ package org.springframework.data.jdbc.core.mapping.schema;
 import static org.assertj.core.api.Assertions.*;
 
 import liquibase.change.ColumnConfig;
+import liquibase.change.core.CreateIndexChange;
 import liquibase.change.core.CreateTableChange;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.schema.LiquibaseChangeSetWriter.ChangeSetMetadata;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.Index;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -73,6 +81,122 @@ class LiquibaseChangeSetWriterUnitTests {
 		assertThat(createTable.getTableName()).isEqualTo("other_table");
 	}
 
+	@Test
+	void shouldCreateChildTablesWithBackReferenceAndKeyColumns() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(Invoice.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(changeSet.getChanges()).filteredOn(CreateTableChange.class::isInstance)
+				.extracting(it -> ((CreateTableChange) it).getTableName())
+				.containsExactlyInAnyOrder("invoice", "line_item", "discount", "tag", "note");
+
+		CreateTableChange invoice = getCreateTable(changeSet, "invoice");
+		assertThat(invoice.getColumns()).extracting(ColumnConfig::getName).containsExactly("id", "customer",
+				"address_street", "address_city");
+		assertThat(invoice.getColumns()).extracting(ColumnConfig::getType).contains("BIGINT", "VARCHAR(255 BYTE)");
+
+		CreateTableChange lineItem = getCreateTable(changeSet, "line_item");
+		assertThat(lineItem.getColumns()).extracting(ColumnConfig::getName).containsExactly("invoice", "invoice_key",
+				"product");
+		assertThat(lineItem.getColumns()).extracting(ColumnConfig::getType).containsExactly("BIGINT", "INT",
+				"VARCHAR(255 BYTE)");
+		assertThat(lineItem.getColumns().get(0).getConstraints().isNullable()).isFalse();
+
+		CreateTableChange discount = getCreateTable(changeSet, "discount");
+		assertThat(discount.getColumns()).extracting(ColumnConfig::getName).containsExactly("invoice", "invoice_key",
+				"percent");
+
+		CreateTableChange note = getCreateTable(changeSet, "note");
+		assertThat(note.getColumns()).extracting(ColumnConfig::getName).startsWith("invoice", "invoice_key");
+		assertThat(note.getColumns()).extracting(ColumnConfig::getType).startsWith("BIGINT", "VARCHAR(255 BYTE)");
+
+		assertThat(getCreateIndex(changeSet, "line_item")).satisfies(it -> {
+			assertThat(it.getIndexName()).isEqualTo("line_item_invoice_invoice_key_idx");
+			assertThat(it.getColumns()).extracting(ColumnConfig::getName).containsExactly("invoice", "invoice_key");
+			assertThat(it.isUnique()).isFalse();
+		});
+		assertThat(getCreateIndex(changeSet, "tag").getColumns()).extracting(ColumnConfig::getName)
+				.containsExactly("invoice");
+	}
+
+	@Test
+	void shouldNotCreateTablesForEntitiesWithoutTableAnnotation() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(OtherTable.class);
+		context.getRequiredPersistentEntity(Unannotated.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(changeSet.getChanges()).filteredOn(CreateTableChange.class::isInstance)
+				.extracting(it -> ((CreateTableChange) it).getTableName()).containsExactly("other_table");
+	}
+
+	@Test
+	void shouldCreateIndexForAnnotatedProperty() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(Invoice.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(getCreateIndex(changeSet, "invoice")).satisfies(it -> {
+			assertThat(it.getIndexName()).isEqualTo("invoice_customer_idx");
+			assertThat(it.getColumns()).extracting(ColumnConfig::getName).containsExactly("customer");
+		});
+		assertThat(getCreateIndex(changeSet, "line_item", "product_unique")).satisfies(it -> {
+			assertThat(it.getColumns()).extracting(ColumnConfig::getName).containsExactly("product");
+			assertThat(it.isUnique()).isTrue();
+		});
+	}
+
+	@Test
+	void shouldMapAggregateReferenceToIdentifierColumnType() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(Shipment.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+		writer.setSchemaFilter(it -> it.getType().equals(Shipment.class));
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		CreateTableChange shipment = getCreateTable(changeSet, "shipment");
+		assertThat(shipment.getColumns()).extracting(ColumnConfig::getName).containsExactly("id", "invoice");
+		assertThat(shipment.getColumns()).extracting(ColumnConfig::getType).containsExactly("BIGINT", "BIGINT");
+	}
+
+	private static CreateTableChange getCreateTable(ChangeSet changeSet, String tableName) {
+
+		return changeSet.getChanges().stream().filter(CreateTableChange.class::isInstance)
+				.map(CreateTableChange.class::cast).filter(it -> it.getTableName().equals(tableName)).findFirst()
+				.orElseThrow();
+	}
+
+	private static CreateIndexChange getCreateIndex(ChangeSet changeSet, String tableName) {
+
+		return changeSet.getChanges().stream().filter(CreateIndexChange.class::isInstance)
+				.map(CreateIndexChange.class::cast).filter(it -> it.getTableName().equals(tableName)).findFirst()
+				.orElseThrow();
+	}
+
+	private static CreateIndexChange getCreateIndex(ChangeSet changeSet, String tableName, String indexName) {
+
+		return changeSet.getChanges().stream().filter(CreateIndexChange.class::isInstance)
+				.map(CreateIndexChange.class::cast)
+				.filter(it -> it.getTableName().equals(tableName) && it.getIndexName().equals(indexName)).findFirst()
+				.orElseThrow();
+	}
+
 	@org.springframework.data.relational.core.mapping.Table
 	static class VariousTypes {
 		@Id long id;
@@ -88,4 +212,47 @@ class LiquibaseChangeSetWriterUnitTests {
 		@Id long id;
 	}
 
+	static class Unannotated {
+		@Id long id;
+		String name;
+	}
+
+	@org.springframework.data.relational.core.mapping.Table
+	static class Invoice {
+		@Id long id;
+		@Index String customer;
+		@Embedded.Nullable(prefix = "address_") Address address;
+		List<LineItem> lineItems;
+		Set<Tag> tags;
+		Map<String, Note> notes;
+	}
+
+	static class Address {
+		String street;
+		String city;
+	}
+
+	static class LineItem {
+		@Index(value = "product_unique", unique = true) String product;
+		Discount discount;
+	}
+
+	static class Discount {
+		Integer percent;
+	}
+
+	static class Tag {
+		String name;
+	}
+
+	static class Note {
+		String text;
+	}
+
+	@org.springframework.data.relational.core.mapping.Table
+	static class Shipment {
+		@Id long id;
+		AggregateReference<Invoice, Long> invoice;
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.mapping.schema;
 import static org.assertj.core.api.Assertions.*;
 
 import java.text.Collator;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,24 @@ class SchemaDiffUnitTests {
 		assertThat(diff.tableDiffs().get(0).columnsToDrop()).isEmpty();
 	}
 
+	@Test
+	void shouldAddIndexesNotMatchingExistingIndexColumns() {
+
+		Table mapped = new Table("orders");
+		mapped.indexes().add(new Index("orders_customer_idx", List.of("customer"), false));
+		mapped.indexes().add(new Index("orders_status_idx", List.of("status"), false));
+
+		Table existing = new Table("orders");
+		existing.indexes().add(new Index("idx_orders_customer", List.of("customer"), false));
+
+		SchemaDiff diff = SchemaDiff.diff(new Tables(List.of(mapped)), new Tables(List.of(existing)),
+				Collator.getInstance(Locale.ROOT)::compare);
+
+		assertThat(diff.tableDiffs()).singleElement().satisfies(it -> {
+			assertThat(it.indexesToAdd()).extracting(Index::name).containsExactly("orders_status_idx");
+		});
+	}
+
 	// Test table classes for performing schema diff
 	@org.springframework.data.relational.core.mapping.Table
 	static class Table1 {
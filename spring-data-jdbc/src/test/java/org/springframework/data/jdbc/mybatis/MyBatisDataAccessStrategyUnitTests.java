@@ -22,6 +22,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.List;
+
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,11 +33,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.PersistentPropertyPathTestUtils;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
 /**
@@ -390,6 +398,153 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test
+	void updateByQuery() {
+
+		Query query = Query.query(Criteria.where("length").is(3));
+		Update update = Update.update("length", 4);
+		when(session.update(anyString(), any())).thenReturn(2);
+
+		assertThat(accessStrategy.update(query, update, String.class)).isEqualTo(2L);
+
+		verify(session).update(eq("java.lang.StringMapper.updateByQuery"), captor.capture());
+
+		assertThat(captor.getValue()) //
+				.isNotNull() //
+				.extracting( //
+						MyBatisContext::getDomainType, //
+						c -> c.get("query"), //
+						c -> c.get("update") //
+				).containsExactly( //
+						String.class, //
+						query, //
+						update //
+				);
+	}
+
+	@Test
+	void deleteByQuery() {
+
+		Query query = Query.query(Criteria.where("length").is(3));
+		when(session.delete(anyString(), any())).thenReturn(2);
+
+		assertThat(accessStrategy.delete(query, String.class)).isEqualTo(2L);
+
+		verify(session).delete(eq("java.lang.StringMapper.deleteByQuery"), captor.capture());
+
+		assertThat(captor.getValue()) //
+				.isNotNull() //
+				.extracting( //
+						MyBatisContext::getDomainType, //
+						c -> c.get("query") //
+				).containsExactly( //
+						String.class, //
+						query //
+				);
+	}
+
+	@Test
+	void aggregate() {
+
+		Query query = Query.query(Criteria.where("length").is(3));
+		Aggregation aggregation = Aggregation.groupBy("length").count("total");
+
+		accessStrategy.aggregate(query, aggregation, String.class, Long.class);
+
+		verify(session).selectList(eq("java.lang.StringMapper.aggregate"), captor.capture());
+
+		assertThat(captor.getValue()) //
+				.isNotNull() //
+				.extracting( //
+						MyBatisContext::getDomainType, //
+						c -> c.get("query"), //
+						c -> c.get("aggregation"), //
+						c -> c.get("resultType") //
+				).containsExactly( //
+						String.class, //
+						query, //
+						aggregation, //
+						Long.class //
+				);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void insertAllUsesBulkStatementIfDeclared() {
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.insertAll", false)).thenReturn(true);
+
+		accessStrategy.insert(List.of(InsertSubject.describedBy("a", Identifier.empty()),
+				InsertSubject.describedBy("b", Identifier.empty())), String.class, IdValueSource.GENERATED);
+
+		ArgumentCaptor<List<MyBatisContext>> contexts = ArgumentCaptor.forClass(List.class);
+		verify(session).insert(eq("java.lang.StringMapper.insertAll"), contexts.capture());
+		verify(session, never()).insert(eq("java.lang.StringMapper.insert"), any());
+
+		assertThat(contexts.getValue()).extracting(MyBatisContext::getInstance).containsExactly("a", "b");
+	}
+
+	@Test
+	void insertAllUsesBatchSession() {
+
+		SqlSession batchSession = mock(SqlSession.class);
+		accessStrategy.setBatchSqlSession(batchSession);
+
+		Object[] ids = accessStrategy.insert(List.of(InsertSubject.describedBy("a", Identifier.empty()),
+				InsertSubject.describedBy("b", Identifier.empty())), String.class, IdValueSource.GENERATED);
+
+		verify(batchSession, times(2)).insert(eq("java.lang.StringMapper.insert"), captor.capture());
+		verify(batchSession).flushStatements();
+		verify(session, never()).insert(any(), any());
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getInstance).containsExactly("a", "b");
+		assertThat(ids).hasSize(2);
+	}
+
+	@Test
+	void deleteAllByIdUsesBulkStatementIfDeclared() {
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.deleteAllById", false)).thenReturn(true);
+
+		accessStrategy.delete(List.of("id1", "id2"), String.class);
+
+		verify(session).delete(eq("java.lang.StringMapper.deleteAllById"), captor.capture());
+		verify(session, never()).delete(eq("java.lang.StringMapper.delete"), any());
+
+		assertThat(captor.getValue().getId()).isEqualTo(List.of("id1", "id2"));
+	}
+
+	@Test
+	void deleteAllByIdFallsBackToSingleStatements() {
+
+		accessStrategy.delete(List.of("id1", "id2"), String.class);
+
+		verify(session, times(2)).delete(eq("java.lang.StringMapper.delete"), captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getId).containsExactly("id1", "id2");
+	}
+
+	@Test
+	void deleteAllByPathUsesBatchSession() {
+
+		SqlSession batchSession = mock(SqlSession.class);
+		accessStrategy.setBatchSqlSession(batchSession);
+
+		accessStrategy.delete(List.of("rootId1", "rootId2"), path);
+
+		verify(batchSession, times(2)).delete(
+				eq("org.springframework.data.jdbc.mybatis.MyBatisDataAccessStrategyUnitTests$DummyEntityMapper.delete-one-two"),
+				captor.capture());
+		verify(batchSession).flushStatements();
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getId, MyBatisContext::getDomainType)
+				.containsExactly(tuple("rootId1", ChildTwo.class), tuple("rootId2", ChildTwo.class));
+	}
+
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
 		ChildOne one;
@@ -36,6 +36,7 @@ import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.convert.JdbcMappingWarmUp;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.RelationalManagedTypes;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -64,7 +65,8 @@ class AbstractJdbcConfigurationIntegrationTests {
 					JdbcMappingContext.class, //
 					JdbcConverter.class, //
 					JdbcCustomConversions.class, //
-					JdbcAggregateTemplate.class);
+					JdbcAggregateTemplate.class, //
+					JdbcMappingWarmUp.class);
 
 			expectedBeanTypes.stream() //
 					.map(context::getBean) //
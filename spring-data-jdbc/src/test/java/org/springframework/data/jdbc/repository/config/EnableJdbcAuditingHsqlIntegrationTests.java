@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -159,6 +160,34 @@ public class EnableJdbcAuditingHsqlIntegrationTests {
 						});
 	}
 
+	@Test
+	public void auditsAllEntitiesOfSaveAll() {
+
+		configureRepositoryWith( //
+				AuditingAnnotatedDummyEntityRepository.class, //
+				TestConfiguration.class, //
+				CustomizeAuditorAwareAndDateTimeProvider.class) //
+						.accept(repository -> {
+
+							LocalDateTime currentDateTime = LocalDate.of(2023, 5, 17).atStartOfDay();
+							CustomizeAuditorAwareAndDateTimeProvider.currentDateTime = currentDateTime;
+
+							Iterable<AuditingAnnotatedDummyEntity> entities = repository
+									.saveAll(List.of(new AuditingAnnotatedDummyEntity(), new AuditingAnnotatedDummyEntity()));
+
+							softly.assertThat(entities).hasSize(2).allSatisfy(entity -> {
+
+								softly.assertThat(entity.id).isNotNull();
+								softly.assertThat(entity.getCreatedBy()).isEqualTo("custom user");
+								softly.assertThat(entity.getCreatedDate()).isEqualTo(currentDateTime);
+								softly.assertThat(entity.getLastModifiedBy()).isNull();
+								softly.assertThat(entity.getLastModifiedDate()).isNull();
+							});
+
+							softly.assertAll();
+						});
+	}
+
 	@Test // DATAJDBC-204
 	public void customAuditorAware() {
 
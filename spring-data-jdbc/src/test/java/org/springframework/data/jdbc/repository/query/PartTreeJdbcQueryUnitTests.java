@@ -24,12 +24,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
@@ -40,6 +49,7 @@ import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
@@ -667,6 +677,128 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsPageQueryCountingTotalWithWindowFunction() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findPageByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(
+				getAccessor(queryMethod, new Object[] { "John", PageRequest.of(1, 10) }), returnedType);
+
+		assertThat(query.getQuery()) //
+				.startsWith("SELECT " + ALL_FIELDS + ", COUNT(*) OVER() AS TOTAL_COUNT_OVER " + JOIN_CLAUSE) //
+				.endsWith("OFFSET 10 ROWS FETCH FIRST 10 ROWS ONLY");
+	}
+
+	@Test
+	public void createsLockingPageQueryWithoutWindowFunction() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findLockedPageByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(
+				getAccessor(queryMethod, new Object[] { "John", PageRequest.of(1, 10) }), returnedType);
+
+		assertThat(query.getQuery()).doesNotContain("COUNT(*) OVER()");
+		assertThat(query.getQuery().toUpperCase()).endsWith("FOR UPDATE");
+	}
+
+	@Test
+	public void createsInitialKeysetWindowQuery() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirst2ByFirstNameOrderByLastName", String.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(
+				getAccessor(queryMethod, new Object[] { "John", ScrollPosition.keyset() }), returnedType);
+
+		assertThat(query.getQuery()) //
+				.isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name ORDER BY " + TABLE
+						+ ".\"LAST_NAME\" ASC, " + TABLE + ".\"ID\" ASC LIMIT 3");
+	}
+
+	@Test
+	public void createsKeysetWindowQueryContinuingAfterKeys() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirst2ByFirstNameOrderByLastName", String.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod,
+				new Object[] { "John", ScrollPosition.forward(Map.of("lastName", "Doe", "id", 42L)) }), returnedType);
+
+		assertThat(query.getQuery()) //
+				.contains(TABLE + ".\"FIRST_NAME\" = :first_name", TABLE + ".\"LAST_NAME\" > :", TABLE + ".\"ID\" > :") //
+				.endsWith("ORDER BY " + TABLE + ".\"LAST_NAME\" ASC, " + TABLE + ".\"ID\" ASC LIMIT 3");
+		assertThat(query.getParameterSource().getValue("first_name")).isEqualTo("John");
+	}
+
+	@Test
+	public void createsOffsetWindowQuery() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findFirst2ByFirstNameOrderByLastName", String.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(
+				getAccessor(queryMethod, new Object[] { "John", ScrollPosition.offset(9) }), returnedType);
+
+		assertThat(query.getQuery()) //
+				.startsWith(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name") //
+				.endsWith("OFFSET 10 ROWS FETCH FIRST 3 ROWS ONLY");
+	}
+
+	@Test
+	public void executesDerivedDeleteThroughAggregateOperations() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("deleteByFirstName", String.class);
+		JdbcAggregateOperations aggregateOperations = mock(JdbcAggregateOperations.class);
+		when(aggregateOperations.delete(any(Query.class), eq(User.class))).thenReturn(2L);
+
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				mock(NamedParameterJdbcOperations.class), it -> mock(RowMapper.class), aggregateOperations);
+
+		assertThat(jdbcQuery.execute(new Object[] { "John" })).isEqualTo(2L);
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(aggregateOperations).delete(captor.capture(), eq(User.class));
+		assertThat(captor.getValue().getCriteria())
+				.hasValueSatisfying(criteria -> assertThat(criteria.toString()).contains("firstName = 'John'"));
+	}
+
+	@Test
+	public void rejectsDerivedDeleteWithoutAggregateOperations() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("deleteByFirstName", String.class);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> createQuery(queryMethod))
+				.withMessageContaining("requires JdbcAggregateOperations");
+	}
+
+	@Test
+	public void rejectsDerivedDeleteByPropertyOutsideOfAggregateRootTable() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("deleteByHatedName", String.class);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+						mock(NamedParameterJdbcOperations.class), it -> mock(RowMapper.class),
+						mock(JdbcAggregateOperations.class)))
+				.withMessageContaining("is not stored in the aggregate root table");
+	}
+
+	@Test
+	public void rejectsDerivedDeleteReturningAggregates() throws Exception {
+
+		for (String methodName : List.of("deleteAllByLastName", "removeByLastName")) {
+
+			JdbcQueryMethod queryMethod = getQueryMethod(methodName, String.class);
+
+			assertThatIllegalArgumentException()
+					.isThrownBy(() -> new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+							mock(NamedParameterJdbcOperations.class), it -> mock(RowMapper.class),
+							mock(JdbcAggregateOperations.class)))
+					.withMessageContaining("must return void, boolean or a number");
+		}
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -693,6 +825,21 @@ public class PartTreeJdbcQueryUnitTests {
 
 		List<User> findAllByFirstName(String firstName);
 
+		Page<User> findPageByFirstName(String firstName, Pageable pageable);
+
+		@Lock(LockMode.PESSIMISTIC_WRITE)
+		Page<User> findLockedPageByFirstName(String firstName, Pageable pageable);
+
+		Window<User> findFirst2ByFirstNameOrderByLastName(String firstName, ScrollPosition position);
+
+		long deleteByFirstName(String firstName);
+
+		void deleteByHatedName(String name);
+
+		List<User> deleteAllByLastName(String lastName);
+
+		Stream<User> removeByLastName(String lastName);
+
 		List<User> findAllByHated(Hobby hobby);
 
 		List<User> findAllByHatedName(String name);
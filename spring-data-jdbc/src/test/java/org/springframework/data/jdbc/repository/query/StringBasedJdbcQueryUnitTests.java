@@ -39,7 +39,9 @@ import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
@@ -193,6 +195,17 @@ class StringBasedJdbcQueryUnitTests {
 						.hasMessageContaining("Page queries are not supported using string-based queries");
 	}
 
+	@Test
+	void scrollQueryNotSupported() {
+
+		JdbcQueryMethod queryMethod = createMethod("scrollAll", ScrollPosition.class);
+
+		assertThatThrownBy(
+				() -> new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter, evaluationContextProvider))
+						.isInstanceOf(UnsupportedOperationException.class)
+						.hasMessageContaining("Scroll queries are not supported using string-based queries");
+	}
+
 	@Test // GH-1212
 	void convertsEnumCollectionParameterIntoStringCollectionParameter() {
 
@@ -328,6 +341,9 @@ class StringBasedJdbcQueryUnitTests {
 		@Query(value = "some sql statement")
 		Slice<Object> sliceAll(Pageable pageable);
 
+		@Query(value = "some sql statement")
+		Window<Object> scrollAll(ScrollPosition position);
+
 		@Query(value = "some sql statement")
 		List<Object> findByEnumTypeIn(Set<Direction> directions);
 
@@ -46,6 +46,7 @@ import org.springframework.data.relational.RelationalManagedTypes;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
 import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalMappingWarmUp;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.util.TypeScanner;
 import org.springframework.lang.Nullable;
@@ -183,6 +184,35 @@ public abstract class AbstractR2dbcConfiguration implements ApplicationContextAw
 		return context;
 	}
 
+	/**
+	 * Register a {@link RelationalMappingWarmUp} that resolves the mapping metadata for all entities once the
+	 * application context is initialized. Only active if {@link #isWarmUpEnabled()} returns {@literal true}.
+	 *
+	 * @param mappingContext the configured {@link R2dbcMappingContext}.
+	 * @return must not be {@literal null}.
+	 * @since 3.2
+	 */
+	@Bean
+	public RelationalMappingWarmUp r2dbcMappingWarmUp(R2dbcMappingContext mappingContext) {
+
+		RelationalMappingWarmUp warmUp = new RelationalMappingWarmUp(mappingContext);
+		warmUp.setEnabled(isWarmUpEnabled());
+
+		return warmUp;
+	}
+
+	/**
+	 * Returns whether to warm up the mapping metadata for all entities on startup instead of on first use. Returns
+	 * {@literal false} by default.
+	 *
+	 * @return {@literal true} to warm up on startup.
+	 * @since 3.2
+	 * @see #r2dbcMappingWarmUp(R2dbcMappingContext)
+	 */
+	protected boolean isWarmUpEnabled() {
+		return false;
+	}
+
 	/**
 	 * Creates a {@link ReactiveDataAccessStrategy} using the configured
 	 * {@link #r2dbcConverter(R2dbcMappingContext, R2dbcCustomConversions) R2dbcConverter}.
@@ -155,6 +155,10 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 	private Object readFrom(Row row, @Nullable RowMetadata metadata, RelationalPersistentProperty property,
 			String prefix) {
 
+		if (isRelation(property)) {
+			return null;
+		}
+
 		String identifier = prefix + property.getColumnName().getReference();
 
 		try {
@@ -362,7 +366,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 
 		for (RelationalPersistentProperty property : entity) {
 
-			if (!property.isWritable()) {
+			if (!property.isWritable() || isRelation(property)) {
 				continue;
 			}
 
@@ -659,6 +663,19 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		return null;
 	}
 
+	/**
+	 * Returns whether the given property is a relation to a {@link Collection} or {@link java.util.Map} of entities.
+	 * Relations are stored in a table of their own and are therefore neither read from nor written to the row of the
+	 * owning entity.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return {@literal true} if the property holds a {@link Collection} or {@link java.util.Map} of entities.
+	 * @since 3.2
+	 */
+	public static boolean isRelation(RelationalPersistentProperty property) {
+		return property.isEntity() && !property.isEmbedded() && (property.isCollectionLike() || property.isMap());
+	}
+
 	private <R> RelationalPersistentEntity<R> getRequiredPersistentEntity(Class<R> type) {
 		return (RelationalPersistentEntity<R>) getMappingContext().getRequiredPersistentEntity(type);
 	}
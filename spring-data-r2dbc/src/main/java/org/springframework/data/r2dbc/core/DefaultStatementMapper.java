@@ -16,8 +16,12 @@
 package org.springframework.data.r2dbc.core;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.dialect.R2dbcDialect;
@@ -27,6 +31,7 @@ import org.springframework.data.r2dbc.query.UpdateMapper;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.InsertBuilder.InsertValuesWithBuild;
@@ -34,9 +39,11 @@ import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindMarker;
 import org.springframework.r2dbc.core.binding.BindMarkers;
 import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.r2dbc.core.binding.Bindings;
+import org.springframework.r2dbc.core.binding.MutableBindings;
 import org.springframework.util.Assert;
 
 /**
@@ -91,7 +98,25 @@ class DefaultStatementMapper implements StatementMapper {
 			@Nullable RelationalPersistentEntity<?> entity) {
 
 		Table table = selectSpec.getTable();
-		SelectBuilder.SelectAndFrom selectAndFrom = StatementBuilder.select(getSelectList(selectSpec, entity));
+		Aggregation aggregation = selectSpec.getAggregation();
+		Map<String, SimpleFunction> functions = new LinkedHashMap<>();
+		List<Column> groupBy = new ArrayList<>();
+
+		List<Expression> selectList = new ArrayList<>(getSelectList(selectSpec, entity));
+		if (aggregation != null) {
+
+			Function<String, Column> columnResolver = property -> (Column) this.updateMapper
+					.getMappedObject(table.column(property), entity);
+
+			aggregation.getGroupBy().forEach(property -> groupBy.add(columnResolver.apply(property)));
+			aggregation.getFunctions()
+					.forEach(function -> functions.put(function.getAlias(), function.toExpression(columnResolver)));
+
+			selectList.addAll(groupBy);
+			functions.forEach((alias, function) -> selectList.add(function.as(alias)));
+		}
+
+		SelectBuilder.SelectAndFrom selectAndFrom = StatementBuilder.select(selectList);
 
 		if (selectSpec.isDistinct()) {
 			selectAndFrom = selectAndFrom.distinct();
@@ -111,18 +136,38 @@ class DefaultStatementMapper implements StatementMapper {
 			selectBuilder.where(mappedObject.getCondition());
 		}
 
-		if (selectSpec.getSort().isSorted()) {
+		if (aggregation != null) {
+
+			SelectBuilder.SelectHaving grouped = groupBy.isEmpty() ? (SelectBuilder.SelectHaving) selectBuilder
+					: selectBuilder.groupBy(groupBy);
+			MutableBindings havingBindings = new MutableBindings(bindMarkers);
+
+			for (Aggregation.AggregateFilter filter : aggregation.getHaving()) {
 
-			List<OrderByField> sort = this.updateMapper.getMappedSort(table, selectSpec.getSort(), entity);
-			selectBuilder.orderBy(sort);
+				BindMarker marker = havingBindings.nextMarker(filter.getAlias());
+				havingBindings.bind(marker, filter.getValue());
+				grouped.having(
+						filter.toCondition(functions.get(filter.getAlias()), SQL.bindMarker(marker.getPlaceholder())));
+			}
+
+			bindings = bindings.and(havingBindings);
 		}
 
-		if (selectSpec.getLimit() > 0) {
-			selectBuilder.limit(selectSpec.getLimit());
+		if (selectSpec.getSort().isSorted()) {
+			selectBuilder.orderBy(getMappedSort(table, selectSpec.getSort(), functions, entity));
 		}
 
-		if (selectSpec.getOffset() > 0) {
-			selectBuilder.offset(selectSpec.getOffset());
+		if ((selectSpec.getLimit() > 0 || selectSpec.getOffset() > 0) && isBindPagination()) {
+			bindings = bindings.and(bindPagination(selectSpec, bindMarkers, selectBuilder));
+		} else {
+
+			if (selectSpec.getLimit() > 0) {
+				selectBuilder.limit(selectSpec.getLimit());
+			}
+
+			if (selectSpec.getOffset() > 0) {
+				selectBuilder.offset(selectSpec.getOffset());
+			}
 		}
 
 		if (selectSpec.getLock() != null) {
@@ -133,6 +178,63 @@ class DefaultStatementMapper implements StatementMapper {
 		return new DefaultPreparedOperation<>(select, this.renderContext, bindings);
 	}
 
+	/**
+	 * Queries bind limit and offset so that all pages, including the first one, share the same SQL. An offset of
+	 * {@code 0}, as used for the first page, is bound as well. Requires bind markers that can be identified by their
+	 * placeholder as the dialect determines the order of limit and offset.
+	 */
+	private boolean isBindPagination() {
+		return this.dialect.limit().supportsBindMarkers()
+				&& this.dialect.getBindMarkersFactory().identifiablePlaceholders();
+	}
+
+	private static Bindings bindPagination(SelectSpec selectSpec, BindMarkers bindMarkers,
+			SelectBuilder.SelectFromAndJoin selectBuilder) {
+
+		MutableBindings bindings = new MutableBindings(bindMarkers);
+
+		if (selectSpec.getLimit() > 0) {
+
+			BindMarker limit = bindings.nextMarker("limit");
+			bindings.bind(limit, selectSpec.getLimit());
+			selectBuilder.limit(SQL.bindMarker(limit.getPlaceholder()));
+		}
+
+		if (selectSpec.getOffset() >= 0) {
+
+			BindMarker offset = bindings.nextMarker("offset");
+			bindings.bind(offset, selectSpec.getOffset());
+			selectBuilder.offset(SQL.bindMarker(offset.getPlaceholder()));
+		}
+
+		return bindings;
+	}
+
+	/**
+	 * Map the {@link Sort} to {@link OrderByField}s. Orders referring to an aggregate function alias order by the
+	 * function.
+	 */
+	private List<OrderByField> getMappedSort(Table table, Sort sort, Map<String, SimpleFunction> functions,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		if (functions.isEmpty()) {
+			return this.updateMapper.getMappedSort(table, sort, entity);
+		}
+
+		List<OrderByField> mapped = new ArrayList<>();
+		for (Sort.Order order : sort) {
+
+			SimpleFunction function = functions.get(order.getProperty());
+			if (function != null) {
+				mapped.add(OrderByField.from(function, order.getDirection()).withNullHandling(order.getNullHandling()));
+			} else {
+				mapped.addAll(this.updateMapper.getMappedSort(table, Sort.by(order), entity));
+			}
+		}
+
+		return mapped;
+	}
+
 	protected List<Expression> getSelectList(SelectSpec selectSpec, @Nullable RelationalPersistentEntity<?> entity) {
 
 		if (entity == null) {
@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.core;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -62,6 +64,8 @@ class NamedParameterExpander {
 		}
 	};
 
+	private final Lock parsedSqlCacheLock = new ReentrantLock();
+
 	/**
 	 * Create a new enabled instance of {@link NamedParameterExpander}.
 	 */
@@ -95,16 +99,30 @@ class NamedParameterExpander {
 			return NamedParameterUtils.parseSqlStatement(sql);
 		}
 
-		synchronized (this.parsedSqlCache) {
+		ParsedSql parsedSql;
 
-			ParsedSql parsedSql = this.parsedSqlCache.get(sql);
-			if (parsedSql == null) {
+		this.parsedSqlCacheLock.lock();
+		try {
+			parsedSql = this.parsedSqlCache.get(sql);
+		} finally {
+			this.parsedSqlCacheLock.unlock();
+		}
 
-				parsedSql = NamedParameterUtils.parseSqlStatement(sql);
-				this.parsedSqlCache.put(sql, parsedSql);
-			}
+		if (parsedSql != null) {
 			return parsedSql;
 		}
+
+		// parse outside the lock, concurrent parsing of the same statement yields equivalent results
+		parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+
+		this.parsedSqlCacheLock.lock();
+		try {
+			this.parsedSqlCache.put(sql, parsedSql);
+		} finally {
+			this.parsedSqlCacheLock.unlock();
+		}
+
+		return parsedSql;
 	}
 
 	/**
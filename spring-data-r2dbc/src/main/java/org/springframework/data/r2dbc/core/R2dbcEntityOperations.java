@@ -25,7 +25,10 @@ import java.util.function.Function;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -120,6 +123,38 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> selectOne(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query grouping the rows matching {@link Query} as defined by the {@link Aggregation} and
+	 * convert each group to {@code resultType}. Group-by columns and aggregate function aliases are mapped to the
+	 * properties of {@code resultType} by column name, simple result types are read from the single selected column.
+	 * Sort orders of the query may refer to aggregate function aliases.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregation must not be {@literal null}.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @param resultType the type each group is converted to, must not be {@literal null}.
+	 * @return one result per group.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.2
+	 */
+	<T> Flux<T> aggregate(Query query, Aggregation aggregation, Class<?> entityClass, Class<T> resultType)
+			throws DataAccessException;
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Window} of entities starting at
+	 * {@link ScrollPosition}. Keyset positions are translated into a predicate on the sort properties so that the window
+	 * is fetched without skipping rows.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @return the {@link Window} of entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.2
+	 */
+	<T> Mono<Window<T>> scroll(Query query, Class<T> entityClass, ScrollPosition scrollPosition)
+			throws DataAccessException;
+
 	/**
 	 * Update the queried entities and return {@literal true} if the update was applied.
 	 *
@@ -159,6 +194,24 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> RowsFetchSpec<T> query(PreparedOperation<?> operation, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a query for a {@link RowsFetchSpec}, given {@link PreparedOperation} fetching {@code fetchSize} rows per
+	 * round trip. The demand requested from the driver is limited to {@code fetchSize} so that results are streamed
+	 * with bounded memory. Results of the query are mapped onto {@code entityClass}.
+	 *
+	 * @param operation the prepared operation wrapping a SQL query and bind parameters.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @param fetchSize the number of rows to fetch per round trip, {@code 0} to use the driver default.
+	 * @return a {@link RowsFetchSpec} ready to materialize.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.2
+	 * @see io.r2dbc.spi.Statement#fetchSize(int)
+	 */
+	default <T> RowsFetchSpec<T> query(PreparedOperation<?> operation, Class<T> entityClass, int fetchSize)
+			throws DataAccessException {
+		return query(operation, entityClass);
+	}
+
 	/**
 	 * Execute a query for a {@link RowsFetchSpec}, given {@link PreparedOperation}. Any provided bindings within
 	 * {@link PreparedOperation} are applied to the underlying {@link DatabaseClient}. The query is issued as-is without
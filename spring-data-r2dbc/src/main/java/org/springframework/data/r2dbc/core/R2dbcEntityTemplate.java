@@ -15,6 +15,7 @@
  */
 package org.springframework.data.r2dbc.core;
 
+import io.micrometer.observation.ObservationRegistry;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.reactivestreams.Publisher;
@@ -40,6 +42,8 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -57,9 +61,14 @@ import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
 import org.springframework.data.r2dbc.mapping.event.BeforeSaveCallback;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.event.EntityCallbackDetector;
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.observability.DefaultDataAccessObservationConvention;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.ScrollUtils;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
@@ -91,6 +100,13 @@ import org.springframework.util.Assert;
  */
 public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAware, ApplicationContextAware {
 
+	/**
+	 * Name of the observations recorded for each data access operation.
+	 *
+	 * @since 3.2
+	 */
+	public static final String OBSERVATION_NAME = "spring.data.r2dbc.operation";
+
 	private final DatabaseClient databaseClient;
 
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
@@ -99,8 +115,14 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private final SpelAwareProxyProjectionFactory projectionFactory;
 
+	private final ReactiveRelationResolver relationResolver;
+
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	private EntityCallbackDetector callbackDetector = EntityCallbackDetector.assumePresent();
+
+	private @Nullable ReactiveDataAccessObserver observer;
+
 	/**
 	 * Create a new {@link R2dbcEntityTemplate} given {@link ConnectionFactory}.
 	 *
@@ -118,6 +140,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.dataAccessStrategy = new DefaultReactiveDataAccessStrategy(dialect);
 		this.mappingContext = dataAccessStrategy.getConverter().getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.relationResolver = new ReactiveRelationResolver(this.databaseClient, this.dataAccessStrategy);
 	}
 
 	/**
@@ -159,6 +182,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.dataAccessStrategy = strategy;
 		this.mappingContext = strategy.getConverter().getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.relationResolver = new ReactiveRelationResolver(databaseClient, strategy);
 	}
 
 	@Override
@@ -185,6 +209,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		if (entityCallbacks == null) {
 			setEntityCallbacks(ReactiveEntityCallbacks.create(applicationContext));
+			this.callbackDetector = EntityCallbackDetector.create(applicationContext);
 		}
 
 		projectionFactory.setBeanFactory(applicationContext);
@@ -196,7 +221,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	 * {@link org.springframework.data.mapping.callback.ReactiveEntityCallbacks callbacks} like the
 	 * {@link BeforeSaveCallback}.
 	 * <p>
-	 * Overrides potentially existing {@link ReactiveEntityCallbacks}.
+	 * Overrides potentially existing {@link ReactiveEntityCallbacks}. Callbacks are invoked for all callback types.
 	 *
 	 * @param entityCallbacks must not be {@literal null}.
 	 * @throws IllegalArgumentException if the given instance is {@literal null}.
@@ -206,6 +231,52 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null");
 		this.entityCallbacks = entityCallbacks;
+		this.callbackDetector = EntityCallbackDetector.assumePresent();
+	}
+
+	/**
+	 * Set the number of aggregate roots for which relations ({@link java.util.Collection}s and {@link Map}s of entities)
+	 * are loaded with a single query. Defaults to {@code 256}.
+	 *
+	 * @param relationBatchSize must be greater than zero.
+	 * @since 3.2
+	 */
+	public void setRelationBatchSize(int relationBatchSize) {
+		this.relationResolver.setBatchSize(relationBatchSize);
+	}
+
+	/**
+	 * Set the maximum number of concurrently executed statements when loading, saving or deleting relations of an
+	 * aggregate. Defaults to {@code 4}.
+	 *
+	 * @param relationConcurrency must be greater than zero.
+	 * @since 3.2
+	 */
+	public void setRelationConcurrency(int relationConcurrency) {
+		this.relationResolver.setConcurrency(relationConcurrency);
+	}
+
+	/**
+	 * Set the {@link ObservationRegistry} to record an {@link io.micrometer.observation.Observation} for each data access
+	 * operation, tagged with the entity type, the operation and the statement shape. Observations are not recorded by
+	 * default.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 3.2
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observer = createObserver(observationRegistry);
+	}
+
+	/**
+	 * @return the {@link ObservationRegistry} used to record observations or {@literal null} if none is configured.
+	 * @since 3.2
+	 */
+	@Nullable
+	public ObservationRegistry getObservationRegistry() {
+		return this.observer != null ? this.observer.getRegistry() : null;
 	}
 
 	// -------------------------------------------------------------------------
@@ -267,10 +338,11 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
 
-		return this.databaseClient.sql(operation) //
-				.map((r, md) -> r.get(0, Long.class)) //
-				.first() //
-				.defaultIfEmpty(0L);
+		return observe("count", entityClass, query, //
+				this.databaseClient.sql(operation) //
+						.map((r, md) -> r.get(0, Long.class)) //
+						.first() //
+						.defaultIfEmpty(0L));
 	}
 
 	@Override
@@ -303,10 +375,11 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
 
-		return this.databaseClient.sql(operation) //
-				.map((r, md) -> r) //
-				.first() //
-				.hasElement();
+		return observe("exists", entityClass, query, //
+				this.databaseClient.sql(operation) //
+						.map((r, md) -> r) //
+						.first() //
+						.hasElement());
 	}
 
 	@Override
@@ -319,19 +392,65 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return doSelect(query, entityClass, tableName, entityClass, RowsFetchSpec::all);
 	}
 
+	@Override
+	public <T> Mono<Window<T>> scroll(Query query, Class<T> entityClass, ScrollPosition scrollPosition)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		RelationalPersistentEntity<?> entity = getRequiredEntity(entityClass);
+		Query scrollQuery = ScrollUtils.createQuery(query, scrollPosition, entity);
+
+		return select(scrollQuery, entityClass).collectList()
+				.map(content -> ScrollUtils.createWindow(query, scrollPosition, content, entity));
+	}
+
 	@SuppressWarnings("unchecked")
 	<T, P extends Publisher<T>> P doSelect(Query query, Class<?> entityClass, SqlIdentifier tableName,
 			Class<T> returnType, Function<RowsFetchSpec<T>, P> resultHandler) {
 
 		RowsFetchSpec<T> fetchSpec = doSelect(query, entityClass, tableName, returnType);
 
-		P result = resultHandler.apply(fetchSpec);
+		P result = resolveRelations(resultHandler.apply(fetchSpec), entityClass, returnType);
+
+		if (result instanceof Mono) {
+
+			Mono<?> mono = (Mono<?>) result;
+			if (hasCallbacks(AfterConvertCallback.class)) {
+				mono = mono.flatMap(it -> maybeCallAfterConvert(it, tableName));
+			}
+
+			return (P) observe("select", entityClass, query, mono);
+		}
+
+		Flux<?> flux = (Flux<?>) result;
+		if (hasCallbacks(AfterConvertCallback.class)) {
+			flux = flux.concatMap(it -> maybeCallAfterConvert(it, tableName));
+		}
+
+		return (P) observe("select", entityClass, query, flux);
+	}
+
+	/**
+	 * Resolve relations ({@link java.util.Collection}s and {@link Map}s of entities) of the emitted aggregate roots if
+	 * the {@code returnType} is the entity type itself.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T, P extends Publisher<T>> P resolveRelations(P result, Class<?> entityClass, Class<?> returnType) {
+
+		RelationalPersistentEntity<?> entity = this.mappingContext.getPersistentEntity(entityClass);
+
+		if (entity == null || !returnType.equals(entityClass) || !relationResolver.hasRelations(entity)) {
+			return result;
+		}
 
 		if (result instanceof Mono) {
-			return (P) ((Mono<?>) result).flatMap(it -> maybeCallAfterConvert(it, tableName));
+			return (P) relationResolver.resolve(((Mono<T>) result).flux(), entity).singleOrEmpty();
 		}
 
-		return (P) ((Flux<?>) result).concatMap(it -> maybeCallAfterConvert(it, tableName));
+		return (P) relationResolver.resolve(Flux.from(result), entity);
 	}
 
 	private <T> RowsFetchSpec<T> doSelect(Query query, Class<?> entityClass, SqlIdentifier tableName,
@@ -347,7 +466,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			selectSpec = selectSpec.limit(query.getLimit());
 		}
 
-		if (query.getOffset() > 0) {
+		if (query.getOffset() >= 0) {
 			selectSpec = selectSpec.offset(query.getOffset());
 		}
 
@@ -362,7 +481,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
 
-		return getRowsFetchSpec(databaseClient.sql(operation), entityClass, returnType);
+		return withFetchSize(getRowsFetchSpec(withFetchSize(databaseClient.sql(operation), query.getFetchSize()),
+				entityClass, returnType), query.getFetchSize());
 	}
 
 	@Override
@@ -371,6 +491,41 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 				RowsFetchSpec::one);
 	}
 
+	@Override
+	public <T> Flux<T> aggregate(Query query, Aggregation aggregation, Class<?> entityClass, Class<T> resultType)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.notNull(resultType, "Result type must not be null");
+
+		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entityClass);
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(getTableName(entityClass))
+				.withAggregation(aggregation);
+
+		if (query.getLimit() > 0) {
+			selectSpec = selectSpec.limit(query.getLimit());
+		}
+
+		if (query.getOffset() >= 0) {
+			selectSpec = selectSpec.offset(query.getOffset());
+		}
+
+		if (query.isSorted()) {
+			selectSpec = selectSpec.withSort(query.getSort());
+		}
+
+		Optional<CriteriaDefinition> criteria = query.getCriteria();
+		if (criteria.isPresent()) {
+			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
+		}
+
+		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+
+		return getRowsFetchSpec(databaseClient.sql(operation), resultType, resultType).all();
+	}
+
 	@Override
 	public Mono<Long> update(Query query, Update update, Class<?> entityClass) throws DataAccessException {
 
@@ -394,7 +549,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
-		return this.databaseClient.sql(operation).fetch().rowsUpdated();
+		return observe("update", entityClass, query,
+				this.databaseClient.sql(operation).fetch().rowsUpdated());
 	}
 
 	@Override
@@ -419,7 +575,38 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(deleteSpec);
-		return this.databaseClient.sql(operation).fetch().rowsUpdated().defaultIfEmpty(0L);
+		Mono<Long> delete = this.databaseClient.sql(operation).fetch().rowsUpdated().defaultIfEmpty(0L);
+
+		RelationalPersistentEntity<?> entity = this.mappingContext.getPersistentEntity(entityClass);
+		if (entity == null || !entity.hasIdProperty() || !relationResolver.hasRelations(entity)) {
+			return observe("delete", entityClass, query, delete);
+		}
+
+		return observe("delete", entityClass, query, doDeleteRelations(query, entity, tableName).then(delete));
+	}
+
+	/**
+	 * Delete the relations of all aggregate roots matching {@link Query} before the roots themselves get deleted.
+	 */
+	private Mono<Void> doDeleteRelations(Query query, RelationalPersistentEntity<?> entity, SqlIdentifier tableName) {
+
+		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entity.getType());
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(tableName)
+				.withProjection(entity.getRequiredIdProperty().getColumnName());
+
+		Optional<CriteriaDefinition> criteria = query.getCriteria();
+		if (criteria.isPresent()) {
+			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
+		}
+
+		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+
+		return this.databaseClient.sql(operation) //
+				.map((row, metadata) -> row.get(0)) //
+				.all() //
+				.buffer(relationResolver.getBatchSize()) //
+				.concatMap(ids -> relationResolver.deleteByOwnerIds(entity, ids)) //
+				.then();
 	}
 
 	// -------------------------------------------------------------------------
@@ -428,11 +615,20 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	@Override
 	public <T> RowsFetchSpec<T> query(PreparedOperation<?> operation, Class<T> entityClass) {
+		return query(operation, entityClass, 0);
+	}
+
+	@Override
+	public <T> RowsFetchSpec<T> query(PreparedOperation<?> operation, Class<T> entityClass, int fetchSize) {
 
 		Assert.notNull(operation, "PreparedOperation must not be null");
 		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.isTrue(fetchSize >= 0, "Fetch size must be greater than or equal to zero");
 
-		return new EntityCallbackAdapter<>(getRowsFetchSpec(databaseClient.sql(operation), entityClass, entityClass),
+		RowsFetchSpec<T> fetchSpec = withFetchSize(
+				getRowsFetchSpec(withFetchSize(databaseClient.sql(operation), fetchSize), entityClass, entityClass), fetchSize);
+
+		return new EntityCallbackAdapter<>(new RelationResolvingFetchSpecAdapter<>(fetchSpec, entityClass),
 				getTableNameOrEmpty(entityClass));
 	}
 
@@ -472,17 +668,18 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
-		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
+		return observe("insert", persistentEntity.getType(), null,
+				maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
 
-			T initializedEntity = setVersionIfNecessary(persistentEntity, onBeforeConvert);
+					T initializedEntity = setVersionIfNecessary(persistentEntity, onBeforeConvert);
 
-			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(initializedEntity);
+					OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(initializedEntity);
 
-			potentiallyRemoveId(persistentEntity, outboundRow);
+					potentiallyRemoveId(persistentEntity, outboundRow);
 
-			return maybeCallBeforeSave(initializedEntity, outboundRow, tableName) //
-					.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
-		});
+					return maybeCallBeforeSave(initializedEntity, outboundRow, tableName) //
+							.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
+				}));
 	}
 
 	private void potentiallyRemoveId(RelationalPersistentEntity<?> persistentEntity, OutboundRow outboundRow) {
@@ -539,7 +736,9 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 					return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
 				}).map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
 				.all() //
-				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+				.last(entity) //
+				.flatMap(saved -> relationResolver.save(saved, getRequiredEntity(saved), true)) //
+				.flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -564,7 +763,10 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		return doUpdate(entity, getRequiredEntity(entity).getQualifiedTableName());
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		return observe("update", persistentEntity.getType(), null,
+				doUpdate(entity, persistentEntity.getQualifiedTableName()));
 	}
 
 	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName) {
@@ -638,7 +840,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 						sink.error(new TransientDataAccessResourceException(
 								formatTransientEntityExceptionMessage(entity, persistentEntity)));
 					}
-				}).then(maybeCallAfterSave(entity, outboundRow, tableName));
+				}).then(Mono.defer(() -> relationResolver.save(entity, persistentEntity, false))) //
+				.flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
 	}
 
 	private <T> String formatOptimisticLockingExceptionMessage(T entity, RelationalPersistentEntity<T> persistentEntity) {
@@ -697,7 +900,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, SqlIdentifier table) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackDetector.hasCallbacks(BeforeConvertCallback.class)) {
 			return entityCallbacks.callback(BeforeConvertCallback.class, object, table);
 		}
 
@@ -706,7 +909,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	protected <T> Mono<T> maybeCallBeforeSave(T object, OutboundRow row, SqlIdentifier table) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackDetector.hasCallbacks(BeforeSaveCallback.class)) {
 			return entityCallbacks.callback(BeforeSaveCallback.class, object, row, table);
 		}
 
@@ -715,7 +918,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	protected <T> Mono<T> maybeCallAfterSave(T object, OutboundRow row, SqlIdentifier table) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackDetector.hasCallbacks(AfterSaveCallback.class)) {
 			return entityCallbacks.callback(AfterSaveCallback.class, object, row, table);
 		}
 
@@ -724,7 +927,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	protected <T> Mono<T> maybeCallAfterConvert(T object, SqlIdentifier table) {
 
-		if (entityCallbacks != null) {
+		if (entityCallbacks != null && callbackDetector.hasCallbacks(AfterConvertCallback.class)) {
 			return entityCallbacks.callback(AfterConvertCallback.class, object, table);
 		}
 
@@ -754,6 +957,38 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return entity != null ? entity.getQualifiedTableName() : SqlIdentifier.EMPTY;
 	}
 
+	private boolean hasCallbacks(Class<?> callbackType) {
+		return entityCallbacks != null && callbackDetector.hasCallbacks(callbackType);
+	}
+
+	private static ReactiveDataAccessObserver createObserver(ObservationRegistry observationRegistry) {
+		return new ReactiveDataAccessObserver(observationRegistry,
+				new DefaultDataAccessObservationConvention(OBSERVATION_NAME));
+	}
+
+	private <T> Mono<T> observe(String operation, Class<?> entityClass, @Nullable Query query, Mono<T> action) {
+		return this.observer != null ? this.observer.observe(observationContext(operation, entityClass, query), action)
+				: action;
+	}
+
+	private <T> Flux<T> observe(String operation, Class<?> entityClass, @Nullable Query query, Flux<T> action) {
+		return this.observer != null ? this.observer.observe(observationContext(operation, entityClass, query), action)
+				: action;
+	}
+
+	private static Supplier<DataAccessObservationContext> observationContext(String operation, Class<?> entityClass,
+			@Nullable Query query) {
+
+		return () -> {
+
+			DataAccessObservationContext context = new DataAccessObservationContext(operation, entityClass);
+			if (query != null) {
+				context.setStatement(DataAccessObservationContext.getStatementShape(query));
+			}
+			return context;
+		};
+	}
+
 	private RelationalPersistentEntity<?> getRequiredEntity(Class<?> entityClass) {
 		return this.mappingContext.getRequiredPersistentEntity(entityClass);
 	}
@@ -807,6 +1042,54 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return executeSpec.map(rowMapper);
 	}
 
+	/**
+	 * Apply the fetch size to the {@link io.r2dbc.spi.Statement} if configured.
+	 */
+	private static DatabaseClient.GenericExecuteSpec withFetchSize(DatabaseClient.GenericExecuteSpec executeSpec,
+			int fetchSize) {
+		return fetchSize > 0 ? executeSpec.filter(statement -> statement.fetchSize(fetchSize)) : executeSpec;
+	}
+
+	/**
+	 * Limit the demand requested from the driver to the fetch size if configured.
+	 */
+	private static <T> RowsFetchSpec<T> withFetchSize(RowsFetchSpec<T> fetchSpec, int fetchSize) {
+		return fetchSize > 0 ? new LimitRateFetchSpecAdapter<>(fetchSpec, fetchSize) : fetchSpec;
+	}
+
+	/**
+	 * {@link RowsFetchSpec} adapter requesting at most {@code fetchSize} rows at a time. Rows are requested in batches of
+	 * the fetch size and replenished once 75% of them were consumed so that a slow subscriber propagates backpressure to
+	 * the database cursor.
+	 *
+	 * @param <T>
+	 */
+	private static class LimitRateFetchSpecAdapter<T> implements RowsFetchSpec<T> {
+
+		private final RowsFetchSpec<T> delegate;
+		private final int fetchSize;
+
+		private LimitRateFetchSpecAdapter(RowsFetchSpec<T> delegate, int fetchSize) {
+			this.delegate = delegate;
+			this.fetchSize = fetchSize;
+		}
+
+		@Override
+		public Mono<T> one() {
+			return delegate.one();
+		}
+
+		@Override
+		public Mono<T> first() {
+			return delegate.first();
+		}
+
+		@Override
+		public Flux<T> all() {
+			return delegate.all().limitRate(fetchSize);
+		}
+	}
+
 	/**
 	 * {@link RowsFetchSpec} adapter emitting values from {@link Optional} if they exist.
 	 *
@@ -836,6 +1119,37 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 	}
 
+	/**
+	 * {@link RowsFetchSpec} adapter resolving relations of each emitted aggregate root.
+	 *
+	 * @param <T>
+	 */
+	private class RelationResolvingFetchSpecAdapter<T> implements RowsFetchSpec<T> {
+
+		private final RowsFetchSpec<T> delegate;
+		private final Class<?> entityClass;
+
+		private RelationResolvingFetchSpecAdapter(RowsFetchSpec<T> delegate, Class<?> entityClass) {
+			this.delegate = delegate;
+			this.entityClass = entityClass;
+		}
+
+		@Override
+		public Mono<T> one() {
+			return resolveRelations(delegate.one(), entityClass, entityClass);
+		}
+
+		@Override
+		public Mono<T> first() {
+			return resolveRelations(delegate.first(), entityClass, entityClass);
+		}
+
+		@Override
+		public Flux<T> all() {
+			return resolveRelations(delegate.all(), entityClass, entityClass);
+		}
+	}
+
 	/**
 	 * {@link RowsFetchSpec} adapter applying {@link #maybeCallAfterConvert(Object, SqlIdentifier)} to each emitted
 	 * object.
@@ -854,17 +1168,26 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		@Override
 		public Mono<T> one() {
-			return delegate.one().flatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Mono<T> one = delegate.one();
+			return hasCallbacks(AfterConvertCallback.class) ? one.flatMap(it -> maybeCallAfterConvert(it, tableName))
+					: one;
 		}
 
 		@Override
 		public Mono<T> first() {
-			return delegate.first().flatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Mono<T> first = delegate.first();
+			return hasCallbacks(AfterConvertCallback.class) ? first.flatMap(it -> maybeCallAfterConvert(it, tableName))
+					: first;
 		}
 
 		@Override
 		public Flux<T> all() {
-			return delegate.all().concatMap(it -> maybeCallAfterConvert(it, tableName));
+
+			Flux<T> all = delegate.all();
+			return hasCallbacks(AfterConvertCallback.class) ? all.concatMap(it -> maybeCallAfterConvert(it, tableName))
+					: all;
 		}
 	}
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.observability.DataAccessObservationConvention;
+import org.springframework.data.relational.core.observability.DataAccessObserver;
+
+/**
+ * {@link DataAccessObserver} for reactive data access operations. The {@link Observation} is started on subscription
+ * and stopped on completion, error or cancellation. The {@link Observation} found in the subscriber {@link Context}
+ * under {@link ObservationThreadLocalAccessor#KEY} becomes the parent observation and the started {@link Observation}
+ * is propagated to upstream operators using the same key.
+ *
+ * @since 3.2
+ */
+public class ReactiveDataAccessObserver extends DataAccessObserver {
+
+	/**
+	 * Creates a new {@link ReactiveDataAccessObserver}.
+	 *
+	 * @param registry the {@link ObservationRegistry}, must not be {@literal null}.
+	 * @param defaultConvention the convention to use unless a custom convention is configured, must not be
+	 *          {@literal null}.
+	 */
+	public ReactiveDataAccessObserver(ObservationRegistry registry,
+			DataAccessObservationConvention defaultConvention) {
+		super(registry, defaultConvention);
+	}
+
+	/**
+	 * Observe the execution of {@link Mono}.
+	 *
+	 * @param context supplier for the context, only called if observations get recorded, must not be {@literal null}.
+	 * @param action the data access operation, must not be {@literal null}.
+	 * @return the observed {@link Mono}.
+	 */
+	public <T> Mono<T> observe(Supplier<DataAccessObservationContext> context, Mono<T> action) {
+
+		if (!isEnabled()) {
+			return action;
+		}
+
+		return Mono.deferContextual(contextView -> {
+
+			Observation observation = start(context.get(), contextView);
+
+			return action.doOnError(observation::error) //
+					.doFinally(signal -> observation.stop()) //
+					.contextWrite(Context.of(ObservationThreadLocalAccessor.KEY, observation));
+		});
+	}
+
+	/**
+	 * Observe the execution of {@link Flux}. Records the number of emitted rows unless already set on the context.
+	 *
+	 * @param context supplier for the context, only called if observations get recorded, must not be {@literal null}.
+	 * @param action the data access operation, must not be {@literal null}.
+	 * @return the observed {@link Flux}.
+	 */
+	public <T> Flux<T> observe(Supplier<DataAccessObservationContext> context, Flux<T> action) {
+
+		if (!isEnabled()) {
+			return action;
+		}
+
+		return Flux.deferContextual(contextView -> {
+
+			DataAccessObservationContext observationContext = context.get();
+			Observation observation = start(observationContext, contextView);
+			AtomicLong rows = new AtomicLong();
+
+			return action.doOnNext(it -> rows.incrementAndGet()) //
+					.doOnError(observation::error) //
+					.doFinally(signal -> stop(observation, observationContext, rows)) //
+					.contextWrite(Context.of(ObservationThreadLocalAccessor.KEY, observation));
+		});
+	}
+
+	private Observation start(DataAccessObservationContext context, ContextView contextView) {
+
+		Observation parent = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+
+		return createObservation(context).parentObservation(parent).start();
+	}
+
+	private static void stop(Observation observation, DataAccessObservationContext context, AtomicLong rows) {
+
+		if (context.getRows() < 0) {
+			context.setRows(rows.get());
+		}
+
+		observation.stop();
+	}
+}
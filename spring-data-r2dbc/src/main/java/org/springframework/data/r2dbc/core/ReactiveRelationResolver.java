@@ -0,0 +1,468 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves and persists multi-valued relations ({@link Collection}s and {@link Map}s of entities) of aggregates. The
+ * table layout follows the one of Spring Data JDBC: each referenced entity lives in its own table holding a back
+ * reference to the table of the owning entity and, for {@link List}s and {@link Map}s, a key column. Column names are
+ * derived from {@link AggregatePath}.
+ * <p>
+ * Relations are loaded per page of owning entities with a single {@code IN} query per relation so that reading
+ * {@code n} aggregates issues {@code n / batchSize} queries per relation instead of {@code n}. Writes and deletes run
+ * with bounded concurrency.
+ * <p>
+ * Nested relations are resolved for referenced entities that declare an identifier.
+ *
+ * @since 3.2
+ */
+class ReactiveRelationResolver {
+
+	static final int DEFAULT_BATCH_SIZE = 256;
+
+	static final int DEFAULT_CONCURRENCY = 4;
+
+	private final DatabaseClient databaseClient;
+
+	private final ReactiveDataAccessStrategy dataAccessStrategy;
+
+	private final RelationalMappingContext mappingContext;
+
+	private final Map<Class<?>, List<Relation>> relations = new ConcurrentHashMap<>();
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	ReactiveRelationResolver(DatabaseClient databaseClient, ReactiveDataAccessStrategy dataAccessStrategy) {
+
+		this.databaseClient = databaseClient;
+		this.dataAccessStrategy = dataAccessStrategy;
+		this.mappingContext = (RelationalMappingContext) dataAccessStrategy.getConverter().getMappingContext();
+	}
+
+	void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		this.batchSize = batchSize;
+	}
+
+	int getBatchSize() {
+		return batchSize;
+	}
+
+	void setConcurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if the entity declares relations that need to be resolved.
+	 */
+	boolean hasRelations(RelationalPersistentEntity<?> entity) {
+		return !getRelations(entity).isEmpty();
+	}
+
+	// -------------------------------------------------------------------------
+	// Reading
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Populate the relations of all emitted entities. Entities are processed in pages of {@code batchSize} elements,
+	 * retaining the order of the source.
+	 *
+	 * @param source the entities to populate.
+	 * @param entity the persistent entity describing the emitted entities.
+	 * @return the populated entities.
+	 */
+	<T> Flux<T> resolve(Flux<T> source, RelationalPersistentEntity<?> entity) {
+
+		if (!hasRelations(entity) || !entity.hasIdProperty()) {
+			return source;
+		}
+
+		return source.buffer(batchSize).concatMap(page -> resolvePage(page, entity));
+	}
+
+	private <T> Flux<T> resolvePage(List<T> page, RelationalPersistentEntity<?> entity) {
+
+		Map<Object, Integer> indexById = new LinkedHashMap<>(page.size());
+		for (int i = 0; i < page.size(); i++) {
+
+			Object id = entity.getIdentifierAccessor(page.get(i)).getIdentifier();
+			if (id != null) {
+				indexById.put(id, i);
+			}
+		}
+
+		if (indexById.isEmpty()) {
+			return Flux.fromIterable(page);
+		}
+
+		return Flux.fromIterable(getRelations(entity)) //
+				.flatMap(relation -> loadChildren(relation, entity, indexById.keySet()), concurrency) //
+				.collectList() //
+				.flatMapIterable(loaded -> {
+
+					List<T> result = new ArrayList<>(page);
+
+					for (LoadedRelation loadedRelation : loaded) {
+						for (Map.Entry<Object, Integer> entry : indexById.entrySet()) {
+
+							int index = entry.getValue();
+							Object value = loadedRelation.valueFor(entry.getKey());
+							result.set(index, setProperty(entity, result.get(index), loadedRelation.relation.property, value));
+						}
+					}
+
+					return result;
+				});
+	}
+
+	private Mono<LoadedRelation> loadChildren(Relation relation, RelationalPersistentEntity<?> owner,
+			Collection<Object> ownerIds) {
+
+		Class<?> childType = relation.childEntity.getType();
+		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(childType);
+
+		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(relation.childEntity.getQualifiedTableName()) //
+				.doWithTable((table, spec) -> spec.withProjection(table.asterisk())) //
+				.withCriteria(Criteria.where(dataAccessStrategy.toSql(relation.backReference)).in(ownerIds));
+
+		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+
+		Class<?> idType = owner.getRequiredIdProperty().getType();
+		ConversionService conversionService = dataAccessStrategy.getConverter().getConversionService();
+
+		Flux<Child> children = databaseClient.sql(operation) //
+				.map((row, metadata) -> {
+
+					Object backReference = conversionService.convert(row.get(relation.backReference.getReference()), idType);
+					Object key = relation.keyColumn != null //
+							? row.get(relation.keyColumn.getReference(), relation.keyType) //
+							: null;
+
+					return new Child(backReference, key, dataAccessStrategy.getRowMapper(childType).apply(row, metadata));
+				}) //
+				.all();
+
+		return children.collectList().flatMap(loaded -> {
+
+			Flux<Object> resolved = resolve(Flux.fromIterable(loaded).map(Child::value), relation.childEntity);
+
+			return resolved.collectList().map(values -> {
+
+				Map<Object, List<Child>> byOwner = new LinkedHashMap<>();
+				for (int i = 0; i < loaded.size(); i++) {
+
+					Child child = loaded.get(i).withValue(values.get(i));
+					byOwner.computeIfAbsent(child.backReference, it -> new ArrayList<>()).add(child);
+				}
+
+				return new LoadedRelation(relation, byOwner);
+			});
+		});
+	}
+
+	// -------------------------------------------------------------------------
+	// Writing
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Replace the persisted state of all relations of the given, already persisted, aggregate root.
+	 *
+	 * @param instance the aggregate root.
+	 * @param entity the persistent entity of {@code instance}.
+	 * @param isNew whether {@code instance} was just inserted. Existing relations are removed if {@literal false}.
+	 * @return the aggregate root with relations carrying potentially generated identifiers.
+	 */
+	<T> Mono<T> save(T instance, RelationalPersistentEntity<?> entity, boolean isNew) {
+
+		if (!hasRelations(entity) || !entity.hasIdProperty()) {
+			return Mono.just(instance);
+		}
+
+		Object id = entity.getIdentifierAccessor(instance).getRequiredIdentifier();
+		Mono<Void> cleanup = isNew ? Mono.empty() : deleteByOwnerIds(entity, List.of(id));
+
+		return cleanup.then(Flux.fromIterable(getRelations(entity)) //
+				.concatMap(relation -> insertChildren(relation, id, getProperty(entity, instance, relation.property)) //
+						.map(value -> new LoadedRelation(relation, Map.of(id, value)))) //
+				.reduce(instance, (current, loaded) -> setProperty(entity, current, loaded.relation.property,
+						loaded.valueFor(id))));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Mono<List<Child>> insertChildren(Relation relation, Object ownerId, @Nullable Object value) {
+
+		List<Child> children = new ArrayList<>();
+
+		if (value instanceof Map<?, ?> map) {
+			map.forEach((key, child) -> children.add(new Child(ownerId, key, child)));
+		} else if (value instanceof Collection<?> collection) {
+
+			int index = 0;
+			for (Object child : collection) {
+				children.add(new Child(ownerId, relation.keyColumn != null ? index : null, child));
+				index++;
+			}
+		}
+
+		if (children.isEmpty()) {
+			return Mono.just(children);
+		}
+
+		return Flux.fromIterable(children) //
+				.flatMapSequential(child -> insertChild(relation, child) //
+						.flatMap(saved -> save(saved, relation.childEntity, true)) //
+						.map(child::withValue), concurrency) //
+				.collectList();
+	}
+
+	private Mono<Object> insertChild(Relation relation, Child child) {
+
+		RelationalPersistentEntity<?> childEntity = relation.childEntity;
+		OutboundRow row = dataAccessStrategy.getOutboundRow(child.value);
+
+		RelationalPersistentProperty idProperty = childEntity.getIdProperty();
+		if (idProperty != null) {
+
+			Parameter idValue = row.get(idProperty.getColumnName());
+			if (idValue == null || !idValue.hasValue()
+					|| (idValue.getValue() instanceof Number number && number.longValue() == 0L)) {
+				row.remove(idProperty.getColumnName());
+			}
+		}
+
+		row.put(relation.backReference, Parameter.from(child.backReference));
+		if (relation.keyColumn != null && child.key != null) {
+			row.put(relation.keyColumn, Parameter.from(child.key));
+		}
+
+		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+		StatementMapper.InsertSpec insert = mapper.createInsert(childEntity.getQualifiedTableName());
+
+		for (SqlIdentifier column : row.keySet()) {
+
+			Parameter parameter = row.get(column);
+			if (parameter.hasValue()) {
+				insert = insert.withColumn(column, parameter);
+			}
+		}
+
+		PreparedOperation<?> operation = mapper.getMappedObject(insert);
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(childEntity.getType());
+
+		return databaseClient.sql(operation) //
+				.filter(statement -> identifierColumns.isEmpty() ? statement.returnGeneratedValues()
+						: statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)))) //
+				.map(dataAccessStrategy.getConverter().populateIdIfNecessary(child.value)) //
+				.all() //
+				.last(child.value);
+	}
+
+	// -------------------------------------------------------------------------
+	// Deleting
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Delete all relations owned by the aggregates identified by {@code ownerIds}. Nested relations are removed before
+	 * their owners.
+	 *
+	 * @param entity the persistent entity of the owning aggregates.
+	 * @param ownerIds identifiers of the owning aggregates.
+	 * @return a {@link Mono} completing once all relations are deleted.
+	 */
+	Mono<Void> deleteByOwnerIds(RelationalPersistentEntity<?> entity, Collection<?> ownerIds) {
+
+		if (ownerIds.isEmpty() || !hasRelations(entity)) {
+			return Mono.empty();
+		}
+
+		return Flux.fromIterable(getRelations(entity)) //
+				.flatMap(relation -> deleteChildren(relation, ownerIds), concurrency) //
+				.then();
+	}
+
+	private Mono<Void> deleteChildren(Relation relation, Collection<?> ownerIds) {
+
+		RelationalPersistentEntity<?> childEntity = relation.childEntity;
+		Criteria byOwner = Criteria.where(dataAccessStrategy.toSql(relation.backReference)).in(ownerIds);
+
+		Mono<Void> nested = Mono.empty();
+
+		if (hasRelations(childEntity) && childEntity.hasIdProperty()) {
+
+			SqlIdentifier idColumn = childEntity.getRequiredIdProperty().getColumnName();
+			StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(childEntity.getType());
+			StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(childEntity.getQualifiedTableName()) //
+					.withProjection(idColumn) //
+					.withCriteria(byOwner);
+
+			nested = databaseClient.sql(statementMapper.getMappedObject(selectSpec)) //
+					.map((row, metadata) -> row.get(idColumn.getReference())) //
+					.all() //
+					.buffer(batchSize) //
+					.concatMap(childIds -> deleteByOwnerIds(childEntity, childIds)) //
+					.then();
+		}
+
+		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(childEntity.getType());
+		StatementMapper.DeleteSpec deleteSpec = statementMapper.createDelete(childEntity.getQualifiedTableName())
+				.withCriteria(byOwner);
+
+		return nested.then(databaseClient.sql(statementMapper.getMappedObject(deleteSpec)).fetch().rowsUpdated().then());
+	}
+
+	// -------------------------------------------------------------------------
+	// Utility methods
+	// -------------------------------------------------------------------------
+
+	private List<Relation> getRelations(RelationalPersistentEntity<?> entity) {
+
+		return relations.computeIfAbsent(entity.getType(), type -> {
+
+			List<Relation> result = new ArrayList<>();
+			AggregatePath path = mappingContext.getAggregatePath(entity);
+
+			for (RelationalPersistentProperty property : entity) {
+
+				if (!MappingR2dbcConverter.isRelation(property)) {
+					continue;
+				}
+
+				AggregatePath.TableInfo tableInfo = path.append(property).getTableInfo();
+				AggregatePath.ColumnInfo qualifier = tableInfo.qualifierColumnInfo();
+
+				result.add(new Relation(property,
+						mappingContext.getRequiredPersistentEntity(property.getActualType()),
+						tableInfo.reverseColumnInfo().name(), qualifier != null ? qualifier.name() : null,
+						tableInfo.qualifierColumnType() != null ? tableInfo.qualifierColumnType() : Integer.class));
+			}
+
+			return result;
+		});
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static <T> Object getProperty(RelationalPersistentEntity<?> entity, T instance,
+			RelationalPersistentProperty property) {
+		return ((RelationalPersistentEntity<T>) entity).getPropertyAccessor(instance).getProperty(property);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T setProperty(RelationalPersistentEntity<?> entity, T instance, RelationalPersistentProperty property,
+			@Nullable Object value) {
+
+		PersistentPropertyAccessor<T> accessor = ((RelationalPersistentEntity<T>) entity).getPropertyAccessor(instance);
+		accessor.setProperty(property, value);
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * A relation from an owning entity to a {@link Collection} or {@link Map} of child entities.
+	 */
+	private record Relation(RelationalPersistentProperty property, RelationalPersistentEntity<?> childEntity,
+			SqlIdentifier backReference, @Nullable SqlIdentifier keyColumn, Class<?> keyType) {
+	}
+
+	/**
+	 * A single child along with the identifier of its owner and its list index or map key.
+	 */
+	private record Child(Object backReference, @Nullable Object key, Object value) {
+
+		Child withValue(Object value) {
+			return new Child(backReference, key, value);
+		}
+	}
+
+	/**
+	 * Children of a {@link Relation} grouped by the identifier of their owner.
+	 */
+	private record LoadedRelation(Relation relation, Map<Object, List<Child>> children) {
+
+		/**
+		 * Create the property value for the owner identified by {@code ownerId}.
+		 */
+		@SuppressWarnings("unchecked")
+		Object valueFor(Object ownerId) {
+
+			RelationalPersistentProperty property = relation.property;
+			List<Child> owned = new ArrayList<>(children.getOrDefault(ownerId, List.of()));
+
+			if (relation.keyColumn != null && property.isOrdered()) {
+				owned.sort(Comparator.comparing(child -> (Comparable<Object>) child.key,
+						Comparator.nullsLast(Comparator.naturalOrder())));
+			}
+
+			if (property.isMap()) {
+
+				Map<Object, Object> map = CollectionFactory.createMap(property.getType(), owned.size());
+				owned.forEach(child -> map.put(child.key, child.value));
+				return map;
+			}
+
+			Collection<Object> collection = CollectionFactory.createCollection(
+					property.getType().isInterface() || Collection.class.isAssignableFrom(property.getType())
+							? property.getType()
+							: List.class,
+					owned.size());
+			owned.forEach(child -> collection.add(child.value));
+
+			if (property.isArray()) {
+				Object[] array = (Object[]) Array.newInstance(property.getActualType(), collection.size());
+				return collection.toArray(array);
+			}
+
+			return collection;
+		}
+	}
+}
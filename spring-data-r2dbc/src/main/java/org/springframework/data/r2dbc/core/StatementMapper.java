@@ -30,6 +30,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.sql.Expression;
@@ -230,9 +231,19 @@ public interface StatementMapper {
 		private final int limit;
 		private final boolean distinct;
 		private final LockMode lockMode;
+		private final @Nullable Aggregation aggregation;
 
 		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
 				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct, LockMode lockMode) {
+			this(table, projectedFields, selectList, criteria, sort, limit, offset, distinct, lockMode, null);
+		}
+
+		/**
+		 * @since 3.2
+		 */
+		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
+				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct, LockMode lockMode,
+				@Nullable Aggregation aggregation) {
 			this.table = table;
 			this.projectedFields = projectedFields;
 			this.selectList = selectList;
@@ -242,6 +253,7 @@ public interface StatementMapper {
 			this.limit = limit;
 			this.distinct = distinct;
 			this.lockMode = lockMode;
+			this.aggregation = aggregation;
 		}
 
 		/**
@@ -266,7 +278,7 @@ public interface StatementMapper {
 			List<String> projectedFields = Collections.emptyList();
 			List<Expression> selectList = Collections.emptyList();
 			return new SelectSpec(Table.create(table), projectedFields, selectList, Criteria.empty(), Sort.unsorted(), -1, -1,
-					false, null);
+					false, null, null);
 		}
 
 		public SelectSpec doWithTable(BiFunction<Table, SelectSpec, SelectSpec> function) {
@@ -308,7 +320,7 @@ public interface StatementMapper {
 			selectList.addAll(Arrays.asList(expressions));
 
 			return new SelectSpec(this.table, projectedFields, selectList, this.criteria, this.sort, this.limit, this.offset,
-					this.distinct, this.lockMode);
+					this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -324,7 +336,7 @@ public interface StatementMapper {
 			selectList.addAll(projectedFields);
 
 			return new SelectSpec(this.table, this.projectedFields, selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -335,7 +347,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec withCriteria(CriteriaDefinition criteria) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -348,11 +360,11 @@ public interface StatementMapper {
 
 			if (sort.isSorted()) {
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, sort, this.limit,
-						this.offset, this.distinct, this.lockMode);
+						this.offset, this.distinct, this.lockMode, this.aggregation);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -368,11 +380,12 @@ public interface StatementMapper {
 				Sort sort = page.getSort();
 
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria,
-						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode);
+						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode,
+						this.aggregation);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -383,7 +396,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec offset(long offset) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					offset, this.distinct, this.lockMode);
+					offset, this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -394,7 +407,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec limit(int limit) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -404,7 +417,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec distinct() {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, true, this.lockMode);
+					this.offset, true, this.lockMode, this.aggregation);
 		}
 
 		/**
@@ -415,7 +428,24 @@ public interface StatementMapper {
 		 */
 		public SelectSpec lock(LockMode lockMode) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, lockMode);
+					this.offset, this.distinct, lockMode, this.aggregation);
+		}
+
+		/**
+		 * Associate an {@link Aggregation} with the select and create a new {@link SelectSpec}. The aggregation adds its
+		 * group-by columns and aggregate functions to the select list and renders {@code GROUP BY} and {@code HAVING}
+		 * clauses. Sort orders referring to an aggregate function alias order by that function.
+		 *
+		 * @param aggregation must not be {@literal null}.
+		 * @return the {@link SelectSpec}.
+		 * @since 3.2
+		 */
+		public SelectSpec withAggregation(Aggregation aggregation) {
+
+			Assert.notNull(aggregation, "Aggregation must not be null");
+
+			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
+					this.offset, this.distinct, this.lockMode, aggregation);
 		}
 
 		/**
@@ -466,6 +496,15 @@ public interface StatementMapper {
 			return this.distinct;
 		}
 
+		/**
+		 * @return the {@link Aggregation} to apply, or {@literal null} if the select is not aggregated.
+		 * @since 3.2
+		 */
+		@Nullable
+		public Aggregation getAggregation() {
+			return this.aggregation;
+		}
+
 	}
 
 	/**
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to configure the number of rows a query method fetches from the database per round trip. Drivers use
+ * the fetch size to stream large results through a cursor. The demand requested from the driver is limited to the
+ * fetch size as well so that a slow subscriber applies backpressure down to the cursor instead of buffering rows.
+ *
+ * @since 3.2
+ * @see io.r2dbc.spi.Statement#fetchSize(int)
+ * @see org.springframework.data.relational.core.query.Query#fetchSize(int)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface FetchSize {
+
+	/**
+	 * The number of rows to fetch per round trip. Must be greater than zero.
+	 */
+	int value();
+}
@@ -15,20 +15,30 @@
  */
 package org.springframework.data.r2dbc.repository.query;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.reactivestreams.Publisher;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessObserver;
 import org.springframework.data.r2dbc.repository.query.R2dbcQueryExecution.ResultProcessingConverter;
 import org.springframework.data.r2dbc.repository.query.R2dbcQueryExecution.ResultProcessingExecution;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.observability.DefaultDataAccessObservationConvention;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.ScrollUtils;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.ReflectionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.FetchSpec;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.RowsFetchSpec;
@@ -47,6 +57,7 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	private final R2dbcEntityOperations entityOperations;
 	private final R2dbcConverter converter;
 	private final EntityInstantiators instantiators;
+	private final @Nullable ReactiveDataAccessObserver observer;
 
 	/**
 	 * Creates a new {@link AbstractR2dbcQuery} from the given {@link R2dbcQueryMethod} and {@link R2dbcEntityOperations}.
@@ -66,6 +77,11 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		this.entityOperations = entityOperations;
 		this.converter = converter;
 		this.instantiators = new EntityInstantiators();
+		this.observer = entityOperations instanceof R2dbcEntityTemplate template
+				&& template.getObservationRegistry() != null
+						? new ReactiveDataAccessObserver(template.getObservationRegistry(),
+								new DefaultDataAccessObservationConvention(R2dbcEntityTemplate.OBSERVATION_NAME))
+						: null;
 	}
 
 	public R2dbcQueryMethod getQueryMethod() {
@@ -89,14 +105,50 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			fetchSpec = entityOperations.getDatabaseClient().sql(operation).fetch();
 		} else if (isExistsQuery()) {
 			fetchSpec = entityOperations.getDatabaseClient().sql(operation).map(row -> true);
+		} else if (method.getFetchSize() > 0) {
+			fetchSpec = entityOperations.query(operation, resolveResultType(processor), method.getFetchSize());
 		} else {
 			fetchSpec = entityOperations.query(operation, resolveResultType(processor));
 		}
 
-		R2dbcQueryExecution execution = new ResultProcessingExecution(getExecutionToWrap(processor.getReturnedType()),
+		R2dbcQueryExecution execution = new ResultProcessingExecution(
+				getExecutionToWrap(parameterAccessor, processor.getReturnedType()),
 				new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
 
-		return execution.execute(RowsFetchSpec.class.cast(fetchSpec));
+		return observe(operation, execution.execute(RowsFetchSpec.class.cast(fetchSpec)));
+	}
+
+	private Publisher<?> observe(PreparedOperation<?> operation, Publisher<?> result) {
+
+		if (observer == null || !observer.isEnabled()) {
+			return result;
+		}
+
+		if (result instanceof Mono<?> mono) {
+			return observer.observe(() -> createObservationContext(operation), mono);
+		}
+
+		return observer.observe(() -> createObservationContext(operation), Flux.from(result));
+	}
+
+	private DataAccessObservationContext createObservationContext(PreparedOperation<?> operation) {
+
+		String operationName;
+		if (isModifyingQuery()) {
+			operationName = "modifying";
+		} else if (isCountQuery()) {
+			operationName = "count";
+		} else if (isExistsQuery()) {
+			operationName = "exists";
+		} else {
+			operationName = "select";
+		}
+
+		DataAccessObservationContext context = new DataAccessObservationContext(operationName,
+				method.getEntityInformation().getJavaType());
+		context.setRepositoryMethod(method.getName());
+		context.setStatement(operation.toQuery());
+		return context;
 	}
 
 	Class<?> resolveResultType(ResultProcessor resultProcessor) {
@@ -110,7 +162,8 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		return returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType();
 	}
 
-	private R2dbcQueryExecution getExecutionToWrap(ReturnedType returnedType) {
+	private R2dbcQueryExecution getExecutionToWrap(RelationalParameterAccessor parameterAccessor,
+			ReturnedType returnedType) {
 
 		if (isModifyingQuery()) {
 
@@ -146,6 +199,18 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			return (fetchSpec) -> fetchSpec.first().defaultIfEmpty(false);
 		}
 
+		if (method.isScrollQuery()) {
+
+			ScrollPosition scrollPosition = parameterAccessor.getScrollPosition();
+			Assert.state(scrollPosition != null, "Scroll queries require a ScrollPosition parameter");
+
+			Query windowQuery = createWindowQuery(parameterAccessor);
+			RelationalPersistentEntity<?> entity = method.getEntityInformation().getTableEntity();
+
+			return (fetchSpec) -> fetchSpec.all().collectList()
+					.map(content -> ScrollUtils.createWindow(windowQuery, scrollPosition, content, entity));
+		}
+
 		if (method.isCollectionQuery()) {
 			return RowsFetchSpec::all;
 		}
@@ -177,6 +242,20 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	 */
 	protected abstract boolean isExistsQuery();
 
+	/**
+	 * Creates the {@link Query} describing the windows of a scroll query. Scrolling is not supported unless overridden,
+	 * subclasses not supporting scrolling should reject {@link org.springframework.data.domain.Window} return types
+	 * when being created.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link Query} to scroll through.
+	 * @since 3.2
+	 */
+	protected Query createWindowQuery(RelationalParameterAccessor accessor) {
+		throw new UnsupportedOperationException(
+				String.format("Scroll queries are not supported by %s", getClass().getSimpleName()));
+	}
+
 	/**
 	 * Creates a {@link BindableQuery} instance using the given {@link ParameterAccessor}
 	 *
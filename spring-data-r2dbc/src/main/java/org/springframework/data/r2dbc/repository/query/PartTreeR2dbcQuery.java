@@ -25,6 +25,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
@@ -98,7 +99,8 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 			ReturnedType returnedType = processor.withDynamicProjection(accessor).getReturnedType();
 			List<String> projectedProperties = Collections.emptyList();
 
-			if (returnedType.needsCustomConstruction()) {
+			// keys of the next window are read from the entity, so scroll queries select all columns
+			if (returnedType.needsCustomConstruction() && !getQueryMethod().isScrollQuery()) {
 				projectedProperties = new ArrayList<>(returnedType.getInputProperties());
 			}
 
@@ -109,6 +111,11 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 		});
 	}
 
+	@Override
+	protected Query createWindowQuery(RelationalParameterAccessor accessor) {
+		return R2dbcQueryCreator.createWindowQuery(tree, null, tree.getSort().and(getDynamicSort(accessor)));
+	}
+
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
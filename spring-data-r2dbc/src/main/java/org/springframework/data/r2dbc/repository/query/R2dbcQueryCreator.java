@@ -22,12 +22,16 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.core.StatementMapper;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.ScrollUtils;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
@@ -120,23 +124,45 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(entityMetadata.getTableName())
 				.withProjection(getSelectProjection());
 
-		if (tree.isExistsProjection()) {
-			selectSpec = selectSpec.limit(1);
-		} else if (tree.isLimiting()) {
-			selectSpec = selectSpec.limit(tree.getMaxResults());
-		}
+		CriteriaDefinition criteriaToUse = criteria;
+		Sort sortToUse = sort;
+
+		ScrollPosition scrollPosition = accessor.getScrollPosition();
+		if (scrollPosition != null && !tree.isExistsProjection() && !tree.isCountProjection()) {
+
+			Query scrollQuery = ScrollUtils.createQuery(createWindowQuery(tree, criteria, sort), scrollPosition,
+					entityMetadata.getTableEntity());
+
+			criteriaToUse = scrollQuery.getCriteria().orElse(null);
+			sortToUse = scrollQuery.getSort();
+
+			if (scrollQuery.isLimited()) {
+				selectSpec = selectSpec.limit(scrollQuery.getLimit());
+			}
+
+			if (scrollQuery.getOffset() > 0) {
+				selectSpec = selectSpec.offset(scrollQuery.getOffset());
+			}
+		} else {
 
-		Pageable pageable = accessor.getPageable();
-		if (pageable.isPaged()) {
-			selectSpec = selectSpec.limit(pageable.getPageSize()).offset(pageable.getOffset());
+			if (tree.isExistsProjection()) {
+				selectSpec = selectSpec.limit(1);
+			} else if (tree.isLimiting()) {
+				selectSpec = selectSpec.limit(tree.getMaxResults());
+			}
+
+			Pageable pageable = accessor.getPageable();
+			if (pageable.isPaged()) {
+				selectSpec = selectSpec.limit(pageable.getPageSize()).offset(pageable.getOffset());
+			}
 		}
 
-		if (criteria != null) {
-			selectSpec = selectSpec.withCriteria(criteria);
+		if (criteriaToUse != null) {
+			selectSpec = selectSpec.withCriteria(criteriaToUse);
 		}
 
-		if (sort.isSorted()) {
-			selectSpec = selectSpec.withSort(sort);
+		if (sortToUse.isSorted()) {
+			selectSpec = selectSpec.withSort(sortToUse);
 		}
 
 		if (tree.isDistinct()) {
@@ -150,6 +176,20 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		return statementMapper.getMappedObject(selectSpec);
 	}
 
+	/**
+	 * Create the {@link Query} describing the windows of a scroll query derived from {@link PartTree}.
+	 *
+	 * @param tree the derived query.
+	 * @param criteria the derived criteria, can be {@literal null}.
+	 * @param sort the static and dynamic sort of the query.
+	 * @return the {@link Query} to scroll through.
+	 */
+	static Query createWindowQuery(PartTree tree, @Nullable CriteriaDefinition criteria, Sort sort) {
+
+		Query query = (criteria != null ? Query.query(criteria) : Query.empty()).sort(sort);
+		return tree.isLimiting() ? query.limit(tree.getMaxResults()) : query;
+	}
+
 	private Expression[] getSelectProjection() {
 
 		List<Expression> expressions;
@@ -28,6 +28,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.r2dbc.repository.FetchSize;
 import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -68,6 +69,7 @@ public class R2dbcQueryMethod extends QueryMethod {
 	private final boolean modifying;
 	private final Lazy<Boolean> isCollectionQuery;
 	private final Optional<Lock> lock;
+	private final int fetchSize;
 
 	private @Nullable RelationalEntityMetadata<?> metadata;
 
@@ -120,6 +122,13 @@ public class R2dbcQueryMethod extends QueryMethod {
 		this.isCollectionQuery = Lazy.of(() -> (!(isPageQuery() || isSliceQuery())
 				&& ReactiveWrappers.isMultiValueType(metadata.getReturnType(method).getType())) || super.isCollectionQuery());
 		this.lock = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Lock.class));
+
+		FetchSize fetchSize = AnnotatedElementUtils.findMergedAnnotation(method, FetchSize.class);
+		if (fetchSize != null && fetchSize.value() <= 0) {
+			throw new IllegalStateException(
+					String.format("@FetchSize must be greater than zero; Offending method: %s", method.toString()));
+		}
+		this.fetchSize = fetchSize != null ? fetchSize.value() : 0;
 	}
 
 	/* (non-Javadoc)
@@ -162,6 +171,16 @@ public class R2dbcQueryMethod extends QueryMethod {
 		return this.lock;
 	}
 
+	/**
+	 * Returns the number of rows to fetch per round trip as configured through {@link FetchSize}.
+	 *
+	 * @return the fetch size, {@code 0} if not configured.
+	 * @since 3.2
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
 	@Override
 	public boolean isStreamQuery() {
 		return true;
@@ -98,6 +98,11 @@ public class StringBasedR2dbcQuery extends AbstractR2dbcQuery {
 
 		Assert.hasText(query, "Query must not be empty");
 
+		if (method.isScrollQuery()) {
+			throw new UnsupportedOperationException(
+					"Scroll queries are not supported using string-based queries; Offending method: " + method);
+		}
+
 		this.dataAccessStrategy = dataAccessStrategy;
 		this.expressionQuery = ExpressionQuery.create(query);
 		this.binder = new ExpressionEvaluatingParameterBinder(expressionQuery, dataAccessStrategy);
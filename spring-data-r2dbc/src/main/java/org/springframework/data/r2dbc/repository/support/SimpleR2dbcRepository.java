@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.repository.support;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -26,6 +28,7 @@ import java.util.function.UnaryOperator;
 import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
@@ -42,7 +45,6 @@ import org.springframework.data.relational.repository.query.RelationalExampleMap
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import org.springframework.data.util.Lazy;
-import org.springframework.data.util.Streamable;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -59,11 +61,31 @@ import org.springframework.util.Assert;
 @Transactional(readOnly = true)
 public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
+	/**
+	 * Default number of identifiers per {@code IN} query issued by {@link #findAllById(Publisher)} and
+	 * {@link #deleteById(Publisher)}.
+	 *
+	 * @since 3.2
+	 */
+	public static final int DEFAULT_ID_CHUNK_SIZE = 256;
+
+	/**
+	 * Default maximum time to wait for a chunk of identifiers to fill up before issuing its query.
+	 *
+	 * @since 3.2
+	 */
+	public static final Duration DEFAULT_ID_CHUNK_TIMEOUT = Duration.ofMillis(100);
+
 	private final RelationalEntityInformation<T, ID> entity;
 	private final R2dbcEntityOperations entityOperations;
 	private final Lazy<RelationalPersistentProperty> idProperty;
 	private final RelationalExampleMapper exampleMapper;
 
+	private int idChunkSize = DEFAULT_ID_CHUNK_SIZE;
+	private Duration idChunkTimeout = DEFAULT_ID_CHUNK_TIMEOUT;
+	private int idChunkConcurrency = 1;
+	private boolean concurrentPageCount = false;
+
 	/**
 	 * Create a new {@link SimpleR2dbcRepository}.
 	 *
@@ -105,6 +127,64 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 		this.exampleMapper = new RelationalExampleMapper(converter.getMappingContext());
 	}
 
+	/**
+	 * Configure the maximum number of identifiers per query issued by {@link #findAllById(Publisher)} and
+	 * {@link #deleteById(Publisher)}. Identifiers are collected into chunks that are sent once either the chunk is full
+	 * or the {@link #setIdChunkTimeout(Duration) chunk timeout} has elapsed. Defaults to {@value #DEFAULT_ID_CHUNK_SIZE}.
+	 *
+	 * @param idChunkSize must be greater than zero.
+	 * @since 3.2
+	 */
+	public void setIdChunkSize(int idChunkSize) {
+
+		Assert.isTrue(idChunkSize > 0, "Id chunk size must be greater than zero");
+
+		this.idChunkSize = idChunkSize;
+	}
+
+	/**
+	 * Configure the maximum time to wait for a chunk of identifiers to fill up before its query is issued. Defaults to
+	 * {@code 100} milliseconds.
+	 *
+	 * @param idChunkTimeout must not be {@literal null} and must be positive.
+	 * @since 3.2
+	 */
+	public void setIdChunkTimeout(Duration idChunkTimeout) {
+
+		Assert.notNull(idChunkTimeout, "Id chunk timeout must not be null");
+		Assert.isTrue(!idChunkTimeout.isNegative() && !idChunkTimeout.isZero(), "Id chunk timeout must be positive");
+
+		this.idChunkTimeout = idChunkTimeout;
+	}
+
+	/**
+	 * Configure the maximum number of chunk queries running concurrently. Results are emitted in the order of the
+	 * identifier chunks regardless of the concurrency. Defaults to {@code 1}.
+	 *
+	 * @param idChunkConcurrency must be greater than zero.
+	 * @since 3.2
+	 */
+	public void setIdChunkConcurrency(int idChunkConcurrency) {
+
+		Assert.isTrue(idChunkConcurrency > 0, "Id chunk concurrency must be greater than zero");
+
+		this.idChunkConcurrency = idChunkConcurrency;
+	}
+
+	/**
+	 * Configure whether {@link FluentQuery.ReactiveFluentQuery#page(Pageable) page queries} subscribe to the count query
+	 * concurrently with the content query instead of issuing it once the content has been fetched. Concurrent queries run
+	 * on separate connections, which reduces the latency of a page to about a single round trip at the expense of a
+	 * count query for pages whose total could have been derived from their content. Not suitable for transactional use
+	 * as queries of a transaction share a single connection. Defaults to {@literal false}.
+	 *
+	 * @param concurrentPageCount whether to run count and content queries concurrently.
+	 * @since 3.2
+	 */
+	public void setConcurrentPageCount(boolean concurrentPageCount) {
+		this.concurrentPageCount = concurrentPageCount;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods from ReactiveCrudRepository
 	// -------------------------------------------------------------------------
@@ -184,16 +264,8 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(idPublisher, "The Id Publisher must not be null");
 
-		return Flux.from(idPublisher).buffer().filter(ids -> !ids.isEmpty()).concatMap(ids -> {
-
-			if (ids.isEmpty()) {
-				return Flux.empty();
-			}
-
-			String idProperty = getIdProperty().getName();
-
-			return this.entityOperations.select(Query.query(Criteria.where(idProperty).in(ids)), this.entity.getJavaType());
-		});
+		return chunk(idPublisher).flatMapSequential(
+				ids -> this.entityOperations.select(getIdsQuery(ids), this.entity.getJavaType()), this.idChunkConcurrency);
 	}
 
 	@Override
@@ -216,16 +288,9 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(idPublisher, "The Id Publisher must not be null");
 
-		return Flux.from(idPublisher).buffer().filter(ids -> !ids.isEmpty()).concatMap(ids -> {
-
-			if (ids.isEmpty()) {
-				return Flux.empty();
-			}
-
-			String idProperty = getIdProperty().getName();
-
-			return this.entityOperations.delete(Query.query(Criteria.where(idProperty).in(ids)), this.entity.getJavaType());
-		}).then();
+		return chunk(idPublisher).flatMap(
+				ids -> this.entityOperations.delete(getIdsQuery(ids), this.entity.getJavaType()), this.idChunkConcurrency)
+				.then();
 	}
 
 	@Override
@@ -242,10 +307,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(ids, "The iterable of Id's must not be null");
 
-		List<? extends ID> idsList = Streamable.of(ids).toList();
-		String idProperty = getIdProperty().getName();
-		return this.entityOperations.delete(Query.query(Criteria.where(idProperty).in(idsList)), this.entity.getJavaType())
-				.then();
+		return deleteById(Flux.fromIterable(ids));
 	}
 
 	@Override
@@ -358,6 +420,49 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 		return Query.query(Criteria.where(getIdProperty().getName()).is(id));
 	}
 
+	private Query getIdsQuery(List<?> ids) {
+		return Query.query(Criteria.where(getIdProperty().getName()).in(padToChunkBucket(ids)));
+	}
+
+	/**
+	 * Split the identifier stream into chunks of at most {@link #setIdChunkSize(int) chunk size} identifiers. Chunks are
+	 * emitted once they are full or the {@link #setIdChunkTimeout(Duration) chunk timeout} elapsed, so identifiers of a
+	 * slow or infinite source are processed progressively while holding only a bounded number of them in memory. Fair
+	 * backpressure requests identifiers only as downstream chunk queries demand them, so a slow chunk query does not
+	 * cause identifiers to pile up.
+	 */
+	private <I> Flux<List<I>> chunk(Publisher<I> idPublisher) {
+		return Flux.from(idPublisher).bufferTimeout(this.idChunkSize, this.idChunkTimeout, true)
+				.filter(ids -> !ids.isEmpty());
+	}
+
+	/**
+	 * Pad the given identifiers by repeating the last identifier until the list size reaches the next power of two
+	 * (capped at the chunk size). This limits the number of distinct {@code IN (…)} statements to a logarithmic number
+	 * of shapes, allowing drivers and databases to reuse prepared statements and execution plans. Repeating identifiers
+	 * within {@code IN} changes neither the selected nor the deleted rows.
+	 */
+	private List<?> padToChunkBucket(List<?> ids) {
+
+		int size = ids.size();
+		int bucket = Math.min(Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1,
+				Math.max(size, this.idChunkSize));
+
+		if (bucket <= size) {
+			return ids;
+		}
+
+		List<Object> padded = new ArrayList<>(bucket);
+		padded.addAll(ids);
+
+		Object last = ids.get(size - 1);
+		while (padded.size() < bucket) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+
 	/**
 	 * {@link org.springframework.data.repository.query.FluentQuery.ReactiveFluentQuery} using {@link Example}.
 	 *
@@ -402,6 +507,10 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 			Mono<List<T>> items = createQuery(q -> q.with(pageable)).all().collectList();
 
+			if (concurrentPageCount && pageable.isPaged()) {
+				return Mono.zip(items, this.count(), (content, total) -> new PageImpl<>(content, pageable, total));
+			}
+
 			return items.flatMap(content -> ReactivePageableExecutionUtils.getPage(content, pageable, this.count()));
 		}
 
@@ -28,6 +28,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.auditing.ReactiveIsNewAwareAuditingHandler;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.mapping.context.PersistentEntities;
@@ -56,6 +58,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -165,8 +168,9 @@ public class R2dbcEntityTemplateUnitTests {
 
         StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
 
-        assertThat(statement.getSql()).isEqualTo("SELECT person.id FROM person WHERE person.THE_NAME = $1 LIMIT 1");
-        assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
+        assertThat(statement.getSql()).isEqualTo("SELECT person.id FROM person WHERE person.THE_NAME = $1 LIMIT $2");
+        assertThat(statement.getBindings()).hasSize(2).containsEntry(0, Parameter.from("Walter")).containsEntry(1,
+                Parameter.from(1));
     }
 
     @Test
@@ -186,6 +190,74 @@ public class R2dbcEntityTemplateUnitTests {
         assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
     }
 
+    @Test
+    void scrollShouldContinueAfterKeysetPosition() {
+
+        MockRowMetadata metadata = MockRowMetadata.builder()
+                .columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build())
+                .columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
+        MockResult result = MockResult.builder()
+                .row(MockRow.builder().identified("id", Object.class, "2").identified("THE_NAME", Object.class, "Skyler")
+                        .metadata(metadata).build())
+                .row(MockRow.builder().identified("id", Object.class, "3").identified("THE_NAME", Object.class, "Walter")
+                        .metadata(metadata).build())
+                .build();
+
+        recorder.addStubbing(s -> s.startsWith("SELECT"), result);
+
+        entityTemplate.scroll(Query.empty().sort(Sort.by("name")).limit(1), Person.class,
+                        ScrollPosition.forward(Map.of("name", "Jesse", "id", "1"))) //
+                .as(StepVerifier::create) //
+                .consumeNextWith(window -> {
+
+                    assertThat(window).extracting(Person::name).containsExactly("Skyler");
+                    assertThat(window.hasNext()).isTrue();
+                    assertThat(((KeysetScrollPosition) window.positionAt(0)).getKeys()).containsEntry("name", "Skyler")
+                            .containsEntry("id", "2");
+                }).verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+        assertThat(statement.getSql()).contains("person.THE_NAME > $", "person.id > $")
+                .containsPattern("ORDER BY person.THE_NAME ASC, person.id ASC LIMIT \\$\\d+$");
+        assertThat(statement.getBindings()).containsValue(Parameter.from("Jesse")).containsValue(Parameter.from("1"))
+                .containsValue(Parameter.from(2));
+    }
+
+    @Test
+    void scrollShouldSkipToOffsetPosition() {
+
+        recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+        entityTemplate.scroll(Query.empty().sort(Sort.by("name")).limit(10), Person.class, ScrollPosition.offset(19)) //
+                .as(StepVerifier::create) //
+                .consumeNextWith(window -> {
+
+                    assertThat(window).isEmpty();
+                    assertThat(window.hasNext()).isFalse();
+                }).verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+        assertThat(statement.getSql())
+                .isEqualTo("SELECT person.* FROM person ORDER BY person.THE_NAME ASC LIMIT $1 OFFSET $2");
+        assertThat(statement.getBindings()).containsEntry(0, Parameter.from(11)).containsEntry(1, Parameter.from(20L));
+    }
+
+    @Test
+    void selectShouldApplyFetchSize() {
+
+        recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+        entityTemplate.select(Query.query(Criteria.where("name").is("Walter")).fetchSize(100), Person.class) //
+                .as(StepVerifier::create) //
+                .verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+        assertThat(statement.getFetchSize()).isEqualTo(100);
+    }
+
     @Test
         // gh-215
     void selectShouldInvokeCallback() {
@@ -226,8 +298,9 @@ public class R2dbcEntityTemplateUnitTests {
         StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
 
         assertThat(statement.getSql())
-                .isEqualTo("SELECT person.* FROM person WHERE person.THE_NAME = $1 ORDER BY person.THE_NAME ASC LIMIT 2");
-        assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
+                .isEqualTo("SELECT person.* FROM person WHERE person.THE_NAME = $1 ORDER BY person.THE_NAME ASC LIMIT $2");
+        assertThat(statement.getBindings()).hasSize(2).containsEntry(0, Parameter.from("Walter")).containsEntry(1,
+                Parameter.from(2));
     }
 
     @Test
@@ -244,8 +317,9 @@ public class R2dbcEntityTemplateUnitTests {
         StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
 
         assertThat(statement.getSql())
-                .isEqualTo("SELECT person.* FROM person WHERE person.THE_NAME = $1 ORDER BY person.THE_NAME ASC LIMIT 1");
-        assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
+                .isEqualTo("SELECT person.* FROM person WHERE person.THE_NAME = $1 ORDER BY person.THE_NAME ASC LIMIT $2");
+        assertThat(statement.getBindings()).hasSize(2).containsEntry(0, Parameter.from("Walter")).containsEntry(1,
+                Parameter.from(1));
     }
 
     @Test
@@ -561,6 +635,140 @@ public class R2dbcEntityTemplateUnitTests {
                 .containsEntry(1, Parameter.from(23L));
     }
 
+    @Test
+    void selectShouldLoadRelationsWithSingleQueryPerPage() {
+
+        MockRowMetadata rootMetadata = MockRowMetadata.builder()
+                .columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.BIGINT).build())
+                .columnMetadata(MockColumnMetadata.builder().name("title").type(R2dbcType.VARCHAR).build()).build();
+        MockResult roots = MockResult.builder()
+                .row(MockRow.builder().identified("id", Object.class, 1L).identified("title", Object.class, "first")
+                        .metadata(rootMetadata).build())
+                .row(MockRow.builder().identified("id", Object.class, 2L).identified("title", Object.class, "second")
+                        .metadata(rootMetadata).build())
+                .build();
+
+        MockRowMetadata childMetadata = MockRowMetadata.builder()
+                .columnMetadata(MockColumnMetadata.builder().name("manual").type(R2dbcType.BIGINT).build())
+                .columnMetadata(MockColumnMetadata.builder().name("manual_key").type(R2dbcType.INTEGER).build())
+                .columnMetadata(MockColumnMetadata.builder().name("title").type(R2dbcType.VARCHAR).build()).build();
+        MockResult children = MockResult.builder()
+                .row(chapter(childMetadata, 1L, 1, "B"))
+                .row(chapter(childMetadata, 1L, 0, "A"))
+                .row(chapter(childMetadata, 2L, 0, "C"))
+                .build();
+
+        recorder.addStubbing(s -> s.startsWith("SELECT manual"), roots);
+        recorder.addStubbing(s -> s.startsWith("SELECT chapter"), children);
+
+        entityTemplate.select(Query.empty(), Manual.class) //
+                .as(StepVerifier::create) //
+                .consumeNextWith(actual -> assertThat(actual.chapters).extracting(Chapter::title).containsExactly("A", "B")) //
+                .consumeNextWith(actual -> assertThat(actual.chapters).extracting(Chapter::title).containsExactly("C")) //
+                .verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT chapter"));
+
+        assertThat(statement.getSql()).isEqualTo("SELECT chapter.* FROM chapter WHERE chapter.manual IN ($1, $2)");
+        assertThat(statement.getBindings()).hasSize(2).containsEntry(0, Parameter.from(1L)).containsEntry(1,
+                Parameter.from(2L));
+    }
+
+    @Test
+    void insertShouldInsertRelationsWithBackReference() {
+
+        MockRowMetadata metadata = MockRowMetadata.builder()
+                .columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.BIGINT).build()).build();
+        MockResult result = MockResult.builder()
+                .row(MockRow.builder().identified("id", Object.class, 42L).metadata(metadata).build()).rowsUpdated(1)
+                .build();
+
+        recorder.addStubbing(s -> s.startsWith("INSERT INTO manual"), result);
+        recorder.addStubbing(s -> s.startsWith("INSERT INTO chapter"), MockResult.builder().rowsUpdated(1).build());
+
+        entityTemplate.insert(new Manual(null, "manual", List.of(new Chapter("A"), new Chapter("B")))) //
+                .as(StepVerifier::create) //
+                .consumeNextWith(actual -> {
+
+                    assertThat(actual.id).isEqualTo(42L);
+                    assertThat(actual.chapters).extracting(Chapter::title).containsExactly("A", "B");
+                }).verifyComplete();
+
+        List<StatementRecorder.RecordedStatement> inserts = recorder.getCreatedStatements().stream()
+                .filter(it -> it.getSql().startsWith("INSERT INTO chapter")).toList();
+
+        assertThat(inserts).hasSize(2);
+        assertThat(inserts.get(0).getSql()).isEqualTo("INSERT INTO chapter (title, manual, manual_key) VALUES ($1, $2, $3)");
+        assertThat(inserts.get(0).getBindings()).containsEntry(1, Parameter.from(42L)).containsEntry(2,
+                Parameter.from(0));
+        assertThat(inserts.get(1).getBindings()).containsEntry(1, Parameter.from(42L)).containsEntry(2,
+                Parameter.from(1));
+    }
+
+    @Test
+    void deleteShouldDeleteRelationsFirst() {
+
+        MockRowMetadata metadata = MockRowMetadata.builder()
+                .columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.BIGINT).build()).build();
+        MockResult ids = MockResult.builder()
+                .row(MockRow.builder().identified(0, Object.class, 42L).metadata(metadata).build()).build();
+
+        recorder.addStubbing(s -> s.startsWith("SELECT manual.id"), ids);
+        recorder.addStubbing(s -> s.startsWith("DELETE"), MockResult.builder().rowsUpdated(1).build());
+
+        entityTemplate.delete(Query.query(Criteria.where("title").is("manual")), Manual.class) //
+                .as(StepVerifier::create) //
+                .expectNext(1L) //
+                .verifyComplete();
+
+        assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+                .containsExactly("SELECT manual.id FROM manual WHERE manual.title = $1",
+                        "DELETE FROM chapter WHERE chapter.manual IN ($1)", "DELETE FROM manual WHERE manual.title = $1");
+    }
+
+    @Test
+    void deleteShouldDeleteRelationsInConfiguredBatches() {
+
+        MockRowMetadata metadata = MockRowMetadata.builder()
+                .columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.BIGINT).build()).build();
+        MockResult ids = MockResult.builder()
+                .row(MockRow.builder().identified(0, Object.class, 42L).metadata(metadata).build())
+                .row(MockRow.builder().identified(0, Object.class, 43L).metadata(metadata).build()).build();
+
+        recorder.addStubbing(s -> s.startsWith("SELECT manual.id"), ids);
+        recorder.addStubbing(s -> s.startsWith("DELETE"), MockResult.builder().rowsUpdated(1).build());
+
+        entityTemplate.setRelationBatchSize(1);
+        entityTemplate.delete(Query.query(Criteria.where("title").is("manual")), Manual.class) //
+                .as(StepVerifier::create) //
+                .expectNext(1L) //
+                .verifyComplete();
+
+        assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+                .filteredOn(it -> it.startsWith("DELETE FROM chapter"))
+                .containsExactly("DELETE FROM chapter WHERE chapter.manual IN ($1)",
+                        "DELETE FROM chapter WHERE chapter.manual IN ($1)");
+    }
+
+    private static MockRow chapter(MockRowMetadata metadata, long manual, int key, String title) {
+        return MockRow.builder().identified("manual", Object.class, manual).identified("manual_key", Integer.class, key)
+                .identified("title", Object.class, title).metadata(metadata).build();
+    }
+
+    record Manual(@Id Long id, String title, List<Chapter> chapters) {
+
+        public Manual withId(Long id) {
+            return this.id == id ? this : new Manual(id, this.title, this.chapters);
+        }
+
+        public Manual withChapters(List<Chapter> chapters) {
+            return this.chapters == chapters ? this : new Manual(this.id, this.title, chapters);
+        }
+    }
+
+    record Chapter(String title) {
+    }
+
     record WithoutId(String name){
     }
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.observability.DataAccessObservationContext;
+import org.springframework.data.relational.core.observability.DefaultDataAccessObservationConvention;
+
+/**
+ * Unit tests for {@link ReactiveDataAccessObserver}.
+ */
+class ReactiveDataAccessObserverUnitTests {
+
+	List<DataAccessObservationContext> observed = new ArrayList<>();
+	ObservationRegistry registry = createRegistry();
+	ReactiveDataAccessObserver observer = new ReactiveDataAccessObserver(registry,
+			new DefaultDataAccessObservationConvention(R2dbcEntityTemplate.OBSERVATION_NAME));
+
+	@Test
+	void monoUsesObservationFromSubscriberContextAsParent() {
+
+		Observation parent = Observation.start("parent", registry);
+
+		observer.observe(() -> new DataAccessObservationContext("select", Person.class), Mono.just("Walter")) //
+				.contextWrite(it -> it.put(ObservationThreadLocalAccessor.KEY, parent)) //
+				.as(StepVerifier::create) //
+				.expectNext("Walter") //
+				.verifyComplete();
+
+		assertThat(observed).singleElement()
+				.satisfies(context -> assertThat(context.getParentObservation()).isSameAs(parent));
+	}
+
+	@Test
+	void fluxUsesObservationFromSubscriberContextAsParent() {
+
+		Observation parent = Observation.start("parent", registry);
+
+		Flux<String> action = Flux.just("Walter", "Jesse");
+
+		observer.observe(() -> new DataAccessObservationContext("select", Person.class), action) //
+				.contextWrite(it -> it.put(ObservationThreadLocalAccessor.KEY, parent)) //
+				.as(StepVerifier::create) //
+				.expectNext("Walter", "Jesse") //
+				.verifyComplete();
+
+		assertThat(observed).singleElement().satisfies(context -> {
+			assertThat(context.getParentObservation()).isSameAs(parent);
+			assertThat(context.getRows()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void propagatesObservationToUpstreamOperators() {
+
+		Mono<Observation> upstream = Mono
+				.deferContextual(it -> Mono.just(it.<Observation> get(ObservationThreadLocalAccessor.KEY)));
+
+		observer.observe(() -> new DataAccessObservationContext("select", Person.class), upstream) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(it -> assertThat(it.getContext()).isInstanceOf(DataAccessObservationContext.class))
+				.verifyComplete();
+
+		assertThat(observed).singleElement().satisfies(context -> assertThat(context.getParentObservation()).isNull());
+	}
+
+	private ObservationRegistry createRegistry() {
+
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+
+			@Override
+			public void onStop(Observation.Context context) {
+				observed.add((DataAccessObservationContext) context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof DataAccessObservationContext;
+			}
+		});
+
+		return registry;
+	}
+
+	static class Person {}
+}
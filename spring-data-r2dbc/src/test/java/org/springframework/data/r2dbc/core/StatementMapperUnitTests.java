@@ -24,7 +24,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.StatementMapper.UpdateSpec;
 import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.relational.core.query.Aggregation;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.r2dbc.core.PreparedOperation;
@@ -80,7 +82,50 @@ class StatementMapperUnitTests {
 		PreparedOperation<?> preparedOperation = mapper.getMappedObject(selectSpec);
 
 		assertThat(preparedOperation.toQuery())
-				.isEqualTo("SELECT table.* FROM table ORDER BY table.id DESC LIMIT 2 OFFSET 2");
+				.isEqualTo("SELECT table.* FROM table ORDER BY table.id DESC LIMIT $1 OFFSET $2");
+
+		preparedOperation.bindTo(bindTarget);
+		verify(bindTarget).bind(0, 2);
+		verify(bindTarget).bind(1, 2L);
+	}
+
+	@Test
+	void shouldMapSelectWithPageToSameQueryForAllPages() {
+
+		StatementMapper.SelectSpec selectSpec = StatementMapper.SelectSpec.create("table").withProjection("*");
+
+		PreparedOperation<?> firstPage = mapper.getMappedObject(selectSpec.withPage(PageRequest.of(0, 10)));
+		PreparedOperation<?> secondPage = mapper.getMappedObject(selectSpec.withPage(PageRequest.of(1, 10)));
+		PreparedOperation<?> thirdPage = mapper.getMappedObject(selectSpec.withPage(PageRequest.of(2, 10)));
+
+		assertThat(firstPage.toQuery()).isEqualTo("SELECT table.* FROM table LIMIT $1 OFFSET $2")
+				.isEqualTo(secondPage.toQuery()).isEqualTo(thirdPage.toQuery());
+
+		firstPage.bindTo(bindTarget);
+		verify(bindTarget).bind(0, 10);
+		verify(bindTarget).bind(1, 0L);
+
+		thirdPage.bindTo(bindTarget);
+		verify(bindTarget, times(2)).bind(0, 10);
+		verify(bindTarget).bind(1, 20L);
+	}
+
+	@Test
+	void shouldMapSelectWithAggregation() {
+
+		StatementMapper.SelectSpec selectSpec = StatementMapper.SelectSpec.create("employee")
+				.withAggregation(Aggregation.groupBy("department").count("employees").having("employees",
+						CriteriaDefinition.Comparator.GT, 10))
+				.withCriteria(Criteria.where("region").is("EMEA")).withSort(Sort.by(Sort.Direction.DESC, "employees"));
+
+		PreparedOperation<?> preparedOperation = mapper.getMappedObject(selectSpec);
+
+		assertThat(preparedOperation.toQuery()).isEqualTo(
+				"SELECT employee.department, COUNT(*) AS employees FROM employee WHERE employee.region = $1 GROUP BY employee.department HAVING COUNT(*) > $2 ORDER BY COUNT(*) DESC");
+
+		preparedOperation.bindTo(bindTarget);
+		verify(bindTarget).bind(0, "EMEA");
+		verify(bindTarget).bind(1, 10);
 	}
 
 	@Test // gh-1041
@@ -147,7 +147,7 @@ class PartTreeR2dbcQueryUnitTests {
 		PreparedOperationAssert.assertThat(query) //
 				.selects(TABLE + ".id") //
 				.from(TABLE) //
-				.where(TABLE + ".first_name = $1 LIMIT 1");
+				.where(TABLE + ".first_name = $1 LIMIT $2");
 	}
 
 	@Test // GH-282
@@ -636,7 +636,7 @@ class PartTreeR2dbcQueryUnitTests {
 		PreparedOperationAssert.assertThat(preparedOperation) //
 				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
 				.from(TABLE) //
-				.where(TABLE + ".first_name = $1 LIMIT 3");
+				.where(TABLE + ".first_name = $1 LIMIT $2");
 	}
 
 	@Test // GH-282
@@ -650,7 +650,7 @@ class PartTreeR2dbcQueryUnitTests {
 		PreparedOperationAssert.assertThat(preparedOperation) //
 				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
 				.from(TABLE) //
-				.where(TABLE + ".first_name = $1 LIMIT 1");
+				.where(TABLE + ".first_name = $1 LIMIT $2");
 	}
 
 	@Test // GH-341
@@ -788,7 +788,7 @@ class PartTreeR2dbcQueryUnitTests {
 		PreparedOperationAssert.assertThat(query) //
 				.selects("1") //
 				.from(TABLE) //
-				.where(TABLE + ".first_name = $1 LIMIT 1");
+				.where(TABLE + ".first_name = $1 LIMIT $2");
 	}
 
 	private PreparedOperation<?> createQuery(R2dbcQueryMethod queryMethod, PartTreeR2dbcQuery r2dbcQuery,
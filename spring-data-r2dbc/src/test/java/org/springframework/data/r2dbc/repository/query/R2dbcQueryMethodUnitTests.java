@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import kotlin.Unit;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.core.sql.LockMode;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.annotation.Retention;
@@ -37,6 +38,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.FetchSize;
 import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -170,6 +172,13 @@ class R2dbcQueryMethodUnitTests {
 		assertThat(queryMethodWithWriteLock.getLock()).isEmpty();
 	}
 
+	@Test
+	void returnsConfiguredFetchSize() throws Exception {
+
+		assertThat(queryMethod(PersonRepository.class, "findAllByLastname", String.class).getFetchSize()).isEqualTo(500);
+		assertThat(queryMethod(PersonRepository.class, "queryMethodWithReadLock").getFetchSize()).isZero();
+	}
+
 	private R2dbcQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters) throws Exception {
 
 		Method method = repository.getMethod(name, parameters);
@@ -185,6 +194,9 @@ class R2dbcQueryMethodUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		Mono<Contact> queryMethodWithReadLock();
 
+		@FetchSize(500)
+		Flux<Contact> findAllByLastname(String lastname);
+
 		Mono<Contact> findMonoByLastname(String lastname, Pageable pageRequest);
 
 		Mono<Page<Contact>> findMonoPageByLastname(String lastname, Pageable pageRequest);
@@ -24,6 +24,7 @@ import io.r2dbc.spi.test.MockResult;
 import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
@@ -37,7 +38,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
@@ -309,6 +312,14 @@ public class StringBasedR2dbcQueryUnitTests {
 		flux.as(StepVerifier::create).expectNext(value).verifyComplete();
 	}
 
+	@Test
+	void rejectsScrollQueries() {
+
+		assertThatThrownBy(() -> getQueryMethod("findWindowByLastname", String.class, ScrollPosition.class))
+				.isInstanceOf(UnsupportedOperationException.class)
+				.hasMessageContaining("Scroll queries are not supported using string-based queries");
+	}
+
 	private StringBasedR2dbcQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -325,6 +336,9 @@ public class StringBasedR2dbcQueryUnitTests {
 		@Query("SELECT * FROM person WHERE lastname = $1")
 		Person findByLastname(@Param("lastname") String lastname);
 
+		@Query("SELECT * FROM person WHERE lastname = $1")
+		Mono<Window<Person>> findWindowByLastname(String lastname, ScrollPosition position);
+
 		@Query("SELECT * FROM person WHERE lastname = $1")
 		Person findByLastnamePositional(String lastname);
 
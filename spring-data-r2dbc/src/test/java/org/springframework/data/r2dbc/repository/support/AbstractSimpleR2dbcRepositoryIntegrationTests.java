@@ -384,6 +384,47 @@ public abstract class AbstractSimpleR2dbcRepositoryIntegrationTests extends R2db
 				}).verifyComplete();
 	}
 
+	@Test
+	void shouldFindAllByIdInChunks() {
+
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('RALLYEAUTO', 14)");
+
+		List<Integer> ids = jdbc.queryForList("SELECT id FROM legoset", Integer.class);
+
+		repository.setIdChunkSize(2);
+		repository.setIdChunkConcurrency(2);
+
+		repository.findAllById(Flux.fromIterable(ids)) //
+				.map(LegoSet::getName) //
+				.collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual).hasSize(3).contains("SCHAUFELRADBAGGER", "FORSCHUNGSSCHIFF", "RALLYEAUTO");
+				}).verifyComplete();
+	}
+
+	@Test
+	void shouldDeleteByIdPublisherInChunks() {
+
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('SCHAUFELRADBAGGER', 12)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('FORSCHUNGSSCHIFF', 13)");
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('RALLYEAUTO', 14)");
+
+		List<Integer> ids = jdbc.queryForList("SELECT id FROM legoset", Integer.class);
+
+		repository.setIdChunkSize(2);
+
+		repository.deleteById(Flux.fromIterable(ids)) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		Integer count = jdbc.queryForObject("SELECT COUNT(*) FROM legoset", Integer.class);
+		assertThat(count).isEqualTo(0);
+	}
+
 	@Test
 	void shouldCount() {
 
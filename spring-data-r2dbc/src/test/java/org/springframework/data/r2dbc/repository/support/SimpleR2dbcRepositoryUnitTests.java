@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
+
+/**
+ * Unit tests for {@link SimpleR2dbcRepository}.
+ */
+class SimpleR2dbcRepositoryUnitTests {
+
+	R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+	R2dbcConverter converter = new MappingR2dbcConverter(mappingContext);
+	R2dbcEntityOperations operations = mock(R2dbcEntityOperations.class);
+
+	@SuppressWarnings("unchecked")
+	SimpleR2dbcRepository<Person, Long> repository = new SimpleR2dbcRepository<>(
+			new MappingRelationalEntityInformation<>(
+					(RelationalPersistentEntity<Person>) mappingContext.getRequiredPersistentEntity(Person.class)),
+			operations, converter);
+
+	@Test
+	void findAllByIdIssuesOneQueryPerChunkWithSlowChunkQueries() {
+
+		when(operations.select(any(Query.class), eq(Person.class)))
+				.thenAnswer(invocation -> Flux.just(new Person()).delayElements(Duration.ofMillis(50)));
+
+		repository.setIdChunkSize(2);
+
+		repository.findAllById(Flux.range(1, 5).map(Long::valueOf)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(operations, times(3)).select(captor.capture(), eq(Person.class));
+		assertThat(captor.getAllValues()).allSatisfy(query -> assertThat(query.getCriteria()).isPresent());
+	}
+
+	@Test
+	void deleteByIdIssuesOneStatementPerChunkWithSlowChunkQueries() {
+
+		when(operations.delete(any(Query.class), eq(Person.class)))
+				.thenAnswer(invocation -> Mono.just(2L).delayElement(Duration.ofMillis(50)));
+
+		repository.setIdChunkSize(2);
+
+		repository.deleteById(Flux.fromIterable(List.of(1L, 2L, 3L, 4L, 5L, 6L))) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		verify(operations, times(3)).delete(any(Query.class), eq(Person.class));
+	}
+
+	static class Person {
+		@Id Long id;
+	}
+}
@@ -275,6 +275,8 @@ public class StatementRecorder implements ConnectionFactory {
 
 		private final Map<Object, Parameter> bindings = new LinkedHashMap<>();
 
+		private int fetchSize;
+
 		public RecordedStatement(String sql, Result result) {
 			this(sql, Collections.singletonList(result));
 		}
@@ -292,6 +294,16 @@ public class StatementRecorder implements ConnectionFactory {
 			return sql;
 		}
 
+		public int getFetchSize() {
+			return fetchSize;
+		}
+
+		@Override
+		public Statement fetchSize(int rows) {
+			this.fetchSize = rows;
+			return this;
+		}
+
 		@Override
 		public Statement add() {
 			return this;
@@ -15,19 +15,34 @@
  */
 package org.springframework.data.relational.aot;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.aot.ManagedTypesBeanRegistrationAotProcessor;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.relational.RelationalManagedTypes;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 /**
- * Relational-specific extension to {@link ManagedTypesBeanRegistrationAotProcessor}.
+ * Relational-specific extension to {@link ManagedTypesBeanRegistrationAotProcessor}. Next to the managed types, it
+ * contributes the types of all entities and embedded values reachable from a managed aggregate root, so that these can
+ * be instantiated and populated when reading aggregates in a native image.
  *
  * @author Mark Paluch
  * @since 3.0
  */
 class RelationalManagedTypesBeanRegistrationAotProcessor extends ManagedTypesBeanRegistrationAotProcessor {
 
+	private final RelationalMappingContext mappingContext = new RelationalMappingContext();
+	private final Set<Class<?>> contributedMembers = new HashSet<>();
+
 	@Override
 	protected boolean isMatch(@Nullable Class<?> beanType, @Nullable String beanName) {
 		return this.matchesByType(beanType);
@@ -37,4 +52,47 @@ class RelationalManagedTypesBeanRegistrationAotProcessor extends ManagedTypesBea
 	protected boolean matchesByType(@Nullable Class<?> beanType) {
 		return beanType != null && ClassUtils.isAssignable(RelationalManagedTypes.class, beanType);
 	}
+
+	@Override
+	protected void contributeType(ResolvableType type, GenerationContext generationContext) {
+
+		super.contributeType(type, generationContext);
+
+		contributeAggregateMembers(type.toClass(), generationContext);
+	}
+
+	private void contributeAggregateMembers(Class<?> type, GenerationContext generationContext) {
+
+		RelationalPersistentEntity<?> entity;
+
+		try {
+			entity = mappingContext.getPersistentEntity(type);
+		} catch (MappingException ex) {
+
+			// types that cannot be mapped without the runtime configuration are registered as they are
+			return;
+		}
+
+		if (entity == null) {
+			return;
+		}
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (!property.isEntity()) {
+				continue;
+			}
+
+			for (TypeInformation<?> member : property.getPersistentEntityTypeInformation()) {
+
+				Class<?> memberType = member.getType();
+
+				if (!memberType.getName().startsWith("java") && contributedMembers.add(memberType)) {
+
+					super.contributeType(ResolvableType.forClass(memberType), generationContext);
+					contributeAggregateMembers(memberType, generationContext);
+				}
+			}
+		}
+	}
 }
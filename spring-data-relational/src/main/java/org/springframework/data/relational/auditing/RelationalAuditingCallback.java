@@ -15,23 +15,47 @@
  */
 package org.springframework.data.relational.auditing;
 
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.Ordered;
+import org.springframework.data.auditing.AuditableBeanWrapper;
+import org.springframework.data.auditing.CurrentDateTimeProvider;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.relational.core.mapping.event.BeforeConvertAllCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * {@link BeforeConvertCallback} to capture auditing information on persisting and updating entities.
  * <p>
  * An instance of this class gets registered when you enable auditing for Spring Data Relational.
+ * <p>
+ * As {@link BeforeConvertAllCallback} it audits all aggregates of a batch, e.g. of {@code saveAll}, in one pass. When
+ * created with a {@link MappingContext}, the current auditor and the current date are resolved once per batch instead
+ * of once per aggregate. Aggregates audited as part of a batch are not audited again when the
+ * {@link BeforeConvertCallback} gets invoked for them while the batch gets converted. The batch is tracked per thread
+ * and released once {@link #onBeforeConvertAllCompleted()} signals that converting the batch completed.
  *
  * @author Jens Schauder
  * @author Mark Paluch
  * @since 1.1
  */
-public class RelationalAuditingCallback implements BeforeConvertCallback<Object>, Ordered {
+public class RelationalAuditingCallback
+		implements BeforeConvertCallback<Object>, BeforeConvertAllCallback<Object>, Ordered {
 
 	/**
 	 * The order used for this {@link org.springframework.context.event.EventListener}. Ordering ensures that this
@@ -43,12 +67,83 @@ public class RelationalAuditingCallback implements BeforeConvertCallback<Object>
 	public static final int AUDITING_ORDER = 100;
 
 	private final ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory;
+	private final ThreadLocal<Set<Object>> auditedInBatch = new ThreadLocal<>();
+
+	private final @Nullable PersistentEntities entities;
+	private final @Nullable MappingAuditableBeanWrapperFactory wrapperFactory;
+	private @Nullable AuditorAware<?> auditorAware;
+	private DateTimeProvider dateTimeProvider = CurrentDateTimeProvider.INSTANCE;
+	private boolean dateTimeForNow = true;
+	private boolean modifyOnCreation = true;
 
 	public RelationalAuditingCallback(ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory) {
 
 		Assert.notNull(auditingHandlerFactory, "IsNewAwareAuditingHandler must not be null;");
 
 		this.auditingHandlerFactory = auditingHandlerFactory;
+		this.entities = null;
+		this.wrapperFactory = null;
+	}
+
+	/**
+	 * Creates a new {@link RelationalAuditingCallback} that audits batches without going through the
+	 * {@link IsNewAwareAuditingHandler}. The auditing configuration must match the one of the handler and is applied
+	 * through {@link #setAuditorAware(AuditorAware)}, {@link #setDateTimeProvider(DateTimeProvider)},
+	 * {@link #setDateTimeForNow(boolean)} and {@link #setModifyOnCreation(boolean)}.
+	 *
+	 * @param auditingHandlerFactory must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @since 3.2
+	 */
+	public RelationalAuditingCallback(ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory,
+			MappingContext<?, ?> mappingContext) {
+
+		Assert.notNull(auditingHandlerFactory, "IsNewAwareAuditingHandler must not be null;");
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.auditingHandlerFactory = auditingHandlerFactory;
+		this.entities = PersistentEntities.of(mappingContext);
+		this.wrapperFactory = new MappingAuditableBeanWrapperFactory(entities);
+	}
+
+	/**
+	 * Set the {@link AuditorAware} to obtain the current auditor for batches.
+	 *
+	 * @param auditorAware may be {@literal null}.
+	 * @since 3.2
+	 */
+	public void setAuditorAware(@Nullable AuditorAware<?> auditorAware) {
+		this.auditorAware = auditorAware;
+	}
+
+	/**
+	 * Set the {@link DateTimeProvider} to obtain the current date for batches.
+	 *
+	 * @param dateTimeProvider may be {@literal null} to use the {@link CurrentDateTimeProvider}.
+	 * @since 3.2
+	 */
+	public void setDateTimeProvider(@Nullable DateTimeProvider dateTimeProvider) {
+		this.dateTimeProvider = dateTimeProvider == null ? CurrentDateTimeProvider.INSTANCE : dateTimeProvider;
+	}
+
+	/**
+	 * Set whether to set created and last modified dates.
+	 *
+	 * @param dateTimeForNow
+	 * @since 3.2
+	 */
+	public void setDateTimeForNow(boolean dateTimeForNow) {
+		this.dateTimeForNow = dateTimeForNow;
+	}
+
+	/**
+	 * Set whether to set the last modified properties when creating an entity.
+	 *
+	 * @param modifyOnCreation
+	 * @since 3.2
+	 */
+	public void setModifyOnCreation(boolean modifyOnCreation) {
+		this.modifyOnCreation = modifyOnCreation;
 	}
 
 	@Override
@@ -58,6 +153,79 @@ public class RelationalAuditingCallback implements BeforeConvertCallback<Object>
 
 	@Override
 	public Object onBeforeConvert(Object entity) {
+
+		Set<Object> audited = auditedInBatch.get();
+
+		if (audited != null && audited.remove(entity)) {
+			return entity;
+		}
+
 		return auditingHandlerFactory.getObject().markAudited(entity);
 	}
+
+	@Override
+	public List<Object> onBeforeConvertAll(List<Object> aggregates) {
+
+		List<Object> result = wrapperFactory != null ? markAudited(aggregates) : markAuditedByHandler(aggregates);
+
+		Set<Object> audited = Collections.newSetFromMap(new IdentityHashMap<>(result.size()));
+		audited.addAll(result);
+		auditedInBatch.set(audited);
+
+		return result;
+	}
+
+	@Override
+	public void onBeforeConvertAllCompleted() {
+		auditedInBatch.remove();
+	}
+
+	private List<Object> markAuditedByHandler(List<Object> aggregates) {
+
+		IsNewAwareAuditingHandler handler = auditingHandlerFactory.getObject();
+		List<Object> result = new ArrayList<>(aggregates.size());
+
+		for (Object aggregate : aggregates) {
+			result.add(handler.markAudited(aggregate));
+		}
+
+		return result;
+	}
+
+	private List<Object> markAudited(List<Object> aggregates) {
+
+		Optional<?> auditor = auditorAware != null ? auditorAware.getCurrentAuditor() : Optional.empty();
+		Optional<TemporalAccessor> now = dateTimeForNow ? dateTimeProvider.getNow() : Optional.empty();
+		List<Object> result = new ArrayList<>(aggregates.size());
+
+		for (Object aggregate : aggregates) {
+			result.add(markAudited(aggregate, auditor, now));
+		}
+
+		return result;
+	}
+
+	private Object markAudited(Object aggregate, Optional<?> auditor, Optional<TemporalAccessor> now) {
+
+		Optional<AuditableBeanWrapper<Object>> wrapper = wrapperFactory.getBeanWrapperFor(aggregate);
+
+		if (wrapper.isEmpty()) {
+			return aggregate;
+		}
+
+		AuditableBeanWrapper<Object> it = wrapper.get();
+		boolean isNew = entities.getRequiredPersistentEntity(aggregate.getClass()).isNew(aggregate);
+
+		if (isNew) {
+			auditor.ifPresent(it::setCreatedBy);
+			now.ifPresent(it::setCreatedDate);
+		}
+
+		if (!isNew || modifyOnCreation) {
+			auditor.ifPresent(it::setLastModifiedBy);
+			now.ifPresent(it::setLastModifiedDate);
+		}
+
+		return it.getBean();
+	}
 }
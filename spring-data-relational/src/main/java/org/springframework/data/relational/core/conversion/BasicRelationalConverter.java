@@ -19,7 +19,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.springframework.core.ResolvableType;
@@ -67,6 +69,10 @@ public class BasicRelationalConverter implements RelationalConverter {
 	private final EntityInstantiators entityInstantiators;
 	private final CustomConversions conversions;
 
+	private final Map<TypeInformation<?>, Map<Class<?>, ConversionPlan>> readPlans = new ConcurrentHashMap<>();
+	private final Map<TypeInformation<?>, Map<Class<?>, ConversionPlan>> simpleWritePlans = new ConcurrentHashMap<>();
+	private final Map<Class<?>, ConversionPlan> simpleTypeWritePlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext}.
 	 *
@@ -140,15 +146,7 @@ public class BasicRelationalConverter implements RelationalConverter {
 			return null;
 		}
 
-		if (getConversions().hasCustomReadTarget(value.getClass(), type.getType())) {
-
-			TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(value.getClass());
-			TypeDescriptor targetDescriptor = createTypeDescriptor(type);
-
-			return getConversionService().convert(value, sourceDescriptor, targetDescriptor);
-		}
-
-		return getPotentiallyConvertedSimpleRead(value, type);
+		return getReadPlan(value.getClass(), type).convert(value);
 	}
 
 	@Override
@@ -160,15 +158,7 @@ public class BasicRelationalConverter implements RelationalConverter {
 		}
 
 		if (getConversions().isSimpleType(value.getClass())) {
-
-			if (TypeInformation.OBJECT != type) {
-
-				if (conversionService.canConvert(value.getClass(), type.getType())) {
-					value = conversionService.convert(value, type.getType());
-				}
-			}
-
-			return getPotentiallyConvertedSimpleWrite(value);
+			return getSimpleWritePlan(value.getClass(), type).convert(value);
 		}
 
 		// TODO: We should add conversion support for arrays, however,
@@ -217,47 +207,103 @@ public class BasicRelationalConverter implements RelationalConverter {
 		return this.entityInstantiators;
 	}
 
+	private ConversionPlan getReadPlan(Class<?> sourceType, TypeInformation<?> type) {
+
+		Map<Class<?>, ConversionPlan> plans = readPlans.computeIfAbsent(type, it -> new ConcurrentHashMap<>());
+
+		ConversionPlan plan = plans.get(sourceType);
+		if (plan == null) {
+			plan = plans.computeIfAbsent(sourceType, it -> createReadPlan(it, type));
+		}
+
+		return plan;
+	}
+
+	private ConversionPlan getSimpleWritePlan(Class<?> sourceType, TypeInformation<?> type) {
+
+		Map<Class<?>, ConversionPlan> plans = simpleWritePlans.computeIfAbsent(type, it -> new ConcurrentHashMap<>());
+
+		ConversionPlan plan = plans.get(sourceType);
+		if (plan == null) {
+			plan = plans.computeIfAbsent(sourceType, it -> createSimpleWritePlan(it, type));
+		}
+
+		return plan;
+	}
+
 	/**
-	 * Checks whether we have a custom conversion registered for the given value into an arbitrary simple JDBC type.
-	 * Returns the converted value if so. If not, we perform special enum handling or simply return the value as is.
-	 *
-	 * @param value to be converted. Must not be {@code null}.
-	 * @return the converted value if a conversion applies or the original value. Might return {@code null}.
+	 * Creates the {@link ConversionPlan} to read values of {@code sourceType} into {@code type}. Applies a custom
+	 * conversion if registered. Otherwise, returns the value as is if it is assignable to {@code type}, applies
+	 * {@link Enum} handling or falls back to the {@link ConversionService}.
 	 */
-	@Nullable
-	private Object getPotentiallyConvertedSimpleWrite(Object value) {
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private ConversionPlan createReadPlan(Class<?> sourceType, TypeInformation<?> type) {
 
-		Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(value.getClass());
+		Class<?> target = type.getType();
 
-		if (customTarget.isPresent()) {
-			return conversionService.convert(value, customTarget.get());
+		if (!getConversions().hasCustomReadTarget(sourceType, target)) {
+
+			if (ClassUtils.isAssignable(target, sourceType)) {
+				return ConversionPlan.IDENTITY;
+			}
+
+			if (Enum.class.isAssignableFrom(target)) {
+				return value -> Enum.valueOf((Class<Enum>) target, value.toString());
+			}
 		}
 
-		return Enum.class.isAssignableFrom(value.getClass()) ? ((Enum<?>) value).name() : value;
+		TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(sourceType);
+		TypeDescriptor targetDescriptor = createTypeDescriptor(type);
+
+		return value -> conversionService.convert(value, sourceDescriptor, targetDescriptor);
 	}
 
 	/**
-	 * Checks whether we have a custom conversion for the given simple object. Converts the given value if so, applies
-	 * {@link Enum} handling or returns the value as is.
-	 *
-	 * @param value to be converted. May be {@code null}..
-	 * @param type {@link TypeInformation} into which the value is to be converted. Must not be {@code null}.
-	 * @return the converted value if a conversion applies or the original value. Might return {@code null}.
+	 * Creates the {@link ConversionPlan} to write simple values of {@code sourceType} declared as {@code type}. Converts
+	 * the value into {@code type} if it is not yet of that type and then applies the
+	 * {@link #createSimpleTypeWritePlan(Class) plan for the resulting simple type}.
 	 */
-	@Nullable
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private Object getPotentiallyConvertedSimpleRead(Object value, TypeInformation<?> type) {
+	private ConversionPlan createSimpleWritePlan(Class<?> sourceType, TypeInformation<?> type) {
 
 		Class<?> target = type.getType();
-		if (ClassUtils.isAssignableValue(target, value)) {
-			return value;
+
+		if (TypeInformation.OBJECT == type || target == sourceType || !conversionService.canConvert(sourceType, target)) {
+			return getSimpleTypeWritePlan(sourceType);
+		}
+
+		return value -> {
+
+			Object converted = conversionService.convert(value, target);
+			return converted == null ? null : getSimpleTypeWritePlan(converted.getClass()).convert(converted);
+		};
+	}
+
+	private ConversionPlan getSimpleTypeWritePlan(Class<?> sourceType) {
+
+		ConversionPlan plan = simpleTypeWritePlans.get(sourceType);
+		if (plan == null) {
+			plan = simpleTypeWritePlans.computeIfAbsent(sourceType, this::createSimpleTypeWritePlan);
 		}
 
-		if (Enum.class.isAssignableFrom(target)) {
-			return Enum.valueOf((Class<Enum>) target, value.toString());
+		return plan;
+	}
+
+	/**
+	 * Checks whether we have a custom conversion registered for {@code sourceType} into an arbitrary simple JDBC type.
+	 * Converts values using the custom conversion if so. If not, we perform special enum handling or simply return the
+	 * value as is.
+	 */
+	private ConversionPlan createSimpleTypeWritePlan(Class<?> sourceType) {
+
+		Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(sourceType);
+
+		if (customTarget.isPresent()) {
+
+			Class<?> target = customTarget.get();
+			return value -> conversionService.convert(value, target);
 		}
 
-		return conversionService.convert(value, TypeDescriptor.forObject(value), createTypeDescriptor(type));
+		return Enum.class.isAssignableFrom(sourceType) ? value -> ((Enum<?>) value).name() : ConversionPlan.IDENTITY;
 	}
 
 	private static TypeDescriptor createTypeDescriptor(TypeInformation<?> type) {
@@ -271,6 +317,19 @@ public class BasicRelationalConverter implements RelationalConverter {
 		return new TypeDescriptor(ResolvableType.forClassWithGenerics(type.getType(), generics), type.getType(), null);
 	}
 
+	/**
+	 * Conversion of non-{@literal null} values of a particular source type into a particular target type, resolved once
+	 * and cached to avoid repeated {@link ConversionService} lookups.
+	 */
+	@FunctionalInterface
+	private interface ConversionPlan {
+
+		ConversionPlan IDENTITY = value -> value;
+
+		@Nullable
+		Object convert(Object value);
+	}
+
 	/**
 	 * Converter-aware {@link ParameterValueProvider}.
 	 *
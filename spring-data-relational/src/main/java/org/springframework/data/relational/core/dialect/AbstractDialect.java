@@ -19,10 +19,13 @@ import java.util.OptionalLong;
 import java.util.function.Function;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.sql.BindMarker;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.Named;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Base class for {@link Dialect} implementations.
@@ -143,6 +146,10 @@ public abstract class AbstractDialect implements Dialect {
 		@Override
 		public CharSequence apply(Select select) {
 
+			if (select.getLimitBindMarker() != null || select.getOffsetBindMarker() != null) {
+				return renderBound(select);
+			}
+
 			OptionalLong limit = select.getLimit();
 			OptionalLong offset = select.getOffset();
 
@@ -160,6 +167,37 @@ public abstract class AbstractDialect implements Dialect {
 
 			return "";
 		}
+
+		private CharSequence renderBound(Select select) {
+
+			if (!clause.supportsBindMarkers()) {
+				throw new UnsupportedOperationException(
+						String.format("Limit clause %s does not support bind markers", clause.getClass().getName()));
+			}
+
+			CharSequence limit = render(select.getLimitBindMarker(), select.getLimit());
+			CharSequence offset = render(select.getOffsetBindMarker(), select.getOffset());
+
+			if (limit != null && offset != null) {
+				return clause.getLimitOffset(limit, offset);
+			}
+
+			if (limit != null) {
+				return clause.getLimit(limit);
+			}
+
+			return offset != null ? clause.getOffset(offset) : "";
+		}
+
+		@Nullable
+		private static CharSequence render(@Nullable BindMarker bindMarker, OptionalLong value) {
+
+			if (bindMarker != null) {
+				return bindMarker instanceof Named named ? named.getName().getReference() : bindMarker.toString();
+			}
+
+			return value.isPresent() ? String.valueOf(value.getAsLong()) : null;
+		}
 	}
 
 	/**
@@ -38,17 +38,37 @@ public class AnsiDialect extends AbstractDialect {
 
 		@Override
 		public String getLimit(long limit) {
-			return String.format("FETCH FIRST %d ROWS ONLY", limit);
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
-			return String.format("OFFSET %d ROWS", offset);
+			return getOffset(String.valueOf(offset));
 		}
 
 		@Override
 		public String getLimitOffset(long limit, long offset) {
-			return String.format("OFFSET %d ROWS FETCH FIRST %d ROWS ONLY", offset, limit);
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "FETCH FIRST " + limit + " ROWS ONLY";
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
+			return "OFFSET " + offset + " ROWS";
+		}
+
+		@Override
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
+			return "OFFSET " + offset + " ROWS FETCH FIRST " + limit + " ROWS ONLY";
 		}
 
 		@Override
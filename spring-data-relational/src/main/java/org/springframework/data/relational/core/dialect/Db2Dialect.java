@@ -52,17 +52,37 @@ public class Db2Dialect extends AbstractDialect {
 
 		@Override
 		public String getLimit(long limit) {
-			return "FETCH FIRST " + limit + " ROWS ONLY";
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
-			return "OFFSET " + offset + " ROWS";
+			return getOffset(String.valueOf(offset));
 		}
 
 		@Override
 		public String getLimitOffset(long limit, long offset) {
-			return String.format("OFFSET %d ROWS FETCH FIRST %d ROWS ONLY", offset, limit);
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "FETCH FIRST " + limit + " ROWS ONLY";
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
+			return "OFFSET " + offset + " ROWS";
+		}
+
+		@Override
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
+			return "OFFSET " + offset + " ROWS FETCH FIRST " + limit + " ROWS ONLY";
 		}
 
 		@Override
@@ -102,4 +122,9 @@ public class Db2Dialect extends AbstractDialect {
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
@@ -144,4 +144,27 @@ public interface Dialect {
 	default SimpleFunction getExistsFunction(){
 		return Functions.count(SQL.literalOf(1));
 	}
+
+	/**
+	 * Return whether the database supports window functions such as {@code COUNT(*) OVER()}. Window functions allow
+	 * computing the total number of rows matching a query within the query fetching a page of its results.
+	 *
+	 * @return {@literal true} if window functions are supported. {@literal false} by default.
+	 * @since 3.2
+	 */
+	default boolean supportsWindowFunctions() {
+		return false;
+	}
+
+	/**
+	 * Return whether correlated {@code EXISTS} subselects should be used instead of {@code IN} subselects to restrict
+	 * rows to those referenced by another table, e.g. when deleting the entities of nested aggregate paths. Some
+	 * databases plan {@code IN} subselects over large tables considerably worse than the equivalent {@code EXISTS}.
+	 *
+	 * @return {@literal true} to prefer {@code EXISTS} subselects. {@literal false} by default.
+	 * @since 3.2
+	 */
+	default boolean prefersExistsSubselects() {
+		return false;
+	}
 }
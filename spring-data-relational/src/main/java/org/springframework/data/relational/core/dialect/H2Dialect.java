@@ -42,21 +42,44 @@ public class H2Dialect extends AbstractDialect {
 
 	protected H2Dialect() {}
 
+	private static final IdentifierProcessing IDENTIFIER_PROCESSING = IdentifierProcessing.create(Quoting.ANSI,
+			LetterCasing.UPPER_CASE);
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
 		public String getLimit(long limit) {
-			return "LIMIT " + limit;
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
-			return "OFFSET " + offset;
+			return getOffset(String.valueOf(offset));
 		}
 
 		@Override
 		public String getLimitOffset(long limit, long offset) {
-			return String.format("OFFSET %d ROWS FETCH FIRST %d ROWS ONLY", offset, limit);
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "LIMIT " + limit;
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
+			return "OFFSET " + offset;
+		}
+
+		@Override
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
+			return "OFFSET " + offset + " ROWS FETCH FIRST " + limit + " ROWS ONLY";
 		}
 
 		@Override
@@ -100,7 +123,7 @@ public class H2Dialect extends AbstractDialect {
 
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
-		return IdentifierProcessing.create(Quoting.ANSI, LetterCasing.UPPER_CASE);
+		return IDENTIFIER_PROCESSING;
 	}
 
 	@Override
@@ -108,4 +131,9 @@ public class H2Dialect extends AbstractDialect {
 
 		return Collections.emptySet();
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
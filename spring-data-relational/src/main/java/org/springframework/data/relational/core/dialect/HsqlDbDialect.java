@@ -41,16 +41,36 @@ public class HsqlDbDialect extends AbstractDialect {
 
 		@Override
 		public String getLimit(long limit) {
-			return "LIMIT " + limit;
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
-			return "OFFSET " + offset;
+			return getOffset(String.valueOf(offset));
 		}
 
 		@Override
 		public String getLimitOffset(long limit, long offset) {
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "LIMIT " + limit;
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
+			return "OFFSET " + offset;
+		}
+
+		@Override
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
 			return getOffset(offset) + " " + getLimit(limit);
 		}
 
@@ -54,6 +54,56 @@ public interface LimitClause {
 	 */
 	String getLimitOffset(long limit, long offset);
 
+	/**
+	 * Returns whether this clause can render bind markers instead of literal values for limit and offset. Binding limit
+	 * and offset keeps the SQL text of paged queries constant across pages so that prepared statements can be reused.
+	 *
+	 * @return {@literal true} if {@link #getLimit(CharSequence)}, {@link #getOffset(CharSequence)} and
+	 *         {@link #getLimitOffset(CharSequence, CharSequence)} are supported.
+	 * @since 3.2
+	 */
+	default boolean supportsBindMarkers() {
+		return false;
+	}
+
+	/**
+	 * Returns the {@code LIMIT} clause using a rendered {@code limit} expression, typically a bind marker.
+	 *
+	 * @param limit the rendered limit expression.
+	 * @return rendered limit clause.
+	 * @throws UnsupportedOperationException if the clause does not {@link #supportsBindMarkers() support bind markers}.
+	 * @since 3.2
+	 */
+	default String getLimit(CharSequence limit) {
+		throw new UnsupportedOperationException("Limit clause does not support bind markers");
+	}
+
+	/**
+	 * Returns the {@code OFFSET} clause using a rendered {@code offset} expression, typically a bind marker.
+	 *
+	 * @param offset the rendered offset expression.
+	 * @return rendered offset clause.
+	 * @throws UnsupportedOperationException if the clause does not {@link #supportsBindMarkers() support bind markers}.
+	 * @since 3.2
+	 */
+	default String getOffset(CharSequence offset) {
+		throw new UnsupportedOperationException("Limit clause does not support bind markers");
+	}
+
+	/**
+	 * Returns a combined {@code LIMIT/OFFSET} clause using rendered {@code limit} and {@code offset} expressions,
+	 * typically bind markers.
+	 *
+	 * @param limit the rendered limit expression.
+	 * @param offset the rendered offset expression.
+	 * @return rendered limit clause.
+	 * @throws UnsupportedOperationException if the clause does not {@link #supportsBindMarkers() support bind markers}.
+	 * @since 3.2
+	 */
+	default String getLimitOffset(CharSequence limit, CharSequence offset) {
+		throw new UnsupportedOperationException("Limit clause does not support bind markers");
+	}
+
 	/**
 	 * Returns the {@link Position} where to apply the {@link #getOffset(long) clause}.
 	 */
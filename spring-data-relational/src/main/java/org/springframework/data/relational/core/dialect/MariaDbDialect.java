@@ -36,4 +36,9 @@ public class MariaDbDialect extends MySqlDialect {
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
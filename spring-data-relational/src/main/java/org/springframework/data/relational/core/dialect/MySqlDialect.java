@@ -68,21 +68,41 @@ public class MySqlDialect extends AbstractDialect {
 
 		@Override
 		public String getLimit(long limit) {
-			return "LIMIT " + limit;
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
+			return getOffset(String.valueOf(offset));
+		}
+
+		@Override
+		public String getLimitOffset(long limit, long offset) {
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "LIMIT " + limit;
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
 			// Ugly but the official workaround for offset without limit
 			// see: https://stackoverflow.com/a/271650
-			return String.format("LIMIT %d, 18446744073709551615", offset);
+			return "LIMIT " + offset + ", 18446744073709551615";
 		}
 
 		@Override
-		public String getLimitOffset(long limit, long offset) {
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
 
 			// LIMIT {[offset,] row_count}
-			return String.format("LIMIT %s, %s", offset, limit);
+			return "LIMIT " + offset + ", " + limit;
 		}
 
 		@Override
@@ -138,4 +158,12 @@ public class MySqlDialect extends AbstractDialect {
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
 	}
+
+	/**
+	 * MySQL does not optimize {@code IN} subselects of {@code DELETE} statements into semi-joins.
+	 */
+	@Override
+	public boolean prefersExistsSubselects() {
+		return true;
+	}
 }
@@ -74,4 +74,9 @@ public class OracleDialect extends AnsiDialect {
 			return bool ? 1 : 0;
 		}
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
@@ -52,21 +52,44 @@ public class PostgresDialect extends AbstractDialect {
 
 	protected PostgresDialect() {}
 
+	private static final IdentifierProcessing IDENTIFIER_PROCESSING = IdentifierProcessing.create(Quoting.ANSI,
+			LetterCasing.LOWER_CASE);
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
 		public String getLimit(long limit) {
-			return "LIMIT " + limit;
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
-			return "OFFSET " + offset;
+			return getOffset(String.valueOf(offset));
 		}
 
 		@Override
 		public String getLimitOffset(long limit, long offset) {
-			return String.format("LIMIT %d OFFSET %d", limit, offset);
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "LIMIT " + limit;
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
+			return "OFFSET " + offset;
+		}
+
+		@Override
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
+			return "LIMIT " + limit + " OFFSET " + offset;
 		}
 
 		@Override
@@ -147,7 +170,7 @@ public class PostgresDialect extends AbstractDialect {
 
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
-		return IdentifierProcessing.create(Quoting.ANSI, LetterCasing.LOWER_CASE);
+		return IDENTIFIER_PROCESSING;
 	}
 
 	@Override
@@ -184,4 +207,9 @@ public class PostgresDialect extends AbstractDialect {
 	public SimpleFunction getExistsFunction() {
 		return Functions.least(Functions.count(SQL.literalOf(1)), SQL.literalOf(1));
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
@@ -58,17 +58,37 @@ public class SqlServerDialect extends AbstractDialect {
 
 		@Override
 		public String getLimit(long limit) {
-			return "OFFSET 0 ROWS FETCH NEXT " + limit + " ROWS ONLY";
+			return getLimit(String.valueOf(limit));
 		}
 
 		@Override
 		public String getOffset(long offset) {
-			return "OFFSET " + offset + " ROWS";
+			return getOffset(String.valueOf(offset));
 		}
 
 		@Override
 		public String getLimitOffset(long limit, long offset) {
-			return String.format("OFFSET %d ROWS FETCH NEXT %d ROWS ONLY", offset, limit);
+			return getLimitOffset(String.valueOf(limit), String.valueOf(offset));
+		}
+
+		@Override
+		public boolean supportsBindMarkers() {
+			return true;
+		}
+
+		@Override
+		public String getLimit(CharSequence limit) {
+			return "OFFSET 0 ROWS FETCH NEXT " + limit + " ROWS ONLY";
+		}
+
+		@Override
+		public String getOffset(CharSequence offset) {
+			return "OFFSET " + offset + " ROWS";
+		}
+
+		@Override
+		public String getLimitOffset(CharSequence limit, CharSequence offset) {
+			return "OFFSET " + offset + " ROWS FETCH NEXT " + limit + " ROWS ONLY";
 		}
 
 		@Override
@@ -137,4 +157,9 @@ public class SqlServerDialect extends AbstractDialect {
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
@@ -36,12 +36,20 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 
 	private final String name;
 	private final boolean quoted;
+	private final String toString;
+
+	/**
+	 * Last rendered form. Identifiers are rendered over and over with the same {@link IdentifierProcessing} of the
+	 * dialect in use, so remembering a single rendering avoids re-applying letter casing and quoting.
+	 */
+	private @Nullable RenderedIdentifier rendered;
 
 	DerivedSqlIdentifier(String name, boolean quoted) {
 
 		Assert.hasText(name, "A database object must have at least on name part.");
 		this.name = name;
 		this.quoted = quoted;
+		this.toString = quoted ? toSql(IdentifierProcessing.ANSI) : this.name;
 	}
 
 	@Override
@@ -60,9 +68,16 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 	@Override
 	public String toSql(IdentifierProcessing processing) {
 
+		RenderedIdentifier rendered = this.rendered;
+		if (rendered != null && rendered.processing() == processing) {
+			return rendered.sql();
+		}
+
 		String normalized = processing.standardizeLetterCase(name);
+		String sql = quoted ? processing.quote(normalized) : normalized;
 
-		return quoted ? processing.quote(normalized) : normalized;
+		this.rendered = new RenderedIdentifier(processing, sql);
+		return sql;
 	}
 
 	@Override
@@ -92,6 +107,9 @@ class DerivedSqlIdentifier implements SqlIdentifier {
 
 	@Override
 	public String toString() {
-		return quoted ? toSql(IdentifierProcessing.ANSI) : this.name;
+		return this.toString;
+	}
+
+	private record RenderedIdentifier(IdentifierProcessing processing, String sql) {
 	}
 }
@@ -145,25 +145,11 @@ public class RelationalMappingContext
 	 */
 	public AggregatePath getAggregatePath(PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
 
-		AggregatePath aggregatePath = aggregatePathCache.get(path);
-		if (aggregatePath == null) {
-
-			aggregatePath = new DefaultAggregatePath(this, path);
-			aggregatePathCache.put(path, aggregatePath);
-		}
-
-		return aggregatePath;
+		return aggregatePathCache.computeIfAbsent(path, it -> new DefaultAggregatePath(this, path));
 	}
 
 	public AggregatePath getAggregatePath(RelationalPersistentEntity<?> type) {
 
-		AggregatePath aggregatePath = aggregatePathCache.get(type);
-		if (aggregatePath == null) {
-
-			aggregatePath = new DefaultAggregatePath(this, type);
-			aggregatePathCache.put(type, aggregatePath);
-		}
-
-		return aggregatePath;
+		return aggregatePathCache.computeIfAbsent(type, it -> new DefaultAggregatePath(this, type));
 	}
 }
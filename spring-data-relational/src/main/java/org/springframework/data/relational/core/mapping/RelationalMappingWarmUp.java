@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the mapping metadata that is otherwise resolved lazily on first access to an entity, i.e. table and column
+ * names and the {@link AggregatePath}s of all properties, once all singletons are instantiated. This moves the cost of
+ * the first access to a particular aggregate type from the first request to the application startup.
+ * <p>
+ * Warm-up is disabled by default and can be enabled through {@link #setEnabled(boolean)}. Failures are logged and do
+ * not prevent the application from starting as they surface again on actual use of the affected entity.
+ *
+ * @since 3.2
+ */
+public class RelationalMappingWarmUp implements SmartInitializingSingleton {
+
+	private static final Log LOG = LogFactory.getLog(RelationalMappingWarmUp.class);
+
+	private final RelationalMappingContext context;
+	private boolean enabled = false;
+
+	/**
+	 * Creates a new {@link RelationalMappingWarmUp}.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public RelationalMappingWarmUp(RelationalMappingContext context) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+
+		this.context = context;
+	}
+
+	/**
+	 * Configure whether to warm up on startup. Defaults to {@literal false}.
+	 *
+	 * @param enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return {@literal true} if warm-up is performed on startup.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (enabled) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Warm up all entities known to the {@link RelationalMappingContext}.
+	 *
+	 * @return the number of warmed up entities.
+	 */
+	public int warmUp() {
+
+		long start = System.nanoTime();
+		List<RelationalPersistentEntity<?>> entities = new ArrayList<>(context.getPersistentEntities());
+		int warmedUp = 0;
+
+		for (RelationalPersistentEntity<?> entity : entities) {
+
+			try {
+
+				warmUp(entity);
+				warmedUp++;
+			} catch (RuntimeException ex) {
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug(String.format("Warm-up of %s failed", entity.getName()), ex);
+				}
+			}
+		}
+
+		if (LOG.isInfoEnabled()) {
+			LOG.info(String.format("Warmed up %d of %d entities in %d ms", warmedUp, entities.size(),
+					(System.nanoTime() - start) / 1_000_000));
+		}
+
+		return warmedUp;
+	}
+
+	/**
+	 * Warm up a single entity. Subclasses may override this method to prepare additional, store-specific, state.
+	 *
+	 * @param entity the entity to warm up.
+	 */
+	protected void warmUp(RelationalPersistentEntity<?> entity) {
+
+		entity.getQualifiedTableName();
+		context.getAggregatePath(entity).getTableInfo();
+
+		for (RelationalPersistentProperty property : entity) {
+			property.getColumnName();
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
+				.findPersistentPropertyPaths(entity.getType(), it -> true)) {
+
+			AggregatePath aggregatePath = context.getAggregatePath(path);
+
+			aggregatePath.getTableInfo();
+
+			if (!aggregatePath.isEmbedded()) {
+				aggregatePath.getColumnInfo();
+			}
+		}
+	}
+
+	/**
+	 * @return the {@link RelationalMappingContext} to warm up.
+	 */
+	protected RelationalMappingContext getMappingContext() {
+		return context;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.List;
+
+/**
+ * A {@link BatchEntityCallback} that gets invoked once for all aggregates loaded by a single query after they were
+ * converted from the database.
+ *
+ * @since 3.2
+ * @see BatchEntityCallbacks
+ */
+@FunctionalInterface
+public interface AfterConvertAllCallback<T> extends BatchEntityCallback<T> {
+
+	/**
+	 * Batch callback method invoked once for all aggregates loaded by a single query after they were converted from
+	 * the database. Can return either the same or modified instances of the domain objects in the same order.
+	 *
+	 * @param aggregates the converted aggregates.
+	 * @return the converted and possibly modified aggregates.
+	 */
+	List<T> onAfterConvertAll(List<T> aggregates);
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+/**
+ * Marker interface for callbacks invoked once for a batch of aggregates instead of once per aggregate. The type
+ * parameter determines the aggregate types the callback applies to. Implementations are discovered as beans by
+ * {@link BatchEntityCallbacks}.
+ *
+ * @param <T> the aggregate type.
+ * @since 3.2
+ * @see BeforeConvertAllCallback
+ * @see BeforeSaveAllCallback
+ * @see AfterSaveAllCallback
+ * @see AfterConvertAllCallback
+ */
+public interface BatchEntityCallback<T> {}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Discovers and invokes {@link BatchEntityCallback batch callbacks}. Callbacks applicable to a callback type and an
+ * aggregate type are resolved once and cached so that {@link #hasCallbacks(Class, Class)} allows callers to skip
+ * preparing a batch if no callback is interested in it.
+ *
+ * @since 3.2
+ */
+public class BatchEntityCallbacks {
+
+	private static final BatchEntityCallbacks NONE = new BatchEntityCallbacks(List::of);
+
+	private final Supplier<List<BatchEntityCallback<?>>> callbackLookup;
+	private final Map<CallbackKey, List<BatchEntityCallback<?>>> callbacks = new ConcurrentHashMap<>();
+	private volatile @Nullable List<BatchEntityCallback<?>> allCallbacks;
+
+	private BatchEntityCallbacks(Supplier<List<BatchEntityCallback<?>>> callbackLookup) {
+		this.callbackLookup = callbackLookup;
+	}
+
+	/**
+	 * @return {@link BatchEntityCallbacks} without any callbacks.
+	 */
+	public static BatchEntityCallbacks none() {
+		return NONE;
+	}
+
+	/**
+	 * Create {@link BatchEntityCallbacks} for the given callbacks.
+	 *
+	 * @param callbacks must not be {@literal null}.
+	 * @return new instance of {@link BatchEntityCallbacks}.
+	 */
+	public static BatchEntityCallbacks of(BatchEntityCallback<?>... callbacks) {
+
+		Assert.notNull(callbacks, "Callbacks must not be null");
+
+		List<BatchEntityCallback<?>> callbackList = List.copyOf(Arrays.asList(callbacks));
+		return new BatchEntityCallbacks(() -> callbackList);
+	}
+
+	/**
+	 * Create {@link BatchEntityCallbacks} discovering {@link BatchEntityCallback} beans of the given
+	 * {@link ListableBeanFactory} on first use. Callbacks are ordered according to
+	 * {@link org.springframework.core.Ordered} and {@link org.springframework.core.annotation.Order}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @return new instance of {@link BatchEntityCallbacks}.
+	 */
+	public static BatchEntityCallbacks create(ListableBeanFactory beanFactory) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null");
+
+		return new BatchEntityCallbacks(() -> {
+
+			List<BatchEntityCallback<?>> discovered = new ArrayList<>();
+			beanFactory.getBeanProvider(BatchEntityCallback.class).orderedStream().forEach(discovered::add);
+			return discovered;
+		});
+	}
+
+	/**
+	 * Returns whether callbacks of {@code callbackType} are registered for {@code aggregateType}.
+	 *
+	 * @param callbackType the callback type, must not be {@literal null}.
+	 * @param aggregateType the aggregate type, must not be {@literal null}.
+	 * @return {@literal true} if at least one callback applies.
+	 */
+	public boolean hasCallbacks(Class<? extends BatchEntityCallback> callbackType, Class<?> aggregateType) {
+		return !getCallbacks(callbackType, aggregateType).isEmpty();
+	}
+
+	/**
+	 * Invoke {@link BeforeConvertAllCallback callbacks} applicable to {@code aggregateType}.
+	 *
+	 * @param aggregateType the aggregate type, must not be {@literal null}.
+	 * @param aggregates the aggregates, must not be {@literal null}.
+	 * @return the aggregates returned by the last callback.
+	 */
+	public <T> List<T> onBeforeConvert(Class<T> aggregateType, List<T> aggregates) {
+		return invoke(BeforeConvertAllCallback.class, aggregateType, aggregates,
+				BeforeConvertAllCallback::onBeforeConvertAll);
+	}
+
+	/**
+	 * Notify {@link BeforeConvertAllCallback callbacks} applicable to {@code aggregateType} that the batch passed to
+	 * {@link #onBeforeConvert(Class, List)} completed its per-aggregate conversion.
+	 *
+	 * @param aggregateType the aggregate type, must not be {@literal null}.
+	 * @see BeforeConvertAllCallback#onBeforeConvertAllCompleted()
+	 */
+	public void onBeforeConvertCompleted(Class<?> aggregateType) {
+
+		for (BatchEntityCallback<?> callback : getCallbacks(BeforeConvertAllCallback.class, aggregateType)) {
+			((BeforeConvertAllCallback<?>) callback).onBeforeConvertAllCompleted();
+		}
+	}
+
+	/**
+	 * Invoke {@link BeforeSaveAllCallback callbacks} applicable to {@code aggregateType}.
+	 *
+	 * @param aggregateType the aggregate type, must not be {@literal null}.
+	 * @param aggregates the aggregates, must not be {@literal null}.
+	 * @return the aggregates returned by the last callback.
+	 */
+	public <T> List<T> onBeforeSave(Class<T> aggregateType, List<T> aggregates) {
+		return invoke(BeforeSaveAllCallback.class, aggregateType, aggregates, BeforeSaveAllCallback::onBeforeSaveAll);
+	}
+
+	/**
+	 * Invoke {@link AfterSaveAllCallback callbacks} applicable to {@code aggregateType}.
+	 *
+	 * @param aggregateType the aggregate type, must not be {@literal null}.
+	 * @param aggregates the aggregates, must not be {@literal null}.
+	 * @return the aggregates returned by the last callback.
+	 */
+	public <T> List<T> onAfterSave(Class<T> aggregateType, List<T> aggregates) {
+		return invoke(AfterSaveAllCallback.class, aggregateType, aggregates, AfterSaveAllCallback::onAfterSaveAll);
+	}
+
+	/**
+	 * Invoke {@link AfterConvertAllCallback callbacks} applicable to {@code aggregateType}.
+	 *
+	 * @param aggregateType the aggregate type, must not be {@literal null}.
+	 * @param aggregates the aggregates, must not be {@literal null}.
+	 * @return the aggregates returned by the last callback.
+	 */
+	public <T> List<T> onAfterConvert(Class<T> aggregateType, List<T> aggregates) {
+		return invoke(AfterConvertAllCallback.class, aggregateType, aggregates,
+				AfterConvertAllCallback::onAfterConvertAll);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private <T, C extends BatchEntityCallback> List<T> invoke(Class<C> callbackType, Class<T> aggregateType,
+			List<T> aggregates, BiFunction<C, List, List> invoker) {
+
+		List<T> result = aggregates;
+
+		for (BatchEntityCallback<?> callback : getCallbacks(callbackType, aggregateType)) {
+
+			result = invoker.apply((C) callback, result);
+
+			Assert.state(result != null && result.size() == aggregates.size(),
+					() -> String.format("Callback %s must return a list of %d aggregates", callback, aggregates.size()));
+		}
+
+		return result;
+	}
+
+	private List<BatchEntityCallback<?>> getCallbacks(Class<? extends BatchEntityCallback> callbackType,
+			Class<?> aggregateType) {
+
+		if (this == NONE) {
+			return List.of();
+		}
+
+		CallbackKey key = new CallbackKey(callbackType, aggregateType);
+		List<BatchEntityCallback<?>> applicable = callbacks.get(key);
+
+		if (applicable == null) {
+			applicable = callbacks.computeIfAbsent(key, it -> resolveCallbacks(it.callbackType(), it.aggregateType()));
+		}
+
+		return applicable;
+	}
+
+	private List<BatchEntityCallback<?>> resolveCallbacks(Class<?> callbackType, Class<?> aggregateType) {
+
+		List<BatchEntityCallback<?>> applicable = new ArrayList<>();
+
+		for (BatchEntityCallback<?> callback : getAllCallbacks()) {
+
+			if (!callbackType.isInstance(callback)) {
+				continue;
+			}
+
+			Class<?> callbackAggregateType = ResolvableType.forClass(callback.getClass()).as(callbackType)
+					.resolveGeneric(0);
+
+			if (callbackAggregateType == null || callbackAggregateType.isAssignableFrom(aggregateType)) {
+				applicable.add(callback);
+			}
+		}
+
+		return List.copyOf(applicable);
+	}
+
+	private List<BatchEntityCallback<?>> getAllCallbacks() {
+
+		List<BatchEntityCallback<?>> all = allCallbacks;
+
+		if (all == null) {
+			all = callbackLookup.get();
+			allCallbacks = all;
+		}
+
+		return all;
+	}
+
+	private record CallbackKey(Class<?> callbackType, Class<?> aggregateType) {
+	}
+}
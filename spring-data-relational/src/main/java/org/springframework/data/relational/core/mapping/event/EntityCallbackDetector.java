@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Detects whether {@link org.springframework.data.mapping.callback.EntityCallback entity callbacks} of a particular
+ * type are registered as beans. Allows callers to skip callback dispatch entirely for callback types without any
+ * registered callback. The outcome is determined once per callback type.
+ * <p>
+ * Callbacks that are registered programmatically are not visible to the detector. Use {@link #assumePresent()} if
+ * callbacks do not originate from a {@link ListableBeanFactory}.
+ *
+ * @since 3.2
+ */
+public class EntityCallbackDetector {
+
+	private static final EntityCallbackDetector ASSUME_PRESENT = new EntityCallbackDetector(null);
+
+	private final @Nullable ListableBeanFactory beanFactory;
+	private final Map<Class<?>, Boolean> presence = new ConcurrentHashMap<>();
+
+	private EntityCallbackDetector(@Nullable ListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * @return a {@link EntityCallbackDetector} considering callbacks of all types to be present.
+	 */
+	public static EntityCallbackDetector assumePresent() {
+		return ASSUME_PRESENT;
+	}
+
+	/**
+	 * Create a {@link EntityCallbackDetector} looking up callback beans in the given {@link ListableBeanFactory} and its
+	 * ancestors.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 * @return new instance of {@link EntityCallbackDetector}.
+	 */
+	public static EntityCallbackDetector create(ListableBeanFactory beanFactory) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null");
+
+		return new EntityCallbackDetector(beanFactory);
+	}
+
+	/**
+	 * Returns whether callbacks of the given type may be registered.
+	 *
+	 * @param callbackType the callback type, e.g. {@link AfterConvertCallback}, must not be {@literal null}.
+	 * @return {@literal false} if no callback of {@code callbackType} is registered.
+	 */
+	public boolean hasCallbacks(Class<?> callbackType) {
+
+		if (beanFactory == null) {
+			return true;
+		}
+
+		Boolean present = presence.get(callbackType);
+
+		if (present == null) {
+			present = presence.computeIfAbsent(callbackType,
+					it -> BeanFactoryUtils.beanNamesForTypeIncludingAncestors(beanFactory, it, true, false).length > 0);
+		}
+
+		return present;
+	}
+}
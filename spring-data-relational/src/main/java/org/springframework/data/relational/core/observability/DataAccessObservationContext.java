@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.observability;
+
+import io.micrometer.observation.Observation;
+
+import java.util.StringJoiner;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Observation.Context} describing a single data access operation such as a query, an insert of an aggregate or
+ * the execution of a repository query method.
+ *
+ * @since 3.2
+ * @see DataAccessObserver
+ */
+public class DataAccessObservationContext extends Observation.Context {
+
+	private final String operation;
+	private final Class<?> entityType;
+	private @Nullable String statement;
+	private @Nullable String repositoryMethod;
+	private long rows = -1;
+	private int batchSize = -1;
+
+	/**
+	 * Creates a new {@link DataAccessObservationContext}.
+	 *
+	 * @param operation the name of the operation, e.g. {@code findById} or the kind of a
+	 *          {@link org.springframework.data.relational.core.conversion.DbAction}, must not be {@literal null} or
+	 *          empty.
+	 * @param entityType the entity type the operation is performed for, must not be {@literal null}.
+	 */
+	public DataAccessObservationContext(String operation, Class<?> entityType) {
+
+		Assert.hasText(operation, "Operation must not be null or empty");
+		Assert.notNull(entityType, "Entity type must not be null");
+
+		this.operation = operation;
+		this.entityType = entityType;
+	}
+
+	/**
+	 * Returns the shape of the statement issued for {@link Query}. The shape contains the criteria columns, comparators,
+	 * sort properties and whether the query is limited, but none of the values. Queries differing only in their values
+	 * share the same shape.
+	 *
+	 * @param query the query, must not be {@literal null}.
+	 * @return the shape of the query.
+	 */
+	public static String getStatementShape(Query query) {
+
+		Assert.notNull(query, "Query must not be null");
+
+		StringBuilder shape = new StringBuilder();
+
+		query.getCriteria().filter(criteria -> !criteria.isEmpty()).ifPresent(criteria -> {
+
+			shape.append("WHERE ");
+			appendCriteria(criteria, shape);
+		});
+
+		if (query.isSorted()) {
+
+			StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+			for (Sort.Order order : query.getSort()) {
+				orderBy.add(order.getProperty() + " " + order.getDirection());
+			}
+			shape.append(orderBy);
+		}
+
+		if (query.isLimited()) {
+			shape.append(" LIMIT ?");
+		}
+
+		if (query.getOffset() > 0) {
+			shape.append(" OFFSET ?");
+		}
+
+		return shape.toString().trim();
+	}
+
+	private static void appendCriteria(CriteriaDefinition criteria, StringBuilder shape) {
+
+		if (criteria.hasPrevious()) {
+			appendCriteria(criteria.getPrevious(), shape);
+		}
+
+		if (criteria.isEmpty()) {
+			return;
+		}
+
+		if (criteria.getCombinator() != CriteriaDefinition.Combinator.INITIAL) {
+			shape.append(' ').append(criteria.getCombinator().name()).append(' ');
+		}
+
+		if (criteria.isGroup()) {
+
+			shape.append('(');
+			criteria.getGroup().forEach(nested -> appendCriteria(nested, shape));
+			shape.append(')');
+			return;
+		}
+
+		shape.append(criteria.getColumn().getReference()).append(' ')
+				.append(criteria.getComparator().getComparator());
+
+		switch (criteria.getComparator()) {
+			case IS_NULL, IS_NOT_NULL, IS_TRUE, IS_FALSE -> {}
+			case BETWEEN, NOT_BETWEEN -> shape.append(" ? AND ?");
+			case IN, NOT_IN -> shape.append(" (?)");
+			default -> shape.append(" ?");
+		}
+	}
+
+	/**
+	 * @return the name of the operation.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the entity type the operation is performed for.
+	 */
+	public Class<?> getEntityType() {
+		return entityType;
+	}
+
+	/**
+	 * @return the shape of the issued statement, {@literal null} if not known.
+	 */
+	@Nullable
+	public String getStatement() {
+		return statement;
+	}
+
+	/**
+	 * @param statement the shape of the issued statement. Must not contain values to keep the cardinality low.
+	 */
+	public void setStatement(@Nullable String statement) {
+		this.statement = statement;
+	}
+
+	/**
+	 * @return the name of the repository method that caused the operation, {@literal null} if not known.
+	 */
+	@Nullable
+	public String getRepositoryMethod() {
+		return repositoryMethod;
+	}
+
+	/**
+	 * @param repositoryMethod the name of the repository method that caused the operation.
+	 */
+	public void setRepositoryMethod(@Nullable String repositoryMethod) {
+		this.repositoryMethod = repositoryMethod;
+	}
+
+	/**
+	 * @return the number of rows read or written, {@literal -1} if not known.
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * @param rows the number of rows read or written.
+	 */
+	public void setRows(long rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * @return the number of entities processed with a single batch, {@literal -1} if the operation is not batched.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @param batchSize the number of entities processed with a single batch.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * {@link ObservationConvention} for {@link DataAccessObservationContext}.
+ *
+ * @since 3.2
+ * @see DefaultDataAccessObservationConvention
+ */
+public interface DataAccessObservationConvention extends ObservationConvention<DataAccessObservationContext> {
+
+	@Override
+	default boolean supportsContext(Observation.Context context) {
+		return context instanceof DataAccessObservationContext;
+	}
+
+	/**
+	 * Low cardinality keys. Their values are bounded by the number of entity types, operations, statement shapes and
+	 * repository methods.
+	 */
+	enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The entity type the operation is performed for.
+		 */
+		ENTITY_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.entity.type";
+			}
+		},
+
+		/**
+		 * The operation, e.g. {@code findById} or the kind of {@code DbAction}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "spring.data.operation";
+			}
+		},
+
+		/**
+		 * The shape of the issued statement.
+		 */
+		STATEMENT {
+			@Override
+			public String asString() {
+				return "spring.data.statement";
+			}
+		},
+
+		/**
+		 * The repository method causing the operation.
+		 */
+		REPOSITORY_METHOD {
+			@Override
+			public String asString() {
+				return "spring.data.repository.method";
+			}
+		}
+	}
+
+	/**
+	 * High cardinality keys.
+	 */
+	enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The number of rows read or written.
+		 */
+		ROWS {
+			@Override
+			public String asString() {
+				return "spring.data.rows";
+			}
+		},
+
+		/**
+		 * The number of entities written with a single batch.
+		 */
+		BATCH_SIZE {
+			@Override
+			public String asString() {
+				return "spring.data.batch.size";
+			}
+		}
+	}
+}
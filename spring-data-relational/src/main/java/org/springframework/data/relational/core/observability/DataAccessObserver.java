@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Creates {@link Observation observations} for data access operations. Observations are only created if the
+ * {@link ObservationRegistry} is not a no-op registry so that uninstrumented applications do not pay for
+ * instrumentation. Metrics such as timers are derived from observations by the handlers registered with the
+ * {@link ObservationRegistry}, e.g. the {@code DefaultMeterObservationHandler}.
+ *
+ * @since 3.2
+ */
+public class DataAccessObserver {
+
+	private final ObservationRegistry registry;
+	private final DataAccessObservationConvention defaultConvention;
+	private @Nullable DataAccessObservationConvention convention;
+
+	/**
+	 * Creates a new {@link DataAccessObserver}.
+	 *
+	 * @param registry the {@link ObservationRegistry}, must not be {@literal null}.
+	 * @param defaultConvention the convention to use unless a custom convention is configured, must not be
+	 *          {@literal null}.
+	 */
+	public DataAccessObserver(ObservationRegistry registry, DataAccessObservationConvention defaultConvention) {
+
+		Assert.notNull(registry, "ObservationRegistry must not be null");
+		Assert.notNull(defaultConvention, "Default DataAccessObservationConvention must not be null");
+
+		this.registry = registry;
+		this.defaultConvention = defaultConvention;
+	}
+
+	/**
+	 * Configure a custom {@link DataAccessObservationConvention} overriding the default one.
+	 *
+	 * @param convention the custom convention, may be {@literal null} to use the default convention.
+	 */
+	public void setConvention(@Nullable DataAccessObservationConvention convention) {
+		this.convention = convention;
+	}
+
+	/**
+	 * @return the {@link ObservationRegistry}.
+	 */
+	public ObservationRegistry getRegistry() {
+		return registry;
+	}
+
+	/**
+	 * @return {@literal true} if observations get recorded.
+	 */
+	public boolean isEnabled() {
+		return !registry.isNoop();
+	}
+
+	/**
+	 * Create a not yet started {@link Observation} for {@link DataAccessObservationContext}.
+	 *
+	 * @param context the context, must not be {@literal null}.
+	 * @return the {@link Observation}.
+	 */
+	public Observation createObservation(DataAccessObservationContext context) {
+		return Observation.createNotStarted(convention, defaultConvention, () -> context, registry);
+	}
+
+	/**
+	 * Run {@code action} within an {@link Observation} for {@code context}. Records the number of rows for
+	 * {@link Collection} and {@link Optional} results unless already set on the context.
+	 *
+	 * @param context supplier for the context, only called if observations get recorded, must not be {@literal null}.
+	 * @param action the data access operation, must not be {@literal null}.
+	 * @return the result of {@code action}.
+	 */
+	public <T> T observe(Supplier<DataAccessObservationContext> context, Supplier<T> action) {
+
+		if (!isEnabled()) {
+			return action.get();
+		}
+
+		DataAccessObservationContext observationContext = context.get();
+
+		return createObservation(observationContext).observe(() -> {
+
+			T result = action.get();
+
+			if (observationContext.getRows() < 0) {
+				observationContext.setRows(countRows(result));
+			}
+
+			return result;
+		});
+	}
+
+	private static long countRows(@Nullable Object result) {
+
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+
+		return -1;
+	}
+}
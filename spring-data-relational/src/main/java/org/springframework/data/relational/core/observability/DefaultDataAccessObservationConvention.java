@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.observability;
+
+import io.micrometer.common.KeyValues;
+
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link DataAccessObservationConvention} tagging observations with entity type, operation, statement shape and
+ * repository method. Rows and batch size are added as high cardinality key values.
+ *
+ * @since 3.2
+ */
+public class DefaultDataAccessObservationConvention implements DataAccessObservationConvention {
+
+	private final String name;
+
+	/**
+	 * Creates a new {@link DefaultDataAccessObservationConvention}.
+	 *
+	 * @param name the name of the observations, e.g. {@code spring.data.jdbc.operation}, must not be {@literal null} or
+	 *          empty.
+	 */
+	public DefaultDataAccessObservationConvention(String name) {
+
+		Assert.hasText(name, "Name must not be null or empty");
+
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getContextualName(DataAccessObservationContext context) {
+		return context.getOperation() + " " + context.getEntityType().getSimpleName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(DataAccessObservationContext context) {
+
+		KeyValues keyValues = KeyValues.of(LowCardinalityKeyNames.ENTITY_TYPE.withValue(context.getEntityType().getName()),
+				LowCardinalityKeyNames.OPERATION.withValue(context.getOperation()));
+
+		if (context.getStatement() != null) {
+			keyValues = keyValues.and(LowCardinalityKeyNames.STATEMENT.withValue(context.getStatement()));
+		}
+
+		if (context.getRepositoryMethod() != null) {
+			keyValues = keyValues.and(LowCardinalityKeyNames.REPOSITORY_METHOD.withValue(context.getRepositoryMethod()));
+		}
+
+		return keyValues;
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(DataAccessObservationContext context) {
+
+		KeyValues keyValues = KeyValues.empty();
+
+		if (context.getRows() >= 0) {
+			keyValues = keyValues.and(HighCardinalityKeyNames.ROWS.withValue(Long.toString(context.getRows())));
+		}
+
+		if (context.getBatchSize() >= 0) {
+			keyValues = keyValues.and(HighCardinalityKeyNames.BATCH_SIZE.withValue(Integer.toString(context.getBatchSize())));
+		}
+
+		return keyValues;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * Observability support for data access operations based on the Micrometer Observation API.
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.lang.NonNullFields
+package org.springframework.data.relational.core.observability;
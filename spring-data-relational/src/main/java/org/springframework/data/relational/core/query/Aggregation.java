@@ -0,0 +1,365 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.relational.core.query.CriteriaDefinition.Comparator;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.SimpleFunction;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Aggregation to apply on top of a {@link Query}. An aggregation groups the rows matching the query by
+ * {@link #groupBy(String...) properties}, computes aggregate functions such as {@link #count(String) COUNT} or
+ * {@link #sum(String, String) SUM} per group and filters groups by the value of these functions using
+ * {@link #having(String, Comparator, Object) HAVING}.
+ * <p>
+ * Aggregate functions are identified by their alias. The alias is the label of the function in the result and is used
+ * to refer to the function in {@link #having(String, Comparator, Object) HAVING} and in the {@link Query#getSort() sort}
+ * of the query. Group-by properties are selected using their column name. Aliases should therefore follow the column
+ * naming of the result type, e.g. {@code total_salary} for a {@code totalSalary} property.
+ * <p>
+ * {@link Aggregation} is immutable. Each method returns a new instance.
+ *
+ * <pre class="code">
+ * Aggregation.groupBy("department").count("employees").avg("salary", "average_salary")
+ * 		.having("employees", Comparator.GT, 10);
+ * </pre>
+ *
+ * @since 3.2
+ */
+public class Aggregation {
+
+	private static final Aggregation EMPTY = new Aggregation(Collections.emptyList(), Collections.emptyList(),
+			Collections.emptyList());
+
+	private final List<String> groupBy;
+	private final List<AggregateFunction> functions;
+	private final List<AggregateFilter> having;
+
+	private Aggregation(List<String> groupBy, List<AggregateFunction> functions, List<AggregateFilter> having) {
+
+		this.groupBy = groupBy;
+		this.functions = functions;
+		this.having = having;
+	}
+
+	/**
+	 * Create a new {@link Aggregation} computing aggregate functions over all rows without grouping.
+	 *
+	 * @return the empty {@link Aggregation}.
+	 */
+	public static Aggregation empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link Aggregation} grouping rows by {@code properties}.
+	 *
+	 * @param properties names of the properties to group by, must not be {@literal null}.
+	 * @return a new {@link Aggregation}.
+	 */
+	public static Aggregation groupBy(String... properties) {
+
+		Assert.notNull(properties, "Properties must not be null");
+		Assert.noNullElements(properties, "Properties must not contain null elements");
+
+		return new Aggregation(Collections.unmodifiableList(Arrays.asList(properties)), EMPTY.functions, EMPTY.having);
+	}
+
+	/**
+	 * Count the rows of each group.
+	 *
+	 * @param alias the alias of the function, must not be {@literal null} or empty.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation count(String alias) {
+		return with(new AggregateFunction("COUNT", null, alias));
+	}
+
+	/**
+	 * Count the non-{@literal null} values of {@code property} in each group.
+	 *
+	 * @param property the property to count, must not be {@literal null} or empty.
+	 * @param alias the alias of the function, must not be {@literal null} or empty.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation count(String property, String alias) {
+		return with(new AggregateFunction("COUNT", property, alias));
+	}
+
+	/**
+	 * Sum up the values of {@code property} in each group.
+	 *
+	 * @param property the property to aggregate, must not be {@literal null} or empty.
+	 * @param alias the alias of the function, must not be {@literal null} or empty.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation sum(String property, String alias) {
+		return with(new AggregateFunction("SUM", property, alias));
+	}
+
+	/**
+	 * Compute the average of the values of {@code property} in each group.
+	 *
+	 * @param property the property to aggregate, must not be {@literal null} or empty.
+	 * @param alias the alias of the function, must not be {@literal null} or empty.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation avg(String property, String alias) {
+		return with(new AggregateFunction("AVG", property, alias));
+	}
+
+	/**
+	 * Compute the minimum of the values of {@code property} in each group.
+	 *
+	 * @param property the property to aggregate, must not be {@literal null} or empty.
+	 * @param alias the alias of the function, must not be {@literal null} or empty.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation min(String property, String alias) {
+		return with(new AggregateFunction("MIN", property, alias));
+	}
+
+	/**
+	 * Compute the maximum of the values of {@code property} in each group.
+	 *
+	 * @param property the property to aggregate, must not be {@literal null} or empty.
+	 * @param alias the alias of the function, must not be {@literal null} or empty.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation max(String property, String alias) {
+		return with(new AggregateFunction("MAX", property, alias));
+	}
+
+	/**
+	 * Filter groups by comparing the aggregate function identified by {@code alias} with {@code value}. Multiple filters
+	 * are combined using {@code AND}.
+	 *
+	 * @param alias the alias of a previously defined aggregate function, must not be {@literal null}.
+	 * @param comparator one of {@code =}, {@code !=}, {@code <}, {@code <=}, {@code >} or {@code >=}.
+	 * @param value the value to compare with, must not be {@literal null}.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation having(String alias, Comparator comparator, Object value) {
+
+		Assert.notNull(alias, "Alias must not be null");
+		Assert.notNull(comparator, "Comparator must not be null");
+		Assert.notNull(value, "Value must not be null");
+		Assert.isTrue(getFunction(alias).isPresent(),
+				() -> String.format("No aggregate function with alias '%s' defined", alias));
+
+		List<AggregateFilter> having = new ArrayList<>(this.having);
+		having.add(new AggregateFilter(alias, comparator, value));
+
+		return new Aggregation(groupBy, functions, Collections.unmodifiableList(having));
+	}
+
+	/**
+	 * @return the names of the properties to group by.
+	 */
+	public List<String> getGroupBy() {
+		return groupBy;
+	}
+
+	/**
+	 * @return the aggregate functions in the order of their definition.
+	 */
+	public List<AggregateFunction> getFunctions() {
+		return functions;
+	}
+
+	/**
+	 * @return the filters to apply to the groups.
+	 */
+	public List<AggregateFilter> getHaving() {
+		return having;
+	}
+
+	/**
+	 * Return the {@link AggregateFunction} with the given {@code alias}.
+	 *
+	 * @param alias the alias to look up.
+	 * @return the {@link AggregateFunction} if defined.
+	 */
+	public Optional<AggregateFunction> getFunction(String alias) {
+
+		for (AggregateFunction function : functions) {
+			if (function.getAlias().equals(alias)) {
+				return Optional.of(function);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private Aggregation with(AggregateFunction function) {
+
+		Assert.isTrue(getFunction(function.getAlias()).isEmpty(),
+				() -> String.format("Aggregate function with alias '%s' already defined", function.getAlias()));
+
+		List<AggregateFunction> functions = new ArrayList<>(this.functions);
+		functions.add(function);
+
+		return new Aggregation(groupBy, Collections.unmodifiableList(functions), having);
+	}
+
+	@Override
+	public String toString() {
+		return "Aggregation{groupBy=" + groupBy + ", functions=" + functions + ", having=" + having + '}';
+	}
+
+	/**
+	 * An aggregate function over a property, identified by its alias.
+	 */
+	public static final class AggregateFunction {
+
+		private final String name;
+		private final @Nullable String property;
+		private final String alias;
+
+		private AggregateFunction(String name, @Nullable String property, String alias) {
+
+			Assert.isTrue(property == null || !property.isEmpty(), "Property must not be empty");
+			Assert.hasText(alias, "Alias must not be null or empty");
+
+			this.name = name;
+			this.property = property;
+			this.alias = alias;
+		}
+
+		/**
+		 * @return the SQL name of the function, e.g. {@code SUM}.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the aggregated property or {@literal null} to aggregate rows using {@code COUNT(*)}.
+		 */
+		@Nullable
+		public String getProperty() {
+			return property;
+		}
+
+		public String getAlias() {
+			return alias;
+		}
+
+		/**
+		 * Create the {@link SimpleFunction} for this function.
+		 *
+		 * @param columnResolver resolves a property name to its column expression.
+		 * @return the function expression, without alias.
+		 */
+		public SimpleFunction toExpression(Function<String, ? extends Expression> columnResolver) {
+
+			if (property == null) {
+				return Functions.count(Expressions.asterisk());
+			}
+
+			Expression argument = columnResolver.apply(property);
+
+			return switch (name) {
+				case "COUNT" -> Functions.count(argument);
+				case "SUM" -> Functions.sum(argument);
+				case "AVG" -> Functions.avg(argument);
+				case "MIN" -> Functions.min(argument);
+				case "MAX" -> Functions.max(argument);
+				default -> throw new IllegalStateException(String.format("Unsupported aggregate function %s", name));
+			};
+		}
+
+		@Override
+		public String toString() {
+			return name + "(" + (property != null ? property : "*") + ") AS " + alias;
+		}
+	}
+
+	/**
+	 * A filter comparing an aggregate function with a value.
+	 */
+	public static final class AggregateFilter {
+
+		private final String alias;
+		private final Comparator comparator;
+		private final Object value;
+
+		private AggregateFilter(String alias, Comparator comparator, Object value) {
+
+			Assert.isTrue(
+					comparator == Comparator.EQ || comparator == Comparator.NEQ || comparator == Comparator.LT
+							|| comparator == Comparator.LTE || comparator == Comparator.GT || comparator == Comparator.GTE,
+					() -> String.format("Comparator %s not supported for HAVING; Use one of =, !=, <, <=, >, >=", comparator));
+
+			this.alias = alias;
+			this.comparator = comparator;
+			this.value = value;
+		}
+
+		/**
+		 * @return the alias of the filtered aggregate function.
+		 */
+		public String getAlias() {
+			return alias;
+		}
+
+		public Comparator getComparator() {
+			return comparator;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		/**
+		 * Create the {@link Condition} comparing {@code function} with {@code value}.
+		 *
+		 * @param function the aggregate function expression.
+		 * @param value the expression holding the value, typically a bind marker.
+		 * @return the {@link Condition}.
+		 */
+		public Condition toCondition(Expression function, Expression value) {
+
+			return switch (comparator) {
+				case EQ -> Conditions.isEqual(function, value);
+				case NEQ -> Conditions.isNotEqual(function, value);
+				case LT -> Conditions.isLess(function, value);
+				case LTE -> Conditions.isLessOrEqualTo(function, value);
+				case GT -> Conditions.isGreater(function, value);
+				case GTE -> Conditions.isGreaterOrEqualTo(function, value);
+				default -> throw new IllegalStateException(String.format("Unsupported comparator %s", comparator));
+			};
+		}
+
+		@Override
+		public String toString() {
+			return alias + " " + comparator.getComparator() + " " + value;
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.springframework.util.Assert;
 public class Query {
 
 	private static final int NO_LIMIT = -1;
+	private static final int NO_FETCH_SIZE = 0;
 
 	private final @Nullable CriteriaDefinition criteria;
 
@@ -49,6 +50,7 @@ public class Query {
 	private final Sort sort;
 	private final int limit;
 	private final long offset;
+	private final int fetchSize;
 
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
@@ -66,16 +68,18 @@ public class Query {
 	 * @param criteria must not be {@literal null}.
 	 */
 	private Query(@Nullable CriteriaDefinition criteria) {
-		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT);
+		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT, NO_FETCH_SIZE);
 	}
 
-	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset) {
+	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset,
+			int fetchSize) {
 
 		this.criteria = criteria;
 		this.columns = columns;
 		this.sort = sort;
 		this.limit = limit;
 		this.offset = offset;
+		this.fetchSize = fetchSize;
 	}
 
 	/**
@@ -139,7 +143,7 @@ public class Query {
 
 		List<SqlIdentifier> newColumns = new ArrayList<>(this.columns);
 		newColumns.addAll(columns);
-		return new Query(this.criteria, newColumns, this.sort, this.limit, offset);
+		return new Query(this.criteria, newColumns, this.sort, this.limit, offset, this.fetchSize);
 	}
 
 	/**
@@ -149,7 +153,7 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code offset} applied.
 	 */
 	public Query offset(long offset) {
-		return new Query(this.criteria, this.columns, this.sort, this.limit, offset);
+		return new Query(this.criteria, this.columns, this.sort, this.limit, offset, this.fetchSize);
 	}
 
 	/**
@@ -159,7 +163,23 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code limit} applied.
 	 */
 	public Query limit(int limit) {
-		return new Query(this.criteria, this.columns, this.sort, limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort, limit, this.offset, this.fetchSize);
+	}
+
+	/**
+	 * Set the number of rows to fetch from the database per round trip. A fetch size lets drivers stream large results
+	 * with bounded memory. Reactive results additionally limit the demand propagated to the driver to the fetch size.
+	 * Modules that do not support streaming ignore the fetch size.
+	 *
+	 * @param fetchSize the number of rows to fetch per round trip, {@code 0} to use the driver default.
+	 * @return a new {@link Query} object containing the former settings with {@code fetchSize} applied.
+	 * @since 3.2
+	 */
+	public Query fetchSize(int fetchSize) {
+
+		Assert.isTrue(fetchSize >= 0, "Fetch size must be greater than or equal to zero");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, fetchSize);
 	}
 
 	/**
@@ -178,7 +198,7 @@ public class Query {
 		assertNoCaseSort(pageable.getSort());
 
 		return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), pageable.getPageSize(),
-				pageable.getOffset());
+				pageable.getOffset(), this.fetchSize);
 	}
 
 	/**
@@ -197,7 +217,8 @@ public class Query {
 
 		assertNoCaseSort(sort);
 
-		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset,
+				this.fetchSize);
 	}
 
 	/**
@@ -250,6 +271,16 @@ public class Query {
 		return this.limit;
 	}
 
+	/**
+	 * Return the number of rows to fetch per round trip.
+	 *
+	 * @return the fetch size, {@code 0} if the driver default applies.
+	 * @since 3.2
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
 	/**
 	 * Return whether the query has a limit.
 	 *
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Utility methods to run scroll queries returning a {@link Window} on top of {@link Query}.
+ * <p>
+ * {@link KeysetScrollPosition Keyset scrolling} translates the position into a predicate on the sort properties
+ * instead of skipping rows so that the cost of fetching a window does not depend on its position. The sort is
+ * completed with the identifier to make it unique. Continuing after the keys {@code (x, y)} of {@code ORDER BY a, b}
+ * renders {@code a > x OR (a = x AND b > y)}. The expanded form, unlike a row value comparison
+ * {@code (a, b) > (x, y)}, supports mixed sort directions and is understood by all dialects.
+ *
+ * @since 3.2
+ */
+public class ScrollUtils {
+
+	private ScrollUtils() {}
+
+	/**
+	 * Create the {@link Query} to fetch the window at {@link ScrollPosition}. The query fetches one element beyond its
+	 * limit to detect whether there is a next window.
+	 *
+	 * @param query the query to scroll through, must not be {@literal null}.
+	 * @param position the position to start from, must not be {@literal null}.
+	 * @param entity the queried entity, must not be {@literal null}.
+	 * @return the query for the window.
+	 */
+	public static Query createQuery(Query query, ScrollPosition position, RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(position, "ScrollPosition must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+
+		if (position instanceof OffsetScrollPosition offset) {
+
+			Query result = query.offset(getStartOffset(offset));
+			return query.isLimited() ? result.limit(query.getLimit() + 1) : result;
+		}
+
+		if (!(position instanceof KeysetScrollPosition keyset)) {
+			throw new UnsupportedOperationException(String.format("ScrollPosition %s not supported", position));
+		}
+
+		Sort sort = getKeysetSort(query.getSort(), entity);
+		Sort sortToUse = keyset.scrollsBackward() ? sort.reverse() : sort;
+
+		CriteriaDefinition criteria = query.getCriteria().orElse(null);
+
+		if (!keyset.isInitial()) {
+
+			Criteria keysetCriteria = createKeysetCriteria(sortToUse, keyset.getKeys());
+			criteria = criteria == null || criteria.isEmpty() ? keysetCriteria
+					: Criteria.empty().and(List.of(criteria, keysetCriteria));
+		}
+
+		Query result = criteria != null ? Query.query(criteria) : Query.empty();
+		result = result.columns(query.getColumns().toArray(new SqlIdentifier[0])).sort(sortToUse)
+				.fetchSize(query.getFetchSize());
+
+		return query.isLimited() ? result.limit(query.getLimit() + 1) : result;
+	}
+
+	/**
+	 * Create a {@link Window} from the results of a query obtained through
+	 * {@link #createQuery(Query, ScrollPosition, RelationalPersistentEntity)}.
+	 *
+	 * @param query the query to scroll through, must not be {@literal null}.
+	 * @param position the position the results were fetched from, must not be {@literal null}.
+	 * @param results the fetched results, must not be {@literal null}.
+	 * @param entity the queried entity, must not be {@literal null}.
+	 * @return the {@link Window}.
+	 */
+	public static <T> Window<T> createWindow(Query query, ScrollPosition position, List<T> results,
+			RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(position, "ScrollPosition must not be null");
+		Assert.notNull(results, "Results must not be null");
+
+		boolean hasNext = query.isLimited() && results.size() > query.getLimit();
+		List<T> window = hasNext ? new ArrayList<>(results.subList(0, query.getLimit())) : new ArrayList<>(results);
+
+		if (position instanceof OffsetScrollPosition offset) {
+
+			long start = getStartOffset(offset);
+			return Window.from(window, index -> ScrollPosition.offset(start + index), hasNext);
+		}
+
+		KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+
+		if (keyset.scrollsBackward()) {
+			Collections.reverse(window);
+		}
+
+		Sort sort = getKeysetSort(query.getSort(), entity);
+		IntFunction<ScrollPosition> positionFunction = index -> {
+
+			Map<String, Object> keys = extractKeys(entity, window.get(index), sort);
+			return keyset.scrollsBackward() ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+		};
+
+		return Window.from(window, positionFunction, hasNext);
+	}
+
+	/**
+	 * Offset positions refer to the last element of the previous window.
+	 */
+	private static long getStartOffset(OffsetScrollPosition position) {
+		return position.isInitial() ? 0 : position.getOffset() + 1;
+	}
+
+	/**
+	 * Append the identifier to the {@link Sort} unless already present so that the keys identify a row uniquely.
+	 */
+	private static Sort getKeysetSort(Sort sort, RelationalPersistentEntity<?> entity) {
+
+		if (!entity.hasIdProperty()) {
+			return sort;
+		}
+
+		String idProperty = entity.getRequiredIdProperty().getName();
+		if (sort.getOrderFor(idProperty) != null) {
+			return sort;
+		}
+
+		return sort.and(Sort.by(idProperty));
+	}
+
+	/**
+	 * Create {@code (a > x) OR (a = x AND b > y) OR …} for the sort orders {@code a, b, …} and their keys
+	 * {@code x, y, …}.
+	 */
+	private static Criteria createKeysetCriteria(Sort sort, Map<String, ?> keys) {
+
+		List<Criteria> alternatives = new ArrayList<>();
+		List<Criteria> equalities = new ArrayList<>();
+
+		for (Sort.Order order : sort) {
+
+			String property = order.getProperty();
+			Assert.state(keys.containsKey(property),
+					() -> String.format("Keyset position does not contain a key for sort property '%s'", property));
+
+			Object key = keys.get(property);
+			Assert.state(key != null,
+					() -> String.format("Keyset scrolling does not support null keys; Property '%s' is null", property));
+
+			Criteria.CriteriaStep step = Criteria.where(property);
+			Criteria comparison = order.isAscending() ? step.greaterThan(key) : step.lessThan(key);
+
+			List<Criteria> alternative = new ArrayList<>(equalities);
+			alternative.add(comparison);
+			alternatives.add(Criteria.from(alternative));
+
+			equalities.add(Criteria.where(property).is(key));
+		}
+
+		Criteria result = Criteria.empty();
+		for (Criteria alternative : alternatives) {
+			result = result.or(alternative);
+		}
+
+		return result;
+	}
+
+	private static <T> Map<String, Object> extractKeys(RelationalPersistentEntity<?> entity, T instance, Sort sort) {
+
+		@SuppressWarnings("unchecked")
+		PersistentPropertyAccessor<T> accessor = ((RelationalPersistentEntity<T>) entity).getPropertyAccessor(instance);
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (Sort.Order order : sort) {
+
+			RelationalPersistentProperty property = entity.getRequiredPersistentProperty(order.getProperty());
+			keys.put(order.getProperty(), accessor.getProperty(property));
+		}
+
+		return keys;
+	}
+}
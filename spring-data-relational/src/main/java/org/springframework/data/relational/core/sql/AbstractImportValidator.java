@@ -44,7 +44,8 @@ abstract class AbstractImportValidator implements Visitor {
 		}
 
 		if (segment instanceof Join || segment instanceof OrderByField || segment instanceof From
-				|| segment instanceof Select || segment instanceof Where || segment instanceof SimpleFunction) {
+				|| segment instanceof Select || segment instanceof Where || segment instanceof SimpleFunction
+				|| segment instanceof GroupBy || segment instanceof Having) {
 			parent = segment;
 		}
 	}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Common table expression defined in a {@code WITH} clause. Renders to {@code name [(column, …)] AS (SELECT …)}. The
+ * main query refers to the common table expression by its {@link #getName() name}, e.g. using {@link #asTable()}.
+ *
+ * @since 3.2
+ * @see StatementBuilder#with(CommonTableExpression...)
+ * @see StatementBuilder#withRecursive(CommonTableExpression...)
+ */
+public class CommonTableExpression extends Subselect implements Named {
+
+	private final SqlIdentifier name;
+	private final List<SqlIdentifier> columnNames;
+
+	CommonTableExpression(SqlIdentifier name, List<SqlIdentifier> columnNames, Select select) {
+
+		super(select);
+
+		this.name = name;
+		this.columnNames = columnNames;
+	}
+
+	/**
+	 * Creates a new {@link CommonTableExpression} without column list.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param select must not be {@literal null}.
+	 * @return the new {@link CommonTableExpression}.
+	 */
+	public static CommonTableExpression create(String name, Select select) {
+
+		Assert.hasText(name, "Name must not be null or empty");
+
+		return create(SqlIdentifier.unquoted(name), Collections.emptyList(), select);
+	}
+
+	/**
+	 * Creates a new {@link CommonTableExpression} declaring the names of its columns. Recursive common table expressions
+	 * typically declare their columns.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param columnNames must not be {@literal null}.
+	 * @param select must not be {@literal null}.
+	 * @return the new {@link CommonTableExpression}.
+	 */
+	public static CommonTableExpression create(SqlIdentifier name, List<SqlIdentifier> columnNames, Select select) {
+
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(columnNames, "Column names must not be null");
+		Assert.notNull(select, "Select must not be null");
+
+		return new CommonTableExpression(name, List.copyOf(columnNames), select);
+	}
+
+	/**
+	 * Creates a new {@link CommonTableExpression} declaring the names of its columns.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param select must not be {@literal null}.
+	 * @param columnNames must not be {@literal null}.
+	 * @return the new {@link CommonTableExpression}.
+	 */
+	public static CommonTableExpression create(String name, Select select, String... columnNames) {
+
+		Assert.hasText(name, "Name must not be null or empty");
+		Assert.notNull(columnNames, "Column names must not be null");
+
+		return create(SqlIdentifier.unquoted(name), Arrays.stream(columnNames).map(SqlIdentifier::unquoted).toList(),
+				select);
+	}
+
+	/**
+	 * @return a {@link Table} referring to this common table expression.
+	 */
+	public Table asTable() {
+		return Table.create(name);
+	}
+
+	@Override
+	public SqlIdentifier getName() {
+		return name;
+	}
+
+	/**
+	 * @return the declared column names. Empty if the columns are named after the select list.
+	 */
+	public List<SqlIdentifier> getColumnNames() {
+		return columnNames;
+	}
+
+	@Override
+	public String toString() {
+
+		String columns = columnNames.isEmpty() ? ""
+				: " (" + StringUtils.collectionToDelimitedString(columnNames, ", ") + ")";
+		return name + columns + " AS " + super.toString();
+	}
+}
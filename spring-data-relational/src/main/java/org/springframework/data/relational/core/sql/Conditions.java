@@ -304,6 +304,28 @@ public abstract class Conditions {
 		return notIn(column, new SubselectExpression(subselect));
 	}
 
+	/**
+	 * Creates a {@code EXISTS} {@link Condition clause} for a {@link Select subselect}.
+	 *
+	 * @param subselect the subselect.
+	 * @return the {@link Exists} condition.
+	 * @since 3.2
+	 */
+	public static Exists exists(Select subselect) {
+		return Exists.create(subselect);
+	}
+
+	/**
+	 * Creates a {@code NOT EXISTS} {@link Condition clause} for a {@link Select subselect}.
+	 *
+	 * @param subselect the subselect.
+	 * @return the {@link Exists NOT EXISTS} condition.
+	 * @since 3.2
+	 */
+	public static Condition notExists(Select subselect) {
+		return Exists.create(subselect).not();
+	}
+
 	// Utility constructor.
 	private Conditions() {}
 }
@@ -37,23 +37,43 @@ class DefaultSelect implements Select {
 	private final From from;
 	private final long limit;
 	private final long offset;
+	private final @Nullable BindMarker limitBindMarker;
+	private final @Nullable BindMarker offsetBindMarker;
 	private final List<Join> joins;
 	private final @Nullable Where where;
+	private final @Nullable GroupBy groupBy;
+	private final @Nullable Having having;
+	private final List<Union> unions;
 	private final List<OrderByField> orderBy;
 	private final @Nullable LockMode lockMode;
+	private final @Nullable With with;
 
 	DefaultSelect(boolean distinct, List<Expression> selectList, List<TableLike> from, long limit, long offset,
 			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
+		this(null, distinct, selectList, from, limit, offset, null, null, joins, where, Collections.emptyList(), null,
+				Collections.emptyList(), orderBy, lockMode);
+	}
+
+	DefaultSelect(@Nullable With with, boolean distinct, List<Expression> selectList, List<TableLike> from, long limit,
+			long offset, @Nullable BindMarker limitBindMarker, @Nullable BindMarker offsetBindMarker, List<Join> joins,
+			@Nullable Condition where, List<Expression> groupBy, @Nullable Condition having, List<Union> unions,
+			List<OrderByField> orderBy, @Nullable LockMode lockMode) {
 
 		this.distinct = distinct;
 		this.selectList = new SelectList(new ArrayList<>(selectList));
 		this.from = new From(new ArrayList<>(from));
 		this.limit = limit;
 		this.offset = offset;
+		this.limitBindMarker = limitBindMarker;
+		this.offsetBindMarker = offsetBindMarker;
 		this.joins = new ArrayList<>(joins);
 		this.orderBy = Collections.unmodifiableList(new ArrayList<>(orderBy));
 		this.where = where != null ? new Where(where) : null;
+		this.groupBy = groupBy.isEmpty() ? null : new GroupBy(groupBy.toArray(new Expression[0]));
+		this.having = having != null ? new Having(having) : null;
+		this.unions = new ArrayList<>(unions);
 		this.lockMode = lockMode;
+		this.with = with;
 	}
 
 	@Override
@@ -76,6 +96,18 @@ class DefaultSelect implements Select {
 		return offset == -1 ? OptionalLong.empty() : OptionalLong.of(offset);
 	}
 
+	@Nullable
+	@Override
+	public BindMarker getLimitBindMarker() {
+		return limitBindMarker;
+	}
+
+	@Nullable
+	@Override
+	public BindMarker getOffsetBindMarker() {
+		return offsetBindMarker;
+	}
+
 	@Override
 	public boolean isDistinct() {
 		return distinct;
@@ -94,11 +126,15 @@ class DefaultSelect implements Select {
 
 		visitor.enter(this);
 
+		visitIfNotNull(with, visitor);
 		selectList.visit(visitor);
 		from.visit(visitor);
 		joins.forEach(it -> it.visit(visitor));
 
 		visitIfNotNull(where, visitor);
+		visitIfNotNull(groupBy, visitor);
+		visitIfNotNull(having, visitor);
+		unions.forEach(it -> it.visit(visitor));
 
 		orderBy.forEach(it -> it.visit(visitor));
 
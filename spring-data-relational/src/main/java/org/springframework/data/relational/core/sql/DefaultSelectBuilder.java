@@ -23,8 +23,11 @@ import java.util.List;
 import org.springframework.data.relational.core.sql.Join.JoinType;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectHaving;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectUnion;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectWhereAndOr;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Default {@link SelectBuilder} implementation.
@@ -34,17 +37,39 @@ import org.springframework.lang.Nullable;
  * @author Myeonghyeon Lee
  * @since 1.1
  */
-class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAndJoin, SelectWhereAndOr {
+class DefaultSelectBuilder
+		implements SelectBuilder, SelectAndFrom, SelectFromAndJoin, SelectWhereAndOr, SelectHaving, SelectUnion {
 
 	private boolean distinct = false;
 	private final List<Expression> selectList = new ArrayList<>();
 	private final List<TableLike> from = new ArrayList<>();
 	private long limit = -1;
 	private long offset = -1;
+	private @Nullable BindMarker limitBindMarker;
+	private @Nullable BindMarker offsetBindMarker;
 	private final List<Join> joins = new ArrayList<>();
 	private @Nullable Condition where;
+	private final List<Expression> groupBy = new ArrayList<>();
+	private @Nullable Condition having;
 	private final List<OrderByField> orderBy = new ArrayList<>();
 	private @Nullable LockMode lockMode;
+	private final List<CommonTableExpression> commonTableExpressions = new ArrayList<>();
+	private boolean recursive = false;
+	private final List<Union> unions = new ArrayList<>();
+
+	@Override
+	public SelectBuilder with(CommonTableExpression... commonTableExpressions) {
+
+		this.commonTableExpressions.addAll(Arrays.asList(commonTableExpressions));
+		return this;
+	}
+
+	@Override
+	public SelectBuilder withRecursive(CommonTableExpression... commonTableExpressions) {
+
+		this.recursive = true;
+		return with(commonTableExpressions);
+	}
 
 	@Override
 	public SelectBuilder top(int count) {
@@ -102,20 +127,45 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 
 	@Override
 	public SelectFromAndJoin limitOffset(long limit, long offset) {
-		this.limit = limit;
-		this.offset = offset;
-		return this;
+		return limit(limit).offset(offset);
 	}
 
 	@Override
 	public SelectFromAndJoin limit(long limit) {
 		this.limit = limit;
+		this.limitBindMarker = null;
 		return this;
 	}
 
 	@Override
 	public SelectFromAndJoin offset(long offset) {
 		this.offset = offset;
+		this.offsetBindMarker = null;
+		return this;
+	}
+
+	@Override
+	public SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset) {
+		return limit(limit).offset(offset);
+	}
+
+	@Override
+	public SelectFromAndJoin limit(BindMarker limit) {
+
+		Assert.notNull(limit, "Limit bind marker must not be null");
+
+		this.limit = -1;
+		this.limitBindMarker = limit;
+		return this;
+	}
+
+	@Override
+	public SelectFromAndJoin offset(BindMarker offset) {
+
+		Assert.notNull(offset, "Offset bind marker must not be null");
+
+		this.offset = -1;
+		this.offsetBindMarker = offset;
 		return this;
 	}
 
@@ -152,6 +202,43 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 		return this;
 	}
 
+	@Override
+	public DefaultSelectBuilder groupBy(Expression... expressions) {
+
+		this.groupBy.addAll(Arrays.asList(expressions));
+
+		return this;
+	}
+
+	@Override
+	public DefaultSelectBuilder groupBy(Collection<? extends Expression> expressions) {
+
+		this.groupBy.addAll(expressions);
+
+		return this;
+	}
+
+	@Override
+	public DefaultSelectBuilder having(Condition condition) {
+
+		having = having == null ? condition : having.and(condition);
+		return this;
+	}
+
+	@Override
+	public DefaultSelectBuilder union(Select select) {
+
+		this.unions.add(new Union(select, false));
+		return this;
+	}
+
+	@Override
+	public DefaultSelectBuilder unionAll(Select select) {
+
+		this.unions.add(new Union(select, true));
+		return this;
+	}
+
 	@Override
 	public SelectWhereAndOr and(Condition condition) {
 
@@ -201,10 +288,20 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 
 	@Override
 	public Select build() {
+		return build(true);
+	}
+
+	@Override
+	public Select build(boolean validate) {
+
+		With with = commonTableExpressions.isEmpty() ? null : new With(recursive, new ArrayList<>(commonTableExpressions));
+		DefaultSelect select = new DefaultSelect(with, distinct, selectList, from, limit, offset, limitBindMarker,
+				offsetBindMarker, joins, where, groupBy, having, unions, orderBy, lockMode);
+
+		if (validate) {
+			SelectValidator.validate(select);
+		}
 
-		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy,
-				lockMode);
-		SelectValidator.validate(select);
 		return select;
 	}
 
@@ -310,6 +407,30 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.where(condition);
 		}
 
+		@Override
+		public SelectHaving groupBy(Expression... expressions) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.groupBy(expressions);
+		}
+
+		@Override
+		public SelectHaving groupBy(Collection<? extends Expression> expressions) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.groupBy(expressions);
+		}
+
+		@Override
+		public SelectUnion union(Select select) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.union(select);
+		}
+
+		@Override
+		public SelectUnion unionAll(Select select) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.unionAll(select);
+		}
+
 		@Override
 		public SelectOn join(String table) {
 			selectBuilder.join(finishJoin());
@@ -352,6 +473,24 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.offset(offset);
 		}
 
+		@Override
+		public SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.limitOffset(limit, offset);
+		}
+
+		@Override
+		public SelectFromAndJoin limit(BindMarker limit) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.limit(limit);
+		}
+
+		@Override
+		public SelectFromAndJoin offset(BindMarker offset) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.offset(offset);
+		}
+
 		@Override
 		public SelectLock lock(LockMode lockMode) {
 			selectBuilder.join(finishJoin());
@@ -363,5 +502,11 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			selectBuilder.join(finishJoin());
 			return selectBuilder.build();
 		}
+
+		@Override
+		public Select build(boolean validate) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.build(validate);
+		}
 	}
 }
@@ -34,6 +34,12 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 
 	private final String name;
 	private final boolean quoted;
+	private final String toString;
+
+	/**
+	 * Quoted form for the most recently used {@link IdentifierProcessing}, typically the one of the current dialect.
+	 */
+	private @Nullable QuotedIdentifier quotedIdentifier;
 
 	DefaultSqlIdentifier(String name, boolean quoted) {
 
@@ -41,6 +47,7 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 
 		this.name = name;
 		this.quoted = quoted;
+		this.toString = quoted ? toSql(IdentifierProcessing.ANSI) : this.name;
 	}
 
 	@Override
@@ -58,7 +65,19 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 
 	@Override
 	public String toSql(IdentifierProcessing processing) {
-		return quoted ? processing.quote(name) : name;
+
+		if (!quoted) {
+			return name;
+		}
+
+		QuotedIdentifier quotedIdentifier = this.quotedIdentifier;
+		if (quotedIdentifier != null && quotedIdentifier.processing() == processing) {
+			return quotedIdentifier.sql();
+		}
+
+		String sql = processing.quote(name);
+		this.quotedIdentifier = new QuotedIdentifier(processing, sql);
+		return sql;
 	}
 
 	@Override
@@ -88,6 +107,9 @@ class DefaultSqlIdentifier implements SqlIdentifier {
 
 	@Override
 	public String toString() {
-		return quoted ? toSql(IdentifierProcessing.ANSI) : this.name;
+		return this.toString;
+	}
+
+	private record QuotedIdentifier(IdentifierProcessing processing, String sql) {
 	}
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@code EXISTS} {@link Condition} testing whether a {@link Select subselect} returns any row. The subselect is
+ * typically correlated with the outer query through its {@code WHERE} clause.
+ *
+ * @since 3.2
+ * @see Conditions#exists(Select)
+ * @see Conditions#notExists(Select)
+ */
+public class Exists extends AbstractSegment implements Condition {
+
+	private final SubselectExpression subselect;
+	private final boolean negated;
+
+	private Exists(SubselectExpression subselect, boolean negated) {
+
+		super(subselect);
+
+		this.subselect = subselect;
+		this.negated = negated;
+	}
+
+	/**
+	 * Creates a new {@link Exists} condition.
+	 *
+	 * @param subselect must not be {@literal null}.
+	 * @return the {@link Exists} condition.
+	 */
+	public static Exists create(Select subselect) {
+
+		Assert.notNull(subselect, "Subselect must not be null");
+
+		return new Exists(new SubselectExpression(subselect), false);
+	}
+
+	@Override
+	public Condition not() {
+		return new Exists(subselect, !negated);
+	}
+
+	public boolean isNegated() {
+		return negated;
+	}
+
+	@Override
+	public String toString() {
+		return (negated ? "NOT EXISTS " : "EXISTS ") + subselect;
+	}
+}
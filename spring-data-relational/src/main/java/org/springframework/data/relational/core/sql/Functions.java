@@ -94,6 +94,62 @@ public class Functions {
 		return SimpleFunction.create("LOWER", Collections.singletonList(expression));
 	}
 
+	/**
+	 * Creates a new {@code SUM} aggregate function computing the sum of {@code expression}.
+	 *
+	 * @param expression expression to aggregate, must not be {@literal null}.
+	 * @return the new {@link SimpleFunction sum function} for {@code expression}.
+	 * @since 3.2
+	 */
+	public static SimpleFunction sum(Expression expression) {
+
+		Assert.notNull(expression, "Expression must not be null");
+
+		return SimpleFunction.create("SUM", Collections.singletonList(expression));
+	}
+
+	/**
+	 * Creates a new {@code AVG} aggregate function computing the average of {@code expression}.
+	 *
+	 * @param expression expression to aggregate, must not be {@literal null}.
+	 * @return the new {@link SimpleFunction avg function} for {@code expression}.
+	 * @since 3.2
+	 */
+	public static SimpleFunction avg(Expression expression) {
+
+		Assert.notNull(expression, "Expression must not be null");
+
+		return SimpleFunction.create("AVG", Collections.singletonList(expression));
+	}
+
+	/**
+	 * Creates a new {@code MIN} aggregate function computing the minimum of {@code expression}.
+	 *
+	 * @param expression expression to aggregate, must not be {@literal null}.
+	 * @return the new {@link SimpleFunction min function} for {@code expression}.
+	 * @since 3.2
+	 */
+	public static SimpleFunction min(Expression expression) {
+
+		Assert.notNull(expression, "Expression must not be null");
+
+		return SimpleFunction.create("MIN", Collections.singletonList(expression));
+	}
+
+	/**
+	 * Creates a new {@code MAX} aggregate function computing the maximum of {@code expression}.
+	 *
+	 * @param expression expression to aggregate, must not be {@literal null}.
+	 * @return the new {@link SimpleFunction max function} for {@code expression}.
+	 * @since 3.2
+	 */
+	public static SimpleFunction max(Expression expression) {
+
+		Assert.notNull(expression, "Expression must not be null");
+
+		return SimpleFunction.create("MAX", Collections.singletonList(expression));
+	}
+
 	// Utility constructor.
 	private Functions() {}
 }
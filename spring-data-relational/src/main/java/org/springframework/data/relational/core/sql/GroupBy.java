@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Arrays;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code GROUP BY} clause.
+ *
+ * @since 3.2
+ */
+public class GroupBy extends SegmentList<Expression> {
+
+	private final Expression[] expressions;
+
+	GroupBy(Expression... expressions) {
+
+		super(expressions);
+
+		this.expressions = expressions;
+	}
+
+	@Override
+	public String toString() {
+		return "GROUP BY " + StringUtils.collectionToDelimitedString(Arrays.asList(expressions), ", ");
+	}
+}
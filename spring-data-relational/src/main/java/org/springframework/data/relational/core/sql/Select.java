@@ -24,10 +24,14 @@ import org.springframework.lang.Nullable;
  * AST for a {@code SELECT} statement. Visiting order:
  * <ol>
  * <li>Self</li>
+ * <li>{@link With WITH} common table expressions</li>
  * <li>{@link Column SELECT columns}</li>
  * <li>{@link Table FROM tables} clause</li>
  * <li>{@link Join JOINs}</li>
  * <li>{@link Condition WHERE} condition</li>
+ * <li>{@link GroupBy GROUP BY} expressions</li>
+ * <li>{@link Having HAVING} condition</li>
+ * <li>{@link Union UNION} queries</li>
  * <li>{@link OrderByField ORDER BY fields}</li>
  * </ol>
  *
@@ -70,6 +74,28 @@ public interface Select extends Segment, Visitable {
 	 */
 	OptionalLong getOffset();
 
+	/**
+	 * Optional bind marker for the limit. Used for limit/offset paging binding the limit at execution time.
+	 *
+	 * @return the bind marker or {@literal null} if the limit is not bound.
+	 * @since 3.2
+	 */
+	@Nullable
+	default BindMarker getLimitBindMarker() {
+		return null;
+	}
+
+	/**
+	 * Optional bind marker for the offset. Used for limit/offset paging binding the offset at execution time.
+	 *
+	 * @return the bind marker or {@literal null} if the offset is not bound.
+	 * @since 3.2
+	 */
+	@Nullable
+	default BindMarker getOffsetBindMarker() {
+		return null;
+	}
+
 	/**
 	 * Flag if this select is to return distinct rows.
 	 *
@@ -28,6 +28,27 @@ import java.util.Collection;
  */
 public interface SelectBuilder {
 
+	/**
+	 * Declare {@link CommonTableExpression common table expressions} in a {@code WITH} clause preceding the select.
+	 * Multiple calls keep adding common table expressions.
+	 *
+	 * @param commonTableExpressions the common table expressions to declare.
+	 * @return {@code this} {@link SelectBuilder}.
+	 * @since 3.2
+	 */
+	SelectBuilder with(CommonTableExpression... commonTableExpressions);
+
+	/**
+	 * Declare {@link CommonTableExpression common table expressions} in a {@code WITH RECURSIVE} clause preceding the
+	 * select. Recursive common table expressions may refer to themselves, typically in the {@code UNION ALL} part of
+	 * their query.
+	 *
+	 * @param commonTableExpressions the common table expressions to declare.
+	 * @return {@code this} {@link SelectBuilder}.
+	 * @since 3.2
+	 */
+	SelectBuilder withRecursive(CommonTableExpression... commonTableExpressions);
+
 	/**
 	 * Apply a {@code TOP} clause given {@code count}.
 	 *
@@ -225,6 +246,15 @@ public interface SelectBuilder {
 		@Override
 		SelectFromAndOrderBy offset(long offset);
 
+		@Override
+		SelectFromAndOrderBy limitOffset(BindMarker limit, BindMarker offset);
+
+		@Override
+		SelectFromAndOrderBy limit(BindMarker limit);
+
+		@Override
+		SelectFromAndOrderBy offset(BindMarker offset);
+
 		@Override
 		SelectFromAndOrderBy from(String table);
 
@@ -314,6 +344,35 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectFromAndJoin offset(long offset);
+
+		/**
+		 * Apply {@code limit} and {@code offset} parameters to the select statement using bind markers. The values are
+		 * bound when executing the statement so that the statement text does not depend on the page.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @param offset bind marker for the row offset, zero-based.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset);
+
+		/**
+		 * Apply a limit of rows to read using a bind marker.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectFromAndJoin limit(BindMarker limit);
+
+		/**
+		 * Apply an offset where to start reading rows using a bind marker.
+		 *
+		 * @param offset bind marker for the start offset.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectFromAndJoin offset(BindMarker offset);
 	}
 
 	/**
@@ -348,6 +407,35 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectFromAndJoin offset(long offset);
+
+		/**
+		 * Apply {@code limit} and {@code offset} parameters to the select statement using bind markers. The values are
+		 * bound when executing the statement so that the statement text does not depend on the page.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @param offset bind marker for the row offset, zero-based.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset);
+
+		/**
+		 * Apply a limit of rows to read using a bind marker.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectFromAndJoin limit(BindMarker limit);
+
+		/**
+		 * Apply an offset where to start reading rows using a bind marker.
+		 *
+		 * @param offset bind marker for the start offset.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectFromAndJoin offset(BindMarker offset);
 	}
 
 	/**
@@ -380,6 +468,35 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectLimitOffset offset(long offset);
+
+		/**
+		 * Apply {@code limit} and {@code offset} parameters to the select statement using bind markers. The values are
+		 * bound when executing the statement so that the statement text does not depend on the page.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @param offset bind marker for the row offset, zero-based.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectLimitOffset limitOffset(BindMarker limit, BindMarker offset);
+
+		/**
+		 * Apply a limit of rows to read using a bind marker.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectLimitOffset limit(BindMarker limit);
+
+		/**
+		 * Apply an offset where to start reading rows using a bind marker.
+		 *
+		 * @param offset bind marker for the start offset.
+		 * @return {@code this} builder.
+		 * @since 3.2
+		 */
+		SelectLimitOffset offset(BindMarker offset);
 	}
 
 	/**
@@ -413,9 +530,79 @@ public interface SelectBuilder {
 	}
 
 	/**
-	 * Interface exposing {@code WHERE}, {@code LOCK} methods.
+	 * Interface exposing {@code GROUP BY}, {@code ORDER BY} and {@code LOCK} methods.
+	 *
+	 * @since 3.2
 	 */
-	interface SelectWhere extends SelectOrdered, SelectLock, BuildSelect {
+	interface SelectGroupBy extends SelectUnion, SelectOrdered, SelectLock, BuildSelect {
+
+		/**
+		 * Add one or more {@link Expression expressions} to group by. Multiple calls keep adding expressions.
+		 *
+		 * @param expressions the expressions to group by.
+		 * @return {@code this} builder.
+		 * @see GroupBy
+		 */
+		SelectHaving groupBy(Expression... expressions);
+
+		/**
+		 * Add one or more {@link Expression expressions} to group by. Multiple calls keep adding expressions.
+		 *
+		 * @param expressions the expressions to group by.
+		 * @return {@code this} builder.
+		 * @see GroupBy
+		 */
+		SelectHaving groupBy(Collection<? extends Expression> expressions);
+	}
+
+	/**
+	 * Interface exposing {@code HAVING}, {@code ORDER BY} and {@code LOCK} methods.
+	 *
+	 * @since 3.2
+	 */
+	interface SelectHaving extends SelectUnion, SelectOrdered, SelectLock, BuildSelect {
+
+		/**
+		 * Apply a {@code HAVING} clause filtering groups. Multiple calls combine conditions using {@code AND}.
+		 *
+		 * @param condition the {@code HAVING} condition.
+		 * @return {@code this} builder.
+		 * @see Having
+		 */
+		SelectHaving having(Condition condition);
+	}
+
+	/**
+	 * Interface exposing {@code UNION}, {@code ORDER BY} and {@code LOCK} methods. {@code ORDER BY}, {@code LIMIT} and
+	 * {@code OFFSET} apply to the result of the union.
+	 *
+	 * @since 3.2
+	 */
+	interface SelectUnion extends SelectOrdered, SelectLock, BuildSelect {
+
+		/**
+		 * Combine the result with the result of {@code select}, removing duplicate rows.
+		 *
+		 * @param select the query to combine with. Must select the same number of columns.
+		 * @return {@code this} builder.
+		 * @see Union
+		 */
+		SelectUnion union(Select select);
+
+		/**
+		 * Combine the result with the result of {@code select}, retaining duplicate rows.
+		 *
+		 * @param select the query to combine with. Must select the same number of columns.
+		 * @return {@code this} builder.
+		 * @see Union
+		 */
+		SelectUnion unionAll(Select select);
+	}
+
+	/**
+	 * Interface exposing {@code WHERE}, {@code GROUP BY}, {@code LOCK} methods.
+	 */
+	interface SelectWhere extends SelectGroupBy, SelectOrdered, SelectLock, BuildSelect {
 
 		/**
 		 * Apply a {@code WHERE} clause.
@@ -431,7 +618,7 @@ public interface SelectBuilder {
 	/**
 	 * Interface exposing {@code AND}/{@code OR} combinator methods for {@code WHERE} {@link Condition}s.
 	 */
-	interface SelectWhereAndOr extends SelectOrdered, SelectLock, BuildSelect {
+	interface SelectWhereAndOr extends SelectGroupBy, SelectOrdered, SelectLock, BuildSelect {
 
 		/**
 		 * Combine the previous {@code WHERE} {@link Condition} using {@code AND}.
@@ -580,5 +767,15 @@ public interface SelectBuilder {
 		 * @return the build and immutable {@link Select} statement.
 		 */
 		Select build();
+
+		/**
+		 * Build the {@link Select} statement. Skipping validation allows building correlated subselects that refer to
+		 * tables of the enclosing statement, e.g. for {@link Conditions#exists(Select) EXISTS}.
+		 *
+		 * @param validate whether to verify basic relationship constraints, see {@link #build()}.
+		 * @return the build and immutable {@link Select} statement.
+		 * @since 3.2
+		 */
+		Select build(boolean validate);
 	}
 }
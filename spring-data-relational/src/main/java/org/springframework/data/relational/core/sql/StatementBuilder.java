@@ -78,6 +78,30 @@ public abstract class StatementBuilder {
 		return Select.builder();
 	}
 
+	/**
+	 * Creates a new {@link SelectBuilder} declaring {@link CommonTableExpression common table expressions}.
+	 *
+	 * @param commonTableExpressions the common table expressions to declare.
+	 * @return the new {@link SelectBuilder}.
+	 * @since 3.2
+	 * @see SelectBuilder#with(CommonTableExpression...)
+	 */
+	public static SelectBuilder with(CommonTableExpression... commonTableExpressions) {
+		return Select.builder().with(commonTableExpressions);
+	}
+
+	/**
+	 * Creates a new {@link SelectBuilder} declaring recursive {@link CommonTableExpression common table expressions}.
+	 *
+	 * @param commonTableExpressions the common table expressions to declare.
+	 * @return the new {@link SelectBuilder}.
+	 * @since 3.2
+	 * @see SelectBuilder#withRecursive(CommonTableExpression...)
+	 */
+	public static SelectBuilder withRecursive(CommonTableExpression... commonTableExpressions) {
+		return Select.builder().withRecursive(commonTableExpressions);
+	}
+
 	/**
 	 * Creates a new {@link InsertBuilder} and declare the {@link Table} to insert into.
 	 *
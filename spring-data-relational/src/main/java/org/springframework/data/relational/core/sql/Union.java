@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * {@code UNION} or {@code UNION ALL} of a {@link Select} with the preceding query block.
+ *
+ * @since 3.2
+ */
+public class Union extends Subselect {
+
+	private final boolean all;
+
+	Union(Select select, boolean all) {
+
+		super(select);
+
+		this.all = all;
+	}
+
+	/**
+	 * @return {@literal true} for {@code UNION ALL} retaining duplicates.
+	 */
+	public boolean isAll() {
+		return all;
+	}
+
+	@Override
+	public String toString() {
+		return (all ? "UNION ALL " : "UNION ") + getSelect();
+	}
+}
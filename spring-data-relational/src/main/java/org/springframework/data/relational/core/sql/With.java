@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code WITH} clause declaring {@link CommonTableExpression common table expressions}.
+ *
+ * @since 3.2
+ */
+public class With extends SegmentList<CommonTableExpression> {
+
+	private final boolean recursive;
+	private final List<CommonTableExpression> commonTableExpressions;
+
+	With(boolean recursive, List<CommonTableExpression> commonTableExpressions) {
+
+		super(commonTableExpressions.toArray(new CommonTableExpression[0]));
+
+		this.recursive = recursive;
+		this.commonTableExpressions = commonTableExpressions;
+	}
+
+	/**
+	 * @return {@literal true} for {@code WITH RECURSIVE}.
+	 */
+	public boolean isRecursive() {
+		return recursive;
+	}
+
+	@Override
+	public String toString() {
+		return (recursive ? "WITH RECURSIVE " : "WITH ")
+				+ StringUtils.collectionToDelimitedString(commonTableExpressions, ", ");
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import org.springframework.data.relational.core.sql.CommonTableExpression;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Renderer for {@link CommonTableExpression} segments within a {@code WITH} clause. Renders to
+ * {@code name [(column, …)] AS (SELECT …)}.
+ *
+ * @since 3.2
+ */
+class CommonTableExpressionVisitor extends TypedSubtreeVisitor<CommonTableExpression> implements PartRenderer {
+
+	private final RenderContext context;
+	private final StringBuilder part = new StringBuilder();
+	@Nullable private SelectStatementVisitor delegate;
+
+	CommonTableExpressionVisitor(RenderContext context) {
+		this.context = context;
+	}
+
+	@Override
+	Delegation enterMatched(CommonTableExpression segment) {
+
+		delegate = new SelectStatementVisitor(context);
+		return Delegation.delegateTo(delegate);
+	}
+
+	@Override
+	Delegation leaveMatched(CommonTableExpression segment) {
+
+		Assert.state(delegate != null, "Delegate must not be null in leaveMatched");
+
+		Table table = segment.asTable();
+
+		part.setLength(0);
+		part.append(NameRenderer.render(context, table));
+
+		if (!segment.getColumnNames().isEmpty()) {
+
+			part.append(" (");
+			boolean first = true;
+			for (SqlIdentifier columnName : segment.getColumnNames()) {
+
+				if (!first) {
+					part.append(", ");
+				}
+				first = false;
+				part.append(NameRenderer.render(context, table.column(columnName)));
+			}
+			part.append(')');
+		}
+
+		part.append(" AS (").append(delegate.getRenderedPart()).append(')');
+		delegate = null;
+
+		return super.leaveMatched(segment);
+	}
+
+	@Override
+	public CharSequence getRenderedPart() {
+		return part;
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.data.relational.core.sql.Between;
 import org.springframework.data.relational.core.sql.Comparison;
 import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.ConstantCondition;
+import org.springframework.data.relational.core.sql.Exists;
 import org.springframework.data.relational.core.sql.In;
 import org.springframework.data.relational.core.sql.IsNull;
 import org.springframework.data.relational.core.sql.Like;
@@ -41,6 +42,7 @@ import org.springframework.lang.Nullable;
  * @see Comparison
  * @see Like
  * @see In
+ * @see Exists
  */
 class ConditionVisitor extends TypedSubtreeVisitor<Condition> implements PartRenderer {
 
@@ -95,6 +97,10 @@ class ConditionVisitor extends TypedSubtreeVisitor<Condition> implements PartRen
 			}
 		}
 
+		if (segment instanceof Exists) {
+			return new ExistsVisitor(context, builder::append);
+		}
+
 		if (segment instanceof NestedCondition) {
 			return new NestedConditionVisitor(context, builder::append);
 		}
@@ -15,7 +15,8 @@
  */
 package org.springframework.data.relational.core.sql.render;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.springframework.data.relational.core.sql.Visitable;
 import org.springframework.data.relational.core.sql.Visitor;
@@ -48,7 +49,7 @@ import org.springframework.util.Assert;
  */
 abstract class DelegatingVisitor implements Visitor {
 
-	private Stack<DelegatingVisitor> delegation = new Stack<>();
+	private final Deque<DelegatingVisitor> delegation = new ArrayDeque<>();
 
 	/**
 	 * Invoked for a {@link Visitable segment} when entering the segment.
@@ -16,15 +16,24 @@
 package org.springframework.data.relational.core.sql.render;
 
 import org.springframework.data.relational.core.sql.From;
+import org.springframework.data.relational.core.sql.GroupBy;
+import org.springframework.data.relational.core.sql.Having;
 import org.springframework.data.relational.core.sql.Join;
 import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectList;
+import org.springframework.data.relational.core.sql.Union;
 import org.springframework.data.relational.core.sql.Visitable;
 import org.springframework.data.relational.core.sql.Where;
+import org.springframework.data.relational.core.sql.With;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * {@link PartRenderer} for {@link Select} statements.
+ * <p>
+ * Clauses are visited in the order in which they are rendered, so rendered parts are appended to a single buffer as
+ * soon as they become available instead of being collected per clause and concatenated at the end.
  *
  * @author Mark Paluch
  * @author Jens Schauder
@@ -36,39 +45,65 @@ class SelectStatementVisitor extends DelegatingVisitor implements PartRenderer {
 	private final RenderContext context;
 	private final SelectRenderContext selectRenderContext;
 
-	private StringBuilder builder = new StringBuilder();
-	private StringBuilder selectList = new StringBuilder();
-	private StringBuilder from = new StringBuilder();
-	private StringBuilder join = new StringBuilder();
-	private StringBuilder where = new StringBuilder();
+	private final StringBuilder builder = new StringBuilder(128);
+	private @Nullable Select select;
+	private boolean recursive = false;
 
-	private SelectListVisitor selectListVisitor;
-	private OrderByClauseVisitor orderByClauseVisitor;
-	private FromClauseVisitor fromClauseVisitor;
-	private WhereClauseVisitor whereClauseVisitor;
+	private final SelectListVisitor selectListVisitor;
+	private final OrderByClauseVisitor orderByClauseVisitor;
+	private final FromClauseVisitor fromClauseVisitor;
+	private final WhereClauseVisitor whereClauseVisitor;
+	private final SegmentListVisitor groupByClauseVisitor;
+	private final HavingClauseVisitor havingClauseVisitor;
+	private final SegmentListVisitor withClauseVisitor;
 
 	SelectStatementVisitor(RenderContext context) {
 
 		this.context = context;
 		this.selectRenderContext = context.getSelectRenderContext();
-		this.selectListVisitor = new SelectListVisitor(context, selectList::append);
+		this.selectListVisitor = new SelectListVisitor(context, builder::append);
 		this.orderByClauseVisitor = new OrderByClauseVisitor(context);
 		this.fromClauseVisitor = new FromClauseVisitor(context, it -> {
 
-			if (from.length() != 0) {
-				from.append(", ");
+			if (it.length() != 0) {
+				builder.append(" FROM ").append(it);
 			}
-
-			from.append(it);
 		});
 
-		this.whereClauseVisitor = new WhereClauseVisitor(context, where::append);
+		this.whereClauseVisitor = new WhereClauseVisitor(context, it -> builder.append(" WHERE ").append(it));
+		this.groupByClauseVisitor = new SegmentListVisitor(" GROUP BY ", ", ", new ExpressionVisitor(context));
+		this.havingClauseVisitor = new HavingClauseVisitor(context, it -> builder.append(" HAVING ").append(it));
+		this.withClauseVisitor = new SegmentListVisitor("", ", ", new CommonTableExpressionVisitor(context));
 	}
 
 	@Override
 	public Delegation doEnter(Visitable segment) {
 
+		if (segment instanceof Select && select == null) {
+
+			select = (Select) segment;
+			return Delegation.retain();
+		}
+
+		if (segment instanceof With) {
+
+			recursive = ((With) segment).isRecursive();
+			return Delegation.delegateTo(withClauseVisitor);
+		}
+
 		if (segment instanceof SelectList) {
+
+			CharSequence with = withClauseVisitor.getRenderedPart();
+			if (with.length() != 0) {
+				builder.append(recursive ? "WITH RECURSIVE " : "WITH ").append(with).append(' ');
+			}
+
+			builder.append("SELECT ");
+
+			if (getRequiredSelect().isDistinct()) {
+				builder.append("DISTINCT ");
+			}
+
 			return Delegation.delegateTo(selectListVisitor);
 		}
 
@@ -77,63 +112,53 @@ class SelectStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		}
 
 		if (segment instanceof From) {
+
+			builder.append(selectRenderContext.afterSelectList().apply(getRequiredSelect()));
 			return Delegation.delegateTo(fromClauseVisitor);
 		}
 
 		if (segment instanceof Join) {
-			return Delegation.delegateTo(new JoinVisitor(context, it -> {
-
-				if (join.length() != 0) {
-					join.append(' ');
-				}
-
-				join.append(it);
-			}));
+			return Delegation.delegateTo(new JoinVisitor(context, it -> builder.append(' ').append(it)));
 		}
 
 		if (segment instanceof Where) {
 			return Delegation.delegateTo(whereClauseVisitor);
 		}
 
+		if (segment instanceof GroupBy) {
+			return Delegation.delegateTo(groupByClauseVisitor);
+		}
+
+		if (segment instanceof Having) {
+			return Delegation.delegateTo(havingClauseVisitor);
+		}
+
+		if (segment instanceof Union) {
+			return Delegation.delegateTo(new UnionVisitor(context, builder::append));
+		}
+
 		return Delegation.retain();
 	}
 
 	@Override
 	public Delegation doLeave(Visitable segment) {
 
-		if (segment instanceof Select) {
-
-			Select select = (Select) segment;
-
-			builder.append("SELECT ");
-
-			if (select.isDistinct()) {
-				builder.append("DISTINCT ");
-			}
-
-			builder.append(selectList);
-			builder.append(selectRenderContext.afterSelectList().apply(select));
-
-			if (from.length() != 0) {
-				builder.append(" FROM ").append(from);
-			}
-
-			builder.append(selectRenderContext.afterFromTable().apply(select));
+		if (segment instanceof From) {
+			builder.append(selectRenderContext.afterFromTable().apply(getRequiredSelect()));
+		}
 
-			if (join.length() != 0) {
-				builder.append(' ').append(join);
-			}
+		if (segment instanceof GroupBy) {
+			builder.append(groupByClauseVisitor.getRenderedPart());
+		}
 
-			if (where.length() != 0) {
-				builder.append(" WHERE ").append(where);
-			}
+		if (segment instanceof Select) {
 
 			CharSequence orderBy = orderByClauseVisitor.getRenderedPart();
 			if (orderBy.length() != 0) {
 				builder.append(" ORDER BY ").append(orderBy);
 			}
 
-			builder.append(selectRenderContext.afterOrderBy(orderBy.length() != 0).apply(select));
+			builder.append(selectRenderContext.afterOrderBy(orderBy.length() != 0).apply((Select) segment));
 
 			return Delegation.leave();
 		}
@@ -141,6 +166,12 @@ class SelectStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		return Delegation.retain();
 	}
 
+	private Select getRequiredSelect() {
+
+		Assert.state(select != null, "Select must not be null");
+		return select;
+	}
+
 	@Override
 	public CharSequence getRenderedPart() {
 		return builder;
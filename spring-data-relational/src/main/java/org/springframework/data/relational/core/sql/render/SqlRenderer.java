@@ -113,6 +113,21 @@ public class SqlRenderer implements Renderer {
 		return visitor.getRenderedPart().toString();
 	}
 
+	/**
+	 * Render the {@link Select} AST into a {@link StatementTemplate} that can be executed repeatedly with different
+	 * values for its bind markers.
+	 *
+	 * @param select must not be {@literal null}.
+	 * @return the {@link StatementTemplate}.
+	 * @since 3.2
+	 */
+	public StatementTemplate renderTemplate(Select select) {
+
+		Assert.notNull(select, "Select must not be null");
+
+		return StatementTemplate.of(select, render(select));
+	}
+
 	/**
 	 * Render the {@link Insert} AST into a SQL statement.
 	 *
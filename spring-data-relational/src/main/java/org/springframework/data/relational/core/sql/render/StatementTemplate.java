@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.relational.core.sql.BindMarker;
+import org.springframework.data.relational.core.sql.Named;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A statement rendered once into its SQL representation along with the plan to bind its parameters. Templates allow
+ * executing statements of the same shape with different values without building and rendering the statement AST
+ * again.
+ * <p>
+ * The binding plan consists of the names of all {@link Named named} {@link BindMarker bind markers} in the order of
+ * their first appearance in the SQL. A leading colon of the {@code :name} notation is not part of the parameter name.
+ * Anonymous bind markers are not part of the binding plan.
+ * <p>
+ * Values are applied through a {@link ParameterBinder}, e.g. adding them to a {@code MapSqlParameterSource} by name or
+ * to a R2DBC {@code BindTarget} by index.
+ *
+ * @since 3.2
+ * @see SqlRenderer#renderTemplate(Select)
+ */
+public final class StatementTemplate {
+
+	private final String sql;
+	private final List<String> parameterNames;
+
+	private StatementTemplate(String sql, List<String> parameterNames) {
+
+		this.sql = sql;
+		this.parameterNames = parameterNames;
+	}
+
+	/**
+	 * Create a new {@link StatementTemplate} given {@code sql} and its parameter names.
+	 *
+	 * @param sql the rendered SQL, must not be {@literal null} or empty.
+	 * @param parameterNames names of the bind parameters in the order of their first appearance, must not be
+	 *          {@literal null}.
+	 * @return the {@link StatementTemplate}.
+	 */
+	public static StatementTemplate of(String sql, List<String> parameterNames) {
+
+		Assert.hasText(sql, "SQL must not be null or empty");
+		Assert.notNull(parameterNames, "Parameter names must not be null");
+
+		return new StatementTemplate(sql, Collections.unmodifiableList(new ArrayList<>(parameterNames)));
+	}
+
+	/**
+	 * Create a new {@link StatementTemplate} for a {@link Select} rendered to {@code sql}. Determines the binding plan
+	 * from the bind markers of the {@link Select}.
+	 *
+	 * @param select the statement, must not be {@literal null}.
+	 * @param sql the rendered statement, must not be {@literal null}.
+	 * @return the {@link StatementTemplate}.
+	 */
+	static StatementTemplate of(Select select, String sql) {
+
+		Set<String> parameterNames = new LinkedHashSet<>();
+
+		select.visit(segment -> {
+
+			if (segment instanceof BindMarker && segment instanceof Named named) {
+				addParameterName(parameterNames, named);
+			}
+		});
+
+		// limit and offset are rendered by the dialect after all other parts, their relative order is dialect-specific
+		if (select.getLimitBindMarker() instanceof Named named) {
+			addParameterName(parameterNames, named);
+		}
+
+		if (select.getOffsetBindMarker() instanceof Named named) {
+			addParameterName(parameterNames, named);
+		}
+
+		return of(sql, new ArrayList<>(parameterNames));
+	}
+
+	private static void addParameterName(Set<String> parameterNames, Named named) {
+
+		String name = named.getName().getReference();
+		parameterNames.add(name.startsWith(":") ? name.substring(1) : name);
+	}
+
+	/**
+	 * @return the rendered SQL.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return the names of the bind parameters in the order of their first appearance in the SQL.
+	 */
+	public List<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Bind {@code values} following the binding plan of this template. Calls {@link ParameterBinder} once for each
+	 * parameter.
+	 *
+	 * @param values the values keyed by parameter name, must not be {@literal null}. Must contain a value, possibly
+	 *          {@literal null}, for each parameter.
+	 * @param binder the binder to apply values to, must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code values} does not contain a value for a parameter.
+	 */
+	public void bind(Map<String, ?> values, ParameterBinder binder) {
+
+		Assert.notNull(values, "Values must not be null");
+		Assert.notNull(binder, "ParameterBinder must not be null");
+
+		for (int i = 0; i < parameterNames.size(); i++) {
+
+			String name = parameterNames.get(i);
+
+			if (!values.containsKey(name)) {
+				throw new IllegalArgumentException(String.format("No value for parameter '%s' of statement %s", name, sql));
+			}
+
+			binder.bind(i, name, values.get(name));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return sql;
+	}
+
+	/**
+	 * Callback to bind a single parameter value.
+	 */
+	@FunctionalInterface
+	public interface ParameterBinder {
+
+		/**
+		 * Bind {@code value} to the parameter at {@code index}.
+		 *
+		 * @param index the zero-based index of the parameter within the binding plan.
+		 * @param name the parameter name.
+		 * @param value the value to bind, can be {@literal null}.
+		 */
+		void bind(int index, String name, @Nullable Object value);
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import org.springframework.data.relational.core.sql.Union;
+
+/**
+ * Renderer for {@link Union} segments. Uses a {@link RenderTarget} to call back for render results.
+ *
+ * @since 3.2
+ */
+class UnionVisitor extends TypedSubtreeVisitor<Union> {
+
+	private final RenderTarget parent;
+	private final SelectStatementVisitor delegate;
+
+	UnionVisitor(RenderContext context, RenderTarget parent) {
+
+		this.parent = parent;
+		this.delegate = new SelectStatementVisitor(context);
+	}
+
+	@Override
+	Delegation enterMatched(Union segment) {
+		return Delegation.delegateTo(delegate);
+	}
+
+	@Override
+	Delegation leaveMatched(Union segment) {
+
+		StringBuilder part = new StringBuilder(segment.isAll() ? " UNION ALL " : " UNION ");
+		parent.onRendered(part.append(delegate.getRenderedPart()));
+
+		return super.leaveMatched(segment);
+	}
+}
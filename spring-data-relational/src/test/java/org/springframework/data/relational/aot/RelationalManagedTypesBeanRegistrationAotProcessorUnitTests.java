@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.javapoet.ClassName;
+
+/**
+ * Unit tests for {@link RelationalManagedTypesBeanRegistrationAotProcessor}.
+ */
+class RelationalManagedTypesBeanRegistrationAotProcessorUnitTests {
+
+	DefaultGenerationContext generationContext = new DefaultGenerationContext(
+			new ClassNameGenerator(ClassName.get(getClass())), new InMemoryGeneratedFiles());
+
+	@Test
+	void contributesAggregateMembers() {
+
+		new RelationalManagedTypesBeanRegistrationAotProcessor().contributeType(ResolvableType.forClass(Root.class),
+				generationContext);
+
+		assertThat(List.of(Root.class, Child.class, GrandChild.class, Keyed.class, Value.class))
+				.allMatch(this::isRegistered);
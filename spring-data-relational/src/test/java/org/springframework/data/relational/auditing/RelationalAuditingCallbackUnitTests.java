@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.auditing;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link RelationalAuditingCallback}.
+ */
+class RelationalAuditingCallbackUnitTests {
+
+	static final LocalDateTime NOW = LocalDateTime.of(2023, 5, 17, 10, 0);
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	IsNewAwareAuditingHandler handler = mock(IsNewAwareAuditingHandler.class);
+	AuditorAware<String> auditorAware = mock(AuditorAware.class);
+	DateTimeProvider dateTimeProvider = mock(DateTimeProvider.class);
+
+	RelationalAuditingCallback callback;
+
+	@BeforeEach
+	void before() {
+
+		when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("user"));
+		when(dateTimeProvider.getNow()).thenReturn(Optional.of(NOW));
+
+		callback = new RelationalAuditingCallback(() -> handler, context);
+		callback.setAuditorAware(auditorAware);
+		callback.setDateTimeProvider(dateTimeProvider);
+	}
+
+	@Test
+	void auditsBatchResolvingAuditorAndDateOnce() {
+
+		Audited existing = new Audited();
+		existing.id = 23L;
+
+		List<Object> result = callback.onBeforeConvertAll(List.of(new Audited(), new Audited(), existing));
+
+		assertThat(result).hasSize(3);
+		assertThat(result.subList(0, 2)).allSatisfy(it -> {
+
+			Audited audited = (Audited) it;
+			assertThat(audited.createdBy).isEqualTo("user");
+			assertThat(audited.createdDate).isEqualTo(NOW);
+			assertThat(audited.lastModifiedBy).isEqualTo("user");
+			assertThat(audited.lastModifiedDate).isEqualTo(NOW);
+		});
+		assertThat(existing.createdBy).isNull();
+		assertThat(existing.createdDate).isNull();
+		assertThat(existing.lastModifiedBy).isEqualTo("user");
+		assertThat(existing.lastModifiedDate).isEqualTo(NOW);
+
+		verify(auditorAware).getCurrentAuditor();
+		verify(dateTimeProvider).getNow();
+		verifyNoInteractions(handler);
+	}
+
+	@Test
+	void considersAuditingConfiguration() {
+
+		callback.setDateTimeForNow(false);
+		callback.setModifyOnCreation(false);
+
+		Audited audited = (Audited) callback.onBeforeConvertAll(List.of(new Audited())).get(0);
+
+		assertThat(audited.createdBy).isEqualTo("user");
+		assertThat(audited.createdDate).isNull();
+		assertThat(audited.lastModifiedBy).isNull();
+		assertThat(audited.lastModifiedDate).isNull();
+		verifyNoInteractions(dateTimeProvider);
+	}
+
+	@Test
+	void doesNotAuditAggregatesOfBatchAgain() {
+
+		Audited first = new Audited();
+		Audited second = new Audited();
+		Audited other = new Audited();
+		when(handler.markAudited(any())).then(returnsFirstArg());
+
+		callback.onBeforeConvertAll(List.of(first, second));
+
+		assertThat(callback.onBeforeConvert(first)).isSameAs(first);
+		assertThat(callback.onBeforeConvert(second)).isSameAs(second);
+		assertThat(callback.onBeforeConvert(first)).isSameAs(first);
+		assertThat(callback.onBeforeConvert(other)).isSameAs(other);
+
+		verify(handler).markAudited(first);
+		verify(handler).markAudited(other);
+		verify(handler, never()).markAudited(second);
+	}
+
+	@Test
+	void auditsAggregatesAgainOnceBatchCompleted() {
+
+		Audited first = new Audited();
+		Audited second = new Audited();
+		when(handler.markAudited(any())).then(returnsFirstArg());
+
+		callback.onBeforeConvertAll(List.of(first, second));
+
+		assertThat(callback.onBeforeConvert(first)).isSameAs(first);
+
+		callback.onBeforeConvertAllCompleted();
+
+		assertThat(callback.onBeforeConvert(second)).isSameAs(second);
+
+		verify(handler).markAudited(second);
+		verify(handler, never()).markAudited(first);
+	}
+
+	@Test
+	void usesAuditingHandlerWithoutMappingContext() {
+
+		Audited audited = new Audited();
+		when(handler.markAudited(audited)).thenReturn(audited);
+
+		RelationalAuditingCallback callback = new RelationalAuditingCallback(() -> handler);
+
+		assertThat(callback.onBeforeConvertAll(List.of(audited))).containsExactly(audited);
+		assertThat(callback.onBeforeConvert(audited)).isSameAs(audited);
+
+		verify(handler).markAudited(audited);
+	}
+
+	static class Audited {
+
+		@Id Long id;
+		@CreatedBy String createdBy;
+		@CreatedDate LocalDateTime createdDate;
+		@LastModifiedBy String lastModifiedBy;
+		@LastModifiedDate LocalDateTime lastModifiedDate;
+	}
+}
@@ -124,6 +124,30 @@ class BasicRelationalConverterUnitTests {
 		assertThat(result).isEqualTo(new MyValue("hello-world"));
 	}
 
+	@Test
+	void shouldReuseConversionPerSourceAndTargetType() {
+
+		TypeInformation<Long> type = TypeInformation.of(Long.class);
+		Long value = 42L;
+
+		assertThat(converter.readValue(value, type)).isSameAs(value);
+		assertThat(converter.readValue(1, type)).isEqualTo(1L);
+		assertThat(converter.readValue("2", type)).isEqualTo(2L);
+		assertThat(converter.readValue(value, type)).isSameAs(value);
+		assertThat(converter.readValue("ON", TypeInformation.of(MyEnum.class))).isEqualTo(MyEnum.ON);
+		assertThat(converter.readValue("hello", TypeInformation.of(MyValue.class))).isEqualTo(new MyValue("hello"));
+	}
+
+	@Test
+	void shouldReuseSimpleWriteConversionPerSourceAndTargetType() {
+
+		assertThat(converter.writeValue(MyEnum.ON, TypeInformation.OBJECT)).isEqualTo("ON");
+		assertThat(converter.writeValue(MyEnum.OFF, TypeInformation.OBJECT)).isEqualTo("OFF");
+		assertThat(converter.writeValue(1, TypeInformation.of(Long.class))).isEqualTo(1L);
+		assertThat(converter.writeValue(1, TypeInformation.of(Integer.class))).isEqualTo(1);
+		assertThat(converter.writeValue("hello", TypeInformation.of(MyValue.class))).isEqualTo("hello");
+	}
+
 	record EntityWithArray(List<Float> floats) {
 	}
 
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -76,6 +77,29 @@ public class MySqlDialectRenderingUnitTests {
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 20, 10");
 	}
 
+	@Test
+	public void shouldRenderSelectWithBoundLimitOffset() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.limitOffset(SQL.bindMarker(":limit"), SQL.bindMarker(":offset")).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT :offset, :limit");
+	}
+
+	@Test
+	public void shouldRenderSelectWithBoundOffset() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).offset(SQL.bindMarker()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT ?, 18446744073709551615");
+	}
+
 	@Test // DATAJDBC-498
 	public void shouldRenderSelectWithLockWrite() {
 
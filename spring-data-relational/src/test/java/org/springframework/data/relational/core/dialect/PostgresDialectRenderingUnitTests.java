@@ -24,6 +24,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -104,6 +105,18 @@ public class PostgresDialectRenderingUnitTests {
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 OFFSET 20");
 	}
 
+	@Test
+	public void shouldRenderSelectWithLimitAndBoundOffset() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10).offset(SQL.bindMarker("$1"))
+				.build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 OFFSET $1");
+	}
+
 	@Test // DATAJDBC-498
 	public void shouldRenderSelectWithLockWrite() {
 
@@ -24,6 +24,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -107,6 +108,32 @@ public class SqlServerDialectRenderingUnitTests {
 				"SELECT foo.*, ROW_NUMBER() over (ORDER BY (SELECT 1)) AS __relational_row_number__ FROM foo ORDER BY __relational_row_number__ OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY");
 	}
 
+	@Test
+	void shouldRenderSelectWithBoundLimitOffset() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.limitOffset(SQL.bindMarker(":limit"), SQL.bindMarker(":offset")).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo(
+				"SELECT foo.*, ROW_NUMBER() over (ORDER BY (SELECT 1)) AS __relational_row_number__ FROM foo ORDER BY __relational_row_number__ OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY");
+	}
+
+	@Test
+	void shouldRenderSelectWithBoundLimitOffsetAndOrderBy() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).orderBy(table.column("column_1"))
+				.limitOffset(SQL.bindMarker(":limit"), SQL.bindMarker(":offset")).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo(
+				"SELECT foo.* FROM foo ORDER BY foo.column_1 OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY");
+	}
+
 	@Test // DATAJDBC-278
 	public void shouldRenderSelectWithLimitOffsetAndOrderBy() {
 
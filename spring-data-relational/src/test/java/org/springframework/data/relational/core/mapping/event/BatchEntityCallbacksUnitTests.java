@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Unit tests for {@link BatchEntityCallbacks} and {@link EntityCallbackDetector}.
+ */
+class BatchEntityCallbacksUnitTests {
+
+	@Test
+	void appliesCallbacksMatchingTheAggregateType() {
+
+		PersonCallback personCallback = new PersonCallback();
+		BatchEntityCallbacks callbacks = BatchEntityCallbacks.of(personCallback, new OrderCallback());
+
+		assertThat(callbacks.hasCallbacks(AfterConvertAllCallback.class, Person.class)).isTrue();
+		assertThat(callbacks.hasCallbacks(BeforeSaveAllCallback.class, Person.class)).isFalse();
+		assertThat(callbacks.hasCallbacks(AfterConvertAllCallback.class, String.class)).isFalse();
+
+		List<Person> people = List.of(new Person(), new Person());
+		assertThat(callbacks.onAfterConvert(Person.class, people)).isSameAs(people);
+		assertThat(personCallback.batches).containsExactly(people);
+	}
+
+	@Test
+	void rejectsCallbacksChangingTheNumberOfAggregates() {
+
+		BatchEntityCallbacks callbacks = BatchEntityCallbacks.of((AfterSaveAllCallback<Person>) aggregates -> List.of());
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> callbacks.onAfterSave(Person.class, List.of(new Person())));
+	}
+
+	@Test
+	void discoversCallbacksFromBeanFactory() {
+
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("personCallback", new PersonCallback());
+
+		assertThat(BatchEntityCallbacks.create(beanFactory).hasCallbacks(AfterConvertAllCallback.class, Person.class))
+				.isTrue();
+		assertThat(BatchEntityCallbacks.none().hasCallbacks(AfterConvertAllCallback.class, Person.class)).isFalse();
+	}
+
+	@Test
+	void detectsRegisteredEntityCallbacks() {
+
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("afterConvert", (AfterConvertCallback<Person>) aggregate -> aggregate);
+
+		EntityCallbackDetector detector = EntityCallbackDetector.create(beanFactory);
+
+		assertThat(detector.hasCallbacks(AfterConvertCallback.class)).isTrue();
+		assertThat(detector.hasCallbacks(BeforeSaveCallback.class)).isFalse();
+		assertThat(EntityCallbackDetector.assumePresent().hasCallbacks(BeforeSaveCallback.class)).isTrue();
+	}
+
+	static class Person {}
+
+	static class Order {}
+
+	static class PersonCallback implements AfterConvertAllCallback<Person> {
+
+		List<List<Person>> batches = new ArrayList<>();
+
+		@Override
+		public List<Person> onAfterConvertAll(List<Person> aggregates) {
+
+			batches.add(aggregates);
+			return aggregates;
+		}
+	}
+
+	static class OrderCallback implements AfterConvertAllCallback<Order> {
+
+		@Override
+		public List<Order> onAfterConvertAll(List<Order> aggregates) {
+			throw new IllegalStateException("Must not be invoked for Person");
+		}
+	}
+}
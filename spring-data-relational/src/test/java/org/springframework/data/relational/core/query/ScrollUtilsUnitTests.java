@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link ScrollUtils}.
+ */
+class ScrollUtilsUnitTests {
+
+	RelationalPersistentEntity<?> entity = new RelationalMappingContext().getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void offsetQueryStartsAfterPositionAndFetchesOneMore() {
+
+		Query query = ScrollUtils.createQuery(Query.empty().limit(10), ScrollPosition.offset(19), entity);
+
+		assertThat(query.getOffset()).isEqualTo(20);
+		assertThat(query.getLimit()).isEqualTo(11);
+	}
+
+	@Test
+	void initialKeysetQueryAppendsIdentifierToSort() {
+
+		Query query = ScrollUtils.createQuery(Query.empty().sort(Sort.by("name")).limit(10), ScrollPosition.keyset(),
+				entity);
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.asc("name"), Sort.Order.asc("id"));
+		assertThat(query.getCriteria()).isEmpty();
+		assertThat(query.getOffset()).isEqualTo(-1);
+		assertThat(query.getLimit()).isEqualTo(11);
+	}
+
+	@Test
+	void keysetQueryContinuesAfterKeys() {
+
+		Query query = ScrollUtils.createQuery(Query.query(Criteria.where("age").greaterThan(18)).sort(Sort.by("name")),
+				ScrollPosition.forward(Map.of("name", "Bob", "id", 3L)), entity);
+
+		assertThat(query.getCriteria()).isPresent();
+		assertThat(query.getCriteria().get().toString()).contains("age > 18", "name > 'Bob'", "name = 'Bob'",
+				"id > 3");
+	}
+
+	@Test
+	void backwardKeysetQueryReversesSort() {
+
+		Query query = ScrollUtils.createQuery(Query.empty().sort(Sort.by("name")),
+				ScrollPosition.backward(Map.of("name", "Bob", "id", 3L)), entity);
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.desc("name"), Sort.Order.desc("id"));
+		assertThat(query.getCriteria().get().toString()).contains("name < 'Bob'", "id < 3");
+	}
+
+	@Test
+	void createsWindowFromSurplusElement() {
+
+		Query query = Query.empty().sort(Sort.by("name")).limit(2);
+		List<Person> results = List.of(new Person(1L, "Alice", 20), new Person(2L, "Bob", 30),
+				new Person(3L, "Carol", 40));
+
+		Window<Person> window = ScrollUtils.createWindow(query, ScrollPosition.keyset(), results, entity);
+
+		assertThat(window).extracting(Person::name).containsExactly("Alice", "Bob");
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(1)).isInstanceOf(KeysetScrollPosition.class);
+		assertThat(((KeysetScrollPosition) window.positionAt(1)).getKeys()).containsEntry("name", "Bob")
+				.containsEntry("id", 2L);
+	}
+
+	@Test
+	void createsLastWindow() {
+
+		Query query = Query.empty().limit(2);
+		List<Person> results = List.of(new Person(1L, "Alice", 20));
+
+		Window<Person> window = ScrollUtils.createWindow(query, ScrollPosition.offset(9), results, entity);
+
+		assertThat(window).hasSize(1);
+		assertThat(window.hasNext()).isFalse();
+		assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.offset(10));
+	}
+
+	record Person(@Id Long id, String name, int age) {
+	}
+}
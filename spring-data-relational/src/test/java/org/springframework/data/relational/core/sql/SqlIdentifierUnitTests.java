@@ -56,6 +56,17 @@ public class SqlIdentifierUnitTests {
 		assertThat(identifier.getReference()).isEqualTo("someName");
 	}
 
+	@Test
+	void rendersQuotedIdentifierForEachIdentifierProcessing() {
+
+		SqlIdentifier identifier = quoted("someName");
+
+		assertThat(identifier.toSql(BRACKETS_LOWER_CASE)).isEqualTo("[someName]");
+		assertThat(identifier.toSql(IdentifierProcessing.ANSI)).isEqualTo("\"someName\"");
+		assertThat(identifier.toSql(BRACKETS_LOWER_CASE)).isEqualTo("[someName]");
+		assertThat(identifier).hasToString("\"someName\"");
+	}
+
 	@Test // DATAJDBC-386
 	public void quotedMultipartObjectIdentifier() {
 
@@ -21,8 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
 
@@ -233,6 +235,23 @@ public class ConditionRendererUnitTests {
 		assertThat(sql).endsWith("WHERE my_table.left NOT IN (my_table.right)");
 	}
 
+	@Test
+	public void shouldRenderCorrelatedExists() {
+
+		Table child = Table.create("child");
+		Select subselect = StatementBuilder.select(Expressions.just("1")).from(child)
+				.where(child.column("parent").isEqualTo(left)).build(false);
+
+		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table).where(Conditions.exists(subselect)).build());
+
+		assertThat(sql).endsWith("WHERE EXISTS (SELECT 1 FROM child WHERE child.parent = my_table.left)");
+
+		sql = SqlRenderer
+				.toString(StatementBuilder.select(left).from(table).where(Conditions.notExists(subselect)).build());
+
+		assertThat(sql).endsWith("WHERE NOT EXISTS (SELECT 1 FROM child WHERE child.parent = my_table.left)");
+	}
+
 	@Test // GH-907
 	public void shouldRenderJust() {
 
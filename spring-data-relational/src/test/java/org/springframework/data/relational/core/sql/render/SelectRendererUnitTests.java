@@ -327,6 +327,56 @@ class SelectRendererUnitTests {
 				.isEqualTo("SELECT emp.name AS my_emp_name FROM employee emp ORDER BY my_emp_name ASC");
 	}
 
+	@Test
+	void shouldRenderGroupByAndHaving() {
+
+		Table employee = SQL.table("employee");
+		Column department = employee.column("department");
+		SimpleFunction count = Functions.count(Expressions.asterisk());
+
+		Select select = Select.builder().select(department, count.as("employees")).from(employee)
+				.where(employee.column("active").isEqualTo(SQL.bindMarker(":active"))).groupBy(department)
+				.having(Conditions.isGreater(count, SQL.literalOf(10))).orderBy(OrderByField.from(count).desc()).build();
+
+		assertThat(SqlRenderer.toString(select)).isEqualTo(
+				"SELECT employee.department, COUNT(*) AS employees FROM employee WHERE employee.active = :active GROUP BY employee.department HAVING COUNT(*) > 10 ORDER BY COUNT(*) DESC");
+	}
+
+	@Test
+	void shouldRenderUnionAll() {
+
+		Table employee = SQL.table("employee");
+		Table contractor = SQL.table("contractor");
+
+		Select contractors = Select.builder().select(contractor.column("name")).from(contractor).build();
+		Select select = Select.builder().select(employee.column("name")).from(employee).unionAll(contractors)
+				.orderBy(OrderByField.from(Expressions.just("name"))).build();
+
+		assertThat(SqlRenderer.toString(select)).isEqualTo(
+				"SELECT employee.name FROM employee UNION ALL SELECT contractor.name FROM contractor ORDER BY name");
+	}
+
+	@Test
+	void shouldRenderRecursiveCommonTableExpression() {
+
+		Table node = SQL.table("node");
+		Table tree = SQL.table("tree");
+
+		Select children = Select.builder().select(node.column("id"), node.column("parent_id")).from(node).join(tree)
+				.on(node.column("parent_id")).equals(tree.column("id")).build();
+		Select roots = Select.builder().select(node.column("id"), node.column("parent_id")).from(node)
+				.where(node.column("parent_id").isNull()).unionAll(children).build();
+		CommonTableExpression cte = CommonTableExpression.create("tree", roots, "id", "parent_id");
+
+		Select select = StatementBuilder.withRecursive(cte).select(cte.asTable().column("id")).from(cte.asTable())
+				.build();
+
+		assertThat(SqlRenderer.toString(select)).isEqualTo("WITH RECURSIVE tree (id, parent_id) AS ("
+				+ "SELECT node.id, node.parent_id FROM node WHERE node.parent_id IS NULL"
+				+ " UNION ALL SELECT node.id, node.parent_id FROM node JOIN tree ON node.parent_id = tree.id)"
+				+ " SELECT tree.id FROM tree");
+	}
+
 	@Test // DATAJDBC-309
 	void shouldRenderIsNull() {
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Table;
+
+/**
+ * Unit tests for {@link StatementTemplate}.
+ */
+class StatementTemplateUnitTests {
+
+	Table table = SQL.table("person");
+	Column name = table.column("name");
+	Column age = table.column("age");
+
+	@Test
+	void shouldRenderTemplateWithParameterNamesInOrderOfAppearance() {
+
+		Select select = Select.builder().select(name).from(table) //
+				.where(age.isGreater(SQL.bindMarker(":age")).and(name.isEqualTo(SQL.bindMarker(":name")))
+						.or(name.isEqualTo(SQL.bindMarker(":name")))) //
+				.build();
+
+		StatementTemplate template = SqlRenderer.create().renderTemplate(select);
+
+		assertThat(template.getSql()).isEqualTo(
+				"SELECT person.name FROM person WHERE person.age > :age AND person.name = :name OR person.name = :name");
+		assertThat(template.getParameterNames()).containsExactly("age", "name");
+	}
+
+	@Test
+	void shouldIgnoreAnonymousBindMarkers() {
+
+		Select select = Select.builder().select(name).from(table).where(age.isGreater(SQL.bindMarker())).build();
+
+		assertThat(SqlRenderer.create().renderTemplate(select).getParameterNames()).isEmpty();
+	}
+
+	@Test
+	void shouldBindValuesFollowingTheBindingPlan() {
+
+		StatementTemplate template = StatementTemplate.of("SELECT * FROM person WHERE age > :age AND name = :name",
+				List.of("age", "name"));
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("name", null);
+		values.put("age", 42);
+
+		List<String> bindings = new ArrayList<>();
+		template.bind(values, (index, parameter, value) -> bindings.add(index + ":" + parameter + "=" + value));
+
+		assertThat(bindings).containsExactly("0:age=42", "1:name=null");
+	}
+
+	@Test
+	void shouldRejectMissingValue() {
+
+		StatementTemplate template = StatementTemplate.of("SELECT * FROM person WHERE age > :age", List.of("age"));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.bind(Map.of(), (index, name, value) -> {}))
+				.withMessageContaining("age");
+	}
+}